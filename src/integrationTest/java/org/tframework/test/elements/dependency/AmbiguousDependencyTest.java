@@ -1,11 +1,12 @@
 /* Licensed under Apache-2.0 2024. */
 package org.tframework.test.elements.dependency;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.tframework.test.commons.utils.TframeworkAssertions.assertInitializationExceptionWithCause;
 
 import org.junit.jupiter.api.Test;
 import org.tframework.core.elements.annotations.Element;
-import org.tframework.core.elements.dependency.resolver.DependencyResolutionException;
+import org.tframework.core.elements.dependency.graph.DependencyGraphValidationException;
 import org.tframework.test.commons.annotations.ExpectInitializationFailure;
 import org.tframework.test.commons.annotations.InjectInitializationException;
 import org.tframework.test.junit5.IsolatedTFrameworkTest;
@@ -35,7 +36,9 @@ public class AmbiguousDependencyTest {
 
     @Test
     public void shouldFailInitialization(@InjectInitializationException Exception e) {
-        assertInitializationExceptionWithCause(e, DependencyResolutionException.class);
+        //the static validation finds the ambiguous dependency before the element is created
+        var validationException = assertInitializationExceptionWithCause(e, DependencyGraphValidationException.class);
+        assertEquals(1, validationException.getUnresolvedDependencies().size());
     }
 
 }
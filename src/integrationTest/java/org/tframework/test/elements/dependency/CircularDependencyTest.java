@@ -1,11 +1,12 @@
 /* Licensed under Apache-2.0 2024. */
 package org.tframework.test.elements.dependency;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.tframework.test.commons.utils.TframeworkAssertions.assertInitializationExceptionWithCause;
 
 import org.junit.jupiter.api.Test;
 import org.tframework.core.elements.annotations.Element;
-import org.tframework.core.elements.dependency.resolver.DependencyResolutionException;
+import org.tframework.core.elements.dependency.graph.DependencyGraphValidationException;
 import org.tframework.test.commons.annotations.ExpectInitializationFailure;
 import org.tframework.test.commons.annotations.InjectInitializationException;
 import org.tframework.test.junit5.IsolatedTFrameworkTest;
@@ -26,7 +27,8 @@ public class CircularDependencyTest {
 
     @Test
     public void shouldFailInitialization(@InjectInitializationException Exception e) {
-        //there is also CircularDependencyException in the cause chain, but the ROOT cause is DependencyResolutionException
-        assertInitializationExceptionWithCause(e, DependencyResolutionException.class);
+        //the static validation finds the cycle before any of the elements is created
+        var validationException = assertInitializationExceptionWithCause(e, DependencyGraphValidationException.class);
+        assertEquals(1, validationException.getCircularDependencies().size());
     }
 }
@@ -7,7 +7,7 @@ import static org.tframework.test.commons.utils.TframeworkAssertions.assertIniti
 import java.io.File;
 import org.junit.jupiter.api.Test;
 import org.tframework.core.elements.annotations.Element;
-import org.tframework.core.elements.dependency.resolver.DependencyResolutionException;
+import org.tframework.core.elements.dependency.graph.DependencyGraphValidationException;
 import org.tframework.test.commons.annotations.ExpectInitializationFailure;
 import org.tframework.test.commons.annotations.InjectInitializationException;
 import org.tframework.test.junit5.IsolatedTFrameworkTest;
@@ -27,7 +27,8 @@ public class UnresolvedDependencyTest {
 
     @Test
     public void shouldFailInitialization(@InjectInitializationException Exception e) {
-        var resolutionException = assertInitializationExceptionWithCause(e, DependencyResolutionException.class);
-        assertEquals(File.class, resolutionException.getDependencyType());
+        var validationException = assertInitializationExceptionWithCause(e, DependencyGraphValidationException.class);
+        var unresolvedDependency = validationException.getUnresolvedDependencies().getFirst();
+        assertEquals(File.class, unresolvedDependency.injectionPoint().dependencyDefinition().dependencyType());
     }
 }
@@ -0,0 +1,88 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.elements.assembler;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.tframework.core.elements.context.PrototypeElementContext;
+import org.tframework.core.elements.context.source.ClassElementSource;
+import org.tframework.core.elements.dependency.resolver.DependencyResolutionInput;
+import org.tframework.core.properties.PropertiesContainerFactory;
+import org.tframework.core.properties.Property;
+import org.tframework.core.properties.SinglePropertyValue;
+
+/**
+ * Compares the {@link ElementInstantiationStrategy}s: invoking a constructor and a factory method directly
+ * through the {@link ElementInstantiator}, and requesting a prototype element, which goes through the whole assembling.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ElementInstantiationBenchmark {
+
+    @Param({"REFLECTION", "METHOD_HANDLE"})
+    private ElementInstantiationStrategy strategy;
+
+    private ElementInstantiator constructorInstantiator;
+    private ElementInstantiator methodInstantiator;
+    private PrototypeElementContext prototypeElementContext;
+
+    private final BenchmarkElement factory = new BenchmarkElement("factory", 0);
+    private final Object[] constructorArguments = {"benchmark", 42};
+    private final Object[] methodArguments = {"benchmark"};
+
+    @Setup
+    public void setUp() throws Exception {
+        constructorInstantiator = ElementInstantiatorsFactory.createInstantiator(
+                strategy, BenchmarkElement.class.getConstructor(String.class, int.class)
+        );
+        methodInstantiator = ElementInstantiatorsFactory.createInstantiator(
+                strategy, BenchmarkElement.class.getMethod("copyWithName", String.class)
+        );
+
+        var properties = PropertiesContainerFactory.fromProperties(List.of(
+                new Property(ElementInstantiatorsFactory.INSTANTIATION_STRATEGY_PROPERTY, new SinglePropertyValue(strategy.name()))
+        ));
+        var input = DependencyResolutionInput.builder()
+                .propertiesContainer(properties)
+                .build();
+        var source = new ClassElementSource(NoDependencyElement.class, NoDependencyElement.class.getConstructor());
+        prototypeElementContext = new PrototypeElementContext("prototype", NoDependencyElement.class, source, input);
+    }
+
+    @Benchmark
+    public Object invokeConstructor() throws ReflectiveOperationException {
+        return constructorInstantiator.instantiate(null, constructorArguments);
+    }
+
+    @Benchmark
+    public Object invokeMethod() throws ReflectiveOperationException {
+        return methodInstantiator.instantiate(factory, methodArguments);
+    }
+
+    @Benchmark
+    public Object requestPrototypeInstance() {
+        return prototypeElementContext.requestInstance();
+    }
+
+    public record BenchmarkElement(String name, int number) {
+
+        public BenchmarkElement copyWithName(String newName) {
+            return new BenchmarkElement(newName, number);
+        }
+    }
+
+    public static class NoDependencyElement {
+
+        public NoDependencyElement() {
+        }
+    }
+
+}
@@ -0,0 +1,107 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.elements.dependency.graph;
+
+import java.util.concurrent.TimeUnit;
+import org.jgrapht.graph.DefaultEdge;
+import org.jgrapht.graph.DirectedAcyclicGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.tframework.core.elements.ElementsContainer;
+import org.tframework.core.elements.context.ElementContext;
+import org.tframework.core.elements.context.PreConstructedElementContext;
+import org.tframework.core.elements.context.PrototypeElementContext;
+import org.tframework.core.elements.context.source.ClassElementSource;
+import org.tframework.core.elements.dependency.resolver.DependencyResolutionInput;
+import org.tframework.core.properties.PropertiesContainerFactory;
+
+/**
+ * Measures the cost of checking the dependencies of a resolution chain for cycles. The {@code jgraphtDirectedAcyclicGraph}
+ * benchmark replays what was done for each request before the resolution stack: a new {@link DirectedAcyclicGraph} with
+ * an edge for each dependency. Run with {@code -PjmhProfilers=gc} to see the allocations of each operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DependencyCycleDetectionBenchmark {
+
+    @Param({"2", "8", "32"})
+    private int depth;
+
+    private ElementContext[] chain;
+    private PrototypeElementContext dependentPrototypeContext;
+
+    @Setup
+    public void setUp() {
+        chain = new ElementContext[depth + 1];
+        for(int i = 0; i < chain.length; i++) {
+            chain[i] = PreConstructedElementContext.of(new Object(), "element" + i);
+        }
+
+        var elementsContainer = ElementsContainer.empty();
+        var input = DependencyResolutionInput.builder()
+                .elementsContainer(elementsContainer)
+                .propertiesContainer(PropertiesContainerFactory.empty())
+                .build();
+        elementsContainer.addElementContext(createPrototypeContext("dependency", DependencyElement.class, input));
+        dependentPrototypeContext = createPrototypeContext("dependent", DependentElement.class, input);
+        elementsContainer.addElementContext(dependentPrototypeContext);
+    }
+
+    @Benchmark
+    public Object jgraphtDirectedAcyclicGraph() {
+        var graph = new DirectedAcyclicGraph<ElementContext, DefaultEdge>(DefaultEdge.class);
+        for(int i = 0; i < depth; i++) {
+            graph.addVertex(chain[i]);
+            graph.addVertex(chain[i + 1]);
+            graph.addEdge(chain[i + 1], chain[i]);
+        }
+        return graph;
+    }
+
+    @Benchmark
+    public int resolutionStack() {
+        var dependencyGraph = ElementDependencyGraph.forCurrentThread();
+        for(int i = 0; i < depth; i++) {
+            dependencyGraph.startResolution(chain[i]);
+            dependencyGraph.addDependency(chain[i], chain[i + 1]);
+        }
+        int reachedDepth = dependencyGraph.getDepth();
+        for(int i = depth - 1; i >= 0; i--) {
+            dependencyGraph.finishResolution(chain[i]);
+        }
+        return reachedDepth;
+    }
+
+    @Benchmark
+    public Object requestPrototypeWithDependency() {
+        return dependentPrototypeContext.requestInstance();
+    }
+
+    private PrototypeElementContext createPrototypeContext(
+            String name,
+            Class<?> elementClass,
+            DependencyResolutionInput input
+    ) {
+        var source = new ClassElementSource(elementClass, elementClass.getConstructors()[0]);
+        return new PrototypeElementContext(name, elementClass, source, input);
+    }
+
+    public static class DependencyElement {
+
+        public DependencyElement() {
+        }
+    }
+
+    public static class DependentElement {
+
+        public DependentElement(DependencyElement dependencyElement) {
+        }
+    }
+
+}
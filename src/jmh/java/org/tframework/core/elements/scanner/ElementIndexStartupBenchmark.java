@@ -0,0 +1,145 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.elements.scanner;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import javax.tools.ToolProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.tframework.core.elements.scanner.index.ElementIndex;
+import org.tframework.core.elements.scanner.index.ElementIndexReader;
+import org.tframework.core.properties.PropertiesContainer;
+import org.tframework.core.properties.PropertiesContainerFactory;
+import org.tframework.core.properties.Property;
+import org.tframework.core.properties.SinglePropertyValue;
+import org.tframework.core.reflection.annotations.AnnotationScannersFactory;
+import org.tframework.core.reflection.classes.ClassFiltersFactory;
+import org.tframework.core.reflection.classes.ClassScannersFactory;
+
+/**
+ * Compares the two ways of finding the elements of a package at startup: scanning the classpath, and reading the
+ * {@link ElementIndex}. The setup compiles a classpath root with some elements and other classes, and writes its index,
+ * the same way as the annotation processor. With the index, this root is not scanned, only the other roots of the
+ * classpath. Classes are already loaded after the first invocation, so this measures the scanning overhead only,
+ * not the cost of loading the non-element classes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ElementIndexStartupBenchmark {
+
+    private static final String SCANNED_PACKAGE = "org.tframework.benchmark.generated";
+    private static final int ELEMENT_COUNT = 100;
+    private static final int OTHER_CLASSES_PER_ELEMENT = 4;
+
+    private PropertiesContainer propertiesContainer;
+    private Path rootDirectory;
+    private URLClassLoader rootClassLoader;
+
+    @Setup
+    public void setUp() throws IOException {
+        propertiesContainer = PropertiesContainerFactory.fromProperties(List.of(
+                new Property(PackagesElementClassScanner.SCAN_PACKAGES_PROPERTY, new SinglePropertyValue(SCANNED_PACKAGE))
+        ));
+        rootDirectory = Files.createTempDirectory("element-index");
+        compileRoot();
+        rootClassLoader = new URLClassLoader(new URL[] {rootDirectory.toUri().toURL()}, getClass().getClassLoader());
+        if(classpathScanning().size() != ELEMENT_COUNT || elementIndex().size() != ELEMENT_COUNT) {
+            throw new IllegalStateException("Both ways must find all " + ELEMENT_COUNT + " elements");
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        rootClassLoader.close();
+        try(Stream<Path> files = Files.walk(rootDirectory)) {
+            for(Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public Set<ElementScanningResult<Class<?>>> classpathScanning() {
+        return withRootOnClasspath(() -> createScanner(ElementIndex.empty()).scanElements());
+    }
+
+    @Benchmark
+    public Set<ElementScanningResult<Class<?>>> elementIndex() {
+        return withRootOnClasspath(() -> createScanner(ElementIndexReader.readIndex(rootClassLoader)).scanElements());
+    }
+
+    //the classpath scanner also scans the context class loader
+    private <T> T withRootOnClasspath(Supplier<T> scanning) {
+        var thread = Thread.currentThread();
+        var originalClassLoader = thread.getContextClassLoader();
+        thread.setContextClassLoader(rootClassLoader);
+        try {
+            return scanning.get();
+        } finally {
+            thread.setContextClassLoader(originalClassLoader);
+        }
+    }
+
+    private void compileRoot() throws IOException {
+        Path sourceDirectory = Files.createDirectories(rootDirectory.resolve("sources"));
+        List<String> sourceFiles = new ArrayList<>();
+        List<String> elementClassNames = new ArrayList<>();
+        for(int i = 0; i < ELEMENT_COUNT; i++) {
+            String packageName = SCANNED_PACKAGE + ".p" + i;
+            elementClassNames.add(packageName + ".SomeElement");
+            sourceFiles.add(writeSource(sourceDirectory, packageName, "SomeElement", "@org.tframework.core.elements.annotations.Element"));
+            for(int j = 0; j < OTHER_CLASSES_PER_ELEMENT; j++) {
+                sourceFiles.add(writeSource(sourceDirectory, packageName, "OtherClass" + j, ""));
+            }
+        }
+
+        List<String> arguments = new ArrayList<>(List.of(
+                "-d", rootDirectory.toString(),
+                "-classpath", System.getProperty("java.class.path"),
+                "-proc:none"
+        ));
+        arguments.addAll(sourceFiles);
+        int result = ToolProvider.getSystemJavaCompiler().run(null, null, null, arguments.toArray(new String[0]));
+        if(result != 0) {
+            throw new IllegalStateException("Failed to compile the benchmark classes");
+        }
+
+        var indexFile = rootDirectory.resolve(ElementIndexReader.INDEX_RESOURCE);
+        Files.createDirectories(indexFile.getParent());
+        Files.writeString(indexFile, String.join("\n", elementClassNames));
+    }
+
+    private String writeSource(Path sourceDirectory, String packageName, String className, String annotation) throws IOException {
+        Path sourceFile = Files.createDirectories(sourceDirectory.resolve(packageName.replace('.', '/'))).resolve(className + ".java");
+        Files.writeString(sourceFile, "package " + packageName + ";\n" + annotation + "\npublic class " + className + " {}\n");
+        return sourceFile.toString();
+    }
+
+    private PackagesElementClassScanner createScanner(ElementIndex elementIndex) {
+        return PackagesElementClassScanner.builder()
+                .annotationScanner(AnnotationScannersFactory.createComposedAnnotationScanner())
+                .classFilter(ClassFiltersFactory.createDefaultClassFilter())
+                .classScanner(ClassScannersFactory.createPackageClassScanner())
+                .propertiesContainer(propertiesContainer)
+                .elementIndex(elementIndex)
+                .build();
+    }
+
+}
@@ -0,0 +1,113 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.events;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+import org.tframework.core.events.publisher.SimpleEventPublisher;
+import org.tframework.core.utils.MultiValueMap;
+
+/**
+ * Measures publishing events from multiple threads, to topics with a few subscribers, and subscribing then
+ * unsubscribing from a single thread. The {@code lockedPublish}
+ * benchmark replays how the subscriptions were stored before the {@link SubscriptionRegistry}: in a
+ * {@link MultiValueMap}, which was modified under the lock of the event manager. The {@code unsubscribe} benchmarks compare
+ * removing a subscription by its ID with searching all topics for it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventManagerBenchmark {
+
+    private static final String TOPIC = "benchmark-topic";
+
+    @Param({"1000"})
+    private int topicCount;
+
+    private EventManager eventManager;
+    private SubscriptionRegistry subscriptionRegistry;
+    private MultiValueMap<String, Subscription> lockedSubscriptions;
+    private Event event;
+    private Blackhole blackhole;
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        this.blackhole = blackhole;
+        eventManager = new EventManager(new SimpleEventPublisher());
+        subscriptionRegistry = new SubscriptionRegistry();
+        lockedSubscriptions = new MultiValueMap<>();
+        for(int i = 0; i < topicCount; i++) {
+            String topic = i == 0 ? TOPIC : "other-topic-" + i;
+            for(int j = 0; j < 3; j++) {
+                eventManager.subscribe(topic, this::consume);
+                subscriptionRegistry.add(new Subscription(topic, UUID.randomUUID(), this::consume));
+                lockedSubscriptions.putValue(topic, new Subscription(topic, UUID.randomUUID(), this::consume));
+            }
+        }
+        event = new Event(TOPIC, "payload");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void registryPublish() {
+        eventManager.publish(event);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void lockedPublish() {
+        //publishing did not lock, but it was not safe to subscribe or unsubscribe while it was iterating
+        lockedSubscriptions.getOrEmptyList(event.topic()).forEach(subscription -> subscription.callback().accept(event.payload()));
+    }
+
+    @Benchmark
+    public void registryUnsubscribe(ThreadSubscription threadSubscription) {
+        var subscription = threadSubscription.subscription;
+        subscriptionRegistry.add(subscription);
+        subscriptionRegistry.remove(subscription.subscriptionId());
+    }
+
+    @Benchmark
+    public void lockedUnsubscribe(ThreadSubscription threadSubscription) {
+        var subscription = threadSubscription.subscription;
+        synchronized(this) {
+            lockedSubscriptions.putValue(TOPIC, subscription);
+            lockedSubscriptions.values().stream()
+                    .flatMap(List::stream)
+                    .filter(s -> s.subscriptionId().equals(subscription.subscriptionId()))
+                    .findAny()
+                    .ifPresent(s -> lockedSubscriptions.removeValue(s.topic(), s));
+        }
+    }
+
+    private void consume(Object payload) {
+        blackhole.consume(payload);
+    }
+
+    /**
+     * The subscription that a benchmark thread adds and removes. It is created in advance, so that generating its
+     * ID is not measured.
+     */
+    @State(Scope.Thread)
+    public static class ThreadSubscription {
+
+        private Subscription subscription;
+
+        @Setup
+        public void setUp() {
+            subscription = new Subscription(TOPIC, UUID.randomUUID(), payload -> {});
+        }
+
+    }
+
+}
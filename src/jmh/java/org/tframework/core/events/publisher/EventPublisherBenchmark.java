@@ -0,0 +1,90 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.events.publisher;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.tframework.core.events.Event;
+import org.tframework.core.events.Subscription;
+
+/**
+ * Compares the asynchronous publishers, when a telemetry-like topic publishes events at a high rate to a quick
+ * subscriber. The {@code throughput} benchmark publishes a burst of events and waits until all of them are delivered,
+ * and {@code roundTripLatency} measures how long it takes for a single event to be delivered. The ring buffer with the
+ * {@code busy-spin} wait strategy is not measured by default, because it needs a CPU core for its consumer thread.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventPublisherBenchmark {
+
+    private static final int BURST_SIZE = 1000;
+    private static final String TOPIC = "telemetry";
+
+    @Param({"async-multithreaded", "virtual-thread", "ordered", "ring-buffer-yield", "ring-buffer-park"})
+    private String publisherType;
+
+    private EventPublisher publisher;
+    private Subscription subscription;
+    private Event event;
+    private final AtomicLong deliveredEvents = new AtomicLong();
+    private long publishedEvents;
+
+    @Setup
+    public void setUp() {
+        publisher = switch (publisherType) {
+            case "async-multithreaded" -> new AsyncMultithreadedEventPublisher(3);
+            case "virtual-thread" -> new VirtualThreadEventPublisher(Map.of());
+            case "ordered" -> new OrderedEventPublisher(EventPublishersFactory.DEFAULT_ORDERED_LANE_COUNT);
+            case "ring-buffer-busy-spin" -> new RingBufferEventPublisher(EventPublishersFactory.DEFAULT_RING_BUFFER_CAPACITY, RingBufferWaitStrategy.BUSY_SPIN);
+            case "ring-buffer-yield" -> new RingBufferEventPublisher(EventPublishersFactory.DEFAULT_RING_BUFFER_CAPACITY, RingBufferWaitStrategy.YIELD);
+            case "ring-buffer-park" -> new RingBufferEventPublisher(EventPublishersFactory.DEFAULT_RING_BUFFER_CAPACITY, RingBufferWaitStrategy.PARK);
+            default -> throw new IllegalArgumentException("Unknown publisher type: " + publisherType);
+        };
+        subscription = new Subscription(TOPIC, UUID.randomUUID(), payload -> deliveredEvents.incrementAndGet());
+        event = new Event(TOPIC, "measurement");
+        deliveredEvents.set(0);
+        publishedEvents = 0;
+    }
+
+    @TearDown
+    public void tearDown() {
+        publisher.shutdown(1000);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OperationsPerInvocation(BURST_SIZE)
+    public void throughput() {
+        for(int i = 0; i < BURST_SIZE; i++) {
+            publisher.publish(event, subscription);
+        }
+        publishedEvents += BURST_SIZE;
+        awaitDelivery();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    public void roundTripLatency() {
+        publisher.publish(event, subscription);
+        publishedEvents++;
+        awaitDelivery();
+    }
+
+    private void awaitDelivery() {
+        while(deliveredEvents.get() < publishedEvents) {
+            Thread.onSpinWait();
+        }
+    }
+
+}
@@ -0,0 +1,105 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.properties;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.tframework.core.properties.converters.BooleanPropertyConverter;
+import org.tframework.core.properties.converters.IntegerPropertyConverter;
+import org.tframework.core.properties.converters.PropertyConverterAggregator;
+import org.tframework.core.properties.converters.StringListPropertyConverter;
+import org.tframework.core.properties.converters.StringPropertyConverter;
+
+/**
+ * Measures looking up and merging properties, with as many properties as a large set of YAML files would have.
+ * The {@code listScanLookup} benchmark replays the lookup that was done before the properties were indexed, and
+ * {@code uncachedConversion} converts the value every time, as it was done before the conversion cache. The
+ * {@code scanPrefix} benchmark finds the properties of a section by checking all names, unlike {@code prefixQuery}.
+ * The {@code cachedConversion} and {@code primitiveRead} benchmarks compare reading a boxed cached value with reading
+ * a primitive slot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PropertiesContainerBenchmark {
+
+    @Param({"100", "5000"})
+    private int propertyCount;
+
+    private List<Property> properties;
+    private List<Property> overridingProperties;
+    private PropertiesContainer propertiesContainer;
+    private String lastPropertyName;
+    private PropertyConverterAggregator propertyConverterAggregator;
+
+    @Setup
+    public void setUp() {
+        properties = new ArrayList<>(propertyCount);
+        overridingProperties = new ArrayList<>(propertyCount);
+        for(int i = 0; i < propertyCount; i++) {
+            properties.add(new Property("org.app.section" + i + ".property", new SinglePropertyValue(String.valueOf(i))));
+            //half of them override the existing properties, half of them are new
+            overridingProperties.add(new Property("org.app.section" + (i + propertyCount / 2) + ".property", new SinglePropertyValue("new" + i)));
+        }
+        propertyConverterAggregator = PropertyConverterAggregator.usingConverters(List.of(
+                new StringListPropertyConverter(),
+                new BooleanPropertyConverter(),
+                new StringPropertyConverter(),
+                new IntegerPropertyConverter()
+        ));
+        propertiesContainer = PropertiesContainerFactory.fromProperties(properties);
+        propertiesContainer.setPropertyConverterAggregator(propertyConverterAggregator);
+        lastPropertyName = properties.getLast().name();
+    }
+
+    @Benchmark
+    public PropertyValue listScanLookup() {
+        return PropertyUtils.getValueFromPropertyList(properties, lastPropertyName);
+    }
+
+    @Benchmark
+    public PropertyValue indexedLookup() {
+        return propertiesContainer.getPropertyValueObject(lastPropertyName);
+    }
+
+    @Benchmark
+    public Integer uncachedConversion() {
+        return propertyConverterAggregator.convert(propertiesContainer.getPropertyValueObject(lastPropertyName), Integer.class);
+    }
+
+    @Benchmark
+    public Integer cachedConversion() {
+        return propertiesContainer.getPropertyValue(lastPropertyName, Integer.class);
+    }
+
+    @Benchmark
+    public int primitiveRead() {
+        return propertiesContainer.getInt(lastPropertyName);
+    }
+
+    @Benchmark
+    public List<Property> scanPrefix() {
+        return properties.stream()
+                .filter(property -> property.name().startsWith("org.app.section42."))
+                .toList();
+    }
+
+    @Benchmark
+    public List<Property> prefixQuery() {
+        return propertiesContainer.getPropertiesWithPrefix("org.app.section42");
+    }
+
+    @Benchmark
+    public PropertiesContainer merge() {
+        return propertiesContainer.merge(overridingProperties);
+    }
+
+}
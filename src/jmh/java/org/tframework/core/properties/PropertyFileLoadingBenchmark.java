@@ -0,0 +1,80 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.properties;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.tframework.core.properties.extractors.PropertiesExtractor;
+import org.tframework.core.properties.extractors.PropertyExtractorsFactory;
+import org.tframework.core.properties.yamlparsers.YamlParser;
+import org.tframework.core.properties.yamlparsers.YamlParsersFactory;
+
+/**
+ * Measures loading the properties of a generated property file. The {@code materializedLoading} benchmark
+ * replays how the files were loaded before streaming: the file is read into a string, parsed into a map, and the
+ * map is flattened. Use the {@code gc} profiler to compare the allocated memory as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PropertyFileLoadingBenchmark {
+
+    @Param({"100", "10000"})
+    private int propertyCount;
+
+    private byte[] propertyFile;
+    private YamlParser yamlParser;
+    private PropertiesExtractor propertiesExtractor;
+
+    @Setup
+    public void setUp() {
+        var yaml = new StringBuilder("org:\n  app:\n");
+        for(int i = 0; i < propertyCount; i++) {
+            yaml.append("    section").append(i).append(":\n")
+                    .append("      enabled: true\n")
+                    .append("      name: section-").append(i).append('\n')
+                    .append("      hosts:\n")
+                    .append("        - host-").append(i).append("-a\n")
+                    .append("        - host-").append(i).append("-b\n");
+        }
+        propertyFile = yaml.toString().getBytes(StandardCharsets.UTF_8);
+        yamlParser = YamlParsersFactory.createDefaultYamlParser();
+        propertiesExtractor = PropertyExtractorsFactory.createPropertiesExtractor();
+    }
+
+    @Benchmark
+    public List<Property> materializedLoading() {
+        var reader = new BufferedReader(openPropertyFile());
+        String content = reader.lines().collect(Collectors.joining("\n"));
+        return propertiesExtractor.extractProperties(yamlParser.parseYaml(content));
+    }
+
+    @Benchmark
+    public List<Property> streamingLoading() {
+        Map<String, Property> properties = new LinkedHashMap<>();
+        yamlParser.parseYaml(openPropertyFile(), "benchmark.yaml", (propertyName, leaf) -> {
+            properties.put(propertyName, propertiesExtractor.extractProperty(propertyName, leaf));
+        });
+        return List.copyOf(properties.values());
+    }
+
+    private Reader openPropertyFile() {
+        return new InputStreamReader(new ByteArrayInputStream(propertyFile), StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,76 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.properties.parsers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures parsing as many raw properties as a large set of environment variables and CLI arguments would have.
+ * Every third property is a list with an escaped element separator. The {@code regexParsing} benchmark replays the
+ * regular expression based parsing that was done before the hand-written tokenizer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PropertyParsingBenchmark {
+
+    private static final Pattern REGEX_LIST_PATTERN = Pattern.compile("^(?<!\\\\)\\[.*(?<!\\\\)\\]");
+
+    @Param({"1000"})
+    private int propertyCount;
+
+    private List<String> rawProperties;
+
+    @Setup
+    public void setUp() {
+        rawProperties = new ArrayList<>(propertyCount);
+        for(int i = 0; i < propertyCount; i++) {
+            if(i % 3 == 0) {
+                rawProperties.add("org.app.section" + i + ".hosts=[host-a,host-b\\,backup,host-c]");
+            } else {
+                rawProperties.add("org.app.section" + i + ".name=section\\=" + i);
+            }
+        }
+    }
+
+    @Benchmark
+    public void tokenizerParsing(Blackhole blackhole) {
+        for(String rawProperty : rawProperties) {
+            var separated = PropertyParsingUtils.separateNameValue(rawProperty);
+            if(PropertyParsingUtils.isListValue(separated.value())) {
+                blackhole.consume(PropertyParsingUtils.extractListElements(separated.value()));
+            } else {
+                blackhole.consume(separated);
+            }
+        }
+    }
+
+    @Benchmark
+    public void regexParsing(Blackhole blackhole) {
+        for(String rawProperty : rawProperties) {
+            String[] parts = rawProperty.split("(?<!\\\\)=");
+            var separated = new SeparatedProperty(parts[0], parts[1]);
+            if(REGEX_LIST_PATTERN.matcher(separated.value()).matches()) {
+                String strippedList = separated.value().substring(1, separated.value().length() - 1);
+                blackhole.consume(Arrays.stream(strippedList.split("(?<!\\\\),", -1))
+                        .map(element -> element.replaceAll("\\\\,", ","))
+                        .toList());
+            } else {
+                blackhole.consume(separated);
+            }
+        }
+    }
+
+}
@@ -1,10 +1,14 @@
 /* Licensed under Apache-2.0 2023. */
 package org.tframework.core;
 
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
 import org.tframework.core.elements.ElementsContainer;
 import org.tframework.core.elements.annotations.PreConstructedElement;
 import org.tframework.core.profiles.ProfilesContainer;
@@ -15,6 +19,7 @@ import org.tframework.core.properties.PropertiesContainer;
  * information. You may request these information from the application directly, but it is recommended to use
  * dependency injection instead, where possible.
  */
+@Slf4j
 @Getter
 @ToString
 @EqualsAndHashCode
@@ -22,6 +27,7 @@ import org.tframework.core.properties.PropertiesContainer;
 public class Application {
 
     private boolean finalized;
+    private boolean stopped;
 
     private String name;
     private Class<?> rootClass;
@@ -29,6 +35,11 @@ public class Application {
     private PropertiesContainer propertiesContainer;
     private ElementsContainer elementsContainer;
 
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final List<AutoCloseable> shutdownActions = new ArrayList<>();
+
     private Application() {
         this.finalized = false;
     }
@@ -87,6 +98,42 @@ public class Application {
         this.finalized = true;
     }
 
+    /**
+     * Adds an action that releases some resource of the application, such as a thread or a file watcher, when the
+     * application is stopped. Unlike the other data, this can be added after finalization. This method should only be
+     * called by the framework.
+     * @throws IllegalStateException If the application was already stopped.
+     */
+    @TFrameworkInternal
+    public synchronized void addShutdownAction(AutoCloseable shutdownAction) {
+        if(stopped) {
+            throw new IllegalStateException("The application has already been stopped");
+        }
+        shutdownActions.add(shutdownAction);
+    }
+
+    /**
+     * Stops the application by running the shutdown actions, in the reverse order they were added. An action
+     * that fails does not prevent the others from running. Stopping an application again does nothing.
+     * This method should only be called by the framework.
+     */
+    @TFrameworkInternal
+    public synchronized void stop() {
+        if(stopped) {
+            return;
+        }
+        stopped = true;
+        for(int i = shutdownActions.size() - 1; i >= 0; i--) {
+            try {
+                shutdownActions.get(i).close();
+            } catch (Exception e) {
+                log.error("A shutdown action of the application '{}' has failed", name, e);
+            }
+        }
+        shutdownActions.clear();
+        log.info("Stopped the application '{}'", name);
+    }
+
     private void checkForFinalization() {
         if (finalized) {
             throw new IllegalStateException("The application has already been finalized");
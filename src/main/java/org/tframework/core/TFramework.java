@@ -64,10 +64,11 @@ public final class TFramework {
     }
 
     /**
-     * Stops a TFramework application gracefully.
+     * Stops a TFramework application gracefully. The resources that the framework started for the application, such
+     * as the property file watcher, are released. Stopping an application again does nothing.
      * @param application The {@link Application} to stop.
      */
-    public static void stop(Application application) {
-        //TODO
+    public static void stop(@NonNull Application application) {
+        application.stop();
     }
 }
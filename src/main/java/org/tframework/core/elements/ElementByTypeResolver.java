@@ -2,17 +2,26 @@
 package org.tframework.core.elements;
 
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
+import org.tframework.core.TFrameworkInternal;
 import org.tframework.core.elements.context.ElementContext;
 
 /**
  * Encapsulates the logic of getting elements by type. See
- * {@link #getElementByType(List, Class)} for the rules.
+ * {@link #getElementByType(ElementTypeIndex, Class)} for the rules. The candidates are taken from an
+ * {@link ElementTypeIndex}, so no elements need to be checked that are not related to the required type.
+ * <p>
+ * The outcome of each resolution is cached by the required type, including the ambiguous and not found
+ * outcomes. Because of this, each {@link ElementsContainer} must have its own resolver, and the container must call
+ * {@link #invalidateCache()} whenever its element contexts change. This class is thread-safe.
  */
 @Slf4j
 public class ElementByTypeResolver {
 
+    private final Map<Class<?>, TypeResolution> resolutionCache = new ConcurrentHashMap<>();
+
     /**
      * Selects an {@link ElementContext} from the provided ones, based on the required type. The rules are as follows:
      * <strong>Exact matching</strong><br><br>
@@ -30,80 +39,100 @@ public class ElementByTypeResolver {
      *     <li>If there are multiple assignable elements, an {@link AmbiguousElementTypeException} is raised.</li>
      *     <li>If there are no assignable elements, an {@link ElementNotFoundException} is raised.</li>
      * </ul>
-     * @param elementContexts The {@link ElementContext}s to select from.
+     * @param typeIndex The {@link ElementTypeIndex} of the {@link ElementContext}s to select from.
      * @param requiredType The type to resolve.
      * @return An {@link ElementContext} whose type is guaranteed to be assignable to {@code requiredType}.
      * @throws ElementNotFoundException If there was no element that could be assigned to {@code requiredType}.
      * @throws AmbiguousElementTypeException If there are multiple candidate elements, and it cannot be
      *          determined which one to select.
      */
-    public ElementContext getElementByType(List<ElementContext> elementContexts, Class<?> requiredType) {
-        var exactTypeMatchElement = selectElementWithExactType(elementContexts, requiredType);
-        if(exactTypeMatchElement.isPresent()) {
-            log.trace("Found one element that has exactly '{}' type: {}", requiredType.getName(), exactTypeMatchElement.get());
-            return exactTypeMatchElement.get();
-        } else {
-            log.trace("Found no element with exact type '{}', proceeding to assignable matching", requiredType.getName());
-            var assignableTypeMatchElement = selectElementWithAssignableType(elementContexts, requiredType);
-            if(assignableTypeMatchElement.isPresent()) {
-                log.trace("Found exactly one element which is assignable to type '{}': {}",
-                        requiredType.getName(), assignableTypeMatchElement.get());
-                return assignableTypeMatchElement.get();
-            } else {
-                log.trace("No elements are assignable to type '{}'", requiredType.getName());
-                throw new ElementNotFoundException(requiredType);
-            }
-        }
+    public ElementContext getElementByType(ElementTypeIndex typeIndex, Class<?> requiredType) {
+        var resolution = resolve(typeIndex, requiredType);
+        return switch (resolution.outcome()) {
+            case EXACT_MATCH, ASSIGNABLE_MATCH -> resolution.candidates().getFirst();
+            case AMBIGUOUS -> throw new AmbiguousElementTypeException(requiredType, resolution.candidates());
+            case NOT_FOUND -> throw new ElementNotFoundException(requiredType);
+        };
     }
 
     /**
-     * Checks if there is an {@link ElementContext} in the list which is assignable to the {@code requiredType}.
-     * @param elementContexts The {@link ElementContext}s to check.
+     * Checks if there is an {@link ElementContext} in the index which is assignable to the {@code requiredType}.
+     * @param typeIndex The {@link ElementTypeIndex} of the {@link ElementContext}s to check.
      * @param requiredType The type to check.
      * @return True if there is at least one context which has assignable type to {@code requiredType}.
      */
-    public boolean hasElementByType(List<ElementContext> elementContexts, Class<?> requiredType) {
-        var elementsWithAssignableType = filterElementsWithAssignableType(elementContexts, requiredType);
-        return !elementsWithAssignableType.isEmpty();
+    public boolean hasElementByType(ElementTypeIndex typeIndex, Class<?> requiredType) {
+        return resolve(typeIndex, requiredType).outcome() != ResolutionOutcome.NOT_FOUND;
     }
 
     /**
-     * Selects an element which has exactly the type.
-     * @throws AmbiguousElementTypeException If there are multiple elements with the exact type.
+     * Discards all cached resolutions. Must be called when the {@link ElementContext}s of the index change.
      */
-    private Optional<ElementContext> selectElementWithExactType(List<ElementContext> elementContexts, Class<?> requiredType) {
-        var elementsWithExactType = filterElementsWithExactType(elementContexts, requiredType);
-        return switch(elementsWithExactType.size()) {
-            case 0 -> Optional.empty();
-            case 1 -> Optional.of(elementsWithExactType.getFirst());
-            default -> throw new AmbiguousElementTypeException(requiredType, elementsWithExactType);
-        };
+    @TFrameworkInternal
+    public void invalidateCache() {
+        resolutionCache.clear();
     }
 
     /**
-     * Select an element which is assignable to the type.
-     * @throws AmbiguousElementTypeException If multiple elements are assignable.
-     * @throws ElementNotFoundException If no elements are assignable.
+     * Resolves the type from the cache, or from the index if this type was not resolved before.
      */
-    private Optional<ElementContext> selectElementWithAssignableType(List<ElementContext> elementContexts, Class<?> requiredType) {
-        var elementsWithAssignableType = filterElementsWithAssignableType(elementContexts, requiredType);
+    TypeResolution resolve(ElementTypeIndex typeIndex, Class<?> requiredType) {
+        var cachedResolution = resolutionCache.get(requiredType);
+        if(cachedResolution != null) {
+            return cachedResolution;
+        }
+        return resolutionCache.computeIfAbsent(requiredType, type -> resolveFromIndex(typeIndex, type));
+    }
+
+    private TypeResolution resolveFromIndex(ElementTypeIndex typeIndex, Class<?> requiredType) {
+        var elementsWithExactType = typeIndex.getElementContextsWithExactType(requiredType);
+        if(elementsWithExactType.size() == 1) {
+            log.trace("Found one element that has exactly '{}' type: {}", requiredType.getName(), elementsWithExactType.getFirst());
+            return new TypeResolution(ResolutionOutcome.EXACT_MATCH, List.copyOf(elementsWithExactType));
+        } else if(elementsWithExactType.size() > 1) {
+            log.trace("Found multiple elements that have exactly '{}' type", requiredType.getName());
+            return new TypeResolution(ResolutionOutcome.AMBIGUOUS, List.copyOf(elementsWithExactType));
+        }
+
+        log.trace("Found no element with exact type '{}', proceeding to assignable matching", requiredType.getName());
+        var elementsWithAssignableType = typeIndex.getElementContextsWithAssignableType(requiredType);
         return switch (elementsWithAssignableType.size()) {
-            case 0 -> throw new ElementNotFoundException(requiredType);
-            case 1 -> Optional.of(elementsWithAssignableType.getFirst());
-            default -> throw new AmbiguousElementTypeException(requiredType, elementsWithAssignableType);
+            case 0 -> {
+                log.trace("No elements are assignable to type '{}'", requiredType.getName());
+                yield new TypeResolution(ResolutionOutcome.NOT_FOUND, List.of());
+            }
+            case 1 -> {
+                log.trace("Found exactly one element which is assignable to type '{}': {}",
+                        requiredType.getName(), elementsWithAssignableType.getFirst());
+                yield new TypeResolution(ResolutionOutcome.ASSIGNABLE_MATCH, List.copyOf(elementsWithAssignableType));
+            }
+            default -> {
+                log.trace("Found multiple elements which are assignable to type '{}'", requiredType.getName());
+                yield new TypeResolution(ResolutionOutcome.AMBIGUOUS, List.copyOf(elementsWithAssignableType));
+            }
         };
     }
 
-    private List<ElementContext> filterElementsWithExactType(List<ElementContext> contexts, Class<?> requiredType) {
-        return contexts.stream()
-                .filter(context -> context.getType().equals(requiredType))
-                .toList();
+    /**
+     * The possible outcomes of resolving an element by type.
+     */
+    enum ResolutionOutcome {
+        EXACT_MATCH,
+        ASSIGNABLE_MATCH,
+        AMBIGUOUS,
+        NOT_FOUND
     }
 
-    public List<ElementContext> filterElementsWithAssignableType(List<ElementContext> contexts, Class<?> requiredType) {
-        return contexts.stream()
-                .filter(context -> requiredType.isAssignableFrom(context.getType()))
-                .toList();
+    /**
+     * A cached result of a by-type resolution.
+     * @param outcome The {@link ResolutionOutcome}.
+     * @param candidates The selected context in case of a match, all candidates if the outcome was
+     *                   ambiguous, or empty if nothing was found.
+     */
+    record TypeResolution(
+            ResolutionOutcome outcome,
+            List<ElementContext> candidates
+    ) {
     }
 
 }
@@ -0,0 +1,169 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.elements;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.NonNull;
+import org.tframework.core.TFrameworkInternal;
+import org.tframework.core.elements.context.ElementContext;
+
+/**
+ * Indexes {@link ElementContext}s by their type, so that looking up elements by type does not require
+ * checking every element. Each context is registered under two indexes:
+ * <ul>
+ *     <li>The exact type index, where the key is the type of the element.</li>
+ *     <li>
+ *         The assignable type index, where the keys are all types that the element is assignable to: the type itself,
+ *         its superclasses and all interfaces (see {@link #collectAssignableTypes(Class)}).
+ *     </li>
+ * </ul>
+ * The lists returned by this index preserve the order in which the contexts were added. The index can be modified
+ * while the {@link ElementsContainer} is being built, then it should be {@link #freeze() frozen}.
+ */
+@TFrameworkInternal
+public class ElementTypeIndex {
+
+    private Map<Class<?>, List<ElementContext>> contextsByExactType;
+    private Map<Class<?>, List<ElementContext>> contextsByAssignableType;
+    private boolean frozen;
+
+    private ElementTypeIndex() {
+        this.contextsByExactType = new HashMap<>();
+        this.contextsByAssignableType = new HashMap<>();
+        this.frozen = false;
+    }
+
+    /**
+     * Returns the {@link ElementContext}s whose type is exactly {@code type}.
+     * @return List of contexts, never null.
+     */
+    public List<ElementContext> getElementContextsWithExactType(@NonNull Class<?> type) {
+        return contextsByExactType.getOrDefault(type, List.of());
+    }
+
+    /**
+     * Returns the {@link ElementContext}s whose type is assignable to {@code type}. This includes
+     * the contexts with exactly this type.
+     * @return List of contexts, never null.
+     */
+    public List<ElementContext> getElementContextsWithAssignableType(@NonNull Class<?> type) {
+        return contextsByAssignableType.getOrDefault(type, List.of());
+    }
+
+    /**
+     * Adds the {@link ElementContext} to this index.
+     * @throws IllegalStateException If the index is frozen.
+     */
+    void add(@NonNull ElementContext elementContext) {
+        checkNotFrozen();
+        Class<?> type = elementContext.getType();
+        contextsByExactType.computeIfAbsent(type, key -> new ArrayList<>()).add(elementContext);
+        for(Class<?> assignableType : collectAssignableTypes(type)) {
+            contextsByAssignableType.computeIfAbsent(assignableType, key -> new ArrayList<>()).add(elementContext);
+        }
+    }
+
+    /**
+     * Removes the {@link ElementContext} from this index. Does nothing if the context is not indexed.
+     * @throws IllegalStateException If the index is frozen.
+     */
+    void remove(@NonNull ElementContext elementContext) {
+        checkNotFrozen();
+        Class<?> type = elementContext.getType();
+        removeFromIndex(contextsByExactType, type, elementContext);
+        for(Class<?> assignableType : collectAssignableTypes(type)) {
+            removeFromIndex(contextsByAssignableType, assignableType, elementContext);
+        }
+    }
+
+    /**
+     * Makes this index immutable. After this, no contexts can be added or removed. Frozen indexes
+     * are safe to read from multiple threads.
+     */
+    void freeze() {
+        contextsByExactType = immutableCopy(contextsByExactType);
+        contextsByAssignableType = immutableCopy(contextsByAssignableType);
+        frozen = true;
+    }
+
+    private void checkNotFrozen() {
+        if(frozen) {
+            throw new IllegalStateException("The element type index is frozen and cannot be modified.");
+        }
+    }
+
+    private void removeFromIndex(Map<Class<?>, List<ElementContext>> index, Class<?> key, ElementContext elementContext) {
+        var contexts = index.get(key);
+        if(contexts != null) {
+            contexts.remove(elementContext);
+            if(contexts.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    private static Map<Class<?>, List<ElementContext>> immutableCopy(Map<Class<?>, List<ElementContext>> index) {
+        return index.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, entry -> List.copyOf(entry.getValue())));
+    }
+
+    /**
+     * Collects all types that {@code type} is assignable to, in the sense of {@link Class#isAssignableFrom(Class)}:
+     * the type itself, all superclasses and all implemented interfaces (including indirect ones). Array types
+     * are assignable to the arrays of the supertypes of their component type, as well as {@link Object},
+     * {@link Cloneable} and {@link Serializable}.
+     */
+    static Set<Class<?>> collectAssignableTypes(@NonNull Class<?> type) {
+        Set<Class<?>> assignableTypes = new LinkedHashSet<>();
+        collectAssignableTypes(type, assignableTypes);
+        return assignableTypes;
+    }
+
+    private static void collectAssignableTypes(Class<?> type, Set<Class<?>> assignableTypes) {
+        if(type == null || !assignableTypes.add(type)) {
+            return;
+        }
+        if(type.isArray()) {
+            var componentType = type.getComponentType();
+            if(!componentType.isPrimitive()) {
+                collectAssignableTypes(componentType).forEach(componentSuperType -> assignableTypes.add(componentSuperType.arrayType()));
+            }
+            assignableTypes.add(Object.class);
+            assignableTypes.add(Cloneable.class);
+            assignableTypes.add(Serializable.class);
+            return;
+        }
+        collectAssignableTypes(type.getSuperclass(), assignableTypes);
+        for(Class<?> interfaceType : type.getInterfaces()) {
+            collectAssignableTypes(interfaceType, assignableTypes);
+        }
+        if(type.isInterface()) {
+            //interfaces have no superclass, but they are still assignable to Object
+            assignableTypes.add(Object.class);
+        }
+    }
+
+    /**
+     * Creates an empty, modifiable index.
+     */
+    public static ElementTypeIndex empty() {
+        return new ElementTypeIndex();
+    }
+
+    /**
+     * Creates a modifiable index which contains all the given {@link ElementContext}s.
+     */
+    public static ElementTypeIndex of(@NonNull Collection<ElementContext> elementContexts) {
+        var index = new ElementTypeIndex();
+        elementContexts.forEach(index::add);
+        return index;
+    }
+
+}
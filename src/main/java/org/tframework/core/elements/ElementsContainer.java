@@ -2,18 +2,25 @@
 package org.tframework.core.elements;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import lombok.EqualsAndHashCode;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.tframework.core.TFrameworkInternal;
 import org.tframework.core.elements.annotations.PreConstructedElement;
 import org.tframework.core.elements.context.ElementContext;
+import org.tframework.core.elements.dependency.graph.StaticDependencyGraph;
 
 /**
  * Stores all elements of the application, and provides ways to access them by name or by type.
+ * Elements are indexed both by name and by type (see {@link ElementTypeIndex}), so lookups do not need to check
+ * every stored element. Results of by-type lookups are cached by the {@link ElementByTypeResolver} of this container,
+ * and the cache is invalidated whenever contexts are added, overridden or removed. After {@link #initializeElementContexts()},
+ * the container is frozen and no longer accepts modifications.
  */
 @Slf4j
 @EqualsAndHashCode
@@ -21,22 +28,25 @@ import org.tframework.core.elements.context.ElementContext;
 public class ElementsContainer implements Iterable<ElementContext> {
 
     /**
-     * All elements of the application, wrapped in {@link ElementContext}s.
+     * All elements of the application, wrapped in {@link ElementContext}s. The keys are
+     * the element names, and the insertion order is preserved.
      */
-    private final List<ElementContext> elementContexts;
-    private final boolean initialized;
+    private Map<String, ElementContext> elementContexts;
+    @EqualsAndHashCode.Exclude //derived from the element contexts
+    private final ElementTypeIndex elementTypeIndex;
+    private boolean initialized;
     private final ElementByTypeResolver elementByTypeResolver;
 
     private ElementsContainer(List<ElementContext> elementContexts) {
-        this.elementContexts = new LinkedList<>(elementContexts);
-        this.initialized = false;
-        this.elementByTypeResolver = new ElementByTypeResolver();
+        this(elementContexts, new ElementByTypeResolver());
     }
 
     ElementsContainer(List<ElementContext> elementContexts, ElementByTypeResolver resolver) {
-        this.elementContexts = new LinkedList<>(elementContexts);
+        this.elementContexts = new LinkedHashMap<>();
+        this.elementTypeIndex = ElementTypeIndex.empty();
         this.initialized = false;
         this.elementByTypeResolver = resolver;
+        elementContexts.forEach(this::addElementContext);
     }
 
     /**
@@ -46,10 +56,11 @@ public class ElementsContainer implements Iterable<ElementContext> {
      * @throws ElementNotFoundException If no element with the given name is found.
      */
     public ElementContext getElementContext(@NonNull String name) {
-        return elementContexts.stream()
-                .filter(context -> context.getName().equals(name))
-                .findAny()
-                .orElseThrow(() -> new ElementNotFoundException(name));
+        var elementContext = elementContexts.get(name);
+        if(elementContext == null) {
+            throw new ElementNotFoundException(name);
+        }
+        return elementContext;
     }
 
     /**
@@ -69,7 +80,7 @@ public class ElementsContainer implements Iterable<ElementContext> {
 
     /**
      * Returns the {@link ElementContext} of the element with the given type.
-     * See {@link ElementByTypeResolver#getElementByType(List, Class)} for the rules on how this type is resolved.
+     * See {@link ElementByTypeResolver#getElementByType(ElementTypeIndex, Class)} for the rules on how this type is resolved.
      *
      * @param elementType Type of the requested element, must not be null.
      * @throws ElementNotFoundException      If no element is found which is assignable to the required type.
@@ -77,7 +88,7 @@ public class ElementsContainer implements Iterable<ElementContext> {
      *                                       the type, and it cannot be determined which one to choose.
      */
     public ElementContext getElementContext(@NonNull Class<?> elementType) {
-        return elementByTypeResolver.getElementByType(elementContexts, elementType);
+        return elementByTypeResolver.getElementByType(elementTypeIndex, elementType);
     }
 
     /**
@@ -101,19 +112,18 @@ public class ElementsContainer implements Iterable<ElementContext> {
      * @param name Name of the element to check, must not be null.
      */
     public boolean hasElementContext(@NonNull String name) {
-        return elementContexts.stream()
-                .anyMatch(context -> context.getName().equals(name));
+        return elementContexts.containsKey(name);
     }
 
     /**
      * Checks if the element with the given type is stored in this container.
-     * See {@link ElementByTypeResolver#hasElementByType(List, Class)} for the rules on how this type is resolved.
+     * See {@link ElementByTypeResolver#hasElementByType(ElementTypeIndex, Class)} for the rules on how this type is resolved.
      *
      * @param elementType Type of the element to check, must not be null.
      * @return True only if there is at least element that is assignable to the type.
      */
     public boolean hasElementContext(@NonNull Class<?> elementType) {
-        return elementByTypeResolver.hasElementByType(elementContexts, elementType);
+        return elementByTypeResolver.hasElementByType(elementTypeIndex, elementType);
     }
 
     /**
@@ -121,7 +131,7 @@ public class ElementsContainer implements Iterable<ElementContext> {
      * @param elementType Type of the elements to return, must not be null.
      */
     public List<ElementContext> getElementContextsWithType(@NonNull Class<?> elementType) {
-        return elementByTypeResolver.filterElementsWithAssignableType(elementContexts, elementType);
+        return List.copyOf(elementTypeIndex.getElementContextsWithAssignableType(elementType));
     }
 
     /**
@@ -136,12 +146,11 @@ public class ElementsContainer implements Iterable<ElementContext> {
         if (initialized) {
             throw new IllegalStateException("New element context cannot be added after the container is initialized.");
         }
-        try {
-            var existingContext = getElementContext(elementContext.getName());
+        var existingContext = elementContexts.get(elementContext.getName());
+        if(existingContext != null) {
             throw new ElementNameNotUniqueException(existingContext, elementContext);
-        } catch (ElementNotFoundException e) {
-            elementContexts.add(elementContext);
         }
+        putElementContext(elementContext);
     }
 
     /**
@@ -157,19 +166,16 @@ public class ElementsContainer implements Iterable<ElementContext> {
         if (initialized) {
             throw new IllegalStateException("Element contexts cannot be overridden after the container is initialized.");
         }
-        try {
-            var existingContext = getElementContext(elementContext.getName());
+        var existingContext = elementContexts.remove(elementContext.getName());
+        if(existingContext != null) {
             log.debug("""
                     Overriding element context with name '{}:
                     - Existing context: {}
                     - Overriding context: {}""", existingContext.getName(), existingContext, elementContext);
-            elementContexts.remove(existingContext);
-            elementContexts.add(elementContext);
-            return true;
-        } catch (ElementNotFoundException e) {
-            elementContexts.add(elementContext);
-            return false;
+            elementTypeIndex.remove(existingContext);
         }
+        putElementContext(elementContext); //this also invalidates the by-type resolutions
+        return existingContext != null;
     }
 
     /**
@@ -183,7 +189,17 @@ public class ElementsContainer implements Iterable<ElementContext> {
         if (initialized) {
             throw new IllegalStateException("Element contexts cannot be removed after the container is initialized.");
         }
-        elementContexts.remove(elementContext);
+        var removedContext = elementContexts.remove(elementContext.getName());
+        if(removedContext != null) {
+            elementTypeIndex.remove(removedContext);
+            elementByTypeResolver.invalidateCache();
+        }
+    }
+
+    private void putElementContext(ElementContext elementContext) {
+        elementContexts.put(elementContext.getName(), elementContext);
+        elementTypeIndex.add(elementContext);
+        elementByTypeResolver.invalidateCache();
     }
 
     /**
@@ -196,13 +212,50 @@ public class ElementsContainer implements Iterable<ElementContext> {
     /**
      * Performs {@link ElementContext#initialize()} on all contexts in this container.
      * This method can only be called once, which is done by the framework. It should be called after all element contexts have been added.
+     * After the contexts are initialized, the container is frozen: element contexts can no longer be added, overridden or removed.
      */
     @TFrameworkInternal
     public void initializeElementContexts() {
         if (initialized) {
             throw new IllegalStateException("This container has already been initialized");
         }
-        elementContexts.forEach(ElementContext::initialize);
+        elementContexts.values().forEach(ElementContext::initialize);
+        freeze();
+    }
+
+    /**
+     * Same as {@link #initializeElementContexts()}, but independent element contexts are initialized concurrently.
+     * The contexts are initialized in waves, computed from their dependencies: see {@link ParallelElementsInitializer}
+     * for details. Exceptions are thrown the same way as with {@link #initializeElementContexts()}.
+     * @param parallelism The maximum amount of contexts that are initialized at the same time, must be positive.
+     * @throws IllegalStateException If the container is already initialized.
+     */
+    @TFrameworkInternal
+    public void initializeElementContextsInParallel(int parallelism) {
+        initializeElementContextsInParallel(StaticDependencyGraph.fromElementsContainer(this), parallelism);
+    }
+
+    /**
+     * Same as {@link #initializeElementContextsInParallel(int)}, but reuses a dependency graph that was already
+     * computed for this container.
+     * @param dependencyGraph The {@link StaticDependencyGraph} of this container. It must be computed after the
+     *                        last modification of the container.
+     * @param parallelism The maximum amount of contexts that are initialized at the same time, must be positive.
+     * @throws IllegalStateException If the container is already initialized.
+     */
+    @TFrameworkInternal
+    public void initializeElementContextsInParallel(@NonNull StaticDependencyGraph dependencyGraph, int parallelism) {
+        if (initialized) {
+            throw new IllegalStateException("This container has already been initialized");
+        }
+        new ParallelElementsInitializer(parallelism).initialize(dependencyGraph);
+        freeze();
+    }
+
+    private void freeze() {
+        elementContexts = Collections.unmodifiableMap(elementContexts);
+        elementTypeIndex.freeze();
+        initialized = true;
     }
 
     /**
@@ -230,6 +283,6 @@ public class ElementsContainer implements Iterable<ElementContext> {
 
     @Override
     public Iterator<ElementContext> iterator() {
-        return elementContexts.iterator();
+        return Collections.unmodifiableCollection(elementContexts.values()).iterator();
     }
 }
@@ -1,11 +1,22 @@
 /* Licensed under Apache-2.0 2024. */
 package org.tframework.core.elements;
 
+import java.io.IOException;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,6 +28,8 @@ import org.tframework.core.elements.context.assembler.ElementContextAssembler;
 import org.tframework.core.elements.context.assembler.MethodElementContextAssembler;
 import org.tframework.core.elements.context.filter.ElementContextFilter;
 import org.tframework.core.elements.context.filter.ElementContextFilterAggregator;
+import org.tframework.core.elements.dependency.graph.DependencyGraphFormat;
+import org.tframework.core.elements.dependency.graph.StaticDependencyGraph;
 import org.tframework.core.elements.dependency.resolver.DependencyResolutionInput;
 import org.tframework.core.elements.postprocessing.ElementInstancePostProcessor;
 import org.tframework.core.elements.postprocessing.ElementInstancePostProcessorAggregator;
@@ -26,8 +39,13 @@ import org.tframework.core.elements.scanner.ElementMethodScanner;
 import org.tframework.core.elements.scanner.ElementScanner;
 import org.tframework.core.elements.scanner.ElementScanningResult;
 import org.tframework.core.properties.PropertiesContainer;
+import org.tframework.core.properties.SinglePropertyValue;
+import org.tframework.core.properties.converters.BooleanPropertyConverter;
+import org.tframework.core.properties.converters.IntegerPropertyConverter;
 import org.tframework.core.properties.converters.PropertyConverter;
 import org.tframework.core.properties.converters.PropertyConverterAggregator;
+import org.tframework.core.properties.converters.StringPropertyConverter;
+import org.tframework.core.utils.Constants;
 import org.tframework.core.utils.LogUtils;
 
 /**
@@ -36,7 +54,8 @@ import org.tframework.core.utils.LogUtils;
  *     <li>Scanning for elements (see {@link ElementScanner}s).</li>
  *     <li>Assembling {@link ElementContext}s (see {@link ElementContextAssembler}s).</li>
  *     <li>Filtering out elements using {@link ElementContextFilter}s.</li>
- *     <li>Initializes each element context (see {@link ElementContext#initialize()}).</li>
+ *     <li>Computing and validating the dependencies of the elements (see {@link StaticDependencyGraph}).</li>
+ *     <li>Initializes each element context (see {@link ElementContext#initialize()}), possibly on several threads.</li>
  * </ul>
  * The result of the process will be an {@link ElementsContainer} with unique {@link ElementContext}s.
  */
@@ -44,6 +63,45 @@ import org.tframework.core.utils.LogUtils;
 @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
 public class ElementsInitializationProcess {
 
+    /**
+     * If enabled, the {@link ElementContext}s are assembled on several threads. Disabled by default.
+     */
+    public static final String PARALLEL_ASSEMBLY_PROPERTY = Constants.TFRAMEWORK_PROPERTIES_PREFIX + ".elements.parallel-assembly";
+    private static final SinglePropertyValue PARALLEL_ASSEMBLY_DEFAULT_VALUE = new SinglePropertyValue("false");
+
+    /**
+     * If enabled, independent singletons are initialized on several threads, in waves computed from the dependencies
+     * of the elements. Disabled by default.
+     */
+    public static final String PARALLEL_INITIALIZATION_PROPERTY = Constants.TFRAMEWORK_PROPERTIES_PREFIX + ".elements.parallel-initialization";
+    private static final SinglePropertyValue PARALLEL_INITIALIZATION_DEFAULT_VALUE = new SinglePropertyValue("false");
+
+    /**
+     * The maximum amount of elements that are initialized at the same time, if {@value #PARALLEL_INITIALIZATION_PROPERTY}
+     * is enabled. By default, this is the amount of available processors.
+     */
+    public static final String INITIALIZATION_PARALLELISM_PROPERTY = Constants.TFRAMEWORK_PROPERTIES_PREFIX + ".elements.initialization-parallelism";
+
+    /**
+     * If enabled, the {@link StaticDependencyGraph} of the elements is validated before any element is initialized, and
+     * all circular and unresolved dependencies are reported together. Enabled by default.
+     */
+    public static final String VALIDATE_DEPENDENCIES_PROPERTY = Constants.TFRAMEWORK_PROPERTIES_PREFIX + ".elements.validate-dependencies";
+    private static final SinglePropertyValue VALIDATE_DEPENDENCIES_DEFAULT_VALUE = new SinglePropertyValue("true");
+
+    /**
+     * Path of a file where the {@link StaticDependencyGraph} of the elements is exported. Not set by default, which
+     * means that the graph is not exported.
+     */
+    public static final String DEPENDENCY_GRAPH_EXPORT_PROPERTY = Constants.TFRAMEWORK_PROPERTIES_PREFIX + ".elements.dependency-graph-export";
+    private static final SinglePropertyValue DEPENDENCY_GRAPH_EXPORT_DEFAULT_VALUE = new SinglePropertyValue("");
+
+    /**
+     * The {@link DependencyGraphFormat} of the file set in {@value #DEPENDENCY_GRAPH_EXPORT_PROPERTY}. DOT by default.
+     */
+    public static final String DEPENDENCY_GRAPH_EXPORT_FORMAT_PROPERTY = Constants.TFRAMEWORK_PROPERTIES_PREFIX + ".elements.dependency-graph-export-format";
+    private static final SinglePropertyValue DEPENDENCY_GRAPH_EXPORT_FORMAT_DEFAULT_VALUE = new SinglePropertyValue("dot");
+
     /**
      * Initializes the elements.
      * @param input The {@link ElementsInitializationInput} containing the input data for the process.
@@ -74,12 +132,14 @@ public class ElementsInitializationProcess {
         filterElementContext(elementsContainer, input.application());
         log.info("A total of {} element contexts survived after filtering", elementsContainer.elementCount());
 
+        var dependencyGraph = analyzeDependencies(elementsContainer, input.application().getPropertiesContainer());
+
         var postProcessors = ElementUtils.initAndGetElementsEagerly(elementsContainer, ElementInstancePostProcessor.class);
         log.debug("Found {} post-processors to apply to element instances: {}", postProcessors.size(), LogUtils.objectClassNames(postProcessors));
         var postProcessorAggregator = ElementInstancePostProcessorAggregator.usingPostProcessors(postProcessors);
         elementsContainer.forEach(context -> context.setPostProcessor(postProcessorAggregator));
 
-        elementsContainer.initializeElementContexts();
+        initializeElementContexts(elementsContainer, dependencyGraph, input.application().getPropertiesContainer());
         log.info("Successfully initialized {} element contexts", elementsContainer.elementCount());
 
         return elementsContainer;
@@ -96,9 +156,12 @@ public class ElementsInitializationProcess {
      *     <li>
      *         Then, each {@link ElementMethodScanner} in the scanner bundle will find element methods.
      *         These will be assembled into {@link ElementContext}s using the {@link MethodElementContextAssembler}.
-     *         See {@link #assembleMethodElementContexts(ElementsContainer, List, ElementContextBundle, DependencyResolutionInput)}.
+     *         See {@link #assembleMethodElementContexts(ElementsContainer, List, ElementContextBundle, DependencyResolutionInput, boolean)}.
      *     </li>
      * </ul>
+     * If {@value #PARALLEL_ASSEMBLY_PROPERTY} is enabled, the contexts are assembled on several threads. The contexts are always
+     * added to the container in the same order (sorted by the names of the classes and methods), and if assembling fails for
+     * multiple contexts, the exception of the first one in this order is thrown.
      */
     private void assembleElementContexts(
             ElementsContainer elementsContainer,
@@ -112,48 +175,189 @@ public class ElementsInitializationProcess {
             log.debug("Scanned {} elements from class scanner '{}'", scannedElements, elementClassScanner.getClass().getName());
         }
 
-        List<ElementContext> elementContexts = allScannedClassElements.stream()
-                .map(scanResult -> contextBundle.classElementContextAssembler().assemble(scanResult, dependencyResolutionInput))
-                .peek(elementsContainer::addElementContext)
+        boolean parallelAssembly = isParallelAssemblyEnabled(dependencyResolutionInput.propertiesContainer());
+        List<ElementScanningResult<Class<?>>> sortedClassElements = allScannedClassElements.stream()
+                .sorted(Comparator.comparing(scanResult -> scanResult.annotationSource().getName()))
                 .toList();
 
+        List<ElementContext> elementContexts = assembleAll(
+                sortedClassElements,
+                scanResult -> contextBundle.classElementContextAssembler().assemble(scanResult, dependencyResolutionInput),
+                parallelAssembly
+        );
+        elementContexts.forEach(elementsContainer::addElementContext);
+
         assembleMethodElementContexts(
                 elementsContainer,
                 elementContexts,
                 contextBundle,
-                dependencyResolutionInput
+                dependencyResolutionInput,
+                parallelAssembly
         );
     }
 
     /**
      * Uses the {@link ElementMethodScanner}s from the {@link ElementContextBundle} to find element methods.
      * These will be assembled into {@link ElementContext}s using the {@link MethodElementContextAssembler}s.
+     * Each parent element context is processed by its own task, with its own assembler.
      */
     private void assembleMethodElementContexts(
             ElementsContainer elementsContainer,
             List<ElementContext> parentElementContexts,
             ElementContextBundle contextBundle,
+            DependencyResolutionInput dependencyResolutionInput,
+            boolean parallelAssembly
+    ) {
+        List<List<ElementContext>> methodElementContexts = assembleAll(
+                parentElementContexts,
+                parentElementContext -> assembleMethodElementContextsOf(parentElementContext, contextBundle, dependencyResolutionInput),
+                parallelAssembly
+        );
+        methodElementContexts.forEach(contexts -> contexts.forEach(elementsContainer::addElementContext));
+    }
+
+    private List<ElementContext> assembleMethodElementContextsOf(
+            ElementContext parentElementContext,
+            ElementContextBundle contextBundle,
             DependencyResolutionInput dependencyResolutionInput
     ) {
-        for(ElementContext parentElementContext : parentElementContexts) {
-            contextBundle.methodElementContextAssembler().setParentElementContext(parentElementContext);
-
-            Set<ElementScanningResult<Method>> allScannedMethodElements = new HashSet<>();
-            for(var elementMethodScanner : contextBundle.elementMethodScanners()) {
-                elementMethodScanner.setClassToScan(parentElementContext.getType());
-                var scannedMethodElements = elementMethodScanner.scanElements();
-                allScannedMethodElements.addAll(scannedMethodElements);
-
-                if(!scannedMethodElements.isEmpty()) {
-                    log.debug("Scanned {} elements from methods of parent element context '{}' ({})",
-                            scannedMethodElements.size(), parentElementContext.getName(), parentElementContext.getType().getName());
-                }
+        var methodElementContextAssembler = contextBundle.methodElementContextAssembler()
+                .forParentElementContext(parentElementContext);
+
+        Set<ElementScanningResult<Method>> allScannedMethodElements = new HashSet<>();
+        for(var elementMethodScanner : contextBundle.elementMethodScanners()) {
+            var scannedMethodElements = elementMethodScanner.scanElements(parentElementContext.getType());
+            allScannedMethodElements.addAll(scannedMethodElements);
+
+            if(!scannedMethodElements.isEmpty()) {
+                log.debug("Scanned {} elements from methods of parent element context '{}' ({})",
+                        scannedMethodElements.size(), parentElementContext.getName(), parentElementContext.getType().getName());
             }
+        }
+
+        return allScannedMethodElements.stream()
+                .sorted(Comparator.comparing(scanResult -> scanResult.annotationSource().toGenericString()))
+                .map(scanResult -> methodElementContextAssembler.assemble(scanResult, dependencyResolutionInput))
+                .toList();
+    }
 
-            allScannedMethodElements.stream()
-                    .map(scanResult -> contextBundle.methodElementContextAssembler().assemble(scanResult, dependencyResolutionInput))
-                    .forEach(elementsContainer::addElementContext);
+    /**
+     * Applies the assembling function to all inputs, possibly in parallel. The results are in the order of the inputs.
+     * If any of the functions failed, the exception of the first failed one (in the order of the inputs) is thrown.
+     */
+    private <T, R> List<R> assembleAll(List<T> inputs, Function<T, R> assembler, boolean parallelAssembly) {
+        if(!parallelAssembly || inputs.size() < 2) {
+            return inputs.stream().map(assembler).toList();
         }
+
+        try(ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<R>> futures = inputs.stream()
+                    .map(input -> executor.submit(() -> assembler.apply(input)))
+                    .toList();
+            List<R> results = new ArrayList<>(futures.size());
+            for(Future<R> future : futures) {
+                results.add(awaitAssembly(future));
+            }
+            return results;
+        }
+    }
+
+    private <R> R awaitAssembly(Future<R> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            //rethrow the original exception, the same way as without parallel assembly
+            if(e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if(e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Failed to assemble element context", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while assembling element contexts", e);
+        }
+    }
+
+    private boolean isParallelAssemblyEnabled(PropertiesContainer propertiesContainer) {
+        var parallelAssemblyProperty = propertiesContainer.getPropertyValueObject(
+                PARALLEL_ASSEMBLY_PROPERTY,
+                PARALLEL_ASSEMBLY_DEFAULT_VALUE
+        );
+        log.debug("The EFFECTIVE value of property '{}' is '{}'", PARALLEL_ASSEMBLY_PROPERTY, parallelAssemblyProperty);
+        return new BooleanPropertyConverter().convert(parallelAssemblyProperty);
+    }
+
+    /**
+     * Computes the {@link StaticDependencyGraph} of the container, before any element is initialized. The graph is
+     * validated if {@value #VALIDATE_DEPENDENCIES_PROPERTY} is enabled, and it is exported if
+     * {@value #DEPENDENCY_GRAPH_EXPORT_PROPERTY} is set.
+     */
+    private StaticDependencyGraph analyzeDependencies(ElementsContainer elementsContainer, PropertiesContainer propertiesContainer) {
+        var dependencyGraph = StaticDependencyGraph.fromElementsContainer(elementsContainer);
+
+        var exportProperty = propertiesContainer.getPropertyValueObject(
+                DEPENDENCY_GRAPH_EXPORT_PROPERTY,
+                DEPENDENCY_GRAPH_EXPORT_DEFAULT_VALUE
+        );
+        log.debug("The EFFECTIVE value of property '{}' is '{}'", DEPENDENCY_GRAPH_EXPORT_PROPERTY, exportProperty);
+        String exportPath = new StringPropertyConverter().convert(exportProperty).trim();
+        if(!exportPath.isEmpty()) {
+            var formatProperty = propertiesContainer.getPropertyValueObject(
+                    DEPENDENCY_GRAPH_EXPORT_FORMAT_PROPERTY,
+                    DEPENDENCY_GRAPH_EXPORT_FORMAT_DEFAULT_VALUE
+            );
+            log.debug("The EFFECTIVE value of property '{}' is '{}'", DEPENDENCY_GRAPH_EXPORT_FORMAT_PROPERTY, formatProperty);
+            var format = DependencyGraphFormat.fromName(new StringPropertyConverter().convert(formatProperty));
+            exportDependencyGraph(dependencyGraph, Path.of(exportPath), format);
+        }
+
+        var validateProperty = propertiesContainer.getPropertyValueObject(
+                VALIDATE_DEPENDENCIES_PROPERTY,
+                VALIDATE_DEPENDENCIES_DEFAULT_VALUE
+        );
+        log.debug("The EFFECTIVE value of property '{}' is '{}'", VALIDATE_DEPENDENCIES_PROPERTY, validateProperty);
+        if(new BooleanPropertyConverter().convert(validateProperty)) {
+            dependencyGraph.validate();
+        }
+        return dependencyGraph;
+    }
+
+    private void exportDependencyGraph(StaticDependencyGraph dependencyGraph, Path exportPath, DependencyGraphFormat format) {
+        try {
+            Files.writeString(exportPath, dependencyGraph.export(format), StandardCharsets.UTF_8);
+            log.info("Exported the dependency graph of the elements to '{}' in {} format", exportPath.toAbsolutePath(), format);
+        } catch (IOException e) {
+            //the export is only for troubleshooting, the application can still start without it
+            log.error("Failed to export the dependency graph of the elements to '{}'", exportPath.toAbsolutePath(), e);
+        }
+    }
+
+    /**
+     * Initializes the contexts of the container, on several threads if {@value #PARALLEL_INITIALIZATION_PROPERTY} is enabled.
+     */
+    private void initializeElementContexts(
+            ElementsContainer elementsContainer,
+            StaticDependencyGraph dependencyGraph,
+            PropertiesContainer propertiesContainer
+    ) {
+        var parallelInitializationProperty = propertiesContainer.getPropertyValueObject(
+                PARALLEL_INITIALIZATION_PROPERTY,
+                PARALLEL_INITIALIZATION_DEFAULT_VALUE
+        );
+        log.debug("The EFFECTIVE value of property '{}' is '{}'", PARALLEL_INITIALIZATION_PROPERTY, parallelInitializationProperty);
+        if(!new BooleanPropertyConverter().convert(parallelInitializationProperty)) {
+            elementsContainer.initializeElementContexts();
+            return;
+        }
+
+        var parallelismProperty = propertiesContainer.getPropertyValueObject(
+                INITIALIZATION_PARALLELISM_PROPERTY,
+                new SinglePropertyValue(String.valueOf(Runtime.getRuntime().availableProcessors()))
+        );
+        log.debug("The EFFECTIVE value of property '{}' is '{}'", INITIALIZATION_PARALLELISM_PROPERTY, parallelismProperty);
+        elementsContainer.initializeElementContextsInParallel(dependencyGraph, new IntegerPropertyConverter().convert(parallelismProperty));
     }
 
     private void addPreConstructedElementContexts(
@@ -187,6 +391,8 @@ public class ElementsInitializationProcess {
         log.debug("Found {} property converters: {}", propertyConverters.size(), LogUtils.objectClassNames(propertyConverters));
         var propertyConverterAggregator = PropertyConverterAggregator.usingConverters(propertyConverters);
         propertiesContainer.setPropertyConverterAggregator(propertyConverterAggregator);
+        //no more changes are made to the properties, from now on they are only read
+        propertiesContainer.freeze();
     }
 
     private void filterElementContext(ElementsContainer elementsContainer, Application application) {
@@ -0,0 +1,96 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.elements;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import lombok.extern.slf4j.Slf4j;
+import org.tframework.core.elements.context.ElementContext;
+import org.tframework.core.elements.dependency.graph.StaticDependencyGraph;
+import org.tframework.core.elements.dependency.graph.StaticDependencyGraph.InitializationGroup;
+
+/**
+ * Initializes the {@link ElementContext}s of a container on several threads. The contexts are split into waves
+ * using the {@link StaticDependencyGraph}: the groups of a wave don't depend on each other, so they are initialized
+ * concurrently, and the next wave is only started when the previous one is finished. The contexts of one group
+ * are initialized on the same thread, in the order of the container.
+ * <p>
+ * If the initialization of any group fails, the next waves are not started, and the exception of the first failed
+ * group of the wave (in the order of the container) is thrown, the same way as it would be thrown without concurrency.
+ */
+@Slf4j
+class ParallelElementsInitializer {
+
+    private final int parallelism;
+
+    /**
+     * @param parallelism The maximum amount of contexts that are initialized at the same time, must be positive.
+     */
+    ParallelElementsInitializer(int parallelism) {
+        if(parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive, but it was " + parallelism);
+        }
+        this.parallelism = parallelism;
+    }
+
+    void initialize(StaticDependencyGraph dependencyGraph) {
+        var waves = dependencyGraph.getInitializationWaves();
+        log.debug("Initializing element contexts in {} waves, using at most {} threads", waves.size(), parallelism);
+
+        var threadFactory = Thread.ofPlatform().name("tframework-element-initializer-", 0).factory();
+        try(ExecutorService executor = Executors.newFixedThreadPool(parallelism, threadFactory)) {
+            for(int i = 0; i < waves.size(); i++) {
+                var wave = waves.get(i);
+                log.debug("Initializing wave {} with {} groups of element contexts", i, wave.size());
+                initializeWave(wave, executor);
+            }
+        }
+    }
+
+    private void initializeWave(List<InitializationGroup> wave, ExecutorService executor) {
+        if(wave.size() == 1) {
+            initializeGroup(wave.getFirst()); //no need to switch threads
+            return;
+        }
+        List<Future<?>> futures = new ArrayList<>(wave.size());
+        wave.forEach(group -> futures.add(executor.submit(() -> initializeGroup(group))));
+        RuntimeException firstFailure = null;
+        for(Future<?> future : futures) {
+            //wait for the whole wave, even if a group failed, so that no initialization is left running
+            RuntimeException failure = awaitInitialization(future);
+            if(firstFailure == null) {
+                firstFailure = failure;
+            }
+        }
+        if(firstFailure != null) {
+            throw firstFailure;
+        }
+    }
+
+    private void initializeGroup(InitializationGroup group) {
+        group.elementContexts().forEach(ElementContext::initialize);
+    }
+
+    private RuntimeException awaitInitialization(Future<?> future) {
+        try {
+            future.get();
+            return null;
+        } catch (ExecutionException e) {
+            //return the original exception, the same way as without parallel initialization
+            if(e.getCause() instanceof RuntimeException runtimeException) {
+                return runtimeException;
+            }
+            if(e.getCause() instanceof Error error) {
+                throw error;
+            }
+            return new IllegalStateException("Failed to initialize element context", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new IllegalStateException("Interrupted while initializing element contexts", e);
+        }
+    }
+
+}
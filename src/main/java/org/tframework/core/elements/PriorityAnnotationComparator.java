@@ -34,6 +34,6 @@ public class PriorityAnnotationComparator implements Comparator<ElementContext>
      * Creates a default comparator which supports composed {@link Priority} annotations.
      */
     public static PriorityAnnotationComparator create() {
-        return new PriorityAnnotationComparator(AnnotationScannersFactory.createComposedAnnotationScanner());
+        return new PriorityAnnotationComparator(AnnotationScannersFactory.sharedCachingAnnotationScanner());
     }
 }
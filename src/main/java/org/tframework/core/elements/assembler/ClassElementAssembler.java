@@ -1,18 +1,22 @@
 /* Licensed under Apache-2.0 2024. */
 package org.tframework.core.elements.assembler;
 
+import java.util.List;
 import lombok.Builder;
 import lombok.extern.slf4j.Slf4j;
 import org.tframework.core.elements.context.ElementContext;
 import org.tframework.core.elements.context.source.ClassElementSource;
-import org.tframework.core.elements.dependency.DependencyDefinition;
 import org.tframework.core.elements.dependency.graph.ElementDependencyGraph;
+import org.tframework.core.elements.dependency.plan.InjectionPlan;
+import org.tframework.core.elements.dependency.plan.InjectionPoint;
 import org.tframework.core.elements.dependency.resolver.DependencyResolverAggregator;
 
 /**
  * An {@link ElementAssembler} that creates instances of class elements (in other words: where classes are
  * marked as elements). The given {@link ClassElementSource} is used to retrieve the constructor and parameters.
- * This constructor is then invoked with the resolved dependencies.
+ * This constructor is then invoked with the resolved dependencies, using an {@link ElementInstantiator}. The
+ * instantiator is created once, when the assembler is created. The parameters are resolved by following the
+ * {@link InjectionPlan} of the element context, so the annotations of the parameters are not scanned for each instance.
  */
 @Slf4j
 public class ClassElementAssembler extends ElementAssembler {
@@ -26,12 +30,20 @@ public class ClassElementAssembler extends ElementAssembler {
     private final ElementContext elementContext;
     private final ClassElementSource classElementSource;
     private final DependencyResolverAggregator aggregator;
+    private final ElementInstantiator elementInstantiator;
 
-    private ClassElementAssembler(ElementContext elementContext, DependencyResolverAggregator aggregator) {
+    private ClassElementAssembler(
+            ElementContext elementContext,
+            DependencyResolverAggregator aggregator,
+            ElementInstantiationStrategy instantiationStrategy
+    ) {
         super(elementContext.getName(), elementContext.getType());
         this.elementContext = elementContext;
         this.classElementSource = (ClassElementSource) elementContext.getSource();
         this.aggregator = aggregator;
+        this.elementInstantiator = ElementInstantiatorsFactory.createInstantiator(
+                instantiationStrategy, classElementSource.constructor()
+        );
     }
 
     @Override
@@ -41,7 +53,7 @@ public class ClassElementAssembler extends ElementAssembler {
             Object[] constructorArgs = resolveConstructionTimeDependencies(dependencyGraph);
             log.debug("Resolved {} constructor parameters that will be used to assemble element '{}'",
                     constructorArgs.length, elementName);
-            Object elementInstance = classElementSource.constructor().newInstance(constructorArgs);
+            Object elementInstance = elementInstantiator.instantiate(null, constructorArgs);
             log.debug("Successfully assembled element '{}': {}", elementName, elementInstance);
             return elementInstance;
         } catch (Exception e) {
@@ -56,23 +68,28 @@ public class ClassElementAssembler extends ElementAssembler {
     }
 
     private Object[] resolveConstructionTimeDependencies(ElementDependencyGraph dependencyGraph) {
-        Object[] constructorArgs = new Object[classElementSource.elementConstructionParameters().size()];
+        List<InjectionPoint> injectionPoints = elementContext.getInjectionPlan().constructionParameters();
+        Object[] constructorArgs = new Object[injectionPoints.size()];
         for (int i = 0; i < constructorArgs.length; i++) {
-            var constructorParameter = classElementSource.elementConstructionParameters().get(i);
-            DependencyDefinition dependencyDefinition = DependencyDefinition.fromParameter(constructorParameter);
             constructorArgs[i] = aggregator.resolveDependency(
-                    dependencyDefinition, elementContext, dependencyGraph, DEPENDENCY_DECLARED_AS
+                    injectionPoints.get(i), elementContext, dependencyGraph, DEPENDENCY_DECLARED_AS
             );
         }
         return constructorArgs;
     }
 
+    /**
+     * Creates a {@link ClassElementAssembler}. If {@code instantiationStrategy} is null, the
+     * default {@link ElementInstantiationStrategy} is used.
+     */
     @Builder
     static ClassElementAssembler from(
             ElementContext elementContext,
-            DependencyResolverAggregator dependencyResolverAggregator
+            DependencyResolverAggregator dependencyResolverAggregator,
+            ElementInstantiationStrategy instantiationStrategy
     ) {
-        return new ClassElementAssembler(elementContext, dependencyResolverAggregator);
+        var strategy = instantiationStrategy != null ? instantiationStrategy : ElementInstantiatorsFactory.readStrategy(null);
+        return new ClassElementAssembler(elementContext, dependencyResolverAggregator, strategy);
     }
 
 }
@@ -30,30 +30,36 @@ public final class ElementAssemblersFactory {
     ) {
         var resolvers = DependencyResolversFactory.createParameterDependencyResolvers(dependencyResolutionInput);
         var aggregator = DependencyResolverAggregator.usingResolvers(resolvers);
+        var strategy = ElementInstantiatorsFactory.readStrategy(dependencyResolutionInput.propertiesContainer());
         return switch (elementContext.getSource()) {
-            case ClassElementSource ces -> createClassElementAssembler(elementContext, aggregator);
-            case MethodElementSource mes -> createMethodElementAssembler(elementContext, aggregator);
+            case ClassElementSource ces -> createClassElementAssembler(elementContext, aggregator, strategy);
+            case MethodElementSource mes -> createMethodElementAssembler(elementContext, aggregator, strategy);
             case PreConstructedElementSource pes -> createNoOpElementAssembler(elementContext);
             default -> throw new IllegalArgumentException("Unexpected element source: " + elementContext.getSource());
         };
     }
 
     private static ClassElementAssembler createClassElementAssembler(
-            ElementContext elementContext, DependencyResolverAggregator aggregator
+            ElementContext elementContext,
+            DependencyResolverAggregator aggregator,
+            ElementInstantiationStrategy strategy
     ) {
         return ClassElementAssembler.builder()
                 .elementContext(elementContext)
                 .dependencyResolverAggregator(aggregator)
+                .instantiationStrategy(strategy)
                 .build();
     }
 
     private static MethodElementAssembler createMethodElementAssembler(
             ElementContext elementContext,
-            DependencyResolverAggregator aggregator
+            DependencyResolverAggregator aggregator,
+            ElementInstantiationStrategy strategy
     ) {
         return MethodElementAssembler.builder()
                 .elementContext(elementContext)
                 .dependencyResolverAggregator(aggregator)
+                .instantiationStrategy(strategy)
                 .build();
     }
 
@@ -0,0 +1,23 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.elements.assembler;
+
+/**
+ * The strategies that {@link ElementAssembler}s can use to invoke the constructors or methods
+ * of the elements. The strategy can be selected with a property, see {@link ElementInstantiatorsFactory}.
+ */
+public enum ElementInstantiationStrategy {
+
+    /**
+     * Use {@link java.lang.reflect.Constructor#newInstance(Object...)} and
+     * {@link java.lang.reflect.Method#invoke(Object, Object...)}.
+     */
+    REFLECTION,
+
+    /**
+     * Convert the constructor or method into a {@link java.lang.invoke.MethodHandle} once, and invoke that
+     * for each instance. If the method handle cannot be created (for example, because the constructor is not
+     * accessible), the {@link #REFLECTION} strategy is used for that element.
+     */
+    METHOD_HANDLE
+
+}
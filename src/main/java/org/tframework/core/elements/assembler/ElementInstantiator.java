@@ -0,0 +1,24 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.elements.assembler;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Invokes the constructor or method that creates the instances of an element. An instantiator is
+ * created once for each {@link ElementAssembler}, and it is reused for all instances.
+ * @see ElementInstantiationStrategy
+ */
+public interface ElementInstantiator {
+
+    /**
+     * Invokes the constructor or method.
+     * @param target The object to invoke the method on. It is ignored for constructors and static methods.
+     * @param arguments The arguments to pass, their amount and types must match the constructor or method.
+     * @return The created instance.
+     * @throws InvocationTargetException If the invoked constructor or method threw an exception. This is the same
+     * as with reflective invocation, regardless of the strategy.
+     * @throws ReflectiveOperationException If the invocation could not be performed.
+     */
+    Object instantiate(Object target, Object[] arguments) throws ReflectiveOperationException;
+
+}
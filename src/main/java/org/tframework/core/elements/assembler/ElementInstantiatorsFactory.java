@@ -0,0 +1,76 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.elements.assembler;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.tframework.core.properties.PropertiesContainer;
+import org.tframework.core.properties.SinglePropertyValue;
+import org.tframework.core.properties.converters.EnumPropertyConverter;
+import org.tframework.core.properties.converters.PropertyConversionException;
+import org.tframework.core.utils.Constants;
+import org.tframework.core.utils.LogUtils;
+
+/**
+ * Utilities to create {@link ElementInstantiator}s. The {@link ElementInstantiationStrategy} is selected with
+ * the {@value #INSTANTIATION_STRATEGY_PROPERTY} property, which can be {@code reflection} or {@code method-handle}.
+ * The default is {@code method-handle}.
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ElementInstantiatorsFactory {
+
+    public static final String INSTANTIATION_STRATEGY_PROPERTY = Constants.TFRAMEWORK_PROPERTIES_PREFIX + ".elements.instantiation-strategy";
+    private static final SinglePropertyValue INSTANTIATION_STRATEGY_DEFAULT_VALUE = new SinglePropertyValue("method-handle");
+
+    /**
+     * Reads the {@link ElementInstantiationStrategy} from the properties.
+     * @param propertiesContainer The {@link PropertiesContainer} to read from. If it is null, the default strategy is returned.
+     * @throws PropertyConversionException If the property has an invalid value.
+     */
+    public static ElementInstantiationStrategy readStrategy(PropertiesContainer propertiesContainer) {
+        var strategyProperty = propertiesContainer == null
+                ? INSTANTIATION_STRATEGY_DEFAULT_VALUE
+                : propertiesContainer.getPropertyValueObject(INSTANTIATION_STRATEGY_PROPERTY, INSTANTIATION_STRATEGY_DEFAULT_VALUE);
+        return new EnumPropertyConverter<>(ElementInstantiationStrategy.class).convert(strategyProperty);
+    }
+
+    /**
+     * Creates an {@link ElementInstantiator} that invokes a constructor with the given strategy.
+     */
+    public static ElementInstantiator createInstantiator(ElementInstantiationStrategy strategy, Constructor<?> constructor) {
+        return switch (strategy) {
+            case REFLECTION -> ReflectiveElementInstantiator.ofConstructor(constructor);
+            case METHOD_HANDLE -> {
+                try {
+                    yield MethodHandleElementInstantiator.ofConstructor(constructor);
+                } catch (IllegalAccessException e) {
+                    log.debug("Cannot create method handle for constructor '{}', falling back to reflection",
+                            LogUtils.niceExecutableName(constructor));
+                    yield ReflectiveElementInstantiator.ofConstructor(constructor);
+                }
+            }
+        };
+    }
+
+    /**
+     * Creates an {@link ElementInstantiator} that invokes a method with the given strategy.
+     */
+    public static ElementInstantiator createInstantiator(ElementInstantiationStrategy strategy, Method method) {
+        return switch (strategy) {
+            case REFLECTION -> ReflectiveElementInstantiator.ofMethod(method);
+            case METHOD_HANDLE -> {
+                try {
+                    yield MethodHandleElementInstantiator.ofMethod(method);
+                } catch (IllegalAccessException e) {
+                    log.debug("Cannot create method handle for method '{}', falling back to reflection",
+                            LogUtils.niceExecutableName(method));
+                    yield ReflectiveElementInstantiator.ofMethod(method);
+                }
+            }
+        };
+    }
+
+}
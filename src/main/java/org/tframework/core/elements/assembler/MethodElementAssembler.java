@@ -1,12 +1,14 @@
 /* Licensed under Apache-2.0 2024. */
 package org.tframework.core.elements.assembler;
 
+import java.util.List;
 import lombok.Builder;
 import lombok.extern.slf4j.Slf4j;
 import org.tframework.core.elements.context.ElementContext;
 import org.tframework.core.elements.context.source.MethodElementSource;
-import org.tframework.core.elements.dependency.DependencyDefinition;
 import org.tframework.core.elements.dependency.graph.ElementDependencyGraph;
+import org.tframework.core.elements.dependency.plan.InjectionPlan;
+import org.tframework.core.elements.dependency.plan.InjectionPoint;
 import org.tframework.core.elements.dependency.resolver.DependencyResolverAggregator;
 
 /**
@@ -17,7 +19,9 @@ import org.tframework.core.elements.dependency.resolver.DependencyResolverAggreg
  *     <li>The given {@link MethodElementSource} is used to retrieve the method and parameters.</li>
  *     <li>Dependencies (method parameters) are resolved.</li>
  * </ul>
- * This method is then invoked with the parent instance and the resolved dependencies.
+ * This method is then invoked with the parent instance and the resolved dependencies, using an {@link ElementInstantiator}.
+ * The instantiator is created once, when the assembler is created. The parameters are resolved by following the
+ * {@link InjectionPlan} of the element context, so the annotations of the parameters are not scanned for each instance.
  */
 @Slf4j
 public class MethodElementAssembler extends ElementAssembler {
@@ -31,15 +35,20 @@ public class MethodElementAssembler extends ElementAssembler {
     private final ElementContext elementContext;
     private final MethodElementSource methodElementSource;
     private final DependencyResolverAggregator dependencyResolverAggregator;
+    private final ElementInstantiator elementInstantiator;
 
     private MethodElementAssembler(
            ElementContext elementContext,
-           DependencyResolverAggregator dependencyResolverAggregator
+           DependencyResolverAggregator dependencyResolverAggregator,
+           ElementInstantiationStrategy instantiationStrategy
     ) {
         super(elementContext.getName(), elementContext.getType());
         this.elementContext = elementContext;
         this.methodElementSource = (MethodElementSource) elementContext.getSource();
         this.dependencyResolverAggregator = dependencyResolverAggregator;
+        this.elementInstantiator = ElementInstantiatorsFactory.createInstantiator(
+                instantiationStrategy, methodElementSource.method()
+        );
     }
 
     @Override
@@ -57,7 +66,7 @@ public class MethodElementAssembler extends ElementAssembler {
             log.debug("Resolved {} method parameters that will be used to assemble element '{}'",
                     methodArgs.length, elementName);
 
-            Object elementInstance = methodElementSource.method().invoke(parentElementInstance, methodArgs);
+            Object elementInstance = elementInstantiator.instantiate(parentElementInstance, methodArgs);
             log.debug("Successfully assembled element '{}': {}", elementName, elementInstance);
             return elementInstance;
         } catch (Exception e) {
@@ -72,22 +81,27 @@ public class MethodElementAssembler extends ElementAssembler {
     }
 
     private Object[] resolveMethodInvocationDependencies(ElementDependencyGraph dependencyGraph) {
-        Object[] methodArgs = new Object[methodElementSource.elementConstructionParameters().size()];
+        List<InjectionPoint> injectionPoints = elementContext.getInjectionPlan().constructionParameters();
+        Object[] methodArgs = new Object[injectionPoints.size()];
         for (int i = 0; i < methodArgs.length; i++) {
-            var methodParameter = methodElementSource.elementConstructionParameters().get(i);
-            DependencyDefinition dependencyDefinition = DependencyDefinition.fromParameter(methodParameter);
             methodArgs[i] = dependencyResolverAggregator.resolveDependency(
-                    dependencyDefinition, elementContext, dependencyGraph, DEPENDENCY_DECLARED_AS
+                    injectionPoints.get(i), elementContext, dependencyGraph, DEPENDENCY_DECLARED_AS
             );
         }
         return methodArgs;
     }
 
+    /**
+     * Creates a {@link MethodElementAssembler}. If {@code instantiationStrategy} is null, the
+     * default {@link ElementInstantiationStrategy} is used.
+     */
     @Builder
     static MethodElementAssembler create(
             ElementContext elementContext,
-            DependencyResolverAggregator dependencyResolverAggregator
+            DependencyResolverAggregator dependencyResolverAggregator,
+            ElementInstantiationStrategy instantiationStrategy
     ) {
-        return new MethodElementAssembler(elementContext, dependencyResolverAggregator);
+        var strategy = instantiationStrategy != null ? instantiationStrategy : ElementInstantiatorsFactory.readStrategy(null);
+        return new MethodElementAssembler(elementContext, dependencyResolverAggregator, strategy);
     }
 }
@@ -0,0 +1,117 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.elements.assembler;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * An {@link ElementInstantiator} that invokes a {@link MethodHandle}. The handle is created once from
+ * the constructor or method, and adapted to the {@code (Object target, Object[] arguments)Object} type, so that it
+ * can be invoked exactly, without the access checks and argument boxing of reflection on every call.
+ * <p>
+ * Like reflection, the exceptions thrown by the constructor or method are wrapped into an
+ * {@link InvocationTargetException}, including {@link Error}s. Failures of the invocation itself, such as a
+ * {@link ClassCastException} for an argument of the wrong type, are thrown unchanged.
+ * @see ElementInstantiationStrategy#METHOD_HANDLE
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class MethodHandleElementInstantiator implements ElementInstantiator {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodHandle THROW_TARGET_EXCEPTION;
+
+    static {
+        try {
+            THROW_TARGET_EXCEPTION = LOOKUP.findStatic(MethodHandleElementInstantiator.class, "throwTargetException",
+                    MethodType.methodType(Object.class, Throwable.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final MethodHandle methodHandle;
+
+    @Override
+    public Object instantiate(Object target, Object[] arguments) throws ReflectiveOperationException {
+        try {
+            return (Object) methodHandle.invokeExact(target, arguments);
+        } catch (TargetException e) {
+            //same as reflection: exceptions of the invoked code are wrapped
+            throw new InvocationTargetException(e.getCause());
+        } catch (RuntimeException | Error e) {
+            throw e; //the invocation itself failed: nothing was thrown by the invoked code
+        } catch (Throwable e) {
+            //everything thrown by the invoked code is a TargetException, so this is never a checked throwable
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    /**
+     * Creates an instantiator that invokes the given constructor.
+     * @throws IllegalAccessException If the constructor is not accessible to the framework.
+     */
+    public static MethodHandleElementInstantiator ofConstructor(Constructor<?> constructor) throws IllegalAccessException {
+        var constructorHandle = markTargetExceptions(LOOKUP.unreflectConstructor(constructor));
+        int parameterCount = constructor.getParameterCount();
+        var handle = spreadArguments(constructorHandle, parameterCount);
+        //the constructor has no target, but the handle must have the same type for all executables
+        return new MethodHandleElementInstantiator(MethodHandles.dropArguments(handle, 0, Object.class));
+    }
+
+    /**
+     * Creates an instantiator that invokes the given method.
+     * @throws IllegalAccessException If the method is not accessible to the framework.
+     */
+    public static MethodHandleElementInstantiator ofMethod(Method method) throws IllegalAccessException {
+        var methodHandle = markTargetExceptions(LOOKUP.unreflect(method));
+        int parameterCount = method.getParameterCount();
+        if(Modifier.isStatic(method.getModifiers())) {
+            var handle = spreadArguments(methodHandle, parameterCount);
+            return new MethodHandleElementInstantiator(MethodHandles.dropArguments(handle, 0, Object.class));
+        }
+        //the first parameter is the target, which is followed by the actual parameters
+        var handle = methodHandle
+                .asType(MethodType.genericMethodType(parameterCount + 1))
+                .asSpreader(Object[].class, parameterCount);
+        return new MethodHandleElementInstantiator(handle);
+    }
+
+    /**
+     * Wraps everything thrown by the invoked code, including {@link Error}s, into a {@link TargetException}, before
+     * the handle is adapted. The exceptions of the adaptation, such as failed casts of the arguments, are then not wrapped.
+     */
+    private static MethodHandle markTargetExceptions(MethodHandle handle) {
+        var handler = THROW_TARGET_EXCEPTION.asType(MethodType.methodType(handle.type().returnType(), Throwable.class));
+        handler = MethodHandles.dropArguments(handler, 1, handle.type().parameterList());
+        return MethodHandles.catchException(handle, Throwable.class, handler);
+    }
+
+    private static Object throwTargetException(Throwable e) {
+        throw new TargetException(e);
+    }
+
+    private static MethodHandle spreadArguments(MethodHandle handle, int parameterCount) {
+        return handle
+                .asType(MethodType.genericMethodType(parameterCount))
+                .asSpreader(Object[].class, parameterCount);
+    }
+
+    /**
+     * Carries an exception of the invoked code through the adapted handle.
+     */
+    private static final class TargetException extends RuntimeException {
+
+        private TargetException(Throwable cause) {
+            super(null, cause, false, false);
+        }
+    }
+
+}
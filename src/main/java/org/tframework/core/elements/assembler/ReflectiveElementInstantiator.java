@@ -0,0 +1,41 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.elements.assembler;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * An {@link ElementInstantiator} that uses reflection on every invocation.
+ * @see ElementInstantiationStrategy#REFLECTION
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ReflectiveElementInstantiator implements ElementInstantiator {
+
+    private final Constructor<?> constructor;
+    private final Method method;
+
+    @Override
+    public Object instantiate(Object target, Object[] arguments) throws ReflectiveOperationException {
+        if(constructor != null) {
+            return constructor.newInstance(arguments);
+        }
+        return method.invoke(target, arguments);
+    }
+
+    /**
+     * Creates an instantiator that invokes the given constructor.
+     */
+    public static ReflectiveElementInstantiator ofConstructor(Constructor<?> constructor) {
+        return new ReflectiveElementInstantiator(constructor, null);
+    }
+
+    /**
+     * Creates an instantiator that invokes the given method.
+     */
+    public static ReflectiveElementInstantiator ofMethod(Method method) {
+        return new ReflectiveElementInstantiator(null, method);
+    }
+
+}
@@ -4,6 +4,7 @@ package org.tframework.core.elements.context;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Set;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
@@ -15,8 +16,11 @@ import org.tframework.core.elements.assembler.ElementAssembler;
 import org.tframework.core.elements.assembler.ElementAssemblersFactory;
 import org.tframework.core.elements.context.source.ElementSource;
 import org.tframework.core.elements.dependency.graph.ElementDependencyGraph;
+import org.tframework.core.elements.dependency.plan.InjectionPlan;
+import org.tframework.core.elements.dependency.plan.InjectionPlanner;
 import org.tframework.core.elements.dependency.resolver.DependencyResolutionInput;
 import org.tframework.core.elements.postprocessing.ElementInstancePostProcessorAggregator;
+import org.tframework.core.reflection.annotations.MultipleAnnotationsScannedException;
 import org.tframework.core.reflection.field.SimpleFieldScanner;
 import org.tframework.core.reflection.methods.DeclaredMethodScanner;
 
@@ -35,9 +39,14 @@ public abstract class ElementContext {
     protected final ElementSource source;
     protected final ElementAssembler elementAssembler;
 
+    private static final InjectionPlanner INJECTION_PLANNER = InjectionPlanner.createDefault();
+
     protected Set<Method> methods;
     protected Set<Field> fields;
 
+    @Getter(AccessLevel.NONE)
+    private volatile InjectionPlan injectionPlan;
+
     @Setter
     private ElementInstancePostProcessorAggregator postProcessor;
 
@@ -77,6 +86,22 @@ public abstract class ElementContext {
         fields = fieldScanner.getAllFields(type);
     }
 
+    /**
+     * Returns the {@link InjectionPlan} of this element, which describes the dependencies in the construction parameters
+     * and fields. The plan is created when it is first requested, then it is reused for all instances.
+     * @throws MultipleAnnotationsScannedException If a parameter or field has multiple '@InjectX' annotations.
+     */
+    public InjectionPlan getInjectionPlan() {
+        var plan = injectionPlan;
+        if(plan == null) {
+            //the plan is immutable, so it is not a problem if multiple threads create it at the same time
+            plan = INJECTION_PLANNER.createPlan(source, fields);
+            injectionPlan = plan;
+            log.debug("Created injection plan for element context '{}': {}", name, plan);
+        }
+        return plan;
+    }
+
     /**
      * Initializes this element context so that it is ready to create instances of the element.
      */
@@ -88,7 +113,7 @@ public abstract class ElementContext {
      * Depending on the implementation, this might reuse an existing instance, or create a new one.
      */
     public Object requestInstance() {
-        return requestInstance(ElementDependencyGraph.empty());
+        return requestInstance(ElementDependencyGraph.forCurrentThread());
     }
 
     /**
@@ -114,6 +139,20 @@ public abstract class ElementContext {
      */
     protected abstract InstanceRequest requestInstanceInternal(ElementDependencyGraph dependencyGraph);
 
+    /**
+     * Assembles a new instance with the {@link ElementAssembler} of this context. While the instance is being assembled,
+     * this element is on the resolution stack of the {@link ElementDependencyGraph}, so circular dependencies are detected.
+     * @param dependencyGraph The {@link ElementDependencyGraph} to use for dependency resolution.
+     */
+    protected Object assembleInstance(ElementDependencyGraph dependencyGraph) {
+        dependencyGraph.startResolution(this);
+        try {
+            return elementAssembler.assemble(dependencyGraph);
+        } finally {
+            dependencyGraph.finishResolution(this);
+        }
+    }
+
     protected void postProcessInstance(Object instance) {
         if(postProcessor != null) {
             postProcessor.postProcessInstance(this, instance);
@@ -1,24 +1,31 @@
 /* Licensed under Apache-2.0 2024. */
 package org.tframework.core.elements.context;
 
-import java.util.ArrayList;
-import java.util.List;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.tframework.core.elements.ElementScope;
 import org.tframework.core.elements.context.source.ElementSource;
+import org.tframework.core.elements.context.tracking.PrototypeInstanceTracker;
+import org.tframework.core.elements.context.tracking.PrototypeInstanceTrackersFactory;
+import org.tframework.core.elements.context.tracking.PrototypeTrackingPolicy;
 import org.tframework.core.elements.dependency.graph.ElementDependencyGraph;
 import org.tframework.core.elements.dependency.resolver.DependencyResolutionInput;
 
 /**
- * An {@link ElementContext} that represents a prototype element.
+ * An {@link ElementContext} that represents a prototype element. The created instances are tracked by
+ * a {@link PrototypeInstanceTracker}, which is selected by the properties described in {@link PrototypeInstanceTrackersFactory}.
+ * By default, the instances are not tracked, so this context does not keep them on the heap.
  * @see ElementScope#PROTOTYPE
+ * @see PrototypeTrackingPolicy
  */
 @Slf4j
 @EqualsAndHashCode(callSuper = true)
 public final class PrototypeElementContext extends ElementContext {
 
-    private final List<Object> instances;
+    @Getter
+    @EqualsAndHashCode.Exclude
+    private final PrototypeInstanceTracker instanceTracker;
 
     /**
      * Creates a prototype element context. For the parameter documentation, see the superclass constructor.
@@ -30,7 +37,9 @@ public final class PrototypeElementContext extends ElementContext {
             DependencyResolutionInput dependencyResolutionInput
     ) {
         super(name, type, ElementScope.PROTOTYPE, source, dependencyResolutionInput);
-        this.instances = new ArrayList<>();
+        this.instanceTracker = PrototypeInstanceTrackersFactory.createTrackerFromProperties(
+                dependencyResolutionInput.propertiesContainer()
+        );
     }
 
     @Override
@@ -40,9 +49,9 @@ public final class PrototypeElementContext extends ElementContext {
 
     @Override
     protected InstanceRequest requestInstanceInternal(ElementDependencyGraph dependencyGraph) {
-        Object instance = elementAssembler.assemble(dependencyGraph);
+        Object instance = assembleInstance(dependencyGraph);
 
-        instances.add(instance);
+        instanceTracker.track(instance);
         log.debug("Created new instance of prototype element: {}", name);
         return InstanceRequest.ofNewlyCreated(instance);
     }
@@ -1,20 +1,45 @@
 /* Licensed under Apache-2.0 2024. */
 package org.tframework.core.elements.context;
 
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
 import lombok.extern.slf4j.Slf4j;
 import org.tframework.core.elements.ElementScope;
 import org.tframework.core.elements.context.source.ElementSource;
+import org.tframework.core.elements.dependency.graph.CircularDependencyException;
 import org.tframework.core.elements.dependency.graph.ElementDependencyGraph;
 import org.tframework.core.elements.dependency.resolver.DependencyResolutionInput;
 
 /**
- * An {@link ElementContext} that represents a singleton element.
+ * An {@link ElementContext} that represents a singleton element. This context is thread-safe: the instance
+ * is assembled and post-processed exactly once, even if it is requested by several threads at the same time.
+ * <ul>
+ *     <li>
+ *         After the instance is created, requesting it costs only a volatile read.
+ *     </li>
+ *     <li>
+ *         The creation happens while holding a lock that belongs to this context. Other threads requesting the
+ *         instance wait until it is fully post-processed.
+ *     </li>
+ *     <li>
+ *         If the creating thread requests the instance again while it is being post-processed (for example, because
+ *         of circular field injection), the not yet post-processed instance is returned, the same way as without
+ *         concurrency. If it requests the instance again while it is being assembled, that is a circular dependency.
+ *     </li>
+ * </ul>
+ * Singletons that depend on each other through field injection should be first requested from the same thread
+ * (the framework does this when it initializes the elements), otherwise the two creating threads would wait for each other.
  * @see ElementScope#SINGLETON
  */
 @Slf4j
 public final class SingletonElementContext extends ElementContext {
 
-    private Object instance;
+    private final ReentrantLock creationLock;
+    private volatile Object instance;
+
+    //these fields are only accessed while holding the creation lock
+    private Object instanceUnderPostProcessing;
+    private boolean assemblingInProgress;
 
     /**
      * Creates a singleton element context. For parameter details, see superclass constructor.
@@ -26,33 +51,80 @@ public final class SingletonElementContext extends ElementContext {
             DependencyResolutionInput dependencyResolutionInput
     ) {
         super(name, type, ElementScope.SINGLETON, source, dependencyResolutionInput);
+        this.creationLock = new ReentrantLock();
     }
 
     @Override
     public void initialize() {
-        initialize(ElementDependencyGraph.empty());
+        initialize(ElementDependencyGraph.forCurrentThread());
     }
 
     private void initialize(ElementDependencyGraph dependencyGraph) {
         log.debug("Starting initialization of singleton element '{}'", name);
         if(instance == null) {
-            instance = requestInstance(dependencyGraph);
-            log.debug("Initialized singleton element context: {}. The instance was created: {}", name, instance);
+            var initializedInstance = requestInstance(dependencyGraph);
+            log.debug("Initialized singleton element context: {}. The instance was created: {}", name, initializedInstance);
         } else {
             log.debug("Singleton element '{}' was already eagerly initialized, skipping.", name);
         }
     }
 
     @Override
-    protected InstanceRequest requestInstanceInternal(ElementDependencyGraph dependencyGraph) {
-        if(instance == null) {
-            instance = elementAssembler.assemble(dependencyGraph);
-            return InstanceRequest.ofNewlyCreated(instance);
-        } else {
-            return InstanceRequest.ofReused(instance);
+    public Object requestInstance(ElementDependencyGraph dependencyGraph) {
+        var existingInstance = instance;
+        if(existingInstance != null) {
+            return existingInstance;
+        }
+
+        creationLock.lock();
+        try {
+            if(instance != null) {
+                //another thread created it while this one was waiting for the lock
+                return instance;
+            }
+            if(creationLock.getHoldCount() > 1) {
+                return handleReentrantRequest();
+            }
+            return createInstance(dependencyGraph);
+        } finally {
+            creationLock.unlock();
         }
     }
 
+    private Object handleReentrantRequest() {
+        if(assemblingInProgress) {
+            //the element was requested again while its dependencies were being resolved
+            throw new CircularDependencyException(List.of(name).toString());
+        }
+        log.debug("Singleton element '{}' was requested again while it is being post-processed, " +
+                "returning the instance before post-processing is finished", name);
+        return instanceUnderPostProcessing;
+    }
+
+    private Object createInstance(ElementDependencyGraph dependencyGraph) {
+        try {
+            assemblingInProgress = true;
+            var newInstance = requestInstanceInternal(dependencyGraph).instance();
+            assemblingInProgress = false;
+
+            instanceUnderPostProcessing = newInstance;
+            postProcessInstance(newInstance);
+            instance = newInstance; //publishes the fully post-processed instance to other threads
+            return newInstance;
+        } finally {
+            assemblingInProgress = false;
+            instanceUnderPostProcessing = null;
+        }
+    }
+
+    /**
+     * Assembles a new instance. This is only called once, while holding the creation lock.
+     */
+    @Override
+    protected InstanceRequest requestInstanceInternal(ElementDependencyGraph dependencyGraph) {
+        return InstanceRequest.ofNewlyCreated(assembleInstance(dependencyGraph));
+    }
+
     @Override
     public String toString() {
         return "SingletonElementContext{" +
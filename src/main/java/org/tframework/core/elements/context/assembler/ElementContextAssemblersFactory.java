@@ -20,7 +20,7 @@ public final class ElementContextAssemblersFactory {
      */
     public static ClassElementContextAssembler createDefaultClassElementContextAssembler() {
         return ClassElementContextAssembler.builder()
-                .annotationScanner(AnnotationScannersFactory.createComposedAnnotationScanner())
+                .annotationScanner(AnnotationScannersFactory.sharedCachingAnnotationScanner())
                 .constructorScanner(ConstructorScannersFactory.createDefaultConstructorScanner())
                 .constructorFilter(ConstructorFiltersFactory.createDefaultConstructorFilter())
                 .build();
@@ -5,8 +5,8 @@ import java.lang.reflect.Method;
 import java.util.Objects;
 import lombok.AccessLevel;
 import lombok.Builder;
+import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.tframework.core.elements.ElementUtils;
 import org.tframework.core.elements.annotations.Element;
@@ -23,7 +23,8 @@ import org.tframework.core.utils.LogUtils;
  * were annotated with {@link org.tframework.core.elements.annotations.Element}. The method must be valid for element
  * construction, for criteria see {@link #validateMethod(Method, Class)}.
  * <p>
- * This class is <b>not thread-safe</b>!
+ * The element methods are declared in a parent element, which must be provided with {@link #forParentElementContext(ElementContext)}.
+ * This class is immutable, so the assemblers of different parents can be used on different threads.
  */
 @Slf4j
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
@@ -35,16 +36,23 @@ public class MethodElementContextAssembler implements ElementContextAssembler<Me
     static final String STATIC_ERROR = "The element method must be non-static.";
 
     private final MethodFilter methodFilter;
+    private final ElementContext parentElementContext;
 
-    @Setter
-    private ElementContext parentElementContext;
+    /**
+     * Creates an assembler for the element methods declared in the given parent element.
+     * @param parentElementContext The {@link ElementContext} of the element that declares the element methods.
+     * @return A new assembler, this assembler is not changed.
+     */
+    public MethodElementContextAssembler forParentElementContext(@NonNull ElementContext parentElementContext) {
+        return new MethodElementContextAssembler(methodFilter, parentElementContext);
+    }
 
     @Override
     public ElementContext assemble(
             ElementScanningResult<Method> scanningResult,
             DependencyResolutionInput dependencyResolutionInput
     ) throws ElementContextAssemblingException {
-        Objects.requireNonNull(parentElementContext, "parentElementContext must not be null when assembling element context from method");
+        Objects.requireNonNull(parentElementContext, "parentElementContext must be provided with 'forParentElementContext' before assembling element context from method");
 
         Method elementMethod = scanningResult.annotationSource();
         Class<?> elementType = elementMethod.getReturnType();
@@ -88,6 +96,6 @@ public class MethodElementContextAssembler implements ElementContextAssembler<Me
 
     @Builder
     static MethodElementContextAssembler create(MethodFilter methodFilter) {
-        return new MethodElementContextAssembler(methodFilter);
+        return new MethodElementContextAssembler(methodFilter, null);
     }
 }
@@ -0,0 +1,50 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.elements.context.tracking;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * A {@link PrototypeInstanceTracker} that tracks at most {@code limit} instances with strong references.
+ * When a new instance would exceed the limit, the oldest tracked instance is dropped.
+ * @see PrototypeTrackingPolicy#BOUNDED
+ */
+public class BoundedPrototypeInstanceTracker implements PrototypeInstanceTracker {
+
+    @Getter
+    private final int limit;
+    private final Deque<Object> instances;
+
+    /**
+     * Creates a bounded tracker.
+     * @param limit The maximum amount of tracked instances, must be positive.
+     * @throws IllegalArgumentException If the limit is not positive.
+     */
+    public BoundedPrototypeInstanceTracker(int limit) {
+        if(limit <= 0) {
+            throw new IllegalArgumentException("The prototype tracking limit must be positive, but it was: " + limit);
+        }
+        this.limit = limit;
+        this.instances = new ArrayDeque<>();
+    }
+
+    @Override
+    public synchronized void track(Object instance) {
+        if(instances.size() == limit) {
+            instances.removeFirst();
+        }
+        instances.addLast(instance);
+    }
+
+    @Override
+    public synchronized List<Object> getTrackedInstances() {
+        return List.copyOf(instances);
+    }
+
+    @Override
+    public PrototypeTrackingPolicy getPolicy() {
+        return PrototypeTrackingPolicy.BOUNDED;
+    }
+}
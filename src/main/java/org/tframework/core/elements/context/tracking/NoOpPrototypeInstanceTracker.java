@@ -0,0 +1,26 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.elements.context.tracking;
+
+import java.util.List;
+
+/**
+ * A {@link PrototypeInstanceTracker} that does not track anything.
+ * @see PrototypeTrackingPolicy#NONE
+ */
+public class NoOpPrototypeInstanceTracker implements PrototypeInstanceTracker {
+
+    @Override
+    public void track(Object instance) {
+        //nothing to do, the instance is not retained
+    }
+
+    @Override
+    public List<Object> getTrackedInstances() {
+        return List.of();
+    }
+
+    @Override
+    public PrototypeTrackingPolicy getPolicy() {
+        return PrototypeTrackingPolicy.NONE;
+    }
+}
@@ -0,0 +1,31 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.elements.context.tracking;
+
+import java.util.List;
+import org.tframework.core.elements.context.PrototypeElementContext;
+
+/**
+ * Keeps track of the instances created by a {@link PrototypeElementContext}, according to
+ * a {@link PrototypeTrackingPolicy}. The tracked instances can be used, for example, to run destruction
+ * callbacks on them. Implementations must be thread-safe, because prototype instances may be requested
+ * from multiple threads.
+ */
+public interface PrototypeInstanceTracker {
+
+    /**
+     * Starts tracking a newly created instance.
+     */
+    void track(Object instance);
+
+    /**
+     * @return The instances that are currently tracked, in the order they were created. The list is a snapshot,
+     * it does not change when new instances are tracked.
+     */
+    List<Object> getTrackedInstances();
+
+    /**
+     * @return The {@link PrototypeTrackingPolicy} this tracker implements.
+     */
+    PrototypeTrackingPolicy getPolicy();
+
+}
@@ -0,0 +1,79 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.elements.context.tracking;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.tframework.core.properties.PropertiesContainer;
+import org.tframework.core.properties.SinglePropertyValue;
+import org.tframework.core.properties.converters.EnumPropertyConverter;
+import org.tframework.core.properties.converters.IntegerPropertyConverter;
+import org.tframework.core.properties.converters.PropertyConversionException;
+import org.tframework.core.utils.Constants;
+
+/**
+ * Utilities to create {@link PrototypeInstanceTracker}s. The tracker is selected with the following properties:
+ * <ul>
+ *     <li>
+ *         {@value #PROTOTYPE_TRACKING_PROPERTY}: the {@link PrototypeTrackingPolicy}, case-insensitive.
+ *         The default is {@code none}.
+ *     </li>
+ *     <li>
+ *         {@value #PROTOTYPE_TRACKING_LIMIT_PROPERTY}: the maximum amount of tracked instances per element,
+ *         only used with the {@link PrototypeTrackingPolicy#BOUNDED} policy. The default is {@value #DEFAULT_TRACKING_LIMIT}.
+ *     </li>
+ * </ul>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PrototypeInstanceTrackersFactory {
+
+    public static final String PROTOTYPE_TRACKING_PROPERTY = Constants.TFRAMEWORK_PROPERTIES_PREFIX + ".elements.prototype-tracking";
+    private static final SinglePropertyValue PROTOTYPE_TRACKING_DEFAULT_VALUE = new SinglePropertyValue("none");
+
+    public static final String PROTOTYPE_TRACKING_LIMIT_PROPERTY = Constants.TFRAMEWORK_PROPERTIES_PREFIX + ".elements.prototype-tracking-limit";
+    public static final int DEFAULT_TRACKING_LIMIT = 1000;
+    private static final SinglePropertyValue PROTOTYPE_TRACKING_LIMIT_DEFAULT_VALUE =
+            new SinglePropertyValue(String.valueOf(DEFAULT_TRACKING_LIMIT));
+
+    /**
+     * Creates a {@link PrototypeInstanceTracker} for the given policy.
+     * @param policy The {@link PrototypeTrackingPolicy} to implement.
+     * @param limit The tracking limit, only used for {@link PrototypeTrackingPolicy#BOUNDED}.
+     */
+    public static PrototypeInstanceTracker createTracker(PrototypeTrackingPolicy policy, int limit) {
+        return switch (policy) {
+            case NONE -> new NoOpPrototypeInstanceTracker();
+            case WEAK -> new WeakPrototypeInstanceTracker();
+            case BOUNDED -> new BoundedPrototypeInstanceTracker(limit);
+        };
+    }
+
+    /**
+     * Creates a {@link PrototypeInstanceTracker} based on the tracking properties.
+     * @param propertiesContainer The {@link PropertiesContainer} to read the properties from. If this
+     *                            is null, the default {@link NoOpPrototypeInstanceTracker} is created.
+     * @throws PropertyConversionException If the properties have invalid values.
+     */
+    public static PrototypeInstanceTracker createTrackerFromProperties(PropertiesContainer propertiesContainer) {
+        if(propertiesContainer == null) {
+            return new NoOpPrototypeInstanceTracker();
+        }
+        var policy = readPolicy(propertiesContainer);
+        if(policy != PrototypeTrackingPolicy.BOUNDED) {
+            return createTracker(policy, DEFAULT_TRACKING_LIMIT);
+        }
+        var limitProperty = propertiesContainer.getPropertyValueObject(
+                PROTOTYPE_TRACKING_LIMIT_PROPERTY,
+                PROTOTYPE_TRACKING_LIMIT_DEFAULT_VALUE
+        );
+        return createTracker(policy, new IntegerPropertyConverter().convert(limitProperty));
+    }
+
+    private static PrototypeTrackingPolicy readPolicy(PropertiesContainer propertiesContainer) {
+        var policyProperty = propertiesContainer.getPropertyValueObject(
+                PROTOTYPE_TRACKING_PROPERTY,
+                PROTOTYPE_TRACKING_DEFAULT_VALUE
+        );
+        return new EnumPropertyConverter<>(PrototypeTrackingPolicy.class).convert(policyProperty);
+    }
+
+}
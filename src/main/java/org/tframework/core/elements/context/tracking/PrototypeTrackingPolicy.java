@@ -0,0 +1,30 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.elements.context.tracking;
+
+import org.tframework.core.elements.context.PrototypeElementContext;
+
+/**
+ * Defines how a {@link PrototypeElementContext} keeps track of the instances it created.
+ * @see PrototypeInstanceTrackersFactory
+ */
+public enum PrototypeTrackingPolicy {
+
+    /**
+     * The instances are not tracked at all. This is the default: prototype instances are not kept on the heap
+     * by the framework, they are garbage collected as soon as the application does not use them anymore.
+     */
+    NONE,
+
+    /**
+     * The instances are tracked with weak references. This does not prevent them from being garbage collected,
+     * but the instances that are still in use can be retrieved.
+     */
+    WEAK,
+
+    /**
+     * The most recently created instances are tracked with strong references, up to a configured limit. When
+     * the limit is reached, the oldest instance is no longer tracked.
+     */
+    BOUNDED
+
+}
@@ -0,0 +1,61 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.elements.context.tracking;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A {@link PrototypeInstanceTracker} that tracks the instances with {@link WeakReference}s. The references
+ * of garbage collected instances are purged every time a new instance is tracked, so the tracker itself
+ * does not grow without bound either.
+ * @see PrototypeTrackingPolicy#WEAK
+ */
+public class WeakPrototypeInstanceTracker implements PrototypeInstanceTracker {
+
+    private final Set<WeakReference<Object>> references = new LinkedHashSet<>();
+    private final ReferenceQueue<Object> clearedReferences = new ReferenceQueue<>();
+
+    @Override
+    public synchronized void track(Object instance) {
+        purgeClearedReferences();
+        references.add(new WeakReference<>(instance, clearedReferences));
+    }
+
+    @Override
+    public synchronized List<Object> getTrackedInstances() {
+        purgeClearedReferences();
+        List<Object> instances = new ArrayList<>(references.size());
+        for(var reference : references) {
+            var instance = reference.get();
+            if(instance != null) {
+                instances.add(instance);
+            }
+        }
+        return instances;
+    }
+
+    /**
+     * @return How many references this tracker currently holds, including the ones that were cleared
+     * by the garbage collector, but not yet purged.
+     */
+    synchronized int referenceCount() {
+        return references.size();
+    }
+
+    private void purgeClearedReferences() {
+        var reference = clearedReferences.poll();
+        while(reference != null) {
+            references.remove(reference);
+            reference = clearedReferences.poll();
+        }
+    }
+
+    @Override
+    public PrototypeTrackingPolicy getPolicy() {
+        return PrototypeTrackingPolicy.WEAK;
+    }
+}
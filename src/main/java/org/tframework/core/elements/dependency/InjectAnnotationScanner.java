@@ -79,6 +79,22 @@ public class InjectAnnotationScanner {
         return !injectAnnotations.isEmpty();
     }
 
+    /**
+     * Finds the only '@InjectX' annotation on the given {@link AnnotatedElement}, whatever its type is.
+     * @param annotatedElement The {@link AnnotatedElement} to scan, must not be null.
+     * @return The found annotation, which is one of {@link #INJECT_ANNOTATIONS}, or empty if none was found.
+     * @throws MultipleAnnotationsScannedException If more than one '@InjectX' annotation was found.
+     */
+    public Optional<Annotation> findAnyInjectAnnotation(@NonNull AnnotatedElement annotatedElement) {
+        var injectAnnotations = findAllInjectAnnotationsPresent(annotatedElement);
+
+        if(injectAnnotations.size() > 1) {
+            throw new MultipleAnnotationsScannedException(annotatedElement, injectAnnotations);
+        }
+
+        return injectAnnotations.stream().findFirst();
+    }
+
     private List<Annotation> findAllInjectAnnotationsPresent(AnnotatedElement annotatedElement) {
         List<Annotation> injectAnnotations = new ArrayList<>();
 
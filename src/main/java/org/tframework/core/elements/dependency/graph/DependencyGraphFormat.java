@@ -0,0 +1,105 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.elements.dependency.graph;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import org.tframework.core.elements.context.ElementContext;
+import org.tframework.core.elements.dependency.graph.StaticDependencyGraph.ExportedDependency;
+
+/**
+ * The formats a {@link StaticDependencyGraph} can be exported to. In both formats, the elements are listed in the order
+ * of the container, and each dependency points from the element to the element it depends on.
+ */
+public enum DependencyGraphFormat {
+
+    /**
+     * The DOT language of <a href="https://graphviz.org">Graphviz</a>. The label of an element has its name, type
+     * and scope. For example, an image can be created with {@code dot -Tsvg elements.dot -o elements.svg}.
+     */
+    DOT {
+        @Override
+        String export(List<ElementContext> elementContexts, List<ExportedDependency> dependencies) {
+            var builder = new StringBuilder("digraph elements {\n");
+            for(ElementContext elementContext : elementContexts) {
+                //DOT has no attribute for the scope, so it is the last line of the label
+                String label = elementContext.getName() + "\n" + elementContext.getType().getName() + "\n"
+                        + elementContext.getScope().name().toLowerCase(Locale.ROOT);
+                builder.append("    ").append(quoteDot(elementContext.getName()))
+                        .append(" [label=").append(quoteDot(label))
+                        .append("];\n");
+            }
+            for(ExportedDependency dependency : dependencies) {
+                builder.append("    ").append(quoteDot(dependency.elementContext().getName()))
+                        .append(" -> ").append(quoteDot(dependency.dependency().getName()))
+                        .append(" [label=").append(quoteDot(kindsOf(dependency)))
+                        .append("];\n");
+            }
+            return builder.append("}\n").toString();
+        }
+    },
+
+    /**
+     * A JSON document with an {@code elements} and a {@code dependencies} array.
+     */
+    JSON {
+        @Override
+        String export(List<ElementContext> elementContexts, List<ExportedDependency> dependencies) {
+            var elements = elementContexts.stream()
+                    .map(elementContext -> "    {\"name\": " + quoteJson(elementContext.getName())
+                            + ", \"type\": " + quoteJson(elementContext.getType().getName())
+                            + ", \"scope\": " + quoteJson(elementContext.getScope().name()) + "}")
+                    .collect(Collectors.joining(",\n"));
+            var dependencyObjects = dependencies.stream()
+                    .map(dependency -> "    {\"element\": " + quoteJson(dependency.elementContext().getName())
+                            + ", \"dependency\": " + quoteJson(dependency.dependency().getName())
+                            + ", \"kinds\": " + dependency.kinds().stream()
+                                    .map(kind -> quoteJson(kind.name()))
+                                    .collect(Collectors.joining(", ", "[", "]")) + "}")
+                    .collect(Collectors.joining(",\n"));
+            return "{\n  \"elements\": [\n" + elements + "\n  ],\n  \"dependencies\": [\n" + dependencyObjects + "\n  ]\n}\n";
+        }
+    };
+
+    abstract String export(List<ElementContext> elementContexts, List<ExportedDependency> dependencies);
+
+    private static String kindsOf(ExportedDependency dependency) {
+        return dependency.kinds().stream()
+                .map(kind -> kind.name().toLowerCase(Locale.ROOT))
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String quoteDot(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n") + "\"";
+    }
+
+    private static String quoteJson(String value) {
+        var builder = new StringBuilder("\"");
+        for(char c : value.toCharArray()) {
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if(c < 0x20) {
+                        builder.append("\\u%04x".formatted((int) c));
+                    } else {
+                        builder.append(c);
+                    }
+                }
+            }
+        }
+        return builder.append('"').toString();
+    }
+
+    /**
+     * Finds the format by its name, ignoring case.
+     * @throws IllegalArgumentException If there is no format with this name.
+     */
+    public static DependencyGraphFormat fromName(String name) {
+        return valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+
+}
@@ -0,0 +1,73 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.elements.dependency.graph;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import org.tframework.core.TFrameworkException;
+import org.tframework.core.elements.context.ElementContext;
+import org.tframework.core.elements.dependency.graph.StaticDependencyGraph.UnresolvedDependency;
+import org.tframework.core.elements.dependency.plan.InjectionKind;
+import org.tframework.core.elements.dependency.plan.InjectionPoint;
+
+/**
+ * Thrown when the {@link StaticDependencyGraph} of the elements is not valid. It contains all problems that were found.
+ */
+@Getter
+public class DependencyGraphValidationException extends TFrameworkException {
+
+    private static final String TEMPLATE = """
+            The dependencies of the elements are not valid!
+            Circular dependencies (%d):
+            %s
+            Unresolved dependencies (%d):
+            %s
+            Please check the listed elements. This validation can be disabled with the 'org.tframework.elements.validate-dependencies' property.
+            """;
+
+    private final List<List<ElementContext>> circularDependencies;
+    private final List<UnresolvedDependency> unresolvedDependencies;
+
+    public DependencyGraphValidationException(
+            List<List<ElementContext>> circularDependencies,
+            List<UnresolvedDependency> unresolvedDependencies
+    ) {
+        super(TEMPLATE.formatted(
+                circularDependencies.size(),
+                describeCircularDependencies(circularDependencies),
+                unresolvedDependencies.size(),
+                describeUnresolvedDependencies(unresolvedDependencies)
+        ));
+        this.circularDependencies = List.copyOf(circularDependencies);
+        this.unresolvedDependencies = List.copyOf(unresolvedDependencies);
+    }
+
+    private static String describeCircularDependencies(List<List<ElementContext>> circularDependencies) {
+        return circularDependencies.stream()
+                .map(cycle -> "- " + cycle.stream().map(ElementContext::getName).toList())
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String describeUnresolvedDependencies(List<UnresolvedDependency> unresolvedDependencies) {
+        return unresolvedDependencies.stream()
+                .map(unresolved -> "- Element '%s' requires the %s for '%s', but %s".formatted(
+                        unresolved.elementContext().getName(),
+                        describeRequiredElement(unresolved.injectionPoint()),
+                        unresolved.injectionPoint().dependencyDefinition().annotationSource(),
+                        unresolved.reason()
+                ))
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String describeRequiredElement(InjectionPoint injectionPoint) {
+        if(injectionPoint.kind() == InjectionKind.ELEMENT_BY_NAME) {
+            return "element named '" + injectionPoint.name() + "'";
+        }
+        return "element of type '" + injectionPoint.dependencyDefinition().dependencyType().getName() + "'";
+    }
+
+    @Override
+    public String getMessageTemplate() {
+        return TEMPLATE;
+    }
+}
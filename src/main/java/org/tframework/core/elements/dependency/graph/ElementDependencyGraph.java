@@ -1,19 +1,18 @@
 /* Licensed under Apache-2.0 2024. */
 package org.tframework.core.elements.dependency.graph;
 
+import java.util.Arrays;
 import java.util.stream.Collectors;
-import lombok.EqualsAndHashCode;
-import org.jgrapht.alg.cycle.CycleDetector;
-import org.jgrapht.graph.DefaultDirectedGraph;
-import org.jgrapht.graph.DefaultEdge;
-import org.jgrapht.graph.DirectedAcyclicGraph;
+import java.util.stream.Stream;
+import lombok.NonNull;
 import org.tframework.core.elements.context.ElementContext;
 
 /**
- * The dependency graph wraps a {@link DirectedAcyclicGraph} and provides a few convenience methods.
- * If element A depends on element B, then there will be an edge from B to A in the graph.
- * Its job is to make sure that there are no cycles among the dependencies, and break the dependency
- * resolution process if there are. An element depending on itself is treated as a cycle. For example, this is not allowed:
+ * Tracks the dependency resolution process of the current thread, to make sure that there are no cycles among the
+ * dependencies, and break the resolution process if there are. The elements whose instances are being assembled are
+ * stored in a resolution stack: if element A depends on element B, then B is only assembled while A is still on the stack.
+ * An element that is requested while it is on the stack depends on itself through the elements above it, which is a cycle.
+ * An element depending on itself directly is treated as a cycle as well. For example, this is not allowed:
  *
  * <pre>{@code
  * @Element
@@ -42,71 +41,117 @@ import org.tframework.core.elements.context.ElementContext;
  * }</pre>
  *
  * In case of cyclic dependencies, the framework will throw a {@link CircularDependencyException}.
+ * <p>
+ * Each thread has its own instance (see {@link #forCurrentThread()}), which must only be used by that thread. Checking a
+ * dependency costs O(depth) identity comparisons, and nothing is allocated unless a cycle is found or the stack grows deeper
+ * than ever before on this thread.
  */
-@EqualsAndHashCode
-public class ElementDependencyGraph {
+public final class ElementDependencyGraph {
 
-    private final DirectedAcyclicGraph<ElementContext, DefaultEdge> graph;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final ThreadLocal<ElementDependencyGraph> GRAPHS = ThreadLocal.withInitial(ElementDependencyGraph::new);
+
+    private ElementContext[] resolutionStack;
+    private int depth;
 
     private ElementDependencyGraph() {
-        this.graph = new DirectedAcyclicGraph<>(DefaultEdge.class);
+        this.resolutionStack = new ElementContext[INITIAL_CAPACITY];
+        this.depth = 0;
     }
 
     /**
-     * Adds a dependency to the graph. If the dependency already exists, this will do nothing.
-     * Circular dependencies will raise an exception.
+     * Checks if a dependency is allowed, before the dependency is requested. It is not allowed if the dependency is
+     * the original element, or the dependency is being assembled on this thread (see {@link #startResolution(ElementContext)}).
      * @param original The element that depends on the other.
      * @param dependency The element that is depended on.
      * @throws CircularDependencyException If a cycle is found. The exception message will have the details about
      * the cycle.
      */
-    public void addDependency(ElementContext original, ElementContext dependency) throws CircularDependencyException {
-        graph.addVertex(original); //if vertexes or edges already exists, this will do nothing
-        graph.addVertex(dependency);
-        try {
-            graph.addEdge(dependency, original);
-        } catch(IllegalArgumentException e) {
-            //create a copy of the graph which has the circle
-            var copyAllowsCycles = GraphUtils.copyDependencyGraphAndAllowCycles(graph);
-            copyAllowsCycles.addEdge(dependency, original);
-            detectCircularDependencies(copyAllowsCycles);
+    public void addDependency(@NonNull ElementContext original, @NonNull ElementContext dependency) throws CircularDependencyException {
+        if(original == dependency) {
+            throw createCircularDependencyException(depth, original);
+        }
+        int dependencyIndex = indexOf(dependency);
+        if(dependencyIndex >= 0) {
+            throw createCircularDependencyException(dependencyIndex, original);
         }
     }
 
     /**
-     * Checks if the dependency graph contains the {@code dependency -> original} edge.
+     * Marks that an instance of the element is being assembled on this thread, so its dependencies are being resolved.
+     * This must be followed by {@link #finishResolution(ElementContext)} when the assembling is finished, even if it failed.
+     * @throws CircularDependencyException If the element is already being assembled on this thread.
      */
-    public boolean containsDependency(ElementContext original, ElementContext dependency) {
-        return graph.containsEdge(dependency, original);
+    public void startResolution(@NonNull ElementContext elementContext) throws CircularDependencyException {
+        int index = indexOf(elementContext);
+        if(index >= 0) {
+            throw createCircularDependencyException(index, elementContext);
+        }
+        if(depth == resolutionStack.length) {
+            resolutionStack = Arrays.copyOf(resolutionStack, depth * 2);
+        }
+        resolutionStack[depth++] = elementContext;
     }
 
     /**
-     * Finds cycles in the dependency graph.
-     * @throws CircularDependencyException If a cycle is found. The exception message will have the details about
-     * the cycle.
+     * Marks that the assembling of the element, started with {@link #startResolution(ElementContext)}, is finished.
+     * @throws IllegalStateException If the element is not the last one whose resolution was started.
      */
-    public void detectCircularDependencies(DefaultDirectedGraph<ElementContext, DefaultEdge> graphToCheck) throws CircularDependencyException {
-        var cycleDetector = new CycleDetector<>(graphToCheck);
-        var cycle = cycleDetector.findCycles();
-        if(!cycle.isEmpty()) {
-            var cycleElementNames = cycle.stream()
-                    .map(ElementContext::getName)
-                    .collect(Collectors.toSet())
-                    .toString();
-            throw new CircularDependencyException(cycleElementNames);
+    public void finishResolution(@NonNull ElementContext elementContext) {
+        if(depth == 0 || resolutionStack[depth - 1] != elementContext) {
+            throw new IllegalStateException("Resolution of element '" + elementContext.getName() + "' was not the last one started");
         }
+        resolutionStack[--depth] = null;
+    }
+
+    /**
+     * @return True if an instance of the element is being assembled on this thread.
+     */
+    public boolean isBeingResolved(@NonNull ElementContext elementContext) {
+        return indexOf(elementContext) >= 0;
+    }
+
+    /**
+     * @return The amount of elements that are being assembled on this thread.
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    private int indexOf(ElementContext elementContext) {
+        for(int i = depth - 1; i >= 0; i--) {
+            if(resolutionStack[i] == elementContext) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Creates the exception for the cycle of the elements from {@code fromIndex} to the top of the stack, and the given element.
+     */
+    private CircularDependencyException createCircularDependencyException(int fromIndex, ElementContext closingElement) {
+        var cycleElementNames = Stream.concat(Arrays.stream(resolutionStack, fromIndex, depth), Stream.of(closingElement))
+                .map(ElementContext::getName)
+                .collect(Collectors.toSet())
+                .toString();
+        return new CircularDependencyException(cycleElementNames);
     }
 
     @Override
     public String toString() {
-        return graph.toString();
+        var elementNames = Arrays.stream(resolutionStack, 0, depth)
+                .map(ElementContext::getName)
+                .toList();
+        return "ElementDependencyGraph{resolutionStack=" + elementNames + "}";
     }
 
     /**
-     * Constructs a dependency graph that contains no dependencies.
+     * Returns the dependency graph of the current thread. The graph is created when it is first requested on a thread,
+     * then the same instance is returned.
      */
-    public static ElementDependencyGraph empty() {
-        return new ElementDependencyGraph();
+    public static ElementDependencyGraph forCurrentThread() {
+        return GRAPHS.get();
     }
 
 }
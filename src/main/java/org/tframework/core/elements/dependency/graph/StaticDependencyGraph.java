@@ -0,0 +1,387 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.elements.dependency.graph;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.jgrapht.alg.connectivity.KosarajuStrongConnectivityInspector;
+import org.jgrapht.graph.AsSubgraph;
+import org.jgrapht.graph.DefaultDirectedGraph;
+import org.jgrapht.graph.DefaultEdge;
+import org.tframework.core.elements.AmbiguousElementTypeException;
+import org.tframework.core.elements.ElementNotFoundException;
+import org.tframework.core.elements.ElementScope;
+import org.tframework.core.elements.ElementsContainer;
+import org.tframework.core.elements.context.ElementContext;
+import org.tframework.core.elements.context.PreConstructedElementContext;
+import org.tframework.core.elements.context.source.MethodElementSource;
+import org.tframework.core.elements.dependency.plan.InjectionKind;
+import org.tframework.core.elements.dependency.plan.InjectionPoint;
+
+/**
+ * The dependencies between all elements of an {@link ElementsContainer}, computed up front from the
+ * {@link ElementContext#getInjectionPlan() injection plans}, without creating any instances. Unlike the
+ * {@link ElementDependencyGraph}, which follows a single dependency resolution, this graph describes every element
+ * at once, and it may contain cycles (singletons are allowed to depend on each other through field injection).
+ * If element A depends on element B, then there will be an edge from B to A in the graph.
+ * <p>
+ * The following dependencies are known:
+ * <ul>
+ *     <li>Element dependencies of construction parameters and '@InjectElement' fields, by name or by type.</li>
+ *     <li>The parent element of method elements.</li>
+ * </ul>
+ * Dependencies that can't be resolved (for example, because no element has the required type) are not included in
+ * the graph, but they are collected, see {@link #getUnresolvedDependencies()}. Elements requested in some other way
+ * (for example, directly from the {@link ElementsContainer} in a post-initialization method) are not known.
+ * <p>
+ * Since the graph is computed before any instance is created, it can be used to find invalid configurations up front,
+ * see {@link #validate()}. It can also be exported for troubleshooting, see {@link #export(DependencyGraphFormat)}.
+ */
+@Slf4j
+public class StaticDependencyGraph {
+
+    private final List<ElementContext> elementContexts;
+    private final DefaultDirectedGraph<ElementContext, DependencyEdge> graph;
+    private final List<UnresolvedDependency> unresolvedDependencies;
+
+    private StaticDependencyGraph(List<ElementContext> elementContexts) {
+        this.elementContexts = List.copyOf(elementContexts);
+        this.graph = new DefaultDirectedGraph<>(DependencyEdge.class);
+        this.elementContexts.forEach(graph::addVertex);
+        this.unresolvedDependencies = new ArrayList<>();
+    }
+
+    /**
+     * @return All elements of the graph, in the order of the container.
+     */
+    public List<ElementContext> getElementContexts() {
+        return elementContexts;
+    }
+
+    /**
+     * Returns the elements that the given element directly depends on.
+     * @throws IllegalArgumentException If the element is not in this graph.
+     */
+    public Set<ElementContext> getDependencies(@NonNull ElementContext elementContext) {
+        Set<ElementContext> dependencies = new LinkedHashSet<>();
+        graph.incomingEdgesOf(elementContext).forEach(edge -> dependencies.add(graph.getEdgeSource(edge)));
+        return dependencies;
+    }
+
+    /**
+     * Returns how the element depends on the other element, or an empty set if it does not depend on it directly.
+     * @throws IllegalArgumentException If any of the elements is not in this graph.
+     */
+    public Set<DependencyKind> getDependencyKinds(@NonNull ElementContext elementContext, @NonNull ElementContext dependency) {
+        var edge = graph.getEdge(dependency, elementContext);
+        if(edge == null) {
+            if(!graph.containsVertex(elementContext) || !graph.containsVertex(dependency)) {
+                throw new IllegalArgumentException("Element is not in the dependency graph");
+            }
+            return Set.of();
+        }
+        return Collections.unmodifiableSet(edge.kinds);
+    }
+
+    /**
+     * @return The element dependencies that could not be resolved from the container, in the order of the container.
+     */
+    public List<UnresolvedDependency> getUnresolvedDependencies() {
+        return Collections.unmodifiableList(unresolvedDependencies);
+    }
+
+    /**
+     * Finds the cycles that can never be resolved, because all of their dependencies must be resolved while the
+     * instances are being assembled. A cycle is only allowed if a singleton in it gets the next element of the cycle
+     * through field injection: the singleton instance already exists when its fields are injected. Each returned
+     * list contains the elements of such a cycle (possibly several cycles that share elements), in the order of
+     * the container. An element that depends on itself this way is a cycle of one element.
+     */
+    public List<List<ElementContext>> findCircularDependencies() {
+        //remove the dependencies that break cycles, then everything that is still strongly connected is invalid
+        var assemblyGraph = new AsSubgraph<>(graph, graph.vertexSet(), graph.edgeSet().stream()
+                .filter(edge -> !isBreakingCycles(edge))
+                .collect(Collectors.toSet()));
+        Map<ElementContext, Integer> positions = positionsInContainer();
+        return new KosarajuStrongConnectivityInspector<>(assemblyGraph).stronglyConnectedSets().stream()
+                .filter(component -> component.size() > 1 || hasSelfLoop(assemblyGraph, component.iterator().next()))
+                .map(component -> component.stream().sorted(Comparator.comparing(positions::get)).toList())
+                .sorted(Comparator.comparing(component -> positions.get(component.getFirst())))
+                .toList();
+    }
+
+    private boolean isBreakingCycles(DependencyEdge edge) {
+        var dependent = graph.getEdgeTarget(edge);
+        return edge.kinds.equals(EnumSet.of(DependencyKind.FIELD)) && dependent.getScope() == ElementScope.SINGLETON;
+    }
+
+    private boolean hasSelfLoop(AsSubgraph<ElementContext, DependencyEdge> subgraph, ElementContext elementContext) {
+        return subgraph.containsEdge(elementContext, elementContext);
+    }
+
+    /**
+     * Checks if the elements of this graph can be created: there are no unresolved dependencies, and there are no
+     * cycles that can never be resolved (see {@link #findCircularDependencies()}). All problems are reported together.
+     * @throws DependencyGraphValidationException If there are any problems.
+     */
+    public void validate() throws DependencyGraphValidationException {
+        var circularDependencies = findCircularDependencies();
+        if(!circularDependencies.isEmpty() || !unresolvedDependencies.isEmpty()) {
+            throw new DependencyGraphValidationException(circularDependencies, unresolvedDependencies);
+        }
+        log.debug("Validated dependency graph of {} elements, no problems found", elementContexts.size());
+    }
+
+    /**
+     * Exports this graph in the given format. The unresolved dependencies are not included.
+     */
+    public String export(@NonNull DependencyGraphFormat format) {
+        List<ExportedDependency> dependencies = new ArrayList<>();
+        for(ElementContext elementContext : elementContexts) {
+            for(ElementContext dependency : getDependencies(elementContext)) {
+                var kinds = graph.getEdge(dependency, elementContext).kinds;
+                dependencies.add(new ExportedDependency(elementContext, dependency, kinds));
+            }
+        }
+        return format.export(elementContexts, dependencies);
+    }
+
+    /**
+     * Groups the elements into waves, so that they can be initialized wave by wave: every dependency of an element is
+     * either in an earlier wave, or in the same {@link InitializationGroup}. Groups of the same wave don't depend on each
+     * other. Elements that depend on each other in a cycle are placed into the same group. The waves, groups and
+     * elements are ordered deterministically, by the order of the elements in the container.
+     */
+    public List<List<InitializationGroup>> getInitializationWaves() {
+        Map<ElementContext, Integer> positions = positionsInContainer();
+        Comparator<ElementContext> byPosition = Comparator.comparing(positions::get);
+
+        List<List<ElementContext>> components = new KosarajuStrongConnectivityInspector<>(graph).stronglyConnectedSets()
+                .stream()
+                .map(component -> component.stream().sorted(byPosition).toList())
+                .toList();
+        Map<ElementContext, Integer> componentIndexes = new HashMap<>();
+        for(int i = 0; i < components.size(); i++) {
+            for(ElementContext elementContext : components.get(i)) {
+                componentIndexes.put(elementContext, i);
+            }
+        }
+
+        //the wave of a component is one more than the latest wave of the components it depends on
+        int[] waveIndexes = new int[components.size()];
+        int waveCount = 0;
+        for(int componentIndex : topologicalOrder(components, componentIndexes)) {
+            for(ElementContext elementContext : components.get(componentIndex)) {
+                for(ElementContext dependency : getDependencies(elementContext)) {
+                    int dependencyComponentIndex = componentIndexes.get(dependency);
+                    if(dependencyComponentIndex != componentIndex) {
+                        waveIndexes[componentIndex] = Math.max(waveIndexes[componentIndex], waveIndexes[dependencyComponentIndex] + 1);
+                    }
+                }
+            }
+            waveCount = Math.max(waveCount, waveIndexes[componentIndex] + 1);
+        }
+
+        List<List<InitializationGroup>> waves = new ArrayList<>(waveCount);
+        for(int i = 0; i < waveCount; i++) {
+            waves.add(new ArrayList<>());
+        }
+        for(int i = 0; i < components.size(); i++) {
+            waves.get(waveIndexes[i]).add(new InitializationGroup(components.get(i)));
+        }
+        return waves.stream()
+                .map(wave -> wave.stream()
+                        .sorted(Comparator.comparing(group -> positions.get(group.elementContexts().getFirst())))
+                        .toList())
+                .toList();
+    }
+
+    private Map<ElementContext, Integer> positionsInContainer() {
+        Map<ElementContext, Integer> positions = new HashMap<>();
+        for(int i = 0; i < elementContexts.size(); i++) {
+            positions.put(elementContexts.get(i), i);
+        }
+        return positions;
+    }
+
+    /**
+     * Orders the components so that each one comes after the components it depends on.
+     */
+    private List<Integer> topologicalOrder(List<List<ElementContext>> components, Map<ElementContext, Integer> componentIndexes) {
+        List<Integer> order = new ArrayList<>(components.size());
+        boolean[] visited = new boolean[components.size()];
+        for(int i = 0; i < components.size(); i++) {
+            visitComponent(i, components, componentIndexes, visited, order);
+        }
+        return order;
+    }
+
+    private void visitComponent(
+            int componentIndex,
+            List<List<ElementContext>> components,
+            Map<ElementContext, Integer> componentIndexes,
+            boolean[] visited,
+            List<Integer> order
+    ) {
+        if(visited[componentIndex]) {
+            return;
+        }
+        visited[componentIndex] = true;
+        for(ElementContext elementContext : components.get(componentIndex)) {
+            for(ElementContext dependency : getDependencies(elementContext)) {
+                visitComponent(componentIndexes.get(dependency), components, componentIndexes, visited, order);
+            }
+        }
+        order.add(componentIndex);
+    }
+
+    private void addDependency(ElementContext original, ElementContext dependency, DependencyKind kind) {
+        if(!graph.containsVertex(dependency)) {
+            log.debug("Dependency '{}' of element '{}' is not in the graph, ignoring it", dependency.getName(), original.getName());
+            return;
+        }
+        var edge = graph.getEdge(dependency, original);
+        if(edge == null) {
+            edge = new DependencyEdge();
+            graph.addEdge(dependency, original, edge); //self-loops are allowed, they are reported by the validation
+        }
+        edge.kinds.add(kind);
+    }
+
+    @Override
+    public String toString() {
+        return graph.toString();
+    }
+
+    /**
+     * Computes the dependency graph of all elements in the container. This does not create any instances, but
+     * it creates the {@link ElementContext#getInjectionPlan() injection plans} of the elements.
+     */
+    public static StaticDependencyGraph fromElementsContainer(@NonNull ElementsContainer elementsContainer) {
+        List<ElementContext> elementContexts = new ArrayList<>();
+        elementsContainer.forEach(elementContexts::add);
+        var dependencyGraph = new StaticDependencyGraph(elementContexts);
+
+        for(ElementContext elementContext : elementContexts) {
+            if(elementContext instanceof PreConstructedElementContext) {
+                continue; //these are never assembled, so they have no dependencies
+            }
+            if(elementContext.getSource() instanceof MethodElementSource methodElementSource) {
+                dependencyGraph.addDependency(elementContext, methodElementSource.parentElementContext(), DependencyKind.PARENT);
+            }
+            var injectionPlan = elementContext.getInjectionPlan();
+            if(injectionPlan == null) {
+                continue;
+            }
+            injectionPlan.constructionParameters().forEach(injectionPoint -> {
+                dependencyGraph.findElementDependency(elementsContainer, elementContext, injectionPoint)
+                        .ifPresent(dependency -> dependencyGraph.addDependency(elementContext, dependency, DependencyKind.CONSTRUCTION));
+            });
+            injectionPlan.fields().forEach(injectionPoint -> {
+                dependencyGraph.findElementDependency(elementsContainer, elementContext, injectionPoint)
+                        .ifPresent(dependency -> dependencyGraph.addDependency(elementContext, dependency, DependencyKind.FIELD));
+            });
+        }
+        log.debug("Computed dependency graph of {} elements with {} dependencies",
+                elementContexts.size(), dependencyGraph.graph.edgeSet().size());
+        return dependencyGraph;
+    }
+
+    private Optional<ElementContext> findElementDependency(
+            ElementsContainer elementsContainer,
+            ElementContext elementContext,
+            InjectionPoint injectionPoint
+    ) {
+        if(!injectionPoint.isElementInjection()) {
+            return Optional.empty();
+        }
+        try {
+            if(injectionPoint.kind() == InjectionKind.ELEMENT_BY_NAME) {
+                return Optional.of(elementsContainer.getElementContext(injectionPoint.name()));
+            }
+            return Optional.of(elementsContainer.getElementContext(injectionPoint.dependencyDefinition().dependencyType()));
+        } catch (ElementNotFoundException e) {
+            log.debug("Dependency '{}' can't be resolved from the elements, it is not added to the graph",
+                    injectionPoint.dependencyDefinition(), e);
+            unresolvedDependencies.add(new UnresolvedDependency(elementContext, injectionPoint, "no matching element was found"));
+            return Optional.empty();
+        } catch (AmbiguousElementTypeException e) {
+            log.debug("Dependency '{}' can't be resolved from the elements, it is not added to the graph",
+                    injectionPoint.dependencyDefinition(), e);
+            unresolvedDependencies.add(new UnresolvedDependency(elementContext, injectionPoint, "multiple elements have a matching type"));
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Describes how an element depends on another element.
+     */
+    public enum DependencyKind {
+
+        /**
+         * The dependency is a parameter of the constructor or method that creates the element.
+         */
+        CONSTRUCTION,
+
+        /**
+         * The dependency is injected into a field of the element, after the instance is created.
+         */
+        FIELD,
+
+        /**
+         * The dependency is the parent element of a method element.
+         */
+        PARENT
+
+    }
+
+    /**
+     * An element dependency that could not be resolved from the container.
+     * @param elementContext The element that has the dependency.
+     * @param injectionPoint The {@link InjectionPoint} of the dependency.
+     * @param reason Short description of why the dependency could not be resolved.
+     */
+    public record UnresolvedDependency(
+            @NonNull ElementContext elementContext,
+            @NonNull InjectionPoint injectionPoint,
+            @NonNull String reason
+    ) {}
+
+    /**
+     * A dependency of the graph, as it is exported: the element depends on the dependency.
+     */
+    record ExportedDependency(ElementContext elementContext, ElementContext dependency, Set<DependencyKind> kinds) {}
+
+    /**
+     * Edges of the graph. Each pair of elements has at most one edge, with all the ways they depend on each other.
+     */
+    private static final class DependencyEdge extends DefaultEdge {
+
+        private final Set<DependencyKind> kinds = EnumSet.noneOf(DependencyKind.class);
+
+    }
+
+    /**
+     * Elements that must be initialized together, on the same thread, because they depend on each other.
+     * Most groups contain a single element.
+     * @param elementContexts The {@link ElementContext}s of the group, in the order of the container.
+     */
+    public record InitializationGroup(List<ElementContext> elementContexts) {
+
+        public InitializationGroup {
+            elementContexts = List.copyOf(elementContexts);
+        }
+
+    }
+
+}
@@ -0,0 +1,28 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.elements.dependency.plan;
+
+import org.tframework.core.elements.annotations.InjectElement;
+import org.tframework.core.elements.annotations.InjectProperty;
+
+/**
+ * Describes how the value of an {@link InjectionPoint} is resolved.
+ */
+public enum InjectionKind {
+
+    /**
+     * An element is injected, selected by its name. This is the case of {@link InjectElement} with a name.
+     */
+    ELEMENT_BY_NAME,
+
+    /**
+     * An element is injected, selected by the type of the dependency. This is the case of {@link InjectElement}
+     * without a name, or constructor and method parameters without any '@InjectX' annotations.
+     */
+    ELEMENT_BY_TYPE,
+
+    /**
+     * A property is injected, possibly with a default value. This is the case of {@link InjectProperty}.
+     */
+    PROPERTY
+
+}
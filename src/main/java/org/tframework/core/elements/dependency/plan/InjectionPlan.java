@@ -0,0 +1,33 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.elements.dependency.plan;
+
+import java.util.List;
+import lombok.NonNull;
+import org.tframework.core.elements.context.ElementContext;
+
+/**
+ * All the dependencies of an element, computed once for each {@link ElementContext}. Assemblers and
+ * field injection use this plan instead of scanning the '@InjectX' annotations for each new instance. This is immutable.
+ * @param constructionParameters The {@link InjectionPoint}s of the parameters of the constructor or method that creates
+ *                               the element, in the order of the parameters.
+ * @param fields The {@link InjectionPoint}s of the fields that have '@InjectX' annotations. Other fields are not included.
+ * @see InjectionPlanner
+ */
+public record InjectionPlan(
+        @NonNull List<InjectionPoint> constructionParameters,
+        @NonNull List<InjectionPoint> fields
+) {
+
+    public InjectionPlan {
+        constructionParameters = List.copyOf(constructionParameters);
+        fields = List.copyOf(fields);
+    }
+
+    /**
+     * Creates a plan without any dependencies.
+     */
+    public static InjectionPlan empty() {
+        return new InjectionPlan(List.of(), List.of());
+    }
+
+}
@@ -0,0 +1,102 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.elements.dependency.plan;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Parameter;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.tframework.core.elements.annotations.InjectElement;
+import org.tframework.core.elements.annotations.InjectProperty;
+import org.tframework.core.elements.context.source.ElementSource;
+import org.tframework.core.elements.dependency.DependencyDefinition;
+import org.tframework.core.elements.dependency.InjectAnnotationScanner;
+import org.tframework.core.reflection.annotations.AnnotationScannersFactory;
+import org.tframework.core.reflection.annotations.MultipleAnnotationsScannedException;
+
+/**
+ * Creates {@link InjectionPlan}s and {@link InjectionPoint}s by scanning the '@InjectX' annotations
+ * with an {@link InjectAnnotationScanner}. This is the only place where these annotations need to be scanned.
+ */
+@Slf4j
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class InjectionPlanner {
+
+    private final InjectAnnotationScanner injectAnnotationScanner;
+
+    /**
+     * Creates the {@link InjectionPlan} of an element.
+     * @param elementSource The {@link ElementSource} of the element, which provides the construction parameters.
+     * @param fields All fields of the element. Only the ones with '@InjectX' annotations are added to the plan.
+     * @throws MultipleAnnotationsScannedException If any parameter or field has multiple '@InjectX' annotations.
+     */
+    public InjectionPlan createPlan(@NonNull ElementSource elementSource, @NonNull Collection<Field> fields) {
+        List<InjectionPoint> parameterInjectionPoints = elementSource.elementConstructionParameters().stream()
+                .map(this::planParameter)
+                .toList();
+        List<InjectionPoint> fieldInjectionPoints = fields.stream()
+                .map(this::planField)
+                .flatMap(Optional::stream)
+                .toList();
+        log.trace("Created injection plan with {} parameters and {} fields for element source '{}'",
+                parameterInjectionPoints.size(), fieldInjectionPoints.size(), elementSource);
+        return new InjectionPlan(parameterInjectionPoints, fieldInjectionPoints);
+    }
+
+    /**
+     * Creates the {@link InjectionPoint} of a constructor or method parameter. Parameters without
+     * '@InjectX' annotations are resolved by type.
+     */
+    public InjectionPoint planParameter(@NonNull Parameter parameter) {
+        return planDependency(DependencyDefinition.fromParameter(parameter));
+    }
+
+    /**
+     * Creates the {@link InjectionPoint} of a field, if it has an '@InjectX' annotation.
+     * @return The injection point, or empty if the field is not a dependency.
+     */
+    public Optional<InjectionPoint> planField(@NonNull Field field) {
+        var dependencyDefinition = DependencyDefinition.fromField(field);
+        return injectAnnotationScanner.findAnyInjectAnnotation(field)
+                .map(injectAnnotation -> toInjectionPoint(dependencyDefinition, injectAnnotation));
+    }
+
+    /**
+     * Creates the {@link InjectionPoint} of any {@link DependencyDefinition}. If there are no '@InjectX'
+     * annotations, the dependency is resolved by type.
+     */
+    public InjectionPoint planDependency(@NonNull DependencyDefinition dependencyDefinition) {
+        return injectAnnotationScanner.findAnyInjectAnnotation(dependencyDefinition.annotationSource())
+                .map(injectAnnotation -> toInjectionPoint(dependencyDefinition, injectAnnotation))
+                .orElseGet(() -> InjectionPoint.unannotated(dependencyDefinition));
+    }
+
+    private InjectionPoint toInjectionPoint(DependencyDefinition dependencyDefinition, Annotation injectAnnotation) {
+        return switch (injectAnnotation) {
+            case InjectElement injectElement -> InjectionPoint.fromInjectElement(dependencyDefinition, injectElement);
+            case InjectProperty injectProperty -> InjectionPoint.fromInjectProperty(dependencyDefinition, injectProperty);
+            default -> throw new IllegalStateException("Unsupported inject annotation: " + injectAnnotation);
+        };
+    }
+
+    /**
+     * Creates an {@link InjectionPlanner} that uses the given {@link InjectAnnotationScanner}.
+     */
+    public static InjectionPlanner usingScanner(@NonNull InjectAnnotationScanner injectAnnotationScanner) {
+        return new InjectionPlanner(injectAnnotationScanner);
+    }
+
+    /**
+     * Creates an {@link InjectionPlanner} that scans composed annotations.
+     */
+    public static InjectionPlanner createDefault() {
+        var annotationScanner = AnnotationScannersFactory.sharedCachingAnnotationScanner();
+        return usingScanner(InjectAnnotationScanner.wrappingScanner(annotationScanner));
+    }
+
+}
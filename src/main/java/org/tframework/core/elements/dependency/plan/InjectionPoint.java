@@ -0,0 +1,72 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.elements.dependency.plan;
+
+import lombok.NonNull;
+import org.tframework.core.elements.ElementUtils;
+import org.tframework.core.elements.annotations.InjectElement;
+import org.tframework.core.elements.annotations.InjectProperty;
+import org.tframework.core.elements.dependency.DependencyDefinition;
+
+/**
+ * A single dependency of an element (a constructor or method parameter, or a field), together with everything
+ * that the '@InjectX' annotations say about how it should be resolved. Once an injection point is created, resolving
+ * it does not require scanning the annotations again.
+ * @param dependencyDefinition The {@link DependencyDefinition} of this dependency.
+ * @param kind The {@link InjectionKind}.
+ * @param annotated If the dependency has an '@InjectX' annotation. For example, parameters without annotations
+ *                  are resolved by type, but they are not annotated.
+ * @param name The name of the element for {@link InjectionKind#ELEMENT_BY_NAME}, the name of the property for
+ *             {@link InjectionKind#PROPERTY}, null otherwise.
+ * @param defaultValue The default value of the property for {@link InjectionKind#PROPERTY}, or null if there
+ *                     is no default value.
+ */
+public record InjectionPoint(
+        @NonNull DependencyDefinition dependencyDefinition,
+        @NonNull InjectionKind kind,
+        boolean annotated,
+        String name,
+        String defaultValue
+) {
+
+    /**
+     * @return True if this dependency should be resolved from the elements.
+     */
+    public boolean isElementInjection() {
+        return kind == InjectionKind.ELEMENT_BY_NAME || kind == InjectionKind.ELEMENT_BY_TYPE;
+    }
+
+    /**
+     * @return True if this property dependency has a default value.
+     */
+    public boolean hasDefaultValue() {
+        return defaultValue != null;
+    }
+
+    /**
+     * Creates an injection point for a dependency that is annotated with {@link InjectElement}.
+     */
+    public static InjectionPoint fromInjectElement(DependencyDefinition dependencyDefinition, @NonNull InjectElement injectElement) {
+        if(ElementUtils.isNamedElementInjection(injectElement)) {
+            return new InjectionPoint(dependencyDefinition, InjectionKind.ELEMENT_BY_NAME, true, injectElement.value(), null);
+        }
+        return new InjectionPoint(dependencyDefinition, InjectionKind.ELEMENT_BY_TYPE, true, null, null);
+    }
+
+    /**
+     * Creates an injection point for a dependency that is annotated with {@link InjectProperty}.
+     */
+    public static InjectionPoint fromInjectProperty(DependencyDefinition dependencyDefinition, @NonNull InjectProperty injectProperty) {
+        String defaultValue = InjectProperty.DEFAULT_VALUE_NOT_PROVIDED.equals(injectProperty.defaultValue())
+                ? null
+                : injectProperty.defaultValue();
+        return new InjectionPoint(dependencyDefinition, InjectionKind.PROPERTY, true, injectProperty.value(), defaultValue);
+    }
+
+    /**
+     * Creates an injection point for a dependency without any '@InjectX' annotations, which is resolved by type.
+     */
+    public static InjectionPoint unannotated(DependencyDefinition dependencyDefinition) {
+        return new InjectionPoint(dependencyDefinition, InjectionKind.ELEMENT_BY_TYPE, false, null, null);
+    }
+
+}
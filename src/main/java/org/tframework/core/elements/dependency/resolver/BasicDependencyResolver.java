@@ -3,6 +3,7 @@ package org.tframework.core.elements.dependency.resolver;
 
 import java.util.Optional;
 import org.tframework.core.elements.dependency.DependencyDefinition;
+import org.tframework.core.elements.dependency.plan.InjectionPoint;
 
 /**
  * Resolves basic (non-element) dependency definitions into dependency values. These dependency resolvers do
@@ -17,4 +18,15 @@ public non-sealed interface BasicDependencyResolver extends DependencyResolver {
      */
     Optional<Object> resolveDependency(DependencyDefinition dependencyDefinition);
 
+    /**
+     * Resolves a dependency whose '@InjectX' annotations were already scanned. Resolvers that depend on
+     * these annotations should override this method, so that they don't scan the annotations again. By default,
+     * this resolves the {@link DependencyDefinition} of the injection point.
+     * @param injectionPoint The {@link InjectionPoint} that should be resolved.
+     * @return The resolved dependency value, or empty if this resolver could not resolve this dependency.
+     */
+    default Optional<Object> resolveDependency(InjectionPoint injectionPoint) {
+        return resolveDependency(injectionPoint.dependencyDefinition());
+    }
+
 }
@@ -9,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import org.tframework.core.elements.context.ElementContext;
 import org.tframework.core.elements.dependency.DependencyDefinition;
 import org.tframework.core.elements.dependency.graph.ElementDependencyGraph;
+import org.tframework.core.elements.dependency.plan.InjectionPoint;
 
 /**
  * The dependency resolver aggregator combines multiple {@link DependencyResolver}s to
@@ -51,6 +52,39 @@ public class DependencyResolverAggregator {
                 .build();
     }
 
+    /**
+     * Resolves a dependency using all resolvers of this aggregator. The {@link InjectionPoint} already contains
+     * the information of the '@InjectX' annotations, so they are not scanned again.
+     * @param injectionPoint The {@link InjectionPoint} of the dependency to resolve.
+     * @param originalElementContext The {@link ElementContext} whose dependencies are being resolved.
+     * @param dependencyGraph {@link ElementDependencyGraph} with the current state of the resolution process.
+     * @param dependencyDeclaredAs An informative string which defines where the dependency is declared.
+     *                             For example 'constructor parameter' or 'field'.
+     * @return The resolved dependency value.
+     * @throws DependencyResolutionException If the dependency could not be resolved.
+     */
+    public Object resolveDependency(
+            InjectionPoint injectionPoint,
+            ElementContext originalElementContext,
+            ElementDependencyGraph dependencyGraph,
+            String dependencyDeclaredAs
+    ) throws DependencyResolutionException {
+        for(DependencyResolver resolver: dependencyResolvers) {
+            var resolvedDependency = switch (resolver) {
+                case BasicDependencyResolver bdr -> bdr.resolveDependency(injectionPoint);
+                case ElementDependencyResolver edr -> edr.resolveDependency(injectionPoint, originalElementContext, dependencyGraph);
+            };
+            if(resolvedDependency.isPresent()) {
+                return resolvedDependency.get();
+            }
+        }
+        throw DependencyResolutionException.builder()
+                .dependencyType(injectionPoint.dependencyDefinition().dependencyType())
+                .declaredAs(dependencyDeclaredAs)
+                .usedResolvers(dependencyResolvers)
+                .build();
+    }
+
     private Optional<Object> attemptResolutionWithOneResolver(
             DependencyResolver dependencyResolver,
             DependencyDefinition dependencyDefinition,
@@ -41,7 +41,7 @@ public final class DependencyResolversFactory {
     }
 
     public static AnnotatedElementDependencyResolver createElementDependencyResolver(ElementsContainer elementsContainer) {
-        var annotationScanner = AnnotationScannersFactory.createComposedAnnotationScanner();
+        var annotationScanner = AnnotationScannersFactory.sharedCachingAnnotationScanner();
         return new AnnotatedElementDependencyResolver(
                 elementsContainer,
                 InjectAnnotationScanner.wrappingScanner(annotationScanner)
@@ -49,7 +49,7 @@ public final class DependencyResolversFactory {
     }
 
     public static PropertyDependencyResolver createPropertyDependencyResolver(PropertiesContainer propertiesContainer) {
-        var annotationScanner = AnnotationScannersFactory.createComposedAnnotationScanner();
+        var annotationScanner = AnnotationScannersFactory.sharedCachingAnnotationScanner();
         return new PropertyDependencyResolver(
                 propertiesContainer,
                 InjectAnnotationScanner.wrappingScanner(annotationScanner)
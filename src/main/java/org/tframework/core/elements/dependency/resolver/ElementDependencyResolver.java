@@ -5,6 +5,7 @@ import java.util.Optional;
 import org.tframework.core.elements.context.ElementContext;
 import org.tframework.core.elements.dependency.DependencyDefinition;
 import org.tframework.core.elements.dependency.graph.ElementDependencyGraph;
+import org.tframework.core.elements.dependency.plan.InjectionPoint;
 
 /**
  * Resolves element dependency definitions into element instances. This requires more complex logic
@@ -26,4 +27,21 @@ public non-sealed interface ElementDependencyResolver extends DependencyResolver
             ElementDependencyGraph dependencyGraph
     );
 
+    /**
+     * Resolves an element dependency whose '@InjectX' annotations were already scanned. Resolvers that depend on
+     * these annotations should override this method, so that they don't scan the annotations again. By default,
+     * this resolves the {@link DependencyDefinition} of the injection point.
+     * @param injectionPoint {@link InjectionPoint} which describes the element dependency.
+     * @param originalElementContext The original {@link ElementContext} whose dependencies are being resolved.
+     * @param dependencyGraph {@link ElementDependencyGraph} with the current state of the dependency resolution.
+     * @return {@link Optional} with the element instance, if resolved, empty if not.
+     */
+    default Optional<Object> resolveDependency(
+            InjectionPoint injectionPoint,
+            ElementContext originalElementContext,
+            ElementDependencyGraph dependencyGraph
+    ) {
+        return resolveDependency(injectionPoint.dependencyDefinition(), originalElementContext, dependencyGraph);
+    }
+
 }
@@ -1,8 +1,6 @@
 /* Licensed under Apache-2.0 2024. */
 package org.tframework.core.elements.dependency.resolver;
 
-import java.lang.reflect.AnnotatedElement;
-import java.util.List;
 import java.util.Optional;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -10,13 +8,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.tframework.core.elements.annotations.InjectProperty;
 import org.tframework.core.elements.dependency.DependencyDefinition;
 import org.tframework.core.elements.dependency.InjectAnnotationScanner;
+import org.tframework.core.elements.dependency.plan.InjectionKind;
+import org.tframework.core.elements.dependency.plan.InjectionPoint;
 import org.tframework.core.properties.PropertiesContainer;
-import org.tframework.core.reflection.annotations.AnnotationMatchingResult;
 
 /**
  * This {@link BasicDependencyResolver} is responsible for resolving dependencies that are annotated with
  * {@link InjectProperty}. If the dependency is not annotated with {@link InjectProperty}, this
- * resolver will ignore it.
+ * resolver will ignore it. When resolving an {@link InjectionPoint}, the annotations are not scanned again.
  */
 @Slf4j
 @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
@@ -27,42 +26,38 @@ public class PropertyDependencyResolver implements BasicDependencyResolver {
 
     @Override
     public Optional<Object> resolveDependency(DependencyDefinition dependencyDefinition) {
-        var matchingResult = matchPropertiesInjectAnnotation(dependencyDefinition.annotationSource());
-        if(matchingResult.matches()) {
-            InjectProperty injectAnnotation = matchingResult.matchedAnnotations().getFirst();
-            String dependencyName = injectAnnotation.value();
-            log.debug("Attempting to resolve dependency with name '{}' from the properties...", dependencyName);
-            try {
-                Object resolvedDependency;
-                if(injectAnnotation.defaultValue().equals(InjectProperty.DEFAULT_VALUE_NOT_PROVIDED)) {
-                    resolvedDependency = propertiesContainer.getPropertyValueNonGeneric(
-                            dependencyName,
-                            dependencyDefinition.dependencyType()
-                    );
-                } else {
-                    resolvedDependency = propertiesContainer.getPropertyValueNonGeneric(
-                            dependencyName,
-                            dependencyDefinition.dependencyType(),
-                            injectAnnotation.defaultValue()
-                    );
-                }
-                log.debug("Resolved dependency with name '{}' from the properties: {}", dependencyName, resolvedDependency);
-                return Optional.of(resolvedDependency);
-            } catch (Exception e) {
-                log.debug("Failed to resolve dependency with name '{}' from the properties", dependencyName, e);
-                return Optional.empty();
+        var injectionPoint = injectAnnotationScanner.findInjectAnnotation(dependencyDefinition.annotationSource(), InjectProperty.class)
+                .map(injectProperty -> InjectionPoint.fromInjectProperty(dependencyDefinition, injectProperty))
+                .orElseGet(() -> InjectionPoint.unannotated(dependencyDefinition));
+        return resolveDependency(injectionPoint);
+    }
+
+    @Override
+    public Optional<Object> resolveDependency(InjectionPoint injectionPoint) {
+        if(injectionPoint.kind() != InjectionKind.PROPERTY) {
+            log.debug("Dependency definition '{}' is not annotated with '@InjectProperty', cannot resolve it",
+                    injectionPoint.dependencyDefinition());
+            return Optional.empty();
+        }
+        String dependencyName = injectionPoint.name();
+        Class<?> dependencyType = injectionPoint.dependencyDefinition().dependencyType();
+        log.debug("Attempting to resolve dependency with name '{}' from the properties...", dependencyName);
+        try {
+            Object resolvedDependency;
+            if(injectionPoint.hasDefaultValue()) {
+                resolvedDependency = propertiesContainer.getPropertyValueNonGeneric(
+                        dependencyName,
+                        dependencyType,
+                        injectionPoint.defaultValue()
+                );
+            } else {
+                resolvedDependency = propertiesContainer.getPropertyValueNonGeneric(dependencyName, dependencyType);
             }
-        } else {
-            log.debug("Dependency definition '{}' is not annotated with '@InjectProperty', cannot resolve it", dependencyDefinition);
+            log.debug("Resolved dependency with name '{}' from the properties: {}", dependencyName, resolvedDependency);
+            return Optional.of(resolvedDependency);
+        } catch (Exception e) {
+            log.debug("Failed to resolve dependency with name '{}' from the properties", dependencyName, e);
             return Optional.empty();
         }
     }
-
-    private AnnotationMatchingResult<InjectProperty> matchPropertiesInjectAnnotation(AnnotatedElement dependencyDefinition) {
-        return injectAnnotationScanner.findInjectAnnotation(dependencyDefinition, InjectProperty.class)
-                .stream()
-                .findAny()
-                .map(injectProperty -> new AnnotationMatchingResult<>(true, List.of(injectProperty)))
-                .orElseGet(() -> new AnnotationMatchingResult<>(false, List.of()));
-    }
 }
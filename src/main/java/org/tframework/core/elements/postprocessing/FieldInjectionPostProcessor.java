@@ -10,9 +10,9 @@ import org.tframework.core.elements.annotations.Element;
 import org.tframework.core.elements.annotations.InjectElement;
 import org.tframework.core.elements.annotations.Priority;
 import org.tframework.core.elements.context.ElementContext;
-import org.tframework.core.elements.dependency.DependencyDefinition;
-import org.tframework.core.elements.dependency.InjectAnnotationScanner;
 import org.tframework.core.elements.dependency.graph.ElementDependencyGraph;
+import org.tframework.core.elements.dependency.plan.InjectionPlan;
+import org.tframework.core.elements.dependency.plan.InjectionPoint;
 import org.tframework.core.elements.dependency.resolver.DependencyResolverAggregator;
 import org.tframework.core.elements.dependency.resolver.DependencyResolverConfig;
 import org.tframework.core.reflection.field.FieldFilter;
@@ -28,7 +28,8 @@ import org.tframework.core.reflection.field.FieldSetter;
  *     <li>The field is annotated with some {@code InjectX} annotation, such as {@link InjectElement}.</li>
  * </ul>
  * visibility is not relevant, fields can be private as well. This post-processor will be the
- * first to be executed.
+ * first to be executed. The fields to inject are taken from the {@link InjectionPlan} of the element context,
+ * so their annotations are not scanned for each instance.
  */
 @Slf4j
 @Builder
@@ -38,18 +39,15 @@ public class FieldInjectionPostProcessor implements ElementInstancePostProcessor
 
     static final String DEPENDENCY_DECLARED_AS_FIELD = "Field";
 
-    private final InjectAnnotationScanner injectAnnotationScanner;
     private final FieldFilter fieldFilter;
     private final FieldSetter fieldSetter;
     private final DependencyResolverAggregator dependencyResolver;
 
     public FieldInjectionPostProcessor(
-            InjectAnnotationScanner injectAnnotationScanner,
             FieldFilter fieldFilter,
             FieldSetter fieldSetter,
             @InjectElement(DependencyResolverConfig.FIELD_DEPENDENCY_RESOLVER_ELEMENT_NAME) DependencyResolverAggregator dependencyResolver
     ) {
-        this.injectAnnotationScanner = injectAnnotationScanner;
         this.fieldFilter = fieldFilter;
         this.fieldSetter = fieldSetter;
         this.dependencyResolver = dependencyResolver;
@@ -57,14 +55,13 @@ public class FieldInjectionPostProcessor implements ElementInstancePostProcessor
 
     @Override
     public void postProcessInstance(ElementContext elementContext, Object instance) {
-        elementContext.getFields().stream()
-                .filter(injectAnnotationScanner::hasAnyInjectAnnotations)
-                .peek(field -> {
-                    isValidFieldForInjection(elementContext, field);
-                    log.debug("Element context '{}', field '{}': candidate for field injection",
-                            elementContext.getName(), field.getName());
-                })
-                .forEach(field ->  setDependencyField(elementContext, instance, field));
+        for(InjectionPoint injectionPoint : elementContext.getInjectionPlan().fields()) {
+            var field = (Field) injectionPoint.dependencyDefinition().annotationSource();
+            isValidFieldForInjection(elementContext, field);
+            log.debug("Element context '{}', field '{}': candidate for field injection",
+                    elementContext.getName(), field.getName());
+            setDependencyField(elementContext, instance, field, injectionPoint);
+        }
     }
 
     private void isValidFieldForInjection(ElementContext elementContext, Field field) {
@@ -82,13 +79,12 @@ public class FieldInjectionPostProcessor implements ElementInstancePostProcessor
         }
     }
 
-    private void setDependencyField(ElementContext elementContext, Object instance, Field field) {
+    private void setDependencyField(ElementContext elementContext, Object instance, Field field, InjectionPoint injectionPoint) {
         try {
-            var dependencyDefinition = DependencyDefinition.fromField(field);
             Object resolvedDependency = dependencyResolver.resolveDependency(
-                    dependencyDefinition,
+                    injectionPoint,
                     elementContext,
-                    ElementDependencyGraph.empty(),
+                    ElementDependencyGraph.forCurrentThread(),
                     DEPENDENCY_DECLARED_AS_FIELD
             );
             fieldSetter.setFieldValue(instance, field, resolvedDependency);
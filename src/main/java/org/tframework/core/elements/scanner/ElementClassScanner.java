@@ -1,24 +1,40 @@
 /* Licensed under Apache-2.0 2024. */
 package org.tframework.core.elements.scanner;
 
+import java.util.HashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.tframework.core.elements.annotations.Element;
+import org.tframework.core.elements.scanner.index.ElementIndex;
+import org.tframework.core.elements.scanner.index.ElementIndexReader;
 import org.tframework.core.properties.PropertiesContainer;
+import org.tframework.core.properties.SinglePropertyValue;
+import org.tframework.core.properties.converters.BooleanPropertyConverter;
 import org.tframework.core.reflection.AnnotationFilteringResult;
 import org.tframework.core.reflection.annotations.AnnotationScanner;
 import org.tframework.core.reflection.classes.ClassFilter;
+import org.tframework.core.reflection.classes.PackageClassScanner;
+import org.tframework.core.utils.Constants;
 
 /**
  * Abstract base class for all implementations that search for the {@link Element} annotation on classes.
  * @see ElementScannersFactory
  */
+@Slf4j
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public abstract class ElementClassScanner implements ElementScanner<Class<?>> {
 
+    /**
+     * Scanners that scan packages will use the {@link ElementIndex} instead of scanning the classpath roots that have
+     * an index. Set this property to {@code false} to always scan the whole classpath.
+     */
+    public static final String ELEMENT_INDEX_ENABLED_PROPERTY = Constants.TFRAMEWORK_PROPERTIES_PREFIX + ".elements.use-element-index";
+    private static final SinglePropertyValue ELEMENT_INDEX_ENABLED_DEFAULT_VALUE = new SinglePropertyValue("true");
+
     private final ClassFilter classFilter;
     private final AnnotationScanner annotationScanner;
     protected final PropertiesContainer propertiesContainer;
@@ -51,4 +67,41 @@ public abstract class ElementClassScanner implements ElementScanner<Class<?>> {
                 // if an annotation is annotated with @Element, that is a composed annotation, not an element
                 .filter(result -> !result.annotationSource().isAnnotation());
     }
+
+    /**
+     * Finds the classes in some packages and their subpackages. If the {@link ElementIndex} is enabled and not empty,
+     * the classes of the classpath roots that have an index are taken from the index. An index lists all elements of
+     * its own root only, so the other roots (for example, JAR files compiled without the annotation processor) are
+     * still scanned with the {@link PackageClassScanner}, and the results are merged.
+     * @param packageNames The packages to search.
+     * @param elementIndex The {@link ElementIndex}, which might be empty.
+     * @param packageClassScanner Scans the packages in the roots that have no index.
+     */
+    protected Set<Class<?>> findClassesInPackages(
+            Set<String> packageNames,
+            ElementIndex elementIndex,
+            PackageClassScanner packageClassScanner
+    ) {
+        packageClassScanner.setPackageNames(packageNames);
+        if(!isElementIndexEnabled() || elementIndex.isEmpty()) {
+            packageClassScanner.setRejectedRootResources(Set.of());
+            return packageClassScanner.scanClasses();
+        }
+
+        Set<Class<?>> classes = new HashSet<>(elementIndex.findClassesInPackages(packageNames));
+        packageClassScanner.setRejectedRootResources(Set.of(ElementIndexReader.INDEX_RESOURCE));
+        var scannedClasses = packageClassScanner.scanClasses();
+        log.debug("Found {} classes of packages {} in the element index, and {} in the classpath roots without an index",
+                classes.size(), packageNames, scannedClasses.size());
+        classes.addAll(scannedClasses);
+        return classes;
+    }
+
+    private boolean isElementIndexEnabled() {
+        var indexEnabledProperty = propertiesContainer.getPropertyValueObject(
+                ELEMENT_INDEX_ENABLED_PROPERTY,
+                ELEMENT_INDEX_ENABLED_DEFAULT_VALUE
+        );
+        return new BooleanPropertyConverter().convert(indexEnabledProperty);
+    }
 }
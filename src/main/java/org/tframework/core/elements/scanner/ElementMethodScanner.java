@@ -2,15 +2,32 @@
 package org.tframework.core.elements.scanner;
 
 import java.lang.reflect.Method;
+import java.util.Set;
 import lombok.Setter;
 
 /**
  * A top level abstraction for a scanner that is able to find elements from methods.
- * These scanners support setting a class to scan.
+ * These scanners support setting a class to scan. To scan several classes at the same time (on different threads),
+ * use {@link #scanElements(Class)} instead, which does not change the scanner.
  */
 @Setter
 public abstract class ElementMethodScanner implements ElementScanner<Method> {
 
     protected Class<?> classToScan;
 
+    /**
+     * Scans the class that was set with {@link #setClassToScan(Class)}.
+     */
+    @Override
+    public Set<ElementScanningResult<Method>> scanElements() {
+        return scanElements(classToScan);
+    }
+
+    /**
+     * Scans the given class for element methods.
+     * @param classToScan The class to scan.
+     * @return A set of {@link ElementScanningResult}s, one for each element method.
+     */
+    public abstract Set<ElementScanningResult<Method>> scanElements(Class<?> classToScan);
+
 }
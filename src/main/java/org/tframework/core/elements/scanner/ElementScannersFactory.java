@@ -5,7 +5,11 @@ import java.util.List;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
 import org.tframework.core.elements.ElementsInitializationInput;
+import org.tframework.core.elements.scanner.index.ElementIndex;
+import org.tframework.core.elements.scanner.index.ElementIndexReader;
+import org.tframework.core.elements.scanner.index.InvalidElementIndexException;
 import org.tframework.core.properties.PropertiesContainer;
 import org.tframework.core.reflection.annotations.AnnotationScannersFactory;
 import org.tframework.core.reflection.classes.ClassFiltersFactory;
@@ -16,6 +20,7 @@ import org.tframework.core.reflection.methods.MethodScannersFactory;
 /**
  * Factory for creating various {@link ElementScanner}s.
  */
+@Slf4j
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ElementScannersFactory {
 
@@ -38,10 +43,11 @@ public final class ElementScannersFactory {
      */
     public static List<ElementClassScanner> createDefaultElementClassScanners(@NonNull ElementsInitializationInput input) {
         var propertiesContainer = input.application().getPropertiesContainer();
+        var elementIndex = readElementIndex(input.rootClass().getClassLoader());
         return List.of(
-                createRootElementClassScanner(input.rootClass(), propertiesContainer),
+                createRootElementClassScanner(input.rootClass(), propertiesContainer, elementIndex),
                 createInternalElementClassScanner(propertiesContainer),
-                createPackagesElementClassScanner(propertiesContainer),
+                createPackagesElementClassScanner(propertiesContainer, elementIndex),
                 createClassesElementClassScanner(propertiesContainer)
         );
     }
@@ -61,15 +67,21 @@ public final class ElementScannersFactory {
      * Creates a new {@link RootElementClassScanner} to scan a root class' package and subpackages.
      * @param rootClass Root class that the scanner should use.
      * @param properties Properties container to check if scanning should be enabled/disabled.
+     * @param elementIndex {@link ElementIndex} to use instead of scanning the packages, might be empty.
      */
-     static RootElementClassScanner createRootElementClassScanner(Class<?> rootClass, PropertiesContainer properties) {
+     static RootElementClassScanner createRootElementClassScanner(
+             Class<?> rootClass,
+             PropertiesContainer properties,
+             ElementIndex elementIndex
+     ) {
         return RootElementClassScanner.builder()
-                .annotationScanner(AnnotationScannersFactory.createComposedAnnotationScanner())
+                .annotationScanner(AnnotationScannersFactory.sharedCachingAnnotationScanner())
                 .classFilter(ClassFiltersFactory.createDefaultClassFilter())
                 .packageClassScanner(ClassScannersFactory.createPackageClassScanner())
                 .rootClassScanner(ClassScannersFactory.createNestedClassScanner(rootClass))
                 .propertiesContainer(properties)
                 .rootClass(rootClass)
+                .elementIndex(elementIndex)
                 .build();
     }
 
@@ -79,7 +91,7 @@ public final class ElementScannersFactory {
      */
      static InternalElementClassScanner createInternalElementClassScanner(PropertiesContainer properties) {
         return InternalElementClassScanner.builder()
-                .annotationScanner(AnnotationScannersFactory.createComposedAnnotationScanner())
+                .annotationScanner(AnnotationScannersFactory.sharedCachingAnnotationScanner())
                 .classFilter(ClassFiltersFactory.createDefaultClassFilter())
                 .classScanner(ClassScannersFactory.createPackageClassScanner())
                 .propertiesContainer(properties)
@@ -90,13 +102,18 @@ public final class ElementScannersFactory {
      * Creates a new {@link PackagesElementClassScanner} to scan the packages specified in the
      * {@value PackagesElementClassScanner#SCAN_PACKAGES_PROPERTY} property.
      * @param properties Properties container to check which packages are to be scanned.
+     * @param elementIndex {@link ElementIndex} to use instead of scanning the packages, might be empty.
      */
-     static PackagesElementClassScanner createPackagesElementClassScanner(PropertiesContainer properties) {
+     static PackagesElementClassScanner createPackagesElementClassScanner(
+             PropertiesContainer properties,
+             ElementIndex elementIndex
+     ) {
         return PackagesElementClassScanner.builder()
-                .annotationScanner(AnnotationScannersFactory.createComposedAnnotationScanner())
+                .annotationScanner(AnnotationScannersFactory.sharedCachingAnnotationScanner())
                 .classFilter(ClassFiltersFactory.createDefaultClassFilter())
                 .classScanner(ClassScannersFactory.createPackageClassScanner())
                 .propertiesContainer(properties)
+                .elementIndex(elementIndex)
                 .build();
     }
 
@@ -106,7 +123,7 @@ public final class ElementScannersFactory {
      */
      static ClassesElementClassScanner createClassesElementClassScanner(PropertiesContainer properties) {
         return ClassesElementClassScanner.builder()
-                .annotationScanner(AnnotationScannersFactory.createComposedAnnotationScanner())
+                .annotationScanner(AnnotationScannersFactory.sharedCachingAnnotationScanner())
                 .classFilter(ClassFiltersFactory.createDefaultClassFilter())
                 .propertiesContainer(properties)
                 .build();
@@ -120,8 +137,21 @@ public final class ElementScannersFactory {
         return FixedClassesElementMethodScanner.builder()
                 .methodScanner(MethodScannersFactory.createDefaultMethodScanner())
                 .methodFilter(MethodFiltersFactory.createDefaultMethodFilter())
-                .annotationScanner(AnnotationScannersFactory.createComposedAnnotationScanner())
+                .annotationScanner(AnnotationScannersFactory.sharedCachingAnnotationScanner())
                 .build();
     }
 
+    /**
+     * Reads the {@link ElementIndex} with the given class loader. If the index can't be read, the
+     * packages will be scanned as if there was no index.
+     */
+    static ElementIndex readElementIndex(ClassLoader classLoader) {
+        try {
+            return ElementIndexReader.readIndex(classLoader);
+        } catch (InvalidElementIndexException e) {
+            log.warn("Failed to read the element index, the packages will be scanned instead.", e);
+            return ElementIndex.empty();
+        }
+    }
+
 }
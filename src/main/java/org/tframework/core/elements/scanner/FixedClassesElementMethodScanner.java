@@ -25,7 +25,7 @@ public class FixedClassesElementMethodScanner extends ElementMethodScanner {
     private final AnnotationScanner annotationScanner;
 
     @Override
-    public Set<ElementScanningResult<Method>> scanElements() {
+    public Set<ElementScanningResult<Method>> scanElements(Class<?> classToScan) {
         var methods = methodScanner.scanMethods(classToScan);
 
         //strict filtering: if a method has more than one @Element annotation, throw an exception
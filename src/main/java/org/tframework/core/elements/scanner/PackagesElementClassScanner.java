@@ -6,6 +6,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.Builder;
 import lombok.extern.slf4j.Slf4j;
+import org.tframework.core.elements.scanner.index.ElementIndex;
 import org.tframework.core.properties.PropertiesContainer;
 import org.tframework.core.reflection.annotations.AnnotationScanner;
 import org.tframework.core.reflection.classes.ClassFilter;
@@ -21,6 +22,7 @@ import org.tframework.core.utils.Constants;
  * <p>
  * Package names can contain wildcards, as specified by the {@link PackageClassScanner}. There is no
  * need to specify subpackages, because the underlying {@link PackageClassScanner} will also scan all subpackages.
+ * If the {@link ElementIndex} has classes in these packages, it is used instead of scanning.
  * <p>
  * Normally, this scanner is not required, because the {@link RootElementClassScanner} can pick up
  * all application elements. However, if for some reason the package structure is non-standard,
@@ -34,15 +36,18 @@ public class PackagesElementClassScanner extends ElementClassScanner {
     private static final List<String> SCAN_PACKAGES_DEFAULT_VALUE = List.of();
 
     private final PackageClassScanner classScanner;
+    private final ElementIndex elementIndex;
 
     private PackagesElementClassScanner(
             ClassFilter classFilter,
             AnnotationScanner annotationScanner,
             PropertiesContainer propertiesContainer,
-            PackageClassScanner classScanner
+            PackageClassScanner classScanner,
+            ElementIndex elementIndex
     ) {
         super(classFilter, annotationScanner, propertiesContainer);
         this.classScanner = classScanner;
+        this.elementIndex = elementIndex;
     }
 
     @Override
@@ -60,8 +65,7 @@ public class PackagesElementClassScanner extends ElementClassScanner {
             return Set.of();
         } else {
             try {
-                classScanner.setPackageNames(packageNames);
-                return classScanner.scanClasses();
+                return findClassesInPackages(packageNames, elementIndex, classScanner);
             } catch (Exception e) {
                 //if class scanner decides that one package is not valid, it will throw an exception
                 log.error("Failed to scan additional packages for elements.", e);
@@ -75,8 +79,15 @@ public class PackagesElementClassScanner extends ElementClassScanner {
             ClassFilter classFilter,
             AnnotationScanner annotationScanner,
             PropertiesContainer propertiesContainer,
-            PackageClassScanner classScanner
+            PackageClassScanner classScanner,
+            ElementIndex elementIndex
     ) {
-        return new PackagesElementClassScanner(classFilter, annotationScanner, propertiesContainer, classScanner);
+        return new PackagesElementClassScanner(
+                classFilter,
+                annotationScanner,
+                propertiesContainer,
+                classScanner,
+                elementIndex == null ? ElementIndex.empty() : elementIndex
+        );
     }
 }
@@ -7,6 +7,7 @@ import java.util.stream.Stream;
 import lombok.Builder;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.tframework.core.elements.scanner.index.ElementIndex;
 import org.tframework.core.properties.PropertiesContainer;
 import org.tframework.core.properties.SinglePropertyValue;
 import org.tframework.core.properties.converters.BooleanPropertyConverter;
@@ -33,6 +34,7 @@ import org.tframework.core.utils.Constants;
  *         of all TFramework applications.
  *     </li>
  * </ul>
+ * If the {@link ElementIndex} has classes in the root class' package hierarchy, it is used instead of scanning the packages.
  */
 @Slf4j
 public class RootElementClassScanner extends ElementClassScanner {
@@ -47,6 +49,7 @@ public class RootElementClassScanner extends ElementClassScanner {
     private final NestedClassScanner rootClassScanner;
     private final PropertyConverter<Boolean> propertyConverter;
     private final Class<?> rootClass;
+    private final ElementIndex elementIndex;
 
     RootElementClassScanner(
             AnnotationScanner annotationScanner,
@@ -54,13 +57,15 @@ public class RootElementClassScanner extends ElementClassScanner {
             PropertiesContainer propertiesContainer,
             PackageClassScanner packageClassScanner,
             NestedClassScanner rootClassScanner,
-            Class<?> rootClass
+            Class<?> rootClass,
+            ElementIndex elementIndex
     ) {
         super(classFilter, annotationScanner, propertiesContainer);
         this.packageClassScanner = packageClassScanner;
         this.rootClassScanner = rootClassScanner;
         this.propertyConverter = new BooleanPropertyConverter();
         this.rootClass = rootClass;
+        this.elementIndex = elementIndex;
     }
 
     @Override
@@ -79,9 +84,8 @@ public class RootElementClassScanner extends ElementClassScanner {
             log.debug("The EFFECTIVE value of property '{}' is '{}'", ROOT_HIERARCHY_SCANNING_ENABLED_PROPERTY, scanRootHierarchyProperty);
             if(propertyConverter.convert(scanRootHierarchyProperty)) {
                 String packageName = rootClass.getPackageName();
-                this.packageClassScanner.setPackageNames(Set.of(packageName));
                 log.debug("The root element scanner will scan the package '{}' and all its sub-packages", packageName);
-                return mergeWithRootClass(packageClassScanner.scanClasses());
+                return mergeWithRootClass(findClassesInPackages(Set.of(packageName), elementIndex, packageClassScanner));
             } else {
                 log.debug("The root element scanner will scan only the root class '{}'", rootClass.getName());
                 return mergeWithRootClass(rootClassScanner.scanClasses());
@@ -104,10 +108,12 @@ public class RootElementClassScanner extends ElementClassScanner {
             @NonNull PropertiesContainer propertiesContainer,
             @NonNull PackageClassScanner packageClassScanner,
             @NonNull NestedClassScanner rootClassScanner,
-            @NonNull Class<?> rootClass
+            @NonNull Class<?> rootClass,
+            ElementIndex elementIndex
     ) {
         return new RootElementClassScanner(
-                annotationScanner, classFilter, propertiesContainer, packageClassScanner, rootClassScanner, rootClass
+                annotationScanner, classFilter, propertiesContainer, packageClassScanner, rootClassScanner, rootClass,
+                elementIndex == null ? ElementIndex.empty() : elementIndex
         );
     }
 }
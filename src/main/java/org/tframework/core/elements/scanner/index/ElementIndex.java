@@ -0,0 +1,103 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.elements.scanner.index;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.tframework.core.elements.annotations.Element;
+
+/**
+ * The element index lists the {@link Element} classes that were found at build time, so that they can be found
+ * at startup without scanning the classpath. The index is written by the element index annotation processor, and
+ * read with {@link ElementIndexReader}.
+ * <p>
+ * Each classpath root (directory or JAR file) that was compiled with the annotation processor has its own index, which
+ * lists all elements of that root. Roots without an index are not covered, so their classes must still be scanned:
+ * the element scanners skip only the roots that have an index.
+ */
+@Slf4j
+@Getter
+public class ElementIndex {
+
+    private static final ElementIndex EMPTY_INDEX = new ElementIndex(List.of(), ElementIndex.class.getClassLoader());
+
+    private final List<ElementIndexEntry> entries;
+    private final ClassLoader classLoader;
+
+    /**
+     * @param entries The {@link ElementIndexEntry}s of this index.
+     * @param classLoader The class loader that will load the indexed classes.
+     */
+    public ElementIndex(@NonNull List<ElementIndexEntry> entries, @NonNull ClassLoader classLoader) {
+        this.entries = List.copyOf(entries);
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * @return True if there are no classes in the index.
+     */
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Finds the entries of the classes that are in any of the given packages or their subpackages. Package names
+     * can contain wildcards ({@code *}), the same way as for classpath scanning.
+     * @param packageNames The packages to search.
+     * @return The matching entries, possibly empty.
+     */
+    public List<ElementIndexEntry> findEntriesInPackages(@NonNull Set<String> packageNames) {
+        var packagePatterns = packageNames.stream()
+                .map(ElementIndex::toPackagePattern)
+                .toList();
+        return entries.stream()
+                .filter(entry -> packagePatterns.stream().anyMatch(pattern -> pattern.matcher(entry.packageName()).matches()))
+                .toList();
+    }
+
+    /**
+     * Loads the indexed classes that are in any of the given packages or their subpackages. Classes that
+     * can't be loaded (for example, because the index is outdated) are skipped.
+     * @param packageNames The packages to search.
+     * @return The loaded classes, possibly empty.
+     */
+    public Set<Class<?>> findClassesInPackages(@NonNull Set<String> packageNames) {
+        var matchingEntries = findEntriesInPackages(packageNames);
+        Set<Class<?>> classes = new HashSet<>();
+        for(ElementIndexEntry entry : matchingEntries) {
+            try {
+                classes.add(Class.forName(entry.className(), false, classLoader));
+            } catch (ClassNotFoundException | LinkageError e) {
+                log.warn("Could not load indexed class '{}', the element index might be outdated", entry.className(), e);
+            }
+        }
+        log.debug("Found {} classes in the element index for packages {}", classes.size(), packageNames);
+        return classes;
+    }
+
+    @Override
+    public String toString() {
+        return entries.stream()
+                .map(ElementIndexEntry::className)
+                .collect(Collectors.joining(", ", "ElementIndex[", "]"));
+    }
+
+    /**
+     * Returns an index without any classes.
+     */
+    public static ElementIndex empty() {
+        return EMPTY_INDEX;
+    }
+
+    //matches the package itself and all subpackages, '*' matches any characters
+    private static Pattern toPackagePattern(String packageName) {
+        String packageRegex = Pattern.quote(packageName).replace("*", "\\E.*\\Q");
+        return Pattern.compile(packageRegex + "(\\..*)?");
+    }
+
+}
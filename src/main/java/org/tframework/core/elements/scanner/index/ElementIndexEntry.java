@@ -0,0 +1,22 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.elements.scanner.index;
+
+import lombok.NonNull;
+import org.tframework.core.elements.annotations.Element;
+
+/**
+ * A single class in the {@link ElementIndex}: a class that is annotated with {@link Element}, directly or through a
+ * composed annotation.
+ * @param className The binary name of the class, which can be passed to {@link Class#forName(String)}.
+ */
+public record ElementIndexEntry(@NonNull String className) {
+
+    /**
+     * @return The name of the package of the indexed class.
+     */
+    public String packageName() {
+        int lastDot = className.lastIndexOf('.');
+        return lastDot < 0 ? "" : className.substring(0, lastDot);
+    }
+
+}
@@ -0,0 +1,95 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.elements.scanner.index;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.tframework.core.elements.annotations.Element;
+
+/**
+ * Reads the {@link ElementIndex} from the {@value #INDEX_RESOURCE} resources. Each JAR file or directory on the classpath
+ * can have its own index, these are merged. The index is a text file, where each line that is not empty and does not start
+ * with {@code #} is the binary name of an {@link Element} class:
+ * <pre>{@code
+ * org.example.SomeElement
+ * }</pre>
+ * Anything after a {@code |} in a line is ignored, so that attributes can be added to the format later, without
+ * breaking the older versions that read the index.
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ElementIndexReader {
+
+    /**
+     * The location of the element index resources.
+     */
+    public static final String INDEX_RESOURCE = "META-INF/tframework/elements.idx";
+
+    static final char ATTRIBUTE_SEPARATOR = '|';
+
+    /**
+     * Reads and merges all {@value #INDEX_RESOURCE} resources that the class loader can find.
+     * @param classLoader The class loader to find the resources, and to load the indexed classes later.
+     * @return The merged {@link ElementIndex}, which is empty if there are no index resources.
+     * @throws InvalidElementIndexException If any of the index resources can't be read.
+     */
+    public static ElementIndex readIndex(@NonNull ClassLoader classLoader) {
+        List<URL> indexResources;
+        try {
+            indexResources = Collections.list(classLoader.getResources(INDEX_RESOURCE));
+        } catch (IOException e) {
+            throw new InvalidElementIndexException(INDEX_RESOURCE, e);
+        }
+
+        List<ElementIndexEntry> entries = new ArrayList<>();
+        for(URL indexResource : indexResources) {
+            try(var reader = new InputStreamReader(indexResource.openStream(), StandardCharsets.UTF_8)) {
+                var resourceEntries = parseEntries(reader, indexResource.toString());
+                log.debug("Read {} classes from element index '{}'", resourceEntries.size(), indexResource);
+                entries.addAll(resourceEntries);
+            } catch (IOException e) {
+                throw new InvalidElementIndexException(indexResource.toString(), e);
+            }
+        }
+        return new ElementIndex(entries, classLoader);
+    }
+
+    /**
+     * Parses the entries of a single index.
+     * @param reader Provides the content of the index.
+     * @param indexSource Describes where the index is from, used in the error messages.
+     * @throws InvalidElementIndexException If an entry is not valid.
+     */
+    static List<ElementIndexEntry> parseEntries(Reader reader, String indexSource) throws IOException {
+        List<ElementIndexEntry> entries = new ArrayList<>();
+        var lines = new BufferedReader(reader).lines().toList();
+        for(String line : lines) {
+            String trimmedLine = line.strip();
+            if(trimmedLine.isEmpty() || trimmedLine.startsWith("#")) {
+                continue;
+            }
+            entries.add(parseEntry(trimmedLine, indexSource));
+        }
+        return entries;
+    }
+
+    private static ElementIndexEntry parseEntry(String line, String indexSource) {
+        int attributesStart = line.indexOf(ATTRIBUTE_SEPARATOR);
+        String className = (attributesStart < 0 ? line : line.substring(0, attributesStart)).strip();
+        if(className.isEmpty()) {
+            throw new InvalidElementIndexException(indexSource, "missing class name in line '" + line + "'");
+        }
+        return new ElementIndexEntry(className);
+    }
+
+}
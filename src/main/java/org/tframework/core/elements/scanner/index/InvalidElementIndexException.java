@@ -0,0 +1,26 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.elements.scanner.index;
+
+import org.tframework.core.TFrameworkException;
+
+/**
+ * Thrown when an element index file can't be read or has invalid content.
+ * @see ElementIndexReader
+ */
+public class InvalidElementIndexException extends TFrameworkException {
+
+    private static final String TEMPLATE = "Invalid element index '%s': %s";
+
+    public InvalidElementIndexException(String indexSource, String reason) {
+        super(TEMPLATE.formatted(indexSource, reason));
+    }
+
+    public InvalidElementIndexException(String indexSource, Exception cause) {
+        super(TEMPLATE.formatted(indexSource, cause.getMessage()), cause);
+    }
+
+    @Override
+    public String getMessageTemplate() {
+        return TEMPLATE;
+    }
+}
@@ -0,0 +1,9 @@
+/**
+ * This package contains the element index, which lists the {@link org.tframework.core.elements.annotations.Element}
+ * classes at build time, so that the {@link org.tframework.core.elements.scanner.ElementClassScanner}s don't have to scan
+ * the classpath at startup. See {@link org.tframework.core.elements.scanner.index.ElementIndex} for details.
+ */
+@TFrameworkInternal
+package org.tframework.core.elements.scanner.index;
+
+import org.tframework.core.TFrameworkInternal;
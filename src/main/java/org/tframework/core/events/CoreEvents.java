@@ -4,6 +4,7 @@ package org.tframework.core.events;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.tframework.core.Application;
+import org.tframework.core.properties.PropertyChanges;
 
 /**
  * Defines topics for events produced by the TFramework core module.
@@ -17,4 +18,10 @@ public final class CoreEvents {
      */
     public static final String APPLICATION_INITIALIZED = "org-tframework-core-application-initialized";
 
+    /**
+     * Event topic for the reloaded properties, when at least one of them changed. The payload of this event
+     * will be the {@link PropertyChanges}, which lists the names of the changed properties.
+     */
+    public static final String PROPERTIES_CHANGED = "org-tframework-core-properties-changed";
+
 }
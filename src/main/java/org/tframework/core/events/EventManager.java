@@ -1,29 +1,31 @@
 /* Licensed under Apache-2.0 2024. */
 package org.tframework.core.events;
 
-import java.util.List;
 import java.util.UUID;
 import java.util.function.Consumer;
 import lombok.extern.slf4j.Slf4j;
 import org.tframework.core.elements.annotations.Element;
 import org.tframework.core.events.annotations.Subscribe;
 import org.tframework.core.events.publisher.EventPublisher;
-import org.tframework.core.utils.MultiValueMap;
 
 /**
  * Manages {@link Subscription}s and publishes {@link Event}s to subscribers of topics. This is an
  * element in all TFramework applications. It is the recommended way to publish events. As for subscriptions,
  * use the annotation based approach: please refer to {@link Subscribe}
+ * <p>
+ * All methods can be called from any thread. Publishing reads a snapshot of the subscriptions without locking,
+ * so it is not slowed down by other publishers, or by subscribing and unsubscribing at the same time. An event is
+ * published to the subscriptions that existed when the publishing started.
  */
 @Slf4j
 @Element
 public class EventManager {
 
-    private final MultiValueMap<String, Subscription> subscriptions;
+    private final SubscriptionRegistry subscriptions;
     private final EventPublisher eventPublisher;
 
     public EventManager(EventPublisher eventPublisher) {
-        subscriptions = new MultiValueMap<>();
+        subscriptions = new SubscriptionRegistry();
         this.eventPublisher = eventPublisher;
     }
 
@@ -34,8 +36,8 @@ public class EventManager {
      * @param event The event to be published.
      */
     public void publish(Event event) {
-        var subscriptionsOfTopic = subscriptions.getOrEmptyList(event.topic());
-        if(subscriptionsOfTopic.isEmpty()) {
+        var subscriptionsOfTopic = subscriptions.getSubscriptions(event.topic());
+        if(subscriptionsOfTopic.length == 0) {
             log.warn("No subscribers for topic '{}'", event.topic());
             return;
         }
@@ -56,9 +58,9 @@ public class EventManager {
      * @param callback The callback to be called when an {@link Event} is published intended for this subscriber.
      * @return The subscription ID, for further operations, such as unsubscribing.
      */
-    public synchronized UUID subscribe(String topic, Consumer<Object> callback) {
+    public UUID subscribe(String topic, Consumer<Object> callback) {
         var subscription = new Subscription(topic, UUID.randomUUID(), callback);
-        subscriptions.putValue(topic, subscription);
+        subscriptions.add(subscription);
         log.debug("Subscribed to topic '{}' with subscription ID '{}'", topic, subscription.subscriptionId());
         return subscription.subscriptionId();
     }
@@ -67,22 +69,29 @@ public class EventManager {
      * Removes the subscription with the given subscription ID, if it exists.
      * @param subscriptionId The subscription ID that was returned when subscribing.
      */
-    public synchronized void unsubscribe(UUID subscriptionId) {
-        subscriptions.values().stream()
-                .flatMap(List::stream)
-                .filter(s -> s.subscriptionId().equals(subscriptionId))
-                .findAny()
-                .ifPresentOrElse(
-                        s -> {
-                            subscriptions.removeValue(s.topic(), s);
-                            log.debug("Unsubscribed from topic '{}' (subscription ID was '{}')", s.topic(), s.subscriptionId());
-                        },
-                        () -> log.warn("No subscription found for subscription ID '{}'", subscriptionId)
-                );
+    public void unsubscribe(UUID subscriptionId) {
+        subscriptions.remove(subscriptionId).ifPresentOrElse(
+                s -> log.debug("Unsubscribed from topic '{}' (subscription ID was '{}')", s.topic(), s.subscriptionId()),
+                () -> log.warn("No subscription found for subscription ID '{}'", subscriptionId)
+        );
     }
 
-    private void publishEventToSubscribers(List<Subscription> subscriptions, Event event) {
-        subscriptions.forEach(subscription -> {
+    /**
+     * Shuts down the {@link EventPublisher}, and waits for the published events to be delivered. The framework calls
+     * this when the application stops.
+     * @param millis The maximum time to wait for the published events in milliseconds.
+     * @return True if all published events were delivered.
+     */
+    public boolean shutdown(long millis) {
+        boolean delivered = eventPublisher.shutdown(millis);
+        if(!delivered) {
+            log.warn("Some published events were not delivered in {} ms", millis);
+        }
+        return delivered;
+    }
+
+    private void publishEventToSubscribers(Subscription[] subscriptions, Event event) {
+        for(Subscription subscription : subscriptions) {
             try {
                 eventPublisher.publish(event, subscription);
                 log.trace("Published event to topic '{}' with payload '{}' to subscriber '{}'",
@@ -91,6 +100,6 @@ public class EventManager {
                 log.error("Failed to publish event to topic '{}' with payload '{}' to subscriber '{}' due to an exception thrown from the callback",
                         event.topic(), event.payload(), subscription.subscriptionId(), e);
             }
-        });
+        }
     }
 }
@@ -0,0 +1,76 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.events;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stores the {@link Subscription}s of the {@link EventManager}, and can be safely used by any thread. The subscriptions
+ * of each topic are kept in an array which is never modified: subscribing and unsubscribing replace the array of the
+ * topic (copy-on-write). Reading the subscriptions of a topic is a single map lookup, which does not lock and does not
+ * allocate, so publishing scales with the number of threads. The topic of each subscription is also indexed, so
+ * unsubscribing does not need to search all topics.
+ */
+final class SubscriptionRegistry {
+
+    private static final Subscription[] NO_SUBSCRIPTIONS = new Subscription[0];
+
+    private final Map<String, Subscription[]> subscriptionsByTopic = new ConcurrentHashMap<>();
+    private final Map<UUID, String> topicsBySubscriptionId = new ConcurrentHashMap<>();
+
+    /**
+     * Adds the subscription to the end of the subscriptions of its topic.
+     */
+    void add(Subscription subscription) {
+        topicsBySubscriptionId.put(subscription.subscriptionId(), subscription.topic());
+        subscriptionsByTopic.merge(subscription.topic(), new Subscription[] {subscription}, (current, added) -> {
+            Subscription[] subscriptions = Arrays.copyOf(current, current.length + 1);
+            subscriptions[current.length] = added[0];
+            return subscriptions;
+        });
+    }
+
+    /**
+     * Removes the subscription with the given ID.
+     * @return The removed subscription, or empty if there was no subscription with this ID.
+     */
+    Optional<Subscription> remove(UUID subscriptionId) {
+        String topic = topicsBySubscriptionId.remove(subscriptionId);
+        if(topic == null) {
+            return Optional.empty();
+        }
+        Subscription[] removed = new Subscription[1];
+        subscriptionsByTopic.computeIfPresent(topic, (ignored, current) -> {
+            Subscription[] remaining = removeSubscription(current, subscriptionId, removed);
+            return remaining.length == 0 ? null : remaining; //null removes the topic
+        });
+        return Optional.ofNullable(removed[0]);
+    }
+
+    private Subscription[] removeSubscription(Subscription[] subscriptions, UUID subscriptionId, Subscription[] removed) {
+        for(int i = 0; i < subscriptions.length; i++) {
+            if(subscriptions[i].subscriptionId().equals(subscriptionId)) {
+                removed[0] = subscriptions[i];
+                Subscription[] remaining = new Subscription[subscriptions.length - 1];
+                System.arraycopy(subscriptions, 0, remaining, 0, i);
+                System.arraycopy(subscriptions, i + 1, remaining, i, subscriptions.length - i - 1);
+                return remaining;
+            }
+        }
+        return subscriptions;
+    }
+
+    /**
+     * Gets the current subscriptions of the topic, in the order they were added. The returned array must not be
+     * modified, it is shared with other readers. Subscribing or unsubscribing later does not change it.
+     * @return The subscriptions, or an empty array if the topic has no subscriptions.
+     */
+    Subscription[] getSubscriptions(String topic) {
+        Subscription[] subscriptions = subscriptionsByTopic.get(topic);
+        return subscriptions == null ? NO_SUBSCRIPTIONS : subscriptions;
+    }
+
+}
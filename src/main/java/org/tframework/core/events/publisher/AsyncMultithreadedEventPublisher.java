@@ -1,12 +1,17 @@
 /* Licensed under Apache-2.0 2024. */
 package org.tframework.core.events.publisher;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
-import org.tframework.core.elements.annotations.Element;
-import org.tframework.core.elements.annotations.InjectProperty;
 import org.tframework.core.events.Event;
 import org.tframework.core.events.Subscription;
 
@@ -14,39 +19,235 @@ import org.tframework.core.events.Subscription;
  * This {@link EventPublisher} uses several threads to publish events asynchronously. It is
  * the recommended publisher, because it does not block the event management from handling other events.
  * The {@value #EVENT_PUBLISHER_THREAD_POOL_SIZE_PROPERTY} property can be used to configure the number of threads
- * used by this publisher. The default is 3.
+ * used by this publisher. The default is 3. If the callbacks block, for example on I/O, consider the
+ * {@link VirtualThreadEventPublisher} instead.
+ * <p>
+ * The events wait in a queue until a thread is free to publish them. The queue is unbounded by default, so a slow
+ * subscriber lets it grow without limit. The publisher can be bounded instead: the capacity of the whole queue, and
+ * the number of queued events of certain topics can be limited. When a limit is reached, the {@link EventOverflowPolicy}
+ * decides what happens with the event.
+ * @see EventPublishersFactory
  */
 @Slf4j
-@Element
 public class AsyncMultithreadedEventPublisher implements EventPublisher {
 
     public static final String EVENT_PUBLISHER_THREAD_POOL_SIZE_PROPERTY =
             "org.tframework.core.events.thread-pool-size";
 
-    private final ExecutorService executorService;
+    /**
+     * Queue capacity that means the queue is not bounded.
+     */
+    public static final int UNBOUNDED_QUEUE_CAPACITY = 0;
+
+    private final ThreadPoolExecutor executorService;
+    private final Map<String, Semaphore> topicQueuePermits;
+    private final EventOverflowPolicy overflowPolicy;
+    private final LongAdder droppedEventCount = new LongAdder();
+
+    /**
+     * Creates a publisher with an unbounded queue.
+     * @param threadPoolSize The number of threads that publish the events.
+     */
+    public AsyncMultithreadedEventPublisher(int threadPoolSize) {
+        this(threadPoolSize, UNBOUNDED_QUEUE_CAPACITY, Map.of(), EventOverflowPolicy.BLOCK);
+    }
 
+    /**
+     * Creates a publisher that may have a bounded queue.
+     * @param threadPoolSize The number of threads that publish the events.
+     * @param queueCapacity The maximum number of events waiting in the queue, or {@value #UNBOUNDED_QUEUE_CAPACITY}
+     *                      for an unbounded queue.
+     * @param topicQueueCapacities The maximum number of queued events, for each topic that should be limited. The
+     *                             capacities must be positive.
+     * @param overflowPolicy What to do with an event when the queue or the capacity of its topic is full.
+     */
     public AsyncMultithreadedEventPublisher(
-            @InjectProperty(value = EVENT_PUBLISHER_THREAD_POOL_SIZE_PROPERTY, defaultValue = "3") int threadPoolSize
+            int threadPoolSize,
+            int queueCapacity,
+            @NonNull Map<String, Integer> topicQueueCapacities,
+            @NonNull EventOverflowPolicy overflowPolicy
     ) {
-        this.executorService = Executors.newFixedThreadPool(threadPoolSize);
+        if(queueCapacity < 0) {
+            throw new IllegalArgumentException("Queue capacity can't be negative, but it was: " + queueCapacity);
+        }
+        topicQueueCapacities.forEach((topic, capacity) -> {
+            if(capacity < 1) {
+                throw new IllegalArgumentException("Queue capacity of topic '" + topic + "' must be positive, but it was: " + capacity);
+            }
+        });
+        BlockingQueue<Runnable> queue = queueCapacity == UNBOUNDED_QUEUE_CAPACITY
+                ? new LinkedBlockingQueue<>()
+                : new ArrayBlockingQueue<>(queueCapacity);
+        this.executorService = new ThreadPoolExecutor(threadPoolSize, threadPoolSize, 0, TimeUnit.MILLISECONDS, queue,
+                (task, executor) -> handleFullQueue((PublishTask) task));
+        this.executorService.prestartAllCoreThreads();
+        this.topicQueuePermits = topicQueueCapacities.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, entry -> new Semaphore(entry.getValue())));
+        this.overflowPolicy = overflowPolicy;
     }
 
     @Override
     public void publish(Event event, Subscription subscription) {
-        executorService.submit(() -> subscription.callback().accept(event.payload()));
+        var task = new PublishTask(event, subscription, topicQueuePermits.get(event.topic()));
+        if(task.queuePermits == null || acquireTopicQueuePermit(task)) {
+            executorService.execute(task);
+        }
+    }
+
+    /**
+     * @return False if the task must not be queued, because it was dropped or it was already run.
+     */
+    private boolean acquireTopicQueuePermit(PublishTask task) {
+        if(task.queuePermits.tryAcquire()) {
+            return true;
+        }
+        return switch (overflowPolicy) {
+            case BLOCK -> {
+                try {
+                    task.queuePermits.acquire();
+                    yield true;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    drop(task);
+                    yield false;
+                }
+            }
+            case DROP_NEWEST -> {
+                drop(task);
+                yield false;
+            }
+            case DROP_OLDEST -> {
+                if(dropOldestQueuedTask(task.event.topic())) {
+                    yield true; //the permit of the dropped task is taken over
+                }
+                if(task.queuePermits.tryAcquire()) {
+                    yield true; //no queued task of the topic, the workers took them and released their permits
+                }
+                drop(task);
+                yield false;
+            }
+            case CALLER_RUNS -> {
+                task.invokeCallback();
+                yield false;
+            }
+        };
+    }
+
+    private boolean dropOldestQueuedTask(String topic) {
+        for(Runnable queued : executorService.getQueue()) {
+            var queuedTask = (PublishTask) queued;
+            if(queuedTask.event.topic().equals(topic) && executorService.getQueue().remove(queuedTask)) {
+                drop(queuedTask);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void handleFullQueue(PublishTask task) {
+        if(executorService.isShutdown()) {
+            task.releaseQueuePermit();
+            drop(task);
+            return;
+        }
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                try {
+                    executorService.getQueue().put(task);
+                    if(executorService.isShutdown() && executorService.getQueue().remove(task)) {
+                        task.releaseQueuePermit(); //shut down while waiting, the task would never run
+                        drop(task);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    task.releaseQueuePermit();
+                    drop(task);
+                }
+            }
+            case DROP_NEWEST -> {
+                task.releaseQueuePermit();
+                drop(task);
+            }
+            case DROP_OLDEST -> {
+                if(executorService.getQueue().poll() instanceof PublishTask oldestTask) {
+                    oldestTask.releaseQueuePermit();
+                    drop(oldestTask);
+                }
+                executorService.execute(task);
+            }
+            case CALLER_RUNS -> task.run();
+        }
+    }
+
+    private void drop(PublishTask task) {
+        droppedEventCount.increment();
+        log.debug("Dropped event of topic '{}' to subscriber '{}', because the queue is full",
+                task.event.topic(), task.subscription.subscriptionId());
+    }
+
+    /**
+     * @return The number of events that were dropped, because the queue was full or the publisher was shut down.
+     */
+    @Override
+    public long getDroppedEventCount() {
+        return droppedEventCount.sum();
+    }
+
+    /**
+     * @return The number of events that are currently waiting in the queue.
+     */
+    @Override
+    public long getQueuedEventCount() {
+        return executorService.getQueue().size();
     }
 
     /**
      * Instruct this event publisher to shutdown its executor service and wait for all
      * publishes to complete.
      * @param millis The maximum time to wait for the executor service to shutdown in milliseconds.
+     * @return True if all published events were delivered.
      */
-    public void shutdown(long millis) {
+    @Override
+    public boolean shutdown(long millis) {
         try {
             executorService.shutdown();
-            executorService.awaitTermination(millis, TimeUnit.MILLISECONDS);
+            return executorService.awaitTermination(millis, TimeUnit.MILLISECONDS);
         } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
             log.error("Interrupted while waiting for executor service to shutdown", e);
+            return false;
+        }
+    }
+
+    /**
+     * Publishes an event to one subscriber. If its topic has a queue capacity, it holds a permit while it is queued.
+     */
+    private static final class PublishTask implements Runnable {
+
+        private final Event event;
+        private final Subscription subscription;
+        private final Semaphore queuePermits;
+
+        private PublishTask(Event event, Subscription subscription, Semaphore queuePermits) {
+            this.event = event;
+            this.subscription = subscription;
+            this.queuePermits = queuePermits;
+        }
+
+        @Override
+        public void run() {
+            releaseQueuePermit(); //no longer queued
+            invokeCallback();
+        }
+
+        private void releaseQueuePermit() {
+            if(queuePermits != null) {
+                queuePermits.release();
+            }
+        }
+
+        private void invokeCallback() {
+            CallbackInvoker.invokeCallback(event, subscription);
         }
     }
 }
@@ -0,0 +1,27 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.events.publisher;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.tframework.core.events.Event;
+import org.tframework.core.events.Subscription;
+
+/**
+ * Invokes the callbacks for the asynchronous {@link EventPublisher}s. The callbacks run on the threads of the
+ * publishers, so the exceptions they throw can't reach the event manager: they are logged instead.
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class CallbackInvoker {
+
+    static void invokeCallback(Event event, Subscription subscription) {
+        try {
+            subscription.callback().accept(event.payload());
+        } catch (Exception e) {
+            log.error("Failed to publish event to topic '{}' with payload '{}' to subscriber '{}' due to an exception thrown from the callback",
+                    event.topic(), event.payload(), subscription.subscriptionId(), e);
+        }
+    }
+
+}
@@ -0,0 +1,31 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.events.publisher;
+
+/**
+ * Decides what the {@link AsyncMultithreadedEventPublisher} does with an event, when its queue is full.
+ * @see EventPublishersFactory
+ */
+public enum EventOverflowPolicy {
+
+    /**
+     * The publishing thread waits until there is space in the queue. This is the default: no events are lost,
+     * but a slow subscriber slows down the publishers too.
+     */
+    BLOCK,
+
+    /**
+     * The event that is being published is dropped.
+     */
+    DROP_NEWEST,
+
+    /**
+     * The event that has been waiting in the queue the longest is dropped, to make space for the new event.
+     */
+    DROP_OLDEST,
+
+    /**
+     * The callback is invoked on the publishing thread, which slows down the publisher without dropping the event.
+     */
+    CALLER_RUNS
+
+}
@@ -16,4 +16,30 @@ public interface EventPublisher {
      */
     void publish(Event event, Subscription subscription);
 
+    /**
+     * Stops accepting events, and waits for the published events to be delivered. This is called when the
+     * application stops. Publishers that deliver the events on the publishing thread have nothing to wait for.
+     * @param millis The maximum time to wait for the published events in milliseconds.
+     * @return True if all published events were delivered.
+     */
+    default boolean shutdown(long millis) {
+        return true;
+    }
+
+    /**
+     * @return The number of events that were dropped instead of being delivered. Publishers that never drop
+     * events return 0.
+     */
+    default long getDroppedEventCount() {
+        return 0;
+    }
+
+    /**
+     * @return The number of events that are waiting to be delivered. Publishers that don't queue the events
+     * return 0.
+     */
+    default long getQueuedEventCount() {
+        return 0;
+    }
+
 }
@@ -0,0 +1,25 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.events.publisher;
+
+import lombok.RequiredArgsConstructor;
+import org.tframework.core.elements.annotations.Element;
+import org.tframework.core.properties.PropertiesContainer;
+
+/**
+ * Provides the {@link EventPublisher} of the event manager. The publisher is selected with properties, see
+ * {@link EventPublishersFactory}.
+ */
+@Element
+@RequiredArgsConstructor
+public class EventPublisherConfig {
+
+    public static final String EVENT_PUBLISHER_ELEMENT_NAME = "eventPublisher";
+
+    private final PropertiesContainer propertiesContainer;
+
+    @Element(name = EVENT_PUBLISHER_ELEMENT_NAME)
+    public EventPublisher provideEventPublisher() {
+        return EventPublishersFactory.createPublisherFromProperties(propertiesContainer);
+    }
+
+}
@@ -0,0 +1,38 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.events.publisher;
+
+/**
+ * Selects the {@link EventPublisher} that the event manager uses.
+ * @see EventPublishersFactory
+ */
+public enum EventPublisherType {
+
+    /**
+     * The {@link SimpleEventPublisher}: callbacks are invoked on the publishing thread.
+     */
+    SIMPLE,
+
+    /**
+     * The {@link AsyncMultithreadedEventPublisher}: callbacks are invoked on a fixed pool of threads. This is the default.
+     */
+    ASYNC_MULTITHREADED,
+
+    /**
+     * The {@link VirtualThreadEventPublisher}: each callback is invoked on a new virtual thread, optionally with
+     * per-topic concurrency limits. Recommended when the callbacks block, for example on I/O.
+     */
+    VIRTUAL_THREAD,
+
+    /**
+     * The {@link OrderedEventPublisher}: the events are delivered to each subscriber in the order they were published,
+     * while different subscribers run in parallel.
+     */
+    ORDERED,
+
+    /**
+     * The {@link RingBufferEventPublisher}: the events are written into a ring buffer, and delivered by a single consumer
+     * thread. Recommended for topics with a high rate of events, with quick callbacks.
+     */
+    RING_BUFFER
+
+}
@@ -0,0 +1,208 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.events.publisher;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.tframework.core.properties.ListPropertyValue;
+import org.tframework.core.properties.PropertiesContainer;
+import org.tframework.core.properties.PropertyValue;
+import org.tframework.core.properties.SinglePropertyValue;
+import org.tframework.core.properties.converters.DurationPropertyConverter;
+import org.tframework.core.properties.converters.EnumPropertyConverter;
+import org.tframework.core.properties.converters.IntegerPropertyConverter;
+import org.tframework.core.properties.converters.PropertyConversionException;
+import org.tframework.core.properties.converters.StringListPropertyConverter;
+import org.tframework.core.utils.Constants;
+
+/**
+ * Utilities to create {@link EventPublisher}s. The publisher is selected with the following properties:
+ * <ul>
+ *     <li>
+ *         {@value #EVENT_PUBLISHER_PROPERTY}: the {@link EventPublisherType}, case-insensitive.
+ *         The default is {@code async-multithreaded}.
+ *     </li>
+ *     <li>
+ *         {@value AsyncMultithreadedEventPublisher#EVENT_PUBLISHER_THREAD_POOL_SIZE_PROPERTY}: the number of threads,
+ *         only used with the {@link EventPublisherType#ASYNC_MULTITHREADED} type. The default is 3.
+ *     </li>
+ *     <li>
+ *         {@value #QUEUE_CAPACITY_PROPERTY}: the maximum number of queued events, only used with the
+ *         {@link EventPublisherType#ASYNC_MULTITHREADED} type. The default is 0, which means unbounded.
+ *     </li>
+ *     <li>
+ *         {@value #TOPIC_QUEUE_CAPACITIES_PROPERTY}: a list of {@code topic:capacity} elements, only used with the
+ *         {@link EventPublisherType#ASYNC_MULTITHREADED} type. The default is no per-topic capacities.
+ *     </li>
+ *     <li>
+ *         {@value #OVERFLOW_POLICY_PROPERTY}: the {@link EventOverflowPolicy} used when a queue capacity is reached,
+ *         case-insensitive. The default is {@code block}.
+ *     </li>
+ *     <li>
+ *         {@value #ORDERED_LANE_COUNT_PROPERTY}: the number of lanes, only used with the
+ *         {@link EventPublisherType#ORDERED} type. The default is {@value #DEFAULT_ORDERED_LANE_COUNT}.
+ *     </li>
+ *     <li>
+ *         {@value #TOPIC_CONCURRENCY_LIMITS_PROPERTY}: a list of {@code topic:limit} elements, only used with the
+ *         {@link EventPublisherType#VIRTUAL_THREAD} type. The default is no limits.
+ *     </li>
+ *     <li>
+ *         {@value #RING_BUFFER_TOPICS_PROPERTY}: the topics that are published with a {@link RingBufferEventPublisher},
+ *         whichever type is selected. The default is no topics.
+ *     </li>
+ *     <li>
+ *         {@value #RING_BUFFER_CAPACITY_PROPERTY}: the number of slots of the ring buffer, a power of two. The default
+ *         is {@value #DEFAULT_RING_BUFFER_CAPACITY}.
+ *     </li>
+ *     <li>
+ *         {@value #RING_BUFFER_WAIT_STRATEGY_PROPERTY}: the {@link RingBufferWaitStrategy}, case-insensitive. The default
+ *         is {@code park}.
+ *     </li>
+ * </ul>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class EventPublishersFactory {
+
+    public static final String EVENT_PUBLISHER_PROPERTY = Constants.TFRAMEWORK_PROPERTIES_PREFIX + ".events.publisher";
+    private static final SinglePropertyValue EVENT_PUBLISHER_DEFAULT_VALUE = new SinglePropertyValue("async-multithreaded");
+
+    private static final SinglePropertyValue THREAD_POOL_SIZE_DEFAULT_VALUE = new SinglePropertyValue("3");
+
+    public static final String QUEUE_CAPACITY_PROPERTY = Constants.TFRAMEWORK_PROPERTIES_PREFIX + ".events.queue-capacity";
+    private static final SinglePropertyValue QUEUE_CAPACITY_DEFAULT_VALUE =
+            new SinglePropertyValue(String.valueOf(AsyncMultithreadedEventPublisher.UNBOUNDED_QUEUE_CAPACITY));
+
+    public static final String TOPIC_QUEUE_CAPACITIES_PROPERTY = Constants.TFRAMEWORK_PROPERTIES_PREFIX + ".events.topic-queue-capacities";
+
+    public static final String OVERFLOW_POLICY_PROPERTY = Constants.TFRAMEWORK_PROPERTIES_PREFIX + ".events.overflow-policy";
+    private static final SinglePropertyValue OVERFLOW_POLICY_DEFAULT_VALUE = new SinglePropertyValue("block");
+
+    public static final String ORDERED_LANE_COUNT_PROPERTY = Constants.TFRAMEWORK_PROPERTIES_PREFIX + ".events.ordered-lane-count";
+    public static final int DEFAULT_ORDERED_LANE_COUNT = 16;
+    private static final SinglePropertyValue ORDERED_LANE_COUNT_DEFAULT_VALUE =
+            new SinglePropertyValue(String.valueOf(DEFAULT_ORDERED_LANE_COUNT));
+
+    public static final String TOPIC_CONCURRENCY_LIMITS_PROPERTY = Constants.TFRAMEWORK_PROPERTIES_PREFIX + ".events.topic-concurrency-limits";
+
+    public static final String RING_BUFFER_TOPICS_PROPERTY = Constants.TFRAMEWORK_PROPERTIES_PREFIX + ".events.ring-buffer-topics";
+    private static final ListPropertyValue RING_BUFFER_TOPICS_DEFAULT_VALUE = new ListPropertyValue(List.of());
+
+    public static final String RING_BUFFER_CAPACITY_PROPERTY = Constants.TFRAMEWORK_PROPERTIES_PREFIX + ".events.ring-buffer-capacity";
+    public static final int DEFAULT_RING_BUFFER_CAPACITY = 1024;
+    private static final SinglePropertyValue RING_BUFFER_CAPACITY_DEFAULT_VALUE =
+            new SinglePropertyValue(String.valueOf(DEFAULT_RING_BUFFER_CAPACITY));
+
+    public static final String RING_BUFFER_WAIT_STRATEGY_PROPERTY = Constants.TFRAMEWORK_PROPERTIES_PREFIX + ".events.ring-buffer-wait-strategy";
+    private static final SinglePropertyValue RING_BUFFER_WAIT_STRATEGY_DEFAULT_VALUE = new SinglePropertyValue("park");
+
+    public static final String SHUTDOWN_TIMEOUT_PROPERTY = Constants.TFRAMEWORK_PROPERTIES_PREFIX + ".events.shutdown-timeout";
+    private static final SinglePropertyValue SHUTDOWN_TIMEOUT_DEFAULT_VALUE = new SinglePropertyValue("5s");
+
+    private static final ListPropertyValue TOPIC_LIMITS_DEFAULT_VALUE = new ListPropertyValue(List.of());
+
+    private static final char TOPIC_LIMIT_SEPARATOR = ':';
+
+    /**
+     * Creates an {@link EventPublisher} based on the event publisher properties.
+     * @param propertiesContainer The {@link PropertiesContainer} to read the properties from.
+     * @throws PropertyConversionException If the properties have invalid values.
+     */
+    public static EventPublisher createPublisherFromProperties(PropertiesContainer propertiesContainer) {
+        var typeProperty = propertiesContainer.getPropertyValueObject(EVENT_PUBLISHER_PROPERTY, EVENT_PUBLISHER_DEFAULT_VALUE);
+        var type = new EnumPropertyConverter<>(EventPublisherType.class).convert(typeProperty);
+        var ringBufferTopicsProperty = propertiesContainer.getPropertyValueObject(RING_BUFFER_TOPICS_PROPERTY, RING_BUFFER_TOPICS_DEFAULT_VALUE);
+        var ringBufferTopics = new StringListPropertyConverter().convert(ringBufferTopicsProperty);
+        if(type == EventPublisherType.RING_BUFFER || ringBufferTopics.isEmpty()) {
+            return createPublisher(type, propertiesContainer);
+        }
+        return new TopicRoutingEventPublisher(
+                Set.copyOf(ringBufferTopics),
+                createRingBufferPublisher(propertiesContainer),
+                createPublisher(type, propertiesContainer)
+        );
+    }
+
+    /**
+     * Reads how long the application waits for the published events to be delivered, when it stops. This is the
+     * {@value #SHUTDOWN_TIMEOUT_PROPERTY} property, the default is 5 seconds.
+     * @throws PropertyConversionException If the property has an invalid value.
+     */
+    public static Duration readShutdownTimeout(PropertiesContainer propertiesContainer) {
+        var shutdownTimeoutProperty = propertiesContainer.getPropertyValueObject(SHUTDOWN_TIMEOUT_PROPERTY, SHUTDOWN_TIMEOUT_DEFAULT_VALUE);
+        return new DurationPropertyConverter().convert(shutdownTimeoutProperty);
+    }
+
+    private static EventPublisher createPublisher(EventPublisherType type, PropertiesContainer propertiesContainer) {
+        return switch (type) {
+            case SIMPLE -> new SimpleEventPublisher();
+            case ASYNC_MULTITHREADED -> createAsyncMultithreadedPublisher(propertiesContainer);
+            case VIRTUAL_THREAD -> new VirtualThreadEventPublisher(readTopicLimits(propertiesContainer, TOPIC_CONCURRENCY_LIMITS_PROPERTY));
+            case ORDERED -> {
+                var laneCountProperty = propertiesContainer.getPropertyValueObject(
+                        ORDERED_LANE_COUNT_PROPERTY,
+                        ORDERED_LANE_COUNT_DEFAULT_VALUE
+                );
+                yield new OrderedEventPublisher(new IntegerPropertyConverter().convert(laneCountProperty));
+            }
+            case RING_BUFFER -> createRingBufferPublisher(propertiesContainer);
+        };
+    }
+
+    private static RingBufferEventPublisher createRingBufferPublisher(PropertiesContainer propertiesContainer) {
+        var capacityProperty = propertiesContainer.getPropertyValueObject(RING_BUFFER_CAPACITY_PROPERTY, RING_BUFFER_CAPACITY_DEFAULT_VALUE);
+        var waitStrategyProperty = propertiesContainer.getPropertyValueObject(
+                RING_BUFFER_WAIT_STRATEGY_PROPERTY,
+                RING_BUFFER_WAIT_STRATEGY_DEFAULT_VALUE
+        );
+        return new RingBufferEventPublisher(
+                new IntegerPropertyConverter().convert(capacityProperty),
+                new EnumPropertyConverter<>(RingBufferWaitStrategy.class).convert(waitStrategyProperty)
+        );
+    }
+
+    private static AsyncMultithreadedEventPublisher createAsyncMultithreadedPublisher(PropertiesContainer propertiesContainer) {
+        var threadPoolSizeProperty = propertiesContainer.getPropertyValueObject(
+                AsyncMultithreadedEventPublisher.EVENT_PUBLISHER_THREAD_POOL_SIZE_PROPERTY,
+                THREAD_POOL_SIZE_DEFAULT_VALUE
+        );
+        var queueCapacityProperty = propertiesContainer.getPropertyValueObject(QUEUE_CAPACITY_PROPERTY, QUEUE_CAPACITY_DEFAULT_VALUE);
+        var overflowPolicyProperty = propertiesContainer.getPropertyValueObject(OVERFLOW_POLICY_PROPERTY, OVERFLOW_POLICY_DEFAULT_VALUE);
+        return new AsyncMultithreadedEventPublisher(
+                new IntegerPropertyConverter().convert(threadPoolSizeProperty),
+                new IntegerPropertyConverter().convert(queueCapacityProperty),
+                readTopicLimits(propertiesContainer, TOPIC_QUEUE_CAPACITIES_PROPERTY),
+                new EnumPropertyConverter<>(EventOverflowPolicy.class).convert(overflowPolicyProperty)
+        );
+    }
+
+    private static Map<String, Integer> readTopicLimits(PropertiesContainer propertiesContainer, String propertyName) {
+        return parseTopicLimits(propertiesContainer.getPropertyValueObject(propertyName, TOPIC_LIMITS_DEFAULT_VALUE));
+    }
+
+    /**
+     * Parses the {@code topic:limit} elements of the given property value. The topic is separated from the limit
+     * at the last colon, so the topic may contain colons as well.
+     * @throws PropertyConversionException If an element is not in the {@code topic:limit} format.
+     */
+    static Map<String, Integer> parseTopicLimits(PropertyValue limitsProperty) {
+        Map<String, Integer> topicLimits = new LinkedHashMap<>();
+        for(String topicLimit : new StringListPropertyConverter().convert(limitsProperty)) {
+            int separatorIndex = topicLimit == null ? -1 : topicLimit.lastIndexOf(TOPIC_LIMIT_SEPARATOR);
+            if(separatorIndex < 1) {
+                throw PropertyConversionException.builder()
+                        .propertyValue(limitsProperty)
+                        .type(Map.class)
+                        .build();
+            }
+            String topic = topicLimit.substring(0, separatorIndex).trim();
+            var limit = new SinglePropertyValue(topicLimit.substring(separatorIndex + 1).trim());
+            topicLimits.put(topic, new IntegerPropertyConverter().convert(limit));
+        }
+        return topicLimits;
+    }
+
+}
@@ -0,0 +1,19 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.events.publisher;
+
+/**
+ * A payload that tells the {@link OrderedEventPublisher} which of its events must be delivered in order. Events with
+ * equal ordering keys are delivered to a subscriber in the order they were published, while events with different keys
+ * may be delivered in parallel, even to the same subscriber. The callbacks that receive these payloads may therefore be
+ * invoked concurrently, and must be thread safe. Payloads that don't implement this interface are delivered to a
+ * subscriber in order, one at a time.
+ */
+public interface OrderedEventPayload {
+
+    /**
+     * @return The key that groups the events which must be delivered in order, such as the ID of an entity.
+     * It must have consistent {@link Object#hashCode()} and {@link Object#equals(Object)} methods.
+     */
+    Object orderingKey();
+
+}
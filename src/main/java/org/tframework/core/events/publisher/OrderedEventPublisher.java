@@ -0,0 +1,100 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.events.publisher;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.tframework.core.events.Event;
+import org.tframework.core.events.Subscription;
+
+/**
+ * This {@link EventPublisher} delivers the events to each subscriber in the order they were published. It has a
+ * fixed number of lanes, each of them delivers its events one at a time, on its own virtual thread. Each subscription
+ * is pinned to a lane, so its callback is never invoked concurrently, and the subscribers don't need to synchronize.
+ * Different subscriptions are spread across the lanes, so they still run in parallel.
+ * <p>
+ * If the payload is an {@link OrderedEventPayload}, its ordering key is used together with the subscription to select
+ * the lane. Ordering and non-concurrency then only hold per subscription and key: events with different keys may be
+ * delivered to the same subscriber on several lanes at once, so a callback that receives such payloads must be
+ * thread safe.
+ * <p>
+ * Subscriptions that share a lane wait for each other, so a slow subscriber delays the others on its lane. More
+ * lanes make this less likely.
+ */
+@Slf4j
+public class OrderedEventPublisher implements EventPublisher {
+
+    private final ExecutorService[] lanes;
+
+    /**
+     * @param laneCount The number of lanes, must be positive.
+     */
+    public OrderedEventPublisher(int laneCount) {
+        if(laneCount < 1) {
+            throw new IllegalArgumentException("Lane count must be positive, but it was: " + laneCount);
+        }
+        ThreadFactory laneThreadFactory = Thread.ofVirtual()
+                .name("tframework-event-lane-", 0)
+                .factory();
+        this.lanes = new ExecutorService[laneCount];
+        for(int i = 0; i < laneCount; i++) {
+            lanes[i] = Executors.newSingleThreadExecutor(laneThreadFactory);
+        }
+    }
+
+    @Override
+    public void publish(Event event, Subscription subscription) {
+        lanes[selectLane(event, subscription)].execute(() -> CallbackInvoker.invokeCallback(event, subscription));
+    }
+
+    int selectLane(Event event, Subscription subscription) {
+        int hash = subscription.subscriptionId().hashCode();
+        if(event.payload() instanceof OrderedEventPayload orderedPayload) {
+            hash = 31 * hash + orderedPayload.orderingKey().hashCode();
+        }
+        hash ^= (hash >>> 16); //spread the high bits, like HashMap does
+        return Math.floorMod(hash, lanes.length);
+    }
+
+    /**
+     * @return The number of lanes of this publisher.
+     */
+    public int getLaneCount() {
+        return lanes.length;
+    }
+
+    /**
+     * Instruct this event publisher to stop accepting events, and wait for the published events to be delivered.
+     * The callbacks that are still running when the time is up are interrupted, and the events that are still waiting
+     * in the lanes are not delivered.
+     * @param millis The maximum time to wait for the published events in milliseconds.
+     * @return True if all published events were delivered.
+     */
+    @Override
+    public boolean shutdown(long millis) {
+        for(ExecutorService lane : lanes) {
+            lane.shutdown();
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        boolean delivered = true;
+        try {
+            for(ExecutorService lane : lanes) {
+                delivered &= lane.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Interrupted while waiting for the published events to be delivered", e);
+            delivered = false;
+        }
+        if(!delivered) {
+            log.warn("Published events were not delivered in {} ms, the remaining callbacks are interrupted", millis);
+            for(ExecutorService lane : lanes) {
+                lane.shutdownNow();
+            }
+        }
+        return delivered;
+    }
+
+}
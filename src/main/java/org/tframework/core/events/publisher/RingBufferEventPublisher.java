@@ -0,0 +1,202 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.events.publisher;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.tframework.core.events.Event;
+import org.tframework.core.events.Subscription;
+
+/**
+ * This {@link EventPublisher} is meant for topics that publish at a high rate, such as telemetry. The events are
+ * written into a ring buffer of preallocated slots, and a single consumer thread delivers them in batches. Unlike the
+ * executor based publishers, no task is allocated per subscriber, and there is no handoff through a locked queue:
+ * publishing claims a slot with one atomic increment. The callbacks are invoked one at a time, in the order the slots
+ * were claimed, so slow callbacks should not be subscribed to the topics of this publisher.
+ * <p>
+ * When the ring buffer is full, the publishing threads wait until the consumer frees a slot. How the threads wait is
+ * selected with the {@link RingBufferWaitStrategy}. Events that are published by a callback of this publisher are
+ * delivered immediately, on the consumer thread.
+ */
+@Slf4j
+public final class RingBufferEventPublisher implements EventPublisher {
+
+    private static final long NOT_PUBLISHED = -1;
+    private static final long PRODUCER_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+    private static final long CONSUMER_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final int mask;
+    private final Event[] slotEvents;
+    private final Subscription[] slotSubscriptions;
+    private final AtomicLongArray publishedSequences;
+    private final RingBufferWaitStrategy waitStrategy;
+
+    private final AtomicLong claimedSequence = new AtomicLong(-1);
+    private final AtomicLong consumedSequence = new AtomicLong(-1);
+    private final AtomicInteger activePublishers = new AtomicInteger();
+    private final LongAdder droppedEventCount = new LongAdder();
+    private final Thread consumerThread;
+
+    private volatile boolean consumerParked;
+    private volatile boolean closed;
+
+    /**
+     * @param capacity The number of slots in the ring buffer, must be a power of two.
+     * @param waitStrategy How the threads wait, when there are no events or when the ring buffer is full.
+     */
+    public RingBufferEventPublisher(int capacity, @NonNull RingBufferWaitStrategy waitStrategy) {
+        if(capacity < 1 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Ring buffer capacity must be a power of two, but it was: " + capacity);
+        }
+        this.mask = capacity - 1;
+        this.slotEvents = new Event[capacity];
+        this.slotSubscriptions = new Subscription[capacity];
+        this.publishedSequences = new AtomicLongArray(capacity);
+        for(int i = 0; i < capacity; i++) {
+            publishedSequences.set(i, NOT_PUBLISHED);
+        }
+        this.waitStrategy = waitStrategy;
+        this.consumerThread = Thread.ofPlatform()
+                .name("tframework-event-ring-buffer")
+                .daemon(true)
+                .start(this::consumeEvents);
+    }
+
+    @Override
+    public void publish(Event event, Subscription subscription) {
+        if(Thread.currentThread() == consumerThread) {
+            //published by a callback: waiting for a free slot would wait for this thread itself
+            CallbackInvoker.invokeCallback(event, subscription);
+            return;
+        }
+        activePublishers.incrementAndGet();
+        try {
+            if(closed) {
+                droppedEventCount.increment();
+                log.debug("Dropped event of topic '{}' to subscriber '{}', because the ring buffer is closed",
+                        event.topic(), subscription.subscriptionId());
+                return;
+            }
+            long sequence = claimedSequence.incrementAndGet();
+            long wrapSequence = sequence - slotEvents.length;
+            while(consumedSequence.get() < wrapSequence) {
+                waitForFreeSlot(); //the slot is still used by an event that was published one round earlier
+            }
+            int slot = (int) sequence & mask;
+            slotEvents[slot] = event;
+            slotSubscriptions[slot] = subscription;
+            publishedSequences.set(slot, sequence); //makes the slot visible to the consumer
+            if(consumerParked) {
+                LockSupport.unpark(consumerThread);
+            }
+        } finally {
+            activePublishers.decrementAndGet();
+        }
+    }
+
+    private void waitForFreeSlot() {
+        switch (waitStrategy) {
+            case BUSY_SPIN -> Thread.onSpinWait();
+            case YIELD -> Thread.yield();
+            case PARK -> LockSupport.parkNanos(PRODUCER_PARK_NANOS);
+        }
+    }
+
+    private void consumeEvents() {
+        long nextSequence = 0;
+        while(true) {
+            long lastAvailableSequence = findLastAvailableSequence(nextSequence);
+            if(lastAvailableSequence >= nextSequence) {
+                deliverBatch(nextSequence, lastAvailableSequence);
+                nextSequence = lastAvailableSequence + 1;
+            } else if(closed && activePublishers.get() == 0 && claimedSequence.get() < nextSequence) {
+                log.debug("Ring buffer is closed and all published events were delivered");
+                return;
+            } else {
+                waitForEvents(nextSequence);
+            }
+        }
+    }
+
+    /**
+     * @return The last sequence of the consecutively published slots, starting from the given sequence. If the slot of
+     * the given sequence is not published yet, this is smaller than the given sequence.
+     */
+    private long findLastAvailableSequence(long nextSequence) {
+        long sequence = nextSequence;
+        while(sequence - nextSequence < slotEvents.length && publishedSequences.get((int) sequence & mask) == sequence) {
+            sequence++;
+        }
+        return sequence - 1;
+    }
+
+    private void deliverBatch(long firstSequence, long lastSequence) {
+        for(long sequence = firstSequence; sequence <= lastSequence; sequence++) {
+            int slot = (int) sequence & mask;
+            CallbackInvoker.invokeCallback(slotEvents[slot], slotSubscriptions[slot]);
+            slotEvents[slot] = null; //so that the payload can be garbage collected
+            slotSubscriptions[slot] = null;
+        }
+        consumedSequence.set(lastSequence); //frees the slots of the whole batch
+    }
+
+    private void waitForEvents(long nextSequence) {
+        switch (waitStrategy) {
+            case BUSY_SPIN -> Thread.onSpinWait();
+            case YIELD -> Thread.yield();
+            case PARK -> {
+                consumerParked = true;
+                if(publishedSequences.get((int) nextSequence & mask) != nextSequence && !closed) {
+                    LockSupport.parkNanos(this, CONSUMER_PARK_NANOS);
+                }
+                consumerParked = false;
+            }
+        }
+    }
+
+    /**
+     * @return The number of events that were dropped, because they were published after shutdown.
+     */
+    @Override
+    public long getDroppedEventCount() {
+        return droppedEventCount.sum();
+    }
+
+    /**
+     * @return The number of events that are waiting in the ring buffer.
+     */
+    @Override
+    public long getQueuedEventCount() {
+        return Math.max(0, claimedSequence.get() - consumedSequence.get());
+    }
+
+    /**
+     * Instruct this event publisher to stop accepting events, and wait for the published events to be delivered.
+     * Events published after this are dropped.
+     * @param millis The maximum time to wait for the published events in milliseconds.
+     * @return True if all published events were delivered.
+     */
+    @Override
+    public boolean shutdown(long millis) {
+        closed = true;
+        LockSupport.unpark(consumerThread);
+        try {
+            if(consumerThread.join(Duration.ofMillis(millis))) {
+                return true;
+            }
+            log.warn("Published events were not delivered in {} ms, {} events are still in the ring buffer",
+                    millis, getQueuedEventCount());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Interrupted while waiting for the published events to be delivered", e);
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,30 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.events.publisher;
+
+/**
+ * Decides how the threads of the {@link RingBufferEventPublisher} wait: the consumer thread when there are no
+ * events to deliver, and the publishing threads when the ring buffer is full.
+ * @see EventPublishersFactory
+ */
+public enum RingBufferWaitStrategy {
+
+    /**
+     * The threads spin on the CPU. This has the lowest latency, but the consumer thread keeps a CPU core busy even
+     * when there are no events, so it should only be used when a core can be dedicated to it.
+     */
+    BUSY_SPIN,
+
+    /**
+     * The threads give up the CPU to other threads, but remain ready to run. The latency is low, and the CPU is
+     * shared, but the consumer thread still uses CPU time when there are no events.
+     */
+    YIELD,
+
+    /**
+     * The consumer thread is parked until an event is published, and publishing threads park for short periods while
+     * the ring buffer is full. This does not use CPU time when there are no events, but waking up the consumer adds
+     * latency. This is the default.
+     */
+    PARK
+
+}
@@ -0,0 +1,72 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.events.publisher;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import lombok.NonNull;
+import org.tframework.core.events.Event;
+import org.tframework.core.events.Subscription;
+
+/**
+ * This {@link EventPublisher} sends the events of some topics to a different publisher than the others. It is used
+ * to let high rate topics opt in to the {@link RingBufferEventPublisher}, while the other topics are published as
+ * usual. Shutting down this publisher shuts down both publishers, and its metrics are the sums of their metrics.
+ */
+@Getter
+public class TopicRoutingEventPublisher implements EventPublisher {
+
+    private final Set<String> routedTopics;
+    private final EventPublisher routedTopicPublisher;
+    private final EventPublisher defaultPublisher;
+
+    /**
+     * @param routedTopics The topics that are published with the routed topic publisher.
+     * @param routedTopicPublisher Publishes the events of the routed topics.
+     * @param defaultPublisher Publishes the events of all other topics.
+     */
+    public TopicRoutingEventPublisher(
+            @NonNull Set<String> routedTopics,
+            @NonNull EventPublisher routedTopicPublisher,
+            @NonNull EventPublisher defaultPublisher
+    ) {
+        this.routedTopics = Set.copyOf(routedTopics);
+        this.routedTopicPublisher = routedTopicPublisher;
+        this.defaultPublisher = defaultPublisher;
+    }
+
+    @Override
+    public void publish(Event event, Subscription subscription) {
+        if(routedTopics.contains(event.topic())) {
+            routedTopicPublisher.publish(event, subscription);
+        } else {
+            defaultPublisher.publish(event, subscription);
+        }
+    }
+
+    /**
+     * Shuts down both publishers. They share the time to wait: the default publisher may wait for as long as
+     * the routed topic publisher did not.
+     * @param millis The maximum time to wait for the published events in milliseconds.
+     * @return True if both publishers delivered all published events.
+     */
+    @Override
+    public boolean shutdown(long millis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        boolean routedTopicsDelivered = routedTopicPublisher.shutdown(millis);
+        long remainingMillis = Math.max(0, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+        boolean otherTopicsDelivered = defaultPublisher.shutdown(remainingMillis);
+        return routedTopicsDelivered && otherTopicsDelivered;
+    }
+
+    @Override
+    public long getDroppedEventCount() {
+        return routedTopicPublisher.getDroppedEventCount() + defaultPublisher.getDroppedEventCount();
+    }
+
+    @Override
+    public long getQueuedEventCount() {
+        return routedTopicPublisher.getQueuedEventCount() + defaultPublisher.getQueuedEventCount();
+    }
+
+}
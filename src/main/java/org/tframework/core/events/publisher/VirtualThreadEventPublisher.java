@@ -0,0 +1,101 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.events.publisher;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.tframework.core.events.Event;
+import org.tframework.core.events.Subscription;
+
+/**
+ * This {@link EventPublisher} invokes each callback on a new virtual thread. Unlike the
+ * {@link AsyncMultithreadedEventPublisher}, a callback that blocks (for example on I/O) does not hold up the events
+ * of other topics, because there is no small pool of threads to wait for. The number of callbacks that may run at the
+ * same time can be limited per topic: the callbacks of a limited topic wait for a permit on their own virtual thread,
+ * so they never block the publishing thread. Topics without a limit are not restricted.
+ */
+@Slf4j
+public class VirtualThreadEventPublisher implements EventPublisher {
+
+    private final ExecutorService executorService;
+    private final Map<String, Semaphore> topicSemaphores;
+
+    /**
+     * Creates a publisher without concurrency limits.
+     */
+    public VirtualThreadEventPublisher() {
+        this(Map.of());
+    }
+
+    /**
+     * Creates a publisher with concurrency limits.
+     * @param topicConcurrencyLimits The maximum number of callbacks that may run at the same time, for each topic
+     *                               that should be limited. The limits must be positive.
+     */
+    public VirtualThreadEventPublisher(@NonNull Map<String, Integer> topicConcurrencyLimits) {
+        topicConcurrencyLimits.forEach((topic, limit) -> {
+            if(limit < 1) {
+                throw new IllegalArgumentException("Concurrency limit of topic '" + topic + "' must be positive, but it was: " + limit);
+            }
+        });
+        this.topicSemaphores = topicConcurrencyLimits.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, entry -> new Semaphore(entry.getValue(), true)));
+        this.executorService = Executors.newThreadPerTaskExecutor(Thread.ofVirtual()
+                .name("tframework-event-publisher-", 0)
+                .factory());
+    }
+
+    @Override
+    public void publish(Event event, Subscription subscription) {
+        Semaphore semaphore = topicSemaphores.get(event.topic());
+        if(semaphore == null) {
+            executorService.execute(() -> CallbackInvoker.invokeCallback(event, subscription));
+        } else {
+            executorService.execute(() -> invokeCallbackWithPermit(event, subscription, semaphore));
+        }
+    }
+
+    private void invokeCallbackWithPermit(Event event, Subscription subscription, Semaphore semaphore) {
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while waiting to publish event to topic '{}' to subscriber '{}', the event is dropped",
+                    event.topic(), subscription.subscriptionId());
+            return;
+        }
+        try {
+            CallbackInvoker.invokeCallback(event, subscription);
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    /**
+     * Instruct this event publisher to stop accepting events, and wait for the published events to be delivered.
+     * The callbacks that are still running when the time is up are interrupted.
+     * @param millis The maximum time to wait for the published events in milliseconds.
+     * @return True if all published events were delivered, false if some callbacks had to be interrupted.
+     */
+    @Override
+    public boolean shutdown(long millis) {
+        executorService.shutdown();
+        try {
+            if(executorService.awaitTermination(millis, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+            log.warn("Published events were not delivered in {} ms, the remaining callbacks are interrupted", millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Interrupted while waiting for the published events to be delivered", e);
+        }
+        executorService.shutdownNow();
+        return false;
+    }
+
+}
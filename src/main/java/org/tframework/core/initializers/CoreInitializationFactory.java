@@ -24,7 +24,7 @@ public final class CoreInitializationFactory {
                 createProfilesCoreInitializer(),
                 createPropertiesCoreInitializer(),
                 createDependencyInjectionCoreInitializer(),
-                AnnotationScannersFactory.createComposedAnnotationScanner()
+                AnnotationScannersFactory.sharedCachingAnnotationScanner()
         );
     }
 
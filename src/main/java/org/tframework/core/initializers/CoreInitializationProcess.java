@@ -2,6 +2,7 @@
 package org.tframework.core.initializers;
 
 import java.time.Instant;
+import java.util.Optional;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,10 +14,12 @@ import org.tframework.core.elements.ElementsInitializationInput;
 import org.tframework.core.elements.PreConstructedElementData;
 import org.tframework.core.events.CoreEvents;
 import org.tframework.core.events.EventManager;
+import org.tframework.core.events.publisher.EventPublishersFactory;
 import org.tframework.core.profiles.ProfileInitializationInput;
 import org.tframework.core.profiles.ProfilesContainer;
 import org.tframework.core.properties.PropertiesContainer;
 import org.tframework.core.properties.PropertiesInitializationInput;
+import org.tframework.core.properties.PropertyFileWatcher;
 import org.tframework.core.reflection.annotations.AnnotationScanner;
 import org.tframework.core.utils.TimerUtils;
 
@@ -58,7 +61,11 @@ public class CoreInitializationProcess {
             ProfilesContainer profilesContainer = initProfiles(coreInput);
             application.setProfilesContainer(profilesContainer);
 
-            PropertiesContainer propertiesContainer = initProperties(coreInput, profilesContainer);
+            var propertiesInput = PropertiesInitializationInput.builder()
+                    .profilesContainer(profilesContainer)
+                    .cliArgs(coreInput.args())
+                    .build();
+            PropertiesContainer propertiesContainer = propertiesCoreInitializer.initialize(propertiesInput);
             application.setPropertiesContainer(propertiesContainer);
 
             ElementsContainer elementsContainer = initDependencyInjection(
@@ -73,6 +80,7 @@ public class CoreInitializationProcess {
 
             var eventManager = elementsContainer.getElement(EventManager.class);
             eventManager.publish(CoreEvents.APPLICATION_INITIALIZED, application);
+            startPropertyReloading(application, propertiesInput, propertiesContainer, eventManager);
 
             return application;
         } catch (InitializationException e) {
@@ -92,12 +100,28 @@ public class CoreInitializationProcess {
         return profilesInitializer.initialize(profileInput);
     }
 
-    private PropertiesContainer initProperties(CoreInitializationInput coreInput, ProfilesContainer profilesContainer) {
-        var propertiesInput = PropertiesInitializationInput.builder()
-                .profilesContainer(profilesContainer)
-                .cliArgs(coreInput.args())
-                .build();
-        return propertiesCoreInitializer.initialize(propertiesInput);
+    /**
+     * Starts reloading the properties, if enabled, and registers the shutdown actions of the application: the property
+     * file watcher is closed first, and then the events are shut down. If the reloading can't be started, the application
+     * is never returned, so it can't be stopped: in this case the events are shut down immediately.
+     */
+    private void startPropertyReloading(
+            Application application,
+            PropertiesInitializationInput propertiesInput,
+            PropertiesContainer propertiesContainer,
+            EventManager eventManager
+    ) {
+        long eventsShutdownMillis = EventPublishersFactory.readShutdownTimeout(propertiesContainer).toMillis();
+        Optional<PropertyFileWatcher> propertyFileWatcher;
+        try {
+            propertyFileWatcher = propertiesCoreInitializer.startPropertyReloading(propertiesInput, propertiesContainer, eventManager);
+        } catch (RuntimeException e) {
+            eventManager.shutdown(eventsShutdownMillis);
+            throw e;
+        }
+        //the shutdown actions are run in reverse order
+        application.addShutdownAction(() -> eventManager.shutdown(eventsShutdownMillis));
+        propertyFileWatcher.ifPresent(application::addShutdownAction);
     }
 
     private ElementsContainer initDependencyInjection(
@@ -1,14 +1,23 @@
 /* Licensed under Apache-2.0 2023. */
 package org.tframework.core.initializers;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Instant;
+import java.util.Optional;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.tframework.core.TFrameworkInternal;
+import org.tframework.core.events.EventManager;
 import org.tframework.core.properties.PropertiesContainer;
 import org.tframework.core.properties.PropertiesInitializationInput;
 import org.tframework.core.properties.PropertiesInitializationProcess;
+import org.tframework.core.properties.PropertiesReloader;
+import org.tframework.core.properties.PropertyFileWatcher;
+import org.tframework.core.properties.SinglePropertyValue;
+import org.tframework.core.properties.converters.BooleanPropertyConverter;
+import org.tframework.core.properties.converters.DurationPropertyConverter;
 import org.tframework.core.utils.TimerUtils;
 
 /**
@@ -20,6 +29,9 @@ import org.tframework.core.utils.TimerUtils;
 @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
 public class PropertiesCoreInitializer implements CoreInitializer<PropertiesInitializationInput, PropertiesContainer> {
 
+    private static final String DEFAULT_RELOAD_ENABLED = "false";
+    private static final String DEFAULT_RELOAD_SETTLE_DELAY = "200ms";
+
     private final PropertiesInitializationProcess propertiesInitializationProcess;
 
     @Override
@@ -34,4 +46,35 @@ public class PropertiesCoreInitializer implements CoreInitializer<PropertiesInit
         log.debug("The result of the properties initialization:\n{}", propertiesContainer);
         return propertiesContainer;
     }
+
+    /**
+     * Starts reloading the properties when the property files change, if it is enabled with
+     * {@value PropertiesReloader#RELOAD_ENABLED_PROPERTY}. The properties are reloaded with the same input
+     * that was used to initialize them.
+     * @return The watcher of the property files, or empty if reloading is not enabled, or there is nothing to watch.
+     * @throws UncheckedIOException If reloading is enabled, but the property files can't be watched.
+     */
+    public Optional<PropertyFileWatcher> startPropertyReloading(
+            PropertiesInitializationInput input,
+            PropertiesContainer propertiesContainer,
+            EventManager eventManager
+    ) {
+        var reloadEnabledProperty = propertiesContainer.getPropertyValueObject(
+                PropertiesReloader.RELOAD_ENABLED_PROPERTY, new SinglePropertyValue(DEFAULT_RELOAD_ENABLED)
+        );
+        if(!new BooleanPropertyConverter().convert(reloadEnabledProperty)) {
+            log.debug("Property reloading is not enabled");
+            return Optional.empty();
+        }
+        var settleDelayProperty = propertiesContainer.getPropertyValueObject(
+                PropertiesReloader.RELOAD_SETTLE_DELAY_PROPERTY, new SinglePropertyValue(DEFAULT_RELOAD_SETTLE_DELAY)
+        );
+        var settleDelay = new DurationPropertyConverter().convert(settleDelayProperty);
+        var reloader = new PropertiesReloader(propertiesInitializationProcess, input, propertiesContainer, eventManager);
+        try {
+            return reloader.startWatching(settleDelay);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to watch the property files for reloading", e);
+        }
+    }
 }
@@ -0,0 +1,82 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.properties;
+
+import java.util.Locale;
+
+/**
+ * An amount of data, such as the size of a buffer or a cache, that can be read from a property. The units are
+ * binary: one kilobyte is 1024 bytes.
+ * @param bytes The size in bytes, can't be negative.
+ */
+public record DataSize(long bytes) {
+
+    private static final long BYTES_PER_KILOBYTE = 1024;
+    private static final long BYTES_PER_MEGABYTE = BYTES_PER_KILOBYTE * 1024;
+    private static final long BYTES_PER_GIGABYTE = BYTES_PER_MEGABYTE * 1024;
+    private static final long BYTES_PER_TERABYTE = BYTES_PER_GIGABYTE * 1024;
+
+    public DataSize {
+        if(bytes < 0) {
+            throw new IllegalArgumentException("Data size can't be negative, but it was: " + bytes);
+        }
+    }
+
+    public static DataSize ofBytes(long bytes) {
+        return new DataSize(bytes);
+    }
+
+    public static DataSize ofKilobytes(long kilobytes) {
+        return new DataSize(Math.multiplyExact(kilobytes, BYTES_PER_KILOBYTE));
+    }
+
+    public static DataSize ofMegabytes(long megabytes) {
+        return new DataSize(Math.multiplyExact(megabytes, BYTES_PER_MEGABYTE));
+    }
+
+    public static DataSize ofGigabytes(long gigabytes) {
+        return new DataSize(Math.multiplyExact(gigabytes, BYTES_PER_GIGABYTE));
+    }
+
+    /**
+     * Parses a data size from a whole number and an optional unit: {@code B}, {@code KB}, {@code MB}, {@code GB}
+     * or {@code TB}, for example {@code 512KB}. Numbers without a unit are bytes. The unit is case-insensitive, and
+     * whitespace around the number and the unit is ignored.
+     * @throws IllegalArgumentException If the text is not a valid data size.
+     * @throws ArithmeticException If the data size is too large to be stored in bytes.
+     */
+    public static DataSize parse(String text) {
+        String trimmedText = text.trim();
+        int unitStart = 0;
+        while(unitStart < trimmedText.length() && Character.isDigit(trimmedText.charAt(unitStart))) {
+            unitStart++;
+        }
+        long amount = Long.parseLong(trimmedText.substring(0, unitStart));
+        String unit = trimmedText.substring(unitStart).trim().toUpperCase(Locale.ROOT);
+        long bytesPerUnit = switch(unit) {
+            case "", "B" -> 1;
+            case "KB" -> BYTES_PER_KILOBYTE;
+            case "MB" -> BYTES_PER_MEGABYTE;
+            case "GB" -> BYTES_PER_GIGABYTE;
+            case "TB" -> BYTES_PER_TERABYTE;
+            default -> throw new IllegalArgumentException("Unknown data size unit: " + unit);
+        };
+        return new DataSize(Math.multiplyExact(amount, bytesPerUnit));
+    }
+
+    public long toKilobytes() {
+        return bytes / BYTES_PER_KILOBYTE;
+    }
+
+    public long toMegabytes() {
+        return bytes / BYTES_PER_MEGABYTE;
+    }
+
+    public long toGigabytes() {
+        return bytes / BYTES_PER_GIGABYTE;
+    }
+
+    @Override
+    public String toString() {
+        return bytes + "B";
+    }
+}
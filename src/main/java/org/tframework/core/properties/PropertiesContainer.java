@@ -2,44 +2,135 @@
 package org.tframework.core.properties;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.NonNull;
-import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.tframework.core.TFrameworkInternal;
 import org.tframework.core.elements.annotations.PreConstructedElement;
 import org.tframework.core.properties.converters.PropertyConversionException;
+import org.tframework.core.properties.converters.PropertyConverter;
 import org.tframework.core.properties.converters.PropertyConverterAggregator;
 
 /**
- * A read-only container of the properties, and related methods to access them.
+ * A read-only container of the properties, and related methods to access them. The properties are indexed by their
+ * names, in insertion order, so looking up a property does not depend on the amount of properties, and merging
+ * containers takes linear time. After {@link #freeze()}, the container no longer accepts a new
+ * {@link PropertyConverterAggregator}, and it can be safely read by any thread.
+ * <p>
+ * The properties can also be accessed by their path: for example, all properties under {@code myapp.datasource}
+ * can be listed, or bound to a record. For this, a {@link PropertyTree} is built when it is first needed.
+ * <p>
+ * Converted property values are cached per property and required type, if the converter allows it (see
+ * {@link PropertyConverter#isCacheable()}). Repeatedly reading the same property with the same type does not
+ * convert it again. The primitive accessors, such as {@link #getInt(String)}, keep the parsed values in primitive
+ * slots instead, so reading them again does not box or parse the value.
+ * <p>
+ * The properties can be replaced with {@link #reload(PropertiesContainer)}, for example when the property files
+ * change. The properties, and everything cached from them, are kept in an immutable snapshot that is swapped at once,
+ * so the readers are never blocked, and they never see a half-reloaded container.
  */
 @Slf4j
 @EqualsAndHashCode
 @PreConstructedElement
 public final class PropertiesContainer {
 
-    private final List<Property> properties;
+    @EqualsAndHashCode.Exclude
+    private volatile PropertiesSnapshot snapshot;
 
-    @Setter
     private PropertyConverterAggregator propertyConverterAggregator;
 
+    @EqualsAndHashCode.Exclude
+    private boolean frozen;
+
     /**
      * Creates a container from the specified properties. The {@link PropertyConverterAggregator} will be set
-     * later, when the converter elements are available.
+     * later, when the converter elements are available. If multiple properties have the same name, the
+     * first one is kept.
      */
     public PropertiesContainer(List<Property> properties) {
-        this.properties = properties;
+        this(properties, null);
     }
 
     /**
      * Creates a container from the specified properties using a given {@link PropertyConverterAggregator}.
-     * This is mainly used for testing purposes and copying.
+     * This is mainly used for testing purposes and copying. If multiple properties have the same name, the
+     * first one is kept.
      */
     public PropertiesContainer(List<Property> properties, PropertyConverterAggregator propertyConverterAggregator) {
-        this.properties = properties;
+        this(indexProperties(properties), propertyConverterAggregator);
+    }
+
+    private PropertiesContainer(LinkedHashMap<String, Property> properties, PropertyConverterAggregator propertyConverterAggregator) {
+        this.snapshot = new PropertiesSnapshot(properties);
+        this.propertyConverterAggregator = propertyConverterAggregator;
+        this.frozen = false;
+    }
+
+    private static LinkedHashMap<String, Property> indexProperties(List<Property> properties) {
+        LinkedHashMap<String, Property> indexedProperties = LinkedHashMap.newLinkedHashMap(properties.size());
+        for(Property property : properties) {
+            indexedProperties.putIfAbsent(property.name(), property);
+        }
+        return indexedProperties;
+    }
+
+    /**
+     * Sets the {@link PropertyConverterAggregator} that is used to convert the property values.
+     * @throws IllegalStateException If the container is frozen.
+     */
+    @TFrameworkInternal
+    public synchronized void setPropertyConverterAggregator(PropertyConverterAggregator propertyConverterAggregator) {
+        if(frozen) {
+            throw new IllegalStateException("The property converters cannot be changed after the container is frozen.");
+        }
         this.propertyConverterAggregator = propertyConverterAggregator;
+        //the new converters might convert differently, so nothing cached is kept
+        snapshot = new PropertiesSnapshot(snapshot.properties);
+    }
+
+    /**
+     * Freezes this container: the properties become unmodifiable, and the {@link PropertyConverterAggregator} can no
+     * longer be changed. Freezing an already frozen container has no effect. Containers created by merging a frozen
+     * container are not frozen.
+     */
+    @TFrameworkInternal
+    public synchronized void freeze() {
+        if(!frozen) {
+            snapshot = new PropertiesSnapshot(Collections.unmodifiableMap(snapshot.properties));
+            frozen = true;
+        }
+    }
+
+    /**
+     * Replaces the properties of this container with the properties of the reloaded container. The new properties
+     * are swapped in at once: readers see either the old or the new properties, and they are never blocked. The
+     * converted values and primitive slots of the unchanged properties are kept, only the changed properties are
+     * converted again when they are read. Frozen containers can be reloaded as well.
+     * @param reloadedContainer Container with the reloaded properties, which will be the properties of this container.
+     * @return The {@link PropertyChanges} between the old and the new properties, empty if nothing changed.
+     */
+    @TFrameworkInternal
+    public synchronized PropertyChanges reload(@NonNull PropertiesContainer reloadedContainer) {
+        var currentSnapshot = snapshot;
+        var reloadedProperties = Collections.unmodifiableMap(new LinkedHashMap<>(reloadedContainer.snapshot.properties));
+        var changes = PropertyChanges.between(currentSnapshot.properties, reloadedProperties);
+        if(!changes.isEmpty()) {
+            snapshot = currentSnapshot.reloaded(reloadedProperties, changes);
+        }
+        return changes;
+    }
+
+    /**
+     * @return True if {@link #freeze()} was called on this container.
+     */
+    public boolean isFrozen() {
+        return frozen;
     }
 
     /**
@@ -48,7 +139,15 @@ public final class PropertiesContainer {
      * @throws PropertyNotFoundException If the property does not exist.
      */
     public PropertyValue getPropertyValueObject(String propertyName) {
-        return PropertyUtils.getValueFromPropertyList(properties, propertyName);
+        return getPropertyValueObject(snapshot, propertyName);
+    }
+
+    private PropertyValue getPropertyValueObject(PropertiesSnapshot snapshot, String propertyName) {
+        var property = snapshot.properties.get(propertyName);
+        if(property == null) {
+            throw new PropertyNotFoundException(propertyName);
+        }
+        return property.value();
     }
 
     /**
@@ -58,12 +157,12 @@ public final class PropertiesContainer {
      * @param defaultValue A default value to return if the property does not exist.
      */
     public PropertyValue getPropertyValueObject(String propertyName, PropertyValue defaultValue) {
-        try {
-            return PropertyUtils.getValueFromPropertyList(properties, propertyName);
-        } catch (PropertyNotFoundException e) {
+        var property = snapshot.properties.get(propertyName);
+        if(property == null) {
             log.debug("Property '{}' not found. Returning default value '{}'", propertyName, defaultValue);
             return defaultValue;
         }
+        return property.value();
     }
 
     /**
@@ -73,9 +172,9 @@ public final class PropertiesContainer {
      * @throws PropertyNotFoundException If the property does not exist.
      * @throws PropertyConversionException If the conversion failed to the required type.
      */
+    @SuppressWarnings("unchecked")
     public <T> T getPropertyValue(String propertyName, Class<T> requiredType) {
-        var propertyValueObject = getPropertyValueObject(propertyName);
-        return propertyConverterAggregator.convert(propertyValueObject, requiredType);
+        return (T) getConvertedPropertyValue(propertyName, requiredType);
     }
 
     /**
@@ -88,8 +187,23 @@ public final class PropertiesContainer {
      * @throws PropertyConversionException If the conversion failed to the required type.
      */
     public Object getPropertyValueNonGeneric(String propertyName, Class<?> requiredType) {
-        var propertyValueObject = getPropertyValueObject(propertyName);
-        return propertyConverterAggregator.convert(propertyValueObject, requiredType);
+        return getConvertedPropertyValue(propertyName, requiredType);
+    }
+
+    private Object getConvertedPropertyValue(String propertyName, Class<?> requiredType) {
+        var snapshot = this.snapshot;
+        var conversionKey = new ConversionKey(propertyName, requiredType);
+        var cachedValue = snapshot.conversionCache.get(conversionKey);
+        if(cachedValue != null) {
+            return cachedValue;
+        }
+        var propertyValueObject = getPropertyValueObject(snapshot, propertyName);
+        var convertedValue = propertyConverterAggregator.convert(propertyValueObject, requiredType);
+        //null can't be cached, but converting it again is cheap
+        if(convertedValue != null && propertyConverterAggregator.isCacheable(requiredType)) {
+            snapshot.conversionCache.put(conversionKey, convertedValue);
+        }
+        return convertedValue;
     }
 
     /**
@@ -124,6 +238,136 @@ public final class PropertiesContainer {
         }
     }
 
+    /**
+     * Gets a property as an {@code int}, converted the same way as {@code getPropertyValue(propertyName, int.class)}.
+     * If the converter is cacheable, the parsed value is kept in a primitive slot, and later reads return it
+     * without boxing or parsing.
+     * @throws PropertyNotFoundException If the property does not exist.
+     * @throws PropertyConversionException If the conversion failed.
+     */
+    public int getInt(String propertyName) {
+        return getInt(snapshot, propertyName);
+    }
+
+    private int getInt(PropertiesSnapshot snapshot, String propertyName) {
+        var slot = snapshot.primitiveSlots.get(propertyName);
+        if(slot != null && slot.isParsed(PrimitiveSlot.INT_PARSED)) {
+            return slot.intValue;
+        }
+        int value = (Integer) convertToPrimitive(snapshot, propertyName, int.class);
+        if(propertyConverterAggregator.isCacheable(int.class)) {
+            snapshot.getOrCreateSlot(propertyName).setInt(value);
+        }
+        return value;
+    }
+
+    /**
+     * A version of {@link #getInt(String)} that returns a default value when the given property does not exist.
+     */
+    public int getInt(String propertyName, int defaultValue) {
+        var snapshot = this.snapshot;
+        return snapshot.properties.containsKey(propertyName) ? getInt(snapshot, propertyName) : defaultValue;
+    }
+
+    /**
+     * Gets a property as a {@code long}, the same way as {@link #getInt(String)} gets it as an {@code int}.
+     * @throws PropertyNotFoundException If the property does not exist.
+     * @throws PropertyConversionException If the conversion failed.
+     */
+    public long getLong(String propertyName) {
+        return getLong(snapshot, propertyName);
+    }
+
+    private long getLong(PropertiesSnapshot snapshot, String propertyName) {
+        var slot = snapshot.primitiveSlots.get(propertyName);
+        if(slot != null && slot.isParsed(PrimitiveSlot.LONG_PARSED)) {
+            return slot.longValue;
+        }
+        long value = (Long) convertToPrimitive(snapshot, propertyName, long.class);
+        if(propertyConverterAggregator.isCacheable(long.class)) {
+            snapshot.getOrCreateSlot(propertyName).setLong(value);
+        }
+        return value;
+    }
+
+    /**
+     * A version of {@link #getLong(String)} that returns a default value when the given property does not exist.
+     */
+    public long getLong(String propertyName, long defaultValue) {
+        var snapshot = this.snapshot;
+        return snapshot.properties.containsKey(propertyName) ? getLong(snapshot, propertyName) : defaultValue;
+    }
+
+    /**
+     * Gets a property as a {@code double}, the same way as {@link #getInt(String)} gets it as an {@code int}.
+     * @throws PropertyNotFoundException If the property does not exist.
+     * @throws PropertyConversionException If the conversion failed.
+     */
+    public double getDouble(String propertyName) {
+        return getDouble(snapshot, propertyName);
+    }
+
+    private double getDouble(PropertiesSnapshot snapshot, String propertyName) {
+        var slot = snapshot.primitiveSlots.get(propertyName);
+        if(slot != null && slot.isParsed(PrimitiveSlot.DOUBLE_PARSED)) {
+            return slot.doubleValue;
+        }
+        double value = (Double) convertToPrimitive(snapshot, propertyName, double.class);
+        if(propertyConverterAggregator.isCacheable(double.class)) {
+            snapshot.getOrCreateSlot(propertyName).setDouble(value);
+        }
+        return value;
+    }
+
+    /**
+     * A version of {@link #getDouble(String)} that returns a default value when the given property does not exist.
+     */
+    public double getDouble(String propertyName, double defaultValue) {
+        var snapshot = this.snapshot;
+        return snapshot.properties.containsKey(propertyName) ? getDouble(snapshot, propertyName) : defaultValue;
+    }
+
+    /**
+     * Gets a property as a {@code boolean}, the same way as {@link #getInt(String)} gets it as an {@code int}.
+     * @throws PropertyNotFoundException If the property does not exist.
+     * @throws PropertyConversionException If the conversion failed.
+     */
+    public boolean getBoolean(String propertyName) {
+        return getBoolean(snapshot, propertyName);
+    }
+
+    private boolean getBoolean(PropertiesSnapshot snapshot, String propertyName) {
+        var slot = snapshot.primitiveSlots.get(propertyName);
+        if(slot != null && slot.isParsed(PrimitiveSlot.BOOLEAN_PARSED)) {
+            return slot.booleanValue;
+        }
+        boolean value = (Boolean) convertToPrimitive(snapshot, propertyName, boolean.class);
+        if(propertyConverterAggregator.isCacheable(boolean.class)) {
+            snapshot.getOrCreateSlot(propertyName).setBoolean(value);
+        }
+        return value;
+    }
+
+    /**
+     * A version of {@link #getBoolean(String)} that returns a default value when the given property does not exist.
+     */
+    public boolean getBoolean(String propertyName, boolean defaultValue) {
+        var snapshot = this.snapshot;
+        return snapshot.properties.containsKey(propertyName) ? getBoolean(snapshot, propertyName) : defaultValue;
+    }
+
+    private Object convertToPrimitive(PropertiesSnapshot snapshot, String propertyName, Class<?> primitiveType) {
+        var propertyValueObject = getPropertyValueObject(snapshot, propertyName);
+        var convertedValue = propertyConverterAggregator.convert(propertyValueObject, primitiveType);
+        if(convertedValue == null) { //a custom converter might return null, but a primitive can't be null
+            throw PropertyConversionException.builder()
+                    .propertyValue(propertyValueObject)
+                    .type(primitiveType)
+                    .build();
+        }
+        return convertedValue;
+    }
+
     /**
      * Convenience method that gets a property as a list of strings. If this property is just a
      * single value, it will be converted to a list with a single element.
@@ -155,11 +399,58 @@ public final class PropertiesContainer {
         }
     }
 
+    /**
+     * Gets the properties under the given prefix: the property whose name is the prefix (if it exists), and the
+     * properties whose names start with the prefix and a dot. For example, {@code myapp.datasource} has
+     * {@code myapp.datasource.url}, but it does not have {@code myapp.datasource-backup.url}.
+     * @param prefix The prefix, the empty string means all properties.
+     * @return The properties, grouped by their paths, or an empty list if there are no properties under the prefix.
+     */
+    public List<Property> getPropertiesWithPrefix(@NonNull String prefix) {
+        var node = getPropertyTree().findNode(prefix);
+        return node == null ? List.of() : node.collectProperties();
+    }
+
+    /**
+     * Gets the names of the direct children of the given prefix. For example, if there are properties
+     * {@code myapp.datasource.url} and {@code myapp.server.port}, then the children of {@code myapp} are
+     * {@code datasource} and {@code server}.
+     * @param prefix The prefix, the empty string means the first segment of all property names.
+     * @return The names of the children (not the full names), or an empty list if there are none.
+     */
+    public List<String> getChildPropertyNames(@NonNull String prefix) {
+        var node = getPropertyTree().findNode(prefix);
+        return node == null ? List.of() : node.childNames();
+    }
+
+    /**
+     * Creates an instance of the given record or class from the properties under the prefix. For example, a record with
+     * components {@code url} and {@code maxPoolSize} can be bound to the prefix {@code myapp.datasource}, from properties
+     * {@code myapp.datasource.url} and {@code myapp.datasource.max-pool-size}. The values are converted to the types of
+     * the components, and nested records or classes are bound from nested properties.
+     * @param prefix The prefix, whose child properties are bound. The empty string means all properties.
+     * @param type A record, or a class with a no-argument constructor. Classes are bound through their fields.
+     * @throws PropertyNotFoundException If there are no properties under the prefix.
+     * @throws PropertyBindingException If the instance can't be created.
+     * @throws PropertyConversionException If any of the properties can't be converted.
+     */
+    public <T> T bindProperties(@NonNull String prefix, @NonNull Class<T> type) {
+        var node = getPropertyTree().findNode(prefix);
+        if(node == null) {
+            throw new PropertyNotFoundException(prefix);
+        }
+        return type.cast(PropertyBinder.forType(type).bind(node, prefix, this));
+    }
+
+    private PropertyTree getPropertyTree() {
+        return snapshot.getPropertyTree();
+    }
+
     /**
      * @return How many properties are in this container.
      */
     public int size() {
-        return properties.size();
+        return snapshot.properties.size();
     }
 
     /**
@@ -169,27 +460,30 @@ public final class PropertiesContainer {
      * @return A new {@link PropertiesContainer} with the merged properties.
      */
     public PropertiesContainer merge(@NonNull List<Property> additionalProperties) {
-        List<Property> mergedProperties = new ArrayList<>(properties);
+        return merge(additionalProperties, additionalProperties.size());
+    }
+
+    private PropertiesContainer merge(Iterable<Property> additionalProperties, int additionalSize) {
+        var properties = snapshot.properties;
+        LinkedHashMap<String, Property> mergedProperties = LinkedHashMap.newLinkedHashMap(properties.size() + additionalSize);
+        mergedProperties.putAll(properties);
         for(var property: additionalProperties) {
-            var newValue = property.value();
-            try {
-                var oldValue = PropertyUtils.getValueFromPropertyList(mergedProperties, property.name());
-                log.debug("Overriding property '{}'. Old value: '{}'. New value: '{}'", property.name(), oldValue, newValue);
-                PropertyUtils.replaceValueInPropertyList(mergedProperties, property);
-            } catch (PropertyNotFoundException e) {
-                mergedProperties.add(property);
+            //an overridden property is moved to the end, as it was added later
+            var oldProperty = mergedProperties.remove(property.name());
+            if(oldProperty != null) {
+                log.debug("Overriding property '{}'. Old value: '{}'. New value: '{}'",
+                        property.name(), oldProperty.value(), property.value());
             }
+            mergedProperties.put(property.name(), property);
         }
         return new PropertiesContainer(mergedProperties, propertyConverterAggregator);
     }
 
     /**
-     * Exposes all the names of the properties in this container.
+     * Exposes all the names of the properties in this container, in insertion order.
      */
     public List<String> propertyNames() {
-        return properties.stream()
-                .map(Property::name)
-                .toList();
+        return List.copyOf(snapshot.properties.keySet());
     }
 
     /**
@@ -199,7 +493,116 @@ public final class PropertiesContainer {
      * @return A new container with the merged properties.
      */
     public PropertiesContainer merge(@NonNull PropertiesContainer otherContainer) {
-        return merge(otherContainer.properties);
+        var otherProperties = otherContainer.snapshot.properties;
+        return merge(otherProperties.values(), otherProperties.size());
+    }
+
+    @EqualsAndHashCode.Include
+    private Map<String, Property> properties() {
+        return snapshot.properties;
+    }
+
+    private record ConversionKey(String propertyName, Class<?> requiredType) {}
+
+    /**
+     * The properties, and everything cached from them. The properties of a snapshot never change: a reload
+     * creates a new snapshot.
+     */
+    private static final class PropertiesSnapshot {
+
+        private final Map<String, Property> properties;
+        private final Map<ConversionKey, Object> conversionCache;
+        private final Map<String, PrimitiveSlot> primitiveSlots;
+        private volatile PropertyTree propertyTree;
+
+        PropertiesSnapshot(Map<String, Property> properties) {
+            this(properties, new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        }
+
+        private PropertiesSnapshot(
+                Map<String, Property> properties,
+                Map<ConversionKey, Object> conversionCache,
+                Map<String, PrimitiveSlot> primitiveSlots
+        ) {
+            this.properties = properties;
+            this.conversionCache = conversionCache;
+            this.primitiveSlots = primitiveSlots;
+        }
+
+        /**
+         * Creates the snapshot of the reloaded properties, which keeps what was cached for the unchanged properties.
+         */
+        PropertiesSnapshot reloaded(Map<String, Property> reloadedProperties, PropertyChanges changes) {
+            Map<ConversionKey, Object> keptConversions = new ConcurrentHashMap<>();
+            conversionCache.forEach((conversionKey, convertedValue) -> {
+                if(!changes.isChanged(conversionKey.propertyName())) {
+                    keptConversions.put(conversionKey, convertedValue);
+                }
+            });
+            Map<String, PrimitiveSlot> keptSlots = new ConcurrentHashMap<>();
+            primitiveSlots.forEach((propertyName, slot) -> {
+                if(!changes.isChanged(propertyName)) {
+                    keptSlots.put(propertyName, slot);
+                }
+            });
+            return new PropertiesSnapshot(reloadedProperties, keptConversions, keptSlots);
+        }
+
+        PrimitiveSlot getOrCreateSlot(String propertyName) {
+            return primitiveSlots.computeIfAbsent(propertyName, name -> new PrimitiveSlot());
+        }
+
+        PropertyTree getPropertyTree() {
+            var tree = propertyTree;
+            if(tree == null) {
+                //the properties don't change, so it is not a problem if multiple threads build the tree at the same time
+                tree = PropertyTree.fromProperties(properties.values());
+                propertyTree = tree;
+            }
+            return tree;
+        }
+    }
+
+    /**
+     * The parsed primitive values of a property, one for each primitive accessor. A value is only read after its flag
+     * is seen in {@code parsedValues}, which is written after the value, so the readers don't need to lock.
+     */
+    private static final class PrimitiveSlot {
+
+        static final int INT_PARSED = 1;
+        static final int LONG_PARSED = 1 << 1;
+        static final int DOUBLE_PARSED = 1 << 2;
+        static final int BOOLEAN_PARSED = 1 << 3;
+
+        private volatile int parsedValues;
+        private int intValue;
+        private long longValue;
+        private double doubleValue;
+        private boolean booleanValue;
+
+        boolean isParsed(int parsedFlag) {
+            return (parsedValues & parsedFlag) != 0;
+        }
+
+        synchronized void setInt(int value) {
+            intValue = value;
+            parsedValues |= INT_PARSED;
+        }
+
+        synchronized void setLong(long value) {
+            longValue = value;
+            parsedValues |= LONG_PARSED;
+        }
+
+        synchronized void setDouble(double value) {
+            doubleValue = value;
+            parsedValues |= DOUBLE_PARSED;
+        }
+
+        synchronized void setBoolean(boolean value) {
+            booleanValue = value;
+            parsedValues |= BOOLEAN_PARSED;
+        }
     }
 
     /**
@@ -209,7 +612,7 @@ public final class PropertiesContainer {
     @Override
     public String toString() {
         String containerString = "Properties container with the following properties:\n";
-        containerString += properties.stream()
+        containerString += snapshot.properties.values().stream()
                 .sorted()
                 .map(property -> " - " + property.toString())
                 .collect(Collectors.joining("\n"));
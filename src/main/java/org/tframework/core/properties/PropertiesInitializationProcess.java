@@ -1,7 +1,18 @@
 /* Licensed under Apache-2.0 2023. */
 package org.tframework.core.properties;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.RequiredArgsConstructor;
@@ -13,6 +24,7 @@ import org.tframework.core.properties.filescanners.PropertyFileScannersFactory;
 import org.tframework.core.properties.parsers.PropertyParser;
 import org.tframework.core.properties.scanners.PropertyScanner;
 import org.tframework.core.properties.scanners.PropertyScannersFactory;
+import org.tframework.core.properties.scanners.SeparatedPropertyScanner;
 import org.tframework.core.properties.yamlparsers.YamlParser;
 import org.tframework.core.readers.ResourceFileReader;
 import org.tframework.core.readers.ResourceNotFoundException;
@@ -21,10 +33,14 @@ import org.tframework.core.readers.ResourceNotFoundException;
  * This class is responsible for initializing the properties, by the following process:
  * <ul>
  *     <li>Finding the property files to read using {@link PropertyFileScanner}s.</li>
- *     <li>Reading them with a {@link ResourceFileReader}.</li>
- *     <li>Parsing the YAML contents using {@link YamlParser}.</li>
- *     <li>Extracting the properties from the YAML using {@link PropertiesExtractor}.</li>
+ *     <li>Opening them with a {@link ResourceFileReader}.</li>
+ *     <li>Parsing the YAML contents using {@link YamlParser}, while they are being read.</li>
+ *     <li>Extracting the properties from the leaves of the YAML using {@link PropertiesExtractor}.</li>
  * </ul>
+ * The property files are read and parsed concurrently, on virtual threads, but they are always merged in the order
+ * they were found, so the result is the same as if they were processed one by one.
+ * A property file may have multiple YAML documents, and the properties of the later documents override the ones of
+ * the earlier documents.
  * Properties will be merged together into a {@link PropertiesContainer}. Properties found later will override
  * the ones found earlier, if they have the same name. Use debug level logging and the {@code MDC} to see the
  * overrides.
@@ -77,16 +93,38 @@ public class PropertiesInitializationProcess {
                 .merge(readDirectlySpecifiedProperties(propertyScanners));
     }
 
+    /**
+     * Finds the property files of the process that are on the file system, for example the files of the
+     * {@code resources} directory during development. Only these files can be watched for changes: property files
+     * that don't exist, or are inside a JAR, are not included.
+     * @param input {@link PropertiesInitializationInput} with the input parameters.
+     * @return The paths of the property files, in the order they are found.
+     */
+    public List<Path> findPropertyFilesOnFileSystem(PropertiesInitializationInput input) {
+        return findPropertyFilesOnFileSystem(PropertyFileScannersFactory.createTframeworkPropertyFileScanners(input));
+    }
+
+    List<Path> findPropertyFilesOnFileSystem(List<PropertyFileScanner> propertyFileScanners) {
+        return propertyFileScanners.stream()
+                .flatMap(propertyFileScanner -> propertyFileScanner.scan().stream())
+                .map(resourceFileReader::findResourceFile)
+                .flatMap(Optional::stream)
+                .distinct()
+                .toList();
+    }
+
     private PropertiesContainer readPropertiesFromFiles(List<PropertyFileScanner> propertyFileScanners) {
         PropertiesContainer propertiesContainer = PropertiesContainerFactory.empty();
 
-        for(PropertyFileScanner propertyFileScanner: propertyFileScanners) {
-            List<String> propertyFiles = propertyFileScanner.scan();
-            String source = propertyFileScanner.sourceName();
-            for(String propertyFile : propertyFiles) {
-                log.debug("Attempting to read property file '{}', from source '{}'", propertyFile, source);
+        var threadFactory = Thread.ofVirtual().name("tframework-property-file-loader-", 0).factory();
+        try(ExecutorService executor = Executors.newThreadPerTaskExecutor(threadFactory)) {
+            //the files are processed concurrently, but merged in the order they were found
+            List<PropertyFileLoading> propertyFileLoadings = startLoadingPropertyFiles(propertyFileScanners, executor);
+            for(PropertyFileLoading propertyFileLoading : propertyFileLoadings) {
+                String propertyFile = propertyFileLoading.propertyFile();
+                String source = propertyFileLoading.source();
 
-                var properties = processPropertyFile(propertyFile);
+                var properties = awaitProperties(propertyFileLoading);
                 if(!properties.isEmpty()) {
                     log.debug("Found {} properties in file '{}' from source '{}', merging them into current properties...",
                             properties.size(), propertyFile, source);
@@ -102,25 +140,75 @@ public class PropertiesInitializationProcess {
         return propertiesContainer;
     }
 
-    private List<Property> processPropertyFile(String propertyFile) {
+    private List<PropertyFileLoading> startLoadingPropertyFiles(
+            List<PropertyFileScanner> propertyFileScanners,
+            ExecutorService executor
+    ) {
+        List<PropertyFileLoading> propertyFileLoadings = new ArrayList<>();
+        for(PropertyFileScanner propertyFileScanner: propertyFileScanners) {
+            List<String> propertyFiles = propertyFileScanner.scan();
+            String source = propertyFileScanner.sourceName();
+            for(String propertyFile : propertyFiles) {
+                log.debug("Attempting to read property file '{}', from source '{}'", propertyFile, source);
+                var properties = executor.submit(() -> processPropertyFile(propertyFile));
+                propertyFileLoadings.add(new PropertyFileLoading(propertyFile, source, properties));
+            }
+        }
+        return propertyFileLoadings;
+    }
+
+    private List<Property> awaitProperties(PropertyFileLoading propertyFileLoading) {
         try {
-            var propertyFileContent = resourceFileReader.readResourceFile(propertyFile);
-            var parsedYaml = yamlParser.parseYaml(propertyFileContent);
-            return propertiesExtractor.extractProperties(parsedYaml);
+            return propertyFileLoading.properties().get();
+        } catch (ExecutionException e) {
+            //throw the original exception, the same way as without concurrency
+            if(e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if(e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Failed to load property file '" + propertyFileLoading.propertyFile() + "'", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading property file '" + propertyFileLoading.propertyFile() + "'", e);
+        }
+    }
+
+    private List<Property> processPropertyFile(String propertyFile) {
+        //later documents of the file override the earlier ones
+        Map<String, Property> properties = new LinkedHashMap<>();
+        try(Reader reader = resourceFileReader.openResourceFile(propertyFile)) {
+            yamlParser.parseYaml(reader, propertyFile, (propertyName, leaf) -> {
+                var property = propertiesExtractor.extractProperty(propertyName, leaf);
+                properties.put(property.name(), property);
+            });
         } catch (ResourceNotFoundException e) {
             //this is not an error, it isn't required to use property files
             log.debug("Property file '{}' not found, skipping...", propertyFile);
             return List.of();
+        } catch (IOException e) {
+            //the file was already parsed, only closing it failed
+            log.warn("Failed to close property file '{}'", propertyFile, e);
         }
+        return List.copyOf(properties.values());
     }
 
     private PropertiesContainer readDirectlySpecifiedProperties(List<PropertyScanner> propertyScanners) {
         PropertiesContainer propertiesContainer = PropertiesContainerFactory.empty();
 
         for(PropertyScanner propertyScanner: propertyScanners) {
-            var properties = propertyScanner.scanProperties().stream()
-                    .map(propertyParser::parseProperty)
-                    .toList();
+            //scanners that find the names and values separately don't need to create raw properties
+            List<Property> properties;
+            if(propertyScanner instanceof SeparatedPropertyScanner separatedPropertyScanner) {
+                properties = separatedPropertyScanner.scanSeparatedProperties().stream()
+                        .map(propertyParser::parseProperty)
+                        .toList();
+            } else {
+                properties = propertyScanner.scanProperties().stream()
+                        .map(propertyParser::parseProperty)
+                        .toList();
+            }
 
             String source = propertyScanner.sourceName();
             if(!properties.isEmpty()) {
@@ -136,4 +224,9 @@ public class PropertiesInitializationProcess {
         return propertiesContainer;
     }
 
+    /**
+     * A property file whose properties are being loaded.
+     */
+    private record PropertyFileLoading(String propertyFile, String source, Future<List<Property>> properties) {}
+
 }
@@ -0,0 +1,67 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.properties;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.tframework.core.events.CoreEvents;
+import org.tframework.core.events.EventManager;
+import org.tframework.core.utils.Constants;
+
+/**
+ * Reloads the properties of a running application. The properties are initialized again, the same way as at startup,
+ * and the {@link PropertiesContainer} of the application is reloaded with them. If any property changed, a
+ * {@link CoreEvents#PROPERTIES_CHANGED} event is published with the {@link PropertyChanges}.
+ * <p>
+ * Reloading when the property files change is enabled with {@value #RELOAD_ENABLED_PROPERTY}. Only the property files
+ * that are on the file system are watched, see {@link PropertiesInitializationProcess#findPropertyFilesOnFileSystem}.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class PropertiesReloader {
+
+    public static final String RELOAD_ENABLED_PROPERTY = Constants.TFRAMEWORK_PROPERTIES_PREFIX + ".properties.reload-enabled";
+
+    public static final String RELOAD_SETTLE_DELAY_PROPERTY = Constants.TFRAMEWORK_PROPERTIES_PREFIX + ".properties.reload-settle-delay";
+
+    private final PropertiesInitializationProcess propertiesInitializationProcess;
+    private final PropertiesInitializationInput propertiesInitializationInput;
+    private final PropertiesContainer propertiesContainer;
+    private final EventManager eventManager;
+
+    /**
+     * Initializes the properties again, and reloads the {@link PropertiesContainer} with them.
+     * @return The changes of the properties, which were also published, unless they are empty.
+     */
+    public PropertyChanges reload() {
+        var reloadedContainer = propertiesInitializationProcess.initialize(propertiesInitializationInput);
+        var changes = propertiesContainer.reload(reloadedContainer);
+        if(changes.isEmpty()) {
+            log.debug("Reloaded the properties, but none of them changed");
+            return changes;
+        }
+        log.info("Reloaded the properties. Added: {}, removed: {}, modified: {}",
+                changes.addedPropertyNames(), changes.removedPropertyNames(), changes.modifiedPropertyNames());
+        eventManager.publish(CoreEvents.PROPERTIES_CHANGED, changes);
+        return changes;
+    }
+
+    /**
+     * Starts watching the property files, and reloads the properties when they change.
+     * @param settleDelay How long to wait for more changes of the files, before reloading.
+     * @return The started {@link PropertyFileWatcher}, or empty if there are no property files on the file system.
+     * @throws IOException If the property files can't be watched.
+     */
+    public Optional<PropertyFileWatcher> startWatching(Duration settleDelay) throws IOException {
+        var propertyFiles = propertiesInitializationProcess.findPropertyFilesOnFileSystem(propertiesInitializationInput);
+        if(propertyFiles.isEmpty()) {
+            log.warn("Property reloading is enabled, but there are no property files on the file system to watch");
+            return Optional.empty();
+        }
+        log.info("Watching property files for changes: {}", propertyFiles);
+        return Optional.of(new PropertyFileWatcher(propertyFiles, settleDelay, this::reload));
+    }
+
+}
@@ -0,0 +1,182 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.properties;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.tframework.core.properties.PropertyTree.Node;
+import org.tframework.core.utils.PrimitivesUtils;
+
+/**
+ * Binds the properties under a node of the {@link PropertyTree} to an instance of a record or a class:
+ * <ul>
+ *     <li>Records are created with their canonical constructor, each component is bound to a child property.</li>
+ *     <li>
+ *         Classes are created with their no-argument constructor, then each non-static, non-final field is set
+ *         from a child property. Fields without a child property keep their initial value.
+ *     </li>
+ * </ul>
+ * A component or field named {@code maxPoolSize} is bound to the child property {@code maxPoolSize}, or if there is no
+ * such child, then to {@code max-pool-size}. If the child has a value, it is converted to the type of the component
+ * or field using the {@link PropertiesContainer}. If it only has children of its own, it is bound to the type of the
+ * component or field recursively. This way, each property of the subtree is visited once.
+ * <p>
+ * Examining the type is done only once: the binders are cached for each type (see {@link #forType(Class)}).
+ */
+@Slf4j
+final class PropertyBinder {
+
+    private static final ClassValue<PropertyBinder> BINDERS = new ClassValue<>() {
+        @Override
+        protected PropertyBinder computeValue(Class<?> type) {
+            return new PropertyBinder(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final Constructor<?> constructor;
+    private final List<BoundMember> members;
+
+    private PropertyBinder(Class<?> type) {
+        this.type = type;
+        if(type.isRecord()) {
+            var components = type.getRecordComponents();
+            this.constructor = findConstructor(Arrays.stream(components).map(RecordComponent::getType).toArray(Class<?>[]::new));
+            this.members = Arrays.stream(components)
+                    .map(component -> BoundMember.of(component.getName(), component.getType(), null))
+                    .toList();
+        } else {
+            this.constructor = findConstructor();
+            this.members = Arrays.stream(type.getDeclaredFields())
+                    .filter(field -> !Modifier.isStatic(field.getModifiers()) && !Modifier.isFinal(field.getModifiers()))
+                    .filter(field -> !field.isSynthetic())
+                    .map(field -> BoundMember.of(field.getName(), field.getType(), field))
+                    .toList();
+            this.members.forEach(member -> member.field().trySetAccessible());
+        }
+        log.debug("Created property binder for type '{}' with {} members", type.getName(), members.size());
+    }
+
+    private Constructor<?> findConstructor(Class<?>... parameterTypes) {
+        if(type.isInterface() || type.isPrimitive() || type.isEnum() || Modifier.isAbstract(type.getModifiers())) {
+            return null;
+        }
+        try {
+            var foundConstructor = type.getDeclaredConstructor(parameterTypes);
+            foundConstructor.setAccessible(true);
+            return foundConstructor;
+        } catch (NoSuchMethodException | RuntimeException e) {
+            log.debug("Type '{}' has no suitable constructor for binding properties", type.getName(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Binds the properties under the node to a new instance of the type of this binder.
+     * @param node The node of the {@link PropertyTree}, whose children are bound.
+     * @param prefix The path of the node, used in the error messages.
+     * @param propertiesContainer Container that converts the property values.
+     * @throws PropertyBindingException If the instance could not be created.
+     */
+    Object bind(Node node, String prefix, PropertiesContainer propertiesContainer) {
+        if(constructor == null) {
+            throw new PropertyBindingException(prefix, type, "the type must be a record, or a class with a no-argument constructor");
+        }
+        return type.isRecord()
+                ? bindRecord(node, prefix, propertiesContainer)
+                : bindClass(node, prefix, propertiesContainer);
+    }
+
+    private Object bindRecord(Node node, String prefix, PropertiesContainer propertiesContainer) {
+        List<Object> arguments = new ArrayList<>(members.size());
+        for(BoundMember member : members) {
+            var value = bindMember(member, node, prefix, propertiesContainer);
+            if(value == null && member.type().isPrimitive()) {
+                throw new PropertyBindingException(prefix, type, "there is no property for primitive component '" + member.name() + "'");
+            }
+            arguments.add(value);
+        }
+        return newInstance(prefix, arguments.toArray());
+    }
+
+    private Object bindClass(Node node, String prefix, PropertiesContainer propertiesContainer) {
+        var instance = newInstance(prefix);
+        for(BoundMember member : members) {
+            var value = bindMember(member, node, prefix, propertiesContainer);
+            if(value != null) {
+                try {
+                    member.field().set(instance, value);
+                } catch (IllegalAccessException | RuntimeException e) {
+                    throw new PropertyBindingException(prefix, type, "failed to set field '" + member.name() + "'", e);
+                }
+            }
+        }
+        return instance;
+    }
+
+    private Object newInstance(String prefix, Object... arguments) {
+        try {
+            return constructor.newInstance(arguments);
+        } catch (InvocationTargetException e) {
+            throw new PropertyBindingException(prefix, type, "the constructor failed", e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new PropertyBindingException(prefix, type, "the constructor could not be invoked", e);
+        }
+    }
+
+    /**
+     * @return The bound value of the member, or null if there is no child property for it.
+     */
+    private Object bindMember(BoundMember member, Node node, String prefix, PropertiesContainer propertiesContainer) {
+        String childName = member.name();
+        Node child = node.child(childName);
+        if(child == null) {
+            childName = member.kebabCaseName();
+            child = node.child(childName);
+        }
+        if(child == null) {
+            log.debug("No property for member '{}' of type '{}' under '{}'", member.name(), type.getName(), prefix);
+            return null;
+        }
+        if(child.property() != null) {
+            return propertiesContainer.getPropertyValueNonGeneric(child.property().name(), member.type());
+        }
+        String childPrefix = prefix.isEmpty() ? childName : prefix + PropertyTree.SEPARATOR + childName;
+        return forType(PrimitivesUtils.toWrapper(member.type())).bind(child, childPrefix, propertiesContainer);
+    }
+
+    /**
+     * @return The binder of the type, which is created when it is first requested.
+     */
+    static PropertyBinder forType(Class<?> type) {
+        return BINDERS.get(type);
+    }
+
+    /**
+     * A record component or field that is bound to a child property.
+     * @param kebabCaseName The name in kebab-case, which is the other accepted name of the child property.
+     * @param field The field, or null for record components.
+     */
+    private record BoundMember(String name, String kebabCaseName, Class<?> type, Field field) {
+
+        static BoundMember of(String name, Class<?> type, Field field) {
+            var kebabCaseName = new StringBuilder(name.length() + 4);
+            for(char c : name.toCharArray()) {
+                if(Character.isUpperCase(c)) {
+                    kebabCaseName.append('-').append(Character.toLowerCase(c));
+                } else {
+                    kebabCaseName.append(c);
+                }
+            }
+            return new BoundMember(name, kebabCaseName.toString(), type, field);
+        }
+
+    }
+
+}
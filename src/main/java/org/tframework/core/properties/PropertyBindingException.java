@@ -0,0 +1,25 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.properties;
+
+import org.tframework.core.TFrameworkException;
+
+/**
+ * Thrown when properties can't be bound to a type, see {@link PropertiesContainer#bindProperties(String, Class)}.
+ */
+public class PropertyBindingException extends TFrameworkException {
+
+    private static final String TEMPLATE = "Failed to bind properties under '%s' to type '%s': %s";
+
+    PropertyBindingException(String prefix, Class<?> type, String reason) {
+        super(TEMPLATE.formatted(prefix, type.getName(), reason));
+    }
+
+    PropertyBindingException(String prefix, Class<?> type, String reason, Throwable cause) {
+        super(TEMPLATE.formatted(prefix, type.getName(), reason), cause);
+    }
+
+    @Override
+    public String getMessageTemplate() {
+        return TEMPLATE;
+    }
+}
@@ -0,0 +1,77 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.properties;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import lombok.NonNull;
+
+/**
+ * Describes how the properties changed when they were reloaded. Only the names of the changed properties are
+ * listed, the new values can be read from the {@link PropertiesContainer}.
+ * @param addedPropertyNames Names of the properties that did not exist before.
+ * @param removedPropertyNames Names of the properties that no longer exist.
+ * @param modifiedPropertyNames Names of the properties whose values are different.
+ * @see PropertiesContainer#reload(PropertiesContainer)
+ */
+public record PropertyChanges(
+        @NonNull Set<String> addedPropertyNames,
+        @NonNull Set<String> removedPropertyNames,
+        @NonNull Set<String> modifiedPropertyNames
+) {
+
+    /**
+     * @return The names of all added, removed and modified properties.
+     */
+    public Set<String> changedPropertyNames() {
+        Set<String> changedPropertyNames = new LinkedHashSet<>(addedPropertyNames);
+        changedPropertyNames.addAll(removedPropertyNames);
+        changedPropertyNames.addAll(modifiedPropertyNames);
+        return Collections.unmodifiableSet(changedPropertyNames);
+    }
+
+    /**
+     * @return True if the given property was added, removed or modified.
+     */
+    public boolean isChanged(String propertyName) {
+        return addedPropertyNames.contains(propertyName)
+                || removedPropertyNames.contains(propertyName)
+                || modifiedPropertyNames.contains(propertyName);
+    }
+
+    /**
+     * @return True if no property has changed.
+     */
+    public boolean isEmpty() {
+        return addedPropertyNames.isEmpty() && removedPropertyNames.isEmpty() && modifiedPropertyNames.isEmpty();
+    }
+
+    /**
+     * Finds the changes from the old properties to the new ones, both indexed by the property names.
+     */
+    static PropertyChanges between(Map<String, Property> oldProperties, Map<String, Property> newProperties) {
+        Set<String> addedPropertyNames = new LinkedHashSet<>();
+        Set<String> modifiedPropertyNames = new LinkedHashSet<>();
+        newProperties.forEach((propertyName, newProperty) -> {
+            var oldProperty = oldProperties.get(propertyName);
+            if(oldProperty == null) {
+                addedPropertyNames.add(propertyName);
+            } else if(!Objects.equals(oldProperty.value(), newProperty.value())) {
+                modifiedPropertyNames.add(propertyName);
+            }
+        });
+        Set<String> removedPropertyNames = new LinkedHashSet<>();
+        for(String propertyName : oldProperties.keySet()) {
+            if(!newProperties.containsKey(propertyName)) {
+                removedPropertyNames.add(propertyName);
+            }
+        }
+        return new PropertyChanges(
+                Collections.unmodifiableSet(addedPropertyNames),
+                Collections.unmodifiableSet(removedPropertyNames),
+                Collections.unmodifiableSet(modifiedPropertyNames)
+        );
+    }
+}
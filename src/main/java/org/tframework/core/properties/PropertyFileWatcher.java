@@ -0,0 +1,139 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.properties;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Watches property files on the file system with a {@link WatchService}, and calls the change handler when any of
+ * them is modified, created or deleted. Editors often write a file in multiple steps, so after a change, the watcher
+ * waits until no more changes arrive for the settle delay, and calls the handler only once. The handler is called on
+ * the virtual thread of the watcher, one change at a time.
+ */
+@Slf4j
+public class PropertyFileWatcher implements AutoCloseable {
+
+    private final Set<Path> propertyFiles;
+    private final Duration settleDelay;
+    private final Runnable changeHandler;
+    private final WatchService watchService;
+    private final Thread watcherThread;
+
+    /**
+     * Starts watching the property files.
+     * @param propertyFiles Property files to watch. Their directories must exist.
+     * @param settleDelay How long to wait for more changes, before the handler is called.
+     * @param changeHandler Called after the property files changed. Exceptions thrown by it are logged.
+     * @throws IOException If the directories of the property files can't be watched.
+     */
+    public PropertyFileWatcher(
+            @NonNull Collection<Path> propertyFiles,
+            @NonNull Duration settleDelay,
+            @NonNull Runnable changeHandler
+    ) throws IOException {
+        this.propertyFiles = propertyFiles.stream()
+                .map(propertyFile -> propertyFile.toAbsolutePath().normalize())
+                .collect(Collectors.toUnmodifiableSet());
+        this.settleDelay = settleDelay;
+        this.changeHandler = changeHandler;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        try {
+            registerDirectories();
+        } catch (IOException e) {
+            watchService.close();
+            throw e;
+        }
+        this.watcherThread = Thread.ofVirtual()
+                .name("tframework-property-file-watcher")
+                .start(this::watchPropertyFiles);
+    }
+
+    private void registerDirectories() throws IOException {
+        Set<Path> directories = propertyFiles.stream()
+                .map(Path::getParent)
+                .collect(Collectors.toSet());
+        for(Path directory : directories) {
+            directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+            log.debug("Watching directory '{}' for property file changes", directory);
+        }
+    }
+
+    private void watchPropertyFiles() {
+        try {
+            while(true) {
+                if(hasPropertyFileChanged(watchService.take())) {
+                    waitForChangesToSettle();
+                    handleChange();
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            log.debug("Stopped watching the property files");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.debug("Interrupted while watching the property files");
+        }
+    }
+
+    private void waitForChangesToSettle() throws InterruptedException {
+        WatchKey watchKey;
+        while((watchKey = watchService.poll(settleDelay.toMillis(), TimeUnit.MILLISECONDS)) != null) {
+            hasPropertyFileChanged(watchKey); //only consumes the events, a change is handled anyway
+        }
+    }
+
+    private boolean hasPropertyFileChanged(WatchKey watchKey) {
+        boolean changed = false;
+        var directory = (Path) watchKey.watchable();
+        for(WatchEvent<?> event : watchKey.pollEvents()) {
+            if(event.kind() == OVERFLOW) {
+                changed = true; //some events were lost, so the property files might have changed
+            } else if(propertyFiles.contains(directory.resolve((Path) event.context()))) {
+                log.debug("Property file '{}' changed: {}", event.context(), event.kind().name());
+                changed = true;
+            }
+        }
+        watchKey.reset();
+        return changed;
+    }
+
+    private void handleChange() {
+        try {
+            changeHandler.run();
+        } catch (Exception e) {
+            log.error("Failed to handle the change of the property files", e);
+        }
+    }
+
+    /**
+     * Stops watching the property files, and waits until a change that is currently being handled completes.
+     */
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+        if(Thread.currentThread() == watcherThread) {
+            return; //closed by the change handler, the watcher stops after the handler returns
+        }
+        try {
+            watcherThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
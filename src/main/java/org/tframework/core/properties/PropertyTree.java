@@ -0,0 +1,112 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.properties;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A trie of the properties, where each node is a segment of the property names (separated by dots). For example, the
+ * properties {@code myapp.datasource.url} and {@code myapp.datasource.username} are both under the node of
+ * {@code myapp.datasource}, which has two children: {@code url} and {@code username}. This allows to find all properties
+ * with a prefix, without checking all property names. The tree is immutable after it is built.
+ */
+final class PropertyTree {
+
+    static final char SEPARATOR = '.';
+
+    private final Node root;
+
+    private PropertyTree(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Finds the node of the given path. The empty path is the root node.
+     * @return The node, or null if there is no property with this path, or under this path.
+     */
+    Node findNode(String path) {
+        if(path.isEmpty()) {
+            return root;
+        }
+        Node node = root;
+        int segmentStart = 0;
+        while(node != null && segmentStart <= path.length()) {
+            int separatorIndex = path.indexOf(SEPARATOR, segmentStart);
+            int segmentEnd = separatorIndex < 0 ? path.length() : separatorIndex;
+            node = node.children.get(path.substring(segmentStart, segmentEnd));
+            segmentStart = segmentEnd + 1;
+        }
+        return node;
+    }
+
+    /**
+     * Builds the tree from the properties. The children of each node are in the order of the properties.
+     */
+    static PropertyTree fromProperties(Collection<Property> properties) {
+        Node root = new Node();
+        for(Property property : properties) {
+            Node node = root;
+            int segmentStart = 0;
+            String name = property.name();
+            while(segmentStart <= name.length()) {
+                int separatorIndex = name.indexOf(SEPARATOR, segmentStart);
+                int segmentEnd = separatorIndex < 0 ? name.length() : separatorIndex;
+                node = node.children.computeIfAbsent(name.substring(segmentStart, segmentEnd), segment -> new Node());
+                segmentStart = segmentEnd + 1;
+            }
+            node.property = property;
+        }
+        return new PropertyTree(root);
+    }
+
+    /**
+     * A node of the {@link PropertyTree}: it may have a property, children, or both.
+     */
+    static final class Node {
+
+        private final Map<String, Node> children = new LinkedHashMap<>();
+        private Property property;
+
+        /**
+         * @return The property that has the path of this node, or null if there is no such property.
+         */
+        Property property() {
+            return property;
+        }
+
+        /**
+         * @return The child node with the given segment name, or null if there is no such child.
+         */
+        Node child(String segment) {
+            return children.get(segment);
+        }
+
+        /**
+         * @return The segment names of the children, in the order of the properties.
+         */
+        List<String> childNames() {
+            return List.copyOf(children.keySet());
+        }
+
+        /**
+         * @return The property of this node, and all properties under it, in depth-first order.
+         */
+        List<Property> collectProperties() {
+            List<Property> properties = new ArrayList<>();
+            collectProperties(properties);
+            return properties;
+        }
+
+        private void collectProperties(List<Property> properties) {
+            if(property != null) {
+                properties.add(property);
+            }
+            children.values().forEach(child -> child.collectProperties(properties));
+        }
+
+    }
+
+}
@@ -24,6 +24,11 @@ public class BooleanPropertyConverter implements PropertyConverter<Boolean> {
         };
     }
 
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
     @Override
     public Class<Boolean> getType() {
         return Boolean.class;
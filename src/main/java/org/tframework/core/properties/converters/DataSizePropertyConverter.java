@@ -0,0 +1,52 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.properties.converters;
+
+import org.tframework.core.elements.annotations.Element;
+import org.tframework.core.properties.DataSize;
+import org.tframework.core.properties.ListPropertyValue;
+import org.tframework.core.properties.PropertyValue;
+import org.tframework.core.properties.SinglePropertyValue;
+
+/**
+ * A {@link PropertyConverter} that converts to {@link DataSize}, as specified in {@link DataSize#parse(String)}.
+ */
+@Element
+public class DataSizePropertyConverter implements PropertyConverter<DataSize> {
+
+    @Override
+    public DataSize convert(PropertyValue propertyValue) {
+        try {
+            return toDataSize(propertyValue);
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            throw PropertyConversionException.builder()
+                    .propertyValue(propertyValue)
+                    .type(getType())
+                    .cause(e)
+                    .build();
+        }
+    }
+
+    private DataSize toDataSize(PropertyValue propertyValue) {
+        return switch(propertyValue) {
+            case SinglePropertyValue(var value) when value != null -> DataSize.parse(value);
+            case SinglePropertyValue spv -> throw PropertyConversionException.builder()
+                    .propertyValue(propertyValue)
+                    .type(getType())
+                    .build();
+            case ListPropertyValue lpv -> throw PropertyConversionException.builder()
+                    .propertyValue(propertyValue)
+                    .type(getType())
+                    .build();
+        };
+    }
+
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
+    @Override
+    public Class<DataSize> getType() {
+        return DataSize.class;
+    }
+}
@@ -0,0 +1,53 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.properties.converters;
+
+import org.tframework.core.elements.annotations.Element;
+import org.tframework.core.properties.ListPropertyValue;
+import org.tframework.core.properties.PropertyValue;
+import org.tframework.core.properties.SinglePropertyValue;
+
+/**
+ * A {@link PropertyConverter} that converts to double, as specified in
+ * {@link Double#parseDouble(String)}.
+ */
+@Element
+public class DoublePropertyConverter implements PropertyConverter<Double> {
+
+    @Override
+    public Double convert(PropertyValue propertyValue) {
+        try {
+            return toDouble(propertyValue);
+        } catch (NumberFormatException e) {
+            throw PropertyConversionException.builder()
+                    .propertyValue(propertyValue)
+                    .type(getType())
+                    .cause(e)
+                    .build();
+        }
+    }
+
+    private Double toDouble(PropertyValue propertyValue) {
+        return switch(propertyValue) {
+            //unlike the integer parsing methods, parseDouble does not accept null
+            case SinglePropertyValue(var value) when value != null -> Double.parseDouble(value);
+            case SinglePropertyValue spv -> throw PropertyConversionException.builder()
+                    .propertyValue(propertyValue)
+                    .type(getType())
+                    .build();
+            case ListPropertyValue lpv -> throw PropertyConversionException.builder()
+                    .propertyValue(propertyValue)
+                    .type(getType())
+                    .build();
+        };
+    }
+
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
+    @Override
+    public Class<Double> getType() {
+        return Double.class;
+    }
+}
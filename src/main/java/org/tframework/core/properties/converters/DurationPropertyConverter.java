@@ -0,0 +1,99 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.properties.converters;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+import org.tframework.core.elements.annotations.Element;
+import org.tframework.core.properties.ListPropertyValue;
+import org.tframework.core.properties.PropertyValue;
+import org.tframework.core.properties.SinglePropertyValue;
+
+/**
+ * A {@link PropertyConverter} that converts to {@link Duration}. Two formats are accepted:
+ * <ul>
+ *     <li>The ISO-8601 format, as specified in {@link Duration#parse(CharSequence)}, for example {@code PT1M30S}.</li>
+ *     <li>
+ *         A whole number with an optional unit: {@code ns}, {@code us}, {@code ms}, {@code s}, {@code m}, {@code h}
+ *         or {@code d}, for example {@code 30s} or {@code 500ms}. Numbers without a unit are milliseconds.
+ *     </li>
+ * </ul>
+ * The unit is case-insensitive, and leading or trailing whitespace is ignored.
+ */
+@Element
+public class DurationPropertyConverter implements PropertyConverter<Duration> {
+
+    @Override
+    public Duration convert(PropertyValue propertyValue) {
+        try {
+            return toDuration(propertyValue);
+        } catch (DateTimeException | ArithmeticException | IllegalArgumentException e) {
+            throw PropertyConversionException.builder()
+                    .propertyValue(propertyValue)
+                    .type(getType())
+                    .cause(e)
+                    .build();
+        }
+    }
+
+    private Duration toDuration(PropertyValue propertyValue) {
+        return switch(propertyValue) {
+            case SinglePropertyValue(var value) when value != null -> parseDuration(value.trim());
+            case SinglePropertyValue spv -> throw PropertyConversionException.builder()
+                    .propertyValue(propertyValue)
+                    .type(getType())
+                    .build();
+            case ListPropertyValue lpv -> throw PropertyConversionException.builder()
+                    .propertyValue(propertyValue)
+                    .type(getType())
+                    .build();
+        };
+    }
+
+    private Duration parseDuration(String value) {
+        if(isIsoFormat(value)) {
+            return Duration.parse(value);
+        }
+        int unitStart = findUnitStart(value);
+        long amount = Long.parseLong(value.substring(0, unitStart));
+        String unit = value.substring(unitStart).trim().toLowerCase(Locale.ROOT);
+        return Duration.of(amount, toChronoUnit(unit));
+    }
+
+    private boolean isIsoFormat(String value) {
+        int start = value.startsWith("-") || value.startsWith("+") ? 1 : 0;
+        return value.length() > start && Character.toUpperCase(value.charAt(start)) == 'P';
+    }
+
+    private int findUnitStart(String value) {
+        int index = value.startsWith("-") || value.startsWith("+") ? 1 : 0;
+        while(index < value.length() && Character.isDigit(value.charAt(index))) {
+            index++;
+        }
+        return index;
+    }
+
+    private ChronoUnit toChronoUnit(String unit) {
+        return switch(unit) {
+            case "ns" -> ChronoUnit.NANOS;
+            case "us" -> ChronoUnit.MICROS;
+            case "", "ms" -> ChronoUnit.MILLIS;
+            case "s" -> ChronoUnit.SECONDS;
+            case "m" -> ChronoUnit.MINUTES;
+            case "h" -> ChronoUnit.HOURS;
+            case "d" -> ChronoUnit.DAYS;
+            default -> throw new IllegalArgumentException("Unknown duration unit: " + unit);
+        };
+    }
+
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
+    @Override
+    public Class<Duration> getType() {
+        return Duration.class;
+    }
+}
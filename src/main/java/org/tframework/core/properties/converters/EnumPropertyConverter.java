@@ -0,0 +1,63 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.properties.converters;
+
+import java.util.Locale;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.tframework.core.properties.ListPropertyValue;
+import org.tframework.core.properties.PropertyValue;
+import org.tframework.core.properties.SinglePropertyValue;
+
+/**
+ * A {@link PropertyConverter} that converts to the constants of an enum. The matching is case-insensitive,
+ * and leading or trailing whitespace is ignored. Dashes in the value are matched to underscores in the constant
+ * name: for example {@code method-handle} is converted to {@code METHOD_HANDLE}.
+ * <p>
+ * This converter is not an element, because it has to be created for a specific enum type. The
+ * {@link PropertyConverterAggregator} creates one for the enums that have no other converter.
+ * @param <E> The enum type this converter produces.
+ */
+@RequiredArgsConstructor
+public class EnumPropertyConverter<E extends Enum<E>> implements PropertyConverter<E> {
+
+    @NonNull
+    private final Class<E> enumType;
+
+    @Override
+    public E convert(PropertyValue propertyValue) {
+        return switch(propertyValue) {
+            case SinglePropertyValue(var value) when value != null -> toEnumConstant(propertyValue, value);
+            case SinglePropertyValue spv -> throw PropertyConversionException.builder()
+                    .propertyValue(propertyValue)
+                    .type(getType())
+                    .build();
+            case ListPropertyValue lpv -> throw PropertyConversionException.builder()
+                    .propertyValue(propertyValue)
+                    .type(getType())
+                    .build();
+        };
+    }
+
+    private E toEnumConstant(PropertyValue propertyValue, String value) {
+        String constantName = value.trim().replace('-', '_').toUpperCase(Locale.ROOT);
+        try {
+            return Enum.valueOf(enumType, constantName);
+        } catch (IllegalArgumentException e) {
+            throw PropertyConversionException.builder()
+                    .propertyValue(propertyValue)
+                    .type(getType())
+                    .cause(e)
+                    .build();
+        }
+    }
+
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
+    @Override
+    public Class<E> getType() {
+        return enumType;
+    }
+}
@@ -36,6 +36,11 @@ public class IntegerPropertyConverter implements PropertyConverter<Integer> {
         };
     }
 
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
     @Override
     public Class<Integer> getType() {
         return Integer.class;
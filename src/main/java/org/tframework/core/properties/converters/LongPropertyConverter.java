@@ -0,0 +1,48 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.properties.converters;
+
+import org.tframework.core.elements.annotations.Element;
+import org.tframework.core.properties.ListPropertyValue;
+import org.tframework.core.properties.PropertyValue;
+import org.tframework.core.properties.SinglePropertyValue;
+
+/**
+ * A {@link PropertyConverter} that converts to long, as specified in
+ * {@link Long#parseLong(String)}.
+ */
+@Element
+public class LongPropertyConverter implements PropertyConverter<Long> {
+
+    @Override
+    public Long convert(PropertyValue propertyValue) {
+        try {
+            return toLong(propertyValue);
+        } catch (NumberFormatException e) {
+            throw PropertyConversionException.builder()
+                    .propertyValue(propertyValue)
+                    .type(getType())
+                    .cause(e)
+                    .build();
+        }
+    }
+
+    private Long toLong(PropertyValue propertyValue) {
+        return switch(propertyValue) {
+            case SinglePropertyValue(var value) -> Long.parseLong(value);
+            case ListPropertyValue lpv -> throw PropertyConversionException.builder()
+                    .propertyValue(propertyValue)
+                    .type(getType())
+                    .build();
+        };
+    }
+
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
+    @Override
+    public Class<Long> getType() {
+        return Long.class;
+    }
+}
@@ -0,0 +1,54 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.properties.converters;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import org.tframework.core.elements.annotations.Element;
+import org.tframework.core.properties.ListPropertyValue;
+import org.tframework.core.properties.PropertyValue;
+import org.tframework.core.properties.SinglePropertyValue;
+
+/**
+ * A {@link PropertyConverter} that converts to {@link Path}, as specified in {@link Path#of(String, String...)}.
+ * The path is not resolved, and it does not need to exist.
+ */
+@Element
+public class PathPropertyConverter implements PropertyConverter<Path> {
+
+    @Override
+    public Path convert(PropertyValue propertyValue) {
+        try {
+            return toPath(propertyValue);
+        } catch (InvalidPathException e) {
+            throw PropertyConversionException.builder()
+                    .propertyValue(propertyValue)
+                    .type(getType())
+                    .cause(e)
+                    .build();
+        }
+    }
+
+    private Path toPath(PropertyValue propertyValue) {
+        return switch(propertyValue) {
+            case SinglePropertyValue(var value) when value != null -> Path.of(value);
+            case SinglePropertyValue spv -> throw PropertyConversionException.builder()
+                    .propertyValue(propertyValue)
+                    .type(getType())
+                    .build();
+            case ListPropertyValue lpv -> throw PropertyConversionException.builder()
+                    .propertyValue(propertyValue)
+                    .type(getType())
+                    .build();
+        };
+    }
+
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
+    @Override
+    public Class<Path> getType() {
+        return Path.class;
+    }
+}
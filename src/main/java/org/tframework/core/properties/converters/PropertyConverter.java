@@ -40,4 +40,13 @@ public interface PropertyConverter<T> {
      */
     Class<T> getType();
 
+    /**
+     * @return True if the values produced by this converter can be cached and shared: they are immutable, and
+     * converting the same {@link PropertyValue} always produces an equal value. Converted values are only cached
+     * if this is true, which is not the default, because a shared mutable value could be changed by its users.
+     */
+    default boolean isCacheable() {
+        return false;
+    }
+
 }
@@ -1,11 +1,11 @@
 /* Licensed under Apache-2.0 2024. */
 package org.tframework.core.properties.converters;
 
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import lombok.AccessLevel;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 import org.tframework.core.properties.PropertyValue;
 import org.tframework.core.utils.PrimitivesUtils;
 
@@ -25,14 +25,35 @@ import org.tframework.core.utils.PrimitivesUtils;
  *         Multiple assignable converters will result in the first one found being used.
  *     </li>
  *     <li>
- *         If there is no exact or assignable match, a {@link PropertyConverterNotFoundException} is raised.
+ *         If there is no exact or assignable match, but the type is an enum, an {@link EnumPropertyConverter} is
+ *         created for it.
+ *     </li>
+ *     <li>
+ *         Otherwise, a {@link PropertyConverterNotFoundException} is raised.
  *     </li>
  * </ol>
+ * Primitive types are matched as their wrapper types. The converters with exact types are put into an identity map
+ * when the aggregator is created, and the converter selected for a type is remembered by a {@link ClassValue}, so
+ * after the first conversion to a type (primitive or not), selecting the converter is a lookup on the class itself.
  */
-@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public class PropertyConverterAggregator {
 
     private final List<PropertyConverter<?>> converters;
+    private final Map<Class<?>, PropertyConverter<?>> convertersByType;
+    private final ClassValue<PropertyConverter<?>> selectedConverters;
+
+    private PropertyConverterAggregator(List<PropertyConverter<?>> converters) {
+        this.converters = converters;
+        this.convertersByType = new IdentityHashMap<>();
+        //the first converter with the exact type is used
+        converters.forEach(converter -> convertersByType.putIfAbsent(converter.getType(), converter));
+        this.selectedConverters = new ClassValue<>() {
+            @Override
+            protected PropertyConverter<?> computeValue(Class<?> requiredType) {
+                return selectConverter(requiredType);
+            }
+        };
+    }
 
     /**
      * Convert the {@link PropertyValue} to the required type. See the class documentation for the rules.
@@ -43,17 +64,32 @@ public class PropertyConverterAggregator {
      */
     @SuppressWarnings("unchecked")
     public <T> T convert(PropertyValue propertyValue, Class<T> requiredType) throws PropertyConverterNotFoundException {
-        var nonPrimitiveType = PrimitivesUtils.toWrapper(requiredType);
-        PropertyConverter<?> converterToUse = findConverterWithExactType(nonPrimitiveType)
-                .orElse(findConverterWithAssignableType(nonPrimitiveType)
-                        .orElseThrow(() -> new PropertyConverterNotFoundException(requiredType)));
-        return (T) converterToUse.convert(propertyValue);
+        return (T) findConverter(requiredType).convert(propertyValue);
     }
 
-    private Optional<PropertyConverter<?>> findConverterWithExactType(Class<?> requiredType) {
-        return converters.stream()
-                .filter(converter -> converter.getType().equals(requiredType))
-                .findFirst();
+    /**
+     * Checks if the values converted to the required type can be cached, see {@link PropertyConverter#isCacheable()}.
+     * @throws PropertyConverterNotFoundException If there is no matching {@link PropertyConverter}.
+     */
+    public boolean isCacheable(Class<?> requiredType) throws PropertyConverterNotFoundException {
+        return findConverter(requiredType).isCacheable();
+    }
+
+    private PropertyConverter<?> findConverter(Class<?> requiredType) {
+        //a missing converter is not remembered, the exception is thrown again on the next call
+        return selectedConverters.get(requiredType);
+    }
+
+    private PropertyConverter<?> selectConverter(Class<?> requiredType) {
+        var nonPrimitiveType = PrimitivesUtils.toWrapper(requiredType);
+        var converter = convertersByType.get(nonPrimitiveType);
+        if(converter != null) {
+            return converter;
+        }
+        //not an exact match, so it can only be an assignable one
+        return findConverterWithAssignableType(nonPrimitiveType)
+                .or(() -> createEnumConverter(nonPrimitiveType))
+                .orElseThrow(() -> new PropertyConverterNotFoundException(requiredType));
     }
 
     private Optional<PropertyConverter<?>> findConverterWithAssignableType(Class<?> requiredType) {
@@ -62,6 +98,14 @@ public class PropertyConverterAggregator {
                 .findFirst();
     }
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Optional<PropertyConverter<?>> createEnumConverter(Class<?> requiredType) {
+        if(!requiredType.isEnum()) {
+            return Optional.empty();
+        }
+        return Optional.of(new EnumPropertyConverter(requiredType));
+    }
+
     /**
      * Creates a new aggregator that will use the provided {@link PropertyConverter}s.
      */
@@ -21,6 +21,11 @@ public class StringPropertyConverter implements PropertyConverter<String> {
         };
     }
 
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
     @Override
     public Class<String> getType() {
         return String.class;
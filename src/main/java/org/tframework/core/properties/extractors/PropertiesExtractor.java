@@ -32,4 +32,14 @@ public interface PropertiesExtractor {
      */
     List<Property> extractProperties(Map<String, Object> parsedYaml);
 
+    /**
+     * Extracts one property from a leaf of the "raw" YAML, such as the ones that
+     * {@link org.tframework.core.properties.yamlparsers.YamlParser#parseYaml(java.io.Reader, String, java.util.function.BiConsumer)}
+     * passes to its handler.
+     * @param propertyName Name of the property, which is the path of the leaf.
+     * @param leaf The leaf, which is anything but a {@link Map}, and can also be null.
+     * @return The extracted {@link Property}.
+     */
+    Property extractProperty(String propertyName, Object leaf);
+
 }
@@ -28,6 +28,11 @@ public class RecursivePropertiesExtractor implements PropertiesExtractor {
         return properties;
     }
 
+    @Override
+    public Property extractProperty(String propertyName, Object leaf) {
+        return new Property(propertyName, extractLeafValue(leaf));
+    }
+
     @SuppressWarnings("unchecked")
     private void saveProperties(
             List<Property> properties,
@@ -42,7 +47,7 @@ public class RecursivePropertiesExtractor implements PropertiesExtractor {
             if(node instanceof Map<?, ?>) { // node is a Map, but not necessarily Map<String, Object>...
                 saveProperties(properties, newPropertyPath, (Map<String, Object>) node);
             } else { //this node is a leaf
-                properties.add(new Property(newPropertyPath, extractLeafValue(node)));
+                properties.add(extractProperty(newPropertyPath, node));
             }
         }
     }
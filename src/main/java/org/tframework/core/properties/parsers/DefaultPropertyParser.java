@@ -13,7 +13,8 @@ import org.tframework.core.properties.SinglePropertyValue;
  * A default implementation of {@link PropertyParser} that is used by the framework to
  * parse raw property strings.
  * <ul>
- *     <li>Raw property values must contain the separator. See {@link PropertyParsingUtils#separateNameValue(String)}.</li>
+ *     <li>Raw property values must contain the separator. See {@link PropertyParsingUtils#separateNameValue(String)}.
+ *     {@link SeparatedProperty}s follow the same rules, but they are only joined and separated again if needed.</li>
  *     <li>The raw value is checked if it is a list or not. See {@link PropertyParsingUtils#isListValue(String)}.</li>
  *     <li>If list, the elements are extracted. See {@link PropertyParsingUtils#extractListElements(String)}.</li>
  *     <li>If single value, it is returned as is.</li>
@@ -29,23 +30,39 @@ public class DefaultPropertyParser implements PropertyParser {
     public Property parseProperty(String rawProperty) {
         var separatedProperty = PropertyParsingUtils.separateNameValue(rawProperty);
         log.trace("Separated raw property '{}' into name: '{}', value: '{}'", rawProperty, separatedProperty.name(), separatedProperty.value());
+        return createProperty(separatedProperty);
+    }
+
+    /**
+     * Parses the property the same way as the raw property created by joining the name and the value.
+     * See {@link PropertyParsingUtils#separateNameValue(String, String)}.
+     */
+    @Override
+    public Property parseProperty(SeparatedProperty separatedProperty) {
+        return createProperty(PropertyParsingUtils.separateNameValue(separatedProperty.name(), separatedProperty.value()));
+    }
 
+    private Property createProperty(SeparatedProperty separatedProperty) {
         if(separatedProperty.name().isBlank()) {
-            throw new PropertyParsingException(rawProperty, BLANK_NAME_ERROR);
+            throw new PropertyParsingException(toRawProperty(separatedProperty), BLANK_NAME_ERROR);
         }
 
         if(PropertyParsingUtils.isListValue(separatedProperty.value())) {
-            log.trace("Raw property '{}' is a list.", rawProperty);
+            log.trace("Property '{}' is a list.", separatedProperty.name());
 
             var elements = PropertyParsingUtils.extractListElements(separatedProperty.value());
-            log.trace("Raw property '{}' has following list elements: {}", rawProperty, elements);
+            log.trace("Property '{}' has following list elements: {}", separatedProperty.name(), elements);
 
             PropertyValue propertyValue = new ListPropertyValue(elements);
             return new Property(separatedProperty.name(), propertyValue);
         } else {
-            log.trace("Raw property '{}' has a single value", rawProperty);
+            log.trace("Property '{}' has a single value", separatedProperty.name());
             PropertyValue propertyValue = new SinglePropertyValue(separatedProperty.value());
             return new Property(separatedProperty.name(), propertyValue);
         }
     }
+
+    private String toRawProperty(SeparatedProperty separatedProperty) {
+        return separatedProperty.name() + PropertyParsingUtils.PROPERTY_NAME_VALUE_SEPARATOR + separatedProperty.value();
+    }
 }
@@ -21,4 +21,16 @@ public interface PropertyParser {
      */
     Property parseProperty(String rawProperty) throws PropertyParsingException;
 
+    /**
+     * Converts a property, whose name and value are already separated, into a {@link Property} object.
+     * This is used when the name and the value are found separately, so the raw property string does not need to
+     * be created and parsed. By default, the name and the value are joined with
+     * {@value PropertyParsingUtils#PROPERTY_NAME_VALUE_SEPARATOR}, and the raw property string is parsed with
+     * {@link #parseProperty(String)}. Parsers can override this to skip creating the raw property string.
+     * @throws PropertyParsingException If the name or the value is invalid.
+     */
+    default Property parseProperty(SeparatedProperty separatedProperty) throws PropertyParsingException {
+        return parseProperty(separatedProperty.name() + PropertyParsingUtils.PROPERTY_NAME_VALUE_SEPARATOR + separatedProperty.value());
+    }
+
 }
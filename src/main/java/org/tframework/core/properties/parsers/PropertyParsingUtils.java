@@ -1,27 +1,28 @@
 /* Licensed under Apache-2.0 2024. */
 package org.tframework.core.properties.parsers;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.regex.Pattern;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.NonNull;
 
 /**
- * Various utility methods to aid {@link PropertyParser}s.
+ * Various utility methods to aid {@link PropertyParser}s. The raw properties are tokenized by hand in a single pass,
+ * without regular expressions, because there can be thousands of them in the environment and the CLI arguments.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class PropertyParsingUtils {
 
     public static final String ESCAPE_CHARACTER = "\\";
+    private static final char ESCAPE_CHAR = '\\';
 
     /**
      * The string that separates the name and value parts inside a raw property string.
      */
     public static final String PROPERTY_NAME_VALUE_SEPARATOR = "=";
-
-    private static final String SEPARATOR_REGEX = "(?<!\\" + ESCAPE_CHARACTER + ")" + PROPERTY_NAME_VALUE_SEPARATOR;
+    private static final char NAME_VALUE_SEPARATOR_CHAR = '=';
 
     static final String SEPARATOR_NOT_FOUND_ERROR = "The separator '" + PROPERTY_NAME_VALUE_SEPARATOR + "' was not " +
             "found in the raw property string. Cannot determine what is property name and what is the value";
@@ -43,22 +44,57 @@ public final class PropertyParsingUtils {
      * @throws PropertyParsingException If one of the rules described above is violated.
      */
     public static SeparatedProperty separateNameValue(@NonNull String rawProperty) throws PropertyParsingException {
-        String[] parts = rawProperty.split(SEPARATOR_REGEX);
-        if(parts.length < 2) {
+        //the parts between the non-escaped separators are found in one pass, and the trailing empty parts are ignored
+        int firstSeparatorIndex = -1;
+        int secondSeparatorIndex = -1;
+        int separatorCount = 0;
+        int lastNonEmptyPartIndex = -1;
+        for(int i = 0; i < rawProperty.length(); i++) {
+            if(isNonEscaped(rawProperty, i, NAME_VALUE_SEPARATOR_CHAR)) {
+                if(separatorCount == 0) {
+                    firstSeparatorIndex = i;
+                } else if(separatorCount == 1) {
+                    secondSeparatorIndex = i;
+                }
+                separatorCount++;
+            } else {
+                lastNonEmptyPartIndex = separatorCount;
+            }
+        }
+        if(lastNonEmptyPartIndex < 1) {
             throw new PropertyParsingException(rawProperty, SEPARATOR_NOT_FOUND_ERROR);
         }
-        if(parts.length > 2) {
+        if(lastNonEmptyPartIndex > 1) {
             throw new PropertyParsingException(rawProperty, MULTIPLE_SEPARATOR_FOUND_ERROR);
         }
-        return new SeparatedProperty(parts[0], parts[1]);
+        int valueEndIndex = secondSeparatorIndex >= 0 ? secondSeparatorIndex : rawProperty.length();
+        return new SeparatedProperty(
+                rawProperty.substring(0, firstSeparatorIndex),
+                rawProperty.substring(firstSeparatorIndex + 1, valueEndIndex)
+        );
+    }
+
+    /**
+     * Converts a name and a value, that were found separately, into a {@link SeparatedProperty}. The result is the same
+     * as separating the raw property {@code name}{@value PROPERTY_NAME_VALUE_SEPARATOR}{@code value} with
+     * {@link #separateNameValue(String)}, so the same rules apply. The raw property is only created when the name or
+     * the value has a separator or an escape character, or when the value is empty.
+     * @param name Name of the property, must not be null.
+     * @param value Value of the property, must not be null.
+     * @return {@link SeparatedProperty} object with the separated data.
+     * @throws PropertyParsingException If the raw property would violate the rules of {@link #separateNameValue(String)}.
+     */
+    public static SeparatedProperty separateNameValue(@NonNull String name, @NonNull String value) throws PropertyParsingException {
+        if(value.isEmpty() || hasSeparatorOrEscape(name) || hasSeparatorOrEscape(value)) {
+            return separateNameValue(name + PROPERTY_NAME_VALUE_SEPARATOR + value);
+        }
+        return new SeparatedProperty(name, value);
     }
 
     public static final String LIST_BEGIN_CHARACTER = "[";
     public static final String LIST_END_CHARACTER = "]";
-
-    private static final Pattern LIST_PATTERN = Pattern.compile(
-            "^(?<!\\" + ESCAPE_CHARACTER + ")\\" + LIST_BEGIN_CHARACTER + ".*" + "(?<!\\" + ESCAPE_CHARACTER + ")\\" + LIST_END_CHARACTER
-    );
+    private static final char LIST_BEGIN_CHAR = '[';
+    private static final char LIST_END_CHAR = ']';
 
     /**
      * Determines if a raw property value is list. It is only a list if:
@@ -70,12 +106,20 @@ public final class PropertyParsingUtils {
      * @return True only if the raw value is a list according to the rules above.
      */
     public static boolean isListValue(@NonNull String rawPropertyValue) {
-        return LIST_PATTERN.matcher(rawPropertyValue).matches();
+        int lastIndex = rawPropertyValue.length() - 1;
+        if(lastIndex < 1 || rawPropertyValue.charAt(0) != LIST_BEGIN_CHAR || !isNonEscaped(rawPropertyValue, lastIndex, LIST_END_CHAR)) {
+            return false;
+        }
+        for(int i = 1; i < lastIndex; i++) {
+            if(isLineTerminator(rawPropertyValue.charAt(i))) {
+                return false; //the elements of a list must be on one line
+            }
+        }
+        return true;
     }
 
     public static final String LIST_ELEMENT_SEPARATOR_CHARACTER = ",";
-
-    private static final String LIST_ELEMENT_SEPARATOR_REGEX = "(?<!\\" + ESCAPE_CHARACTER + ")" + LIST_ELEMENT_SEPARATOR_CHARACTER;
+    private static final char LIST_ELEMENT_SEPARATOR_CHAR = ',';
 
     /**
      * Extracts list elements from a raw property value. It is assumed that this raw value passes the
@@ -91,20 +135,68 @@ public final class PropertyParsingUtils {
      * @return
      */
     public static List<String> extractListElements(@NonNull String rawPropertyValue) {
-        //removing [ and ]
-        String strippedList = rawPropertyValue.substring(1, rawPropertyValue.length()-1);
-
-        var elements = Arrays.stream(strippedList.split(LIST_ELEMENT_SEPARATOR_REGEX, -1)) //-1 makes sure empty values are kept
-                //the escaped element separator and replaced with simple separators
-                .map(element -> element.replaceAll("\\" + ESCAPE_CHARACTER + LIST_ELEMENT_SEPARATOR_CHARACTER, LIST_ELEMENT_SEPARATOR_CHARACTER))
-                .toList();
-
-        if(elements.size() == 1 && "".equals(elements.get(0))) {
+        //the elements are between [ and ]
+        int endIndex = rawPropertyValue.length() - 1;
+        if(endIndex == 1) {
             //this is a special case when we need to create an empty list instead
             //of a list with the "" element
             return List.of();
-        } else {
-            return elements;
         }
+        List<String> elements = new ArrayList<>();
+        int elementStartIndex = 1;
+        boolean elementHasEscapedSeparator = false;
+        for(int i = 1; i <= endIndex; i++) {
+            if(i == endIndex || isNonEscaped(rawPropertyValue, i, LIST_ELEMENT_SEPARATOR_CHAR)) {
+                elements.add(elementHasEscapedSeparator
+                        ? unescapeListElementSeparators(rawPropertyValue, elementStartIndex, i)
+                        : rawPropertyValue.substring(elementStartIndex, i));
+                elementStartIndex = i + 1;
+                elementHasEscapedSeparator = false;
+            } else if(rawPropertyValue.charAt(i) == LIST_ELEMENT_SEPARATOR_CHAR) {
+                elementHasEscapedSeparator = true;
+            }
+        }
+        return Collections.unmodifiableList(elements);
+    }
+
+    /**
+     * Checks if the character at the index is the expected one, and it is not escaped by the previous character.
+     */
+    private static boolean isNonEscaped(String raw, int index, char expected) {
+        return raw.charAt(index) == expected && (index == 0 || raw.charAt(index - 1) != ESCAPE_CHAR);
+    }
+
+    private static boolean hasSeparatorOrEscape(String raw) {
+        for(int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if(c == NAME_VALUE_SEPARATOR_CHAR || c == ESCAPE_CHAR) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Creates the element between the indices, where the escaped separators are replaced with simple separators.
+     */
+    private static String unescapeListElementSeparators(String raw, int startIndex, int endIndex) {
+        var element = new StringBuilder(endIndex - startIndex);
+        for(int i = startIndex; i < endIndex; i++) {
+            char c = raw.charAt(i);
+            if(c == ESCAPE_CHAR && i + 1 < endIndex && raw.charAt(i + 1) == LIST_ELEMENT_SEPARATOR_CHAR) {
+                element.append(LIST_ELEMENT_SEPARATOR_CHAR);
+                i++;
+            } else {
+                element.append(c);
+            }
+        }
+        return element.toString();
+    }
+
+    /**
+     * The characters that end a line, which must not be inside a list value.
+     */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
     }
 }
@@ -5,7 +5,7 @@ import java.util.List;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.tframework.core.properties.parsers.PropertyParsingUtils;
+import org.tframework.core.properties.parsers.SeparatedProperty;
 import org.tframework.core.readers.EnvironmentVariableReader;
 
 /**
@@ -20,23 +20,27 @@ import org.tframework.core.readers.EnvironmentVariableReader;
  */
 @Slf4j
 @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
-public class EnvironmentPropertyScanner implements PropertyScanner {
+public class EnvironmentPropertyScanner implements SeparatedPropertyScanner {
 
     public static final String PROPERTY_VARIABLE_PREFIX = "TFRAMEWORK_PROPERTY_";
 
     private final EnvironmentVariableReader environmentVariableReader;
 
+    /**
+     * Finds the properties without creating raw properties, because the names and values are already separate.
+     * A separator in the value must still be escaped, the same way as in a raw property.
+     */
     @Override
-    public List<String> scanProperties() {
+    public List<SeparatedProperty> scanSeparatedProperties() {
         return environmentVariableReader.getAllVariableNames().stream()
                 .filter(variable -> variable.startsWith(PROPERTY_VARIABLE_PREFIX))
                 .peek(variable -> log.trace("Found variable '{}' that is candidate for property scanning", variable))
                 .map(variable -> {
-                    String propertyName = variable.replaceFirst(PROPERTY_VARIABLE_PREFIX, "");
+                    String propertyName = variable.substring(PROPERTY_VARIABLE_PREFIX.length());
                     String propertyValue = environmentVariableReader.readVariable(variable);
-                    return propertyName + PropertyParsingUtils.PROPERTY_NAME_VALUE_SEPARATOR + propertyValue;
+                    return new SeparatedProperty(propertyName, propertyValue);
                 })
-                .peek(rawProperty -> log.debug("Found '{}' raw property in environment variables", rawProperty))
+                .peek(property -> log.debug("Found property '{}' with value '{}' in environment variables", property.name(), property.value()))
                 .toList();
     }
 
@@ -7,6 +7,7 @@ import java.util.List;
  * Property scanners find raw property name-value pairs. It is not responsible for further processing
  * or validating the scanned raw values and usually passes on raw properties.
  * to a {@link org.tframework.core.properties.parsers.PropertyParser}.
+ * @see SeparatedPropertyScanner
  */
 public interface PropertyScanner {
 
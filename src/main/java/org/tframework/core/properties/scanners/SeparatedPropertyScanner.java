@@ -0,0 +1,33 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.properties.scanners;
+
+import java.util.List;
+import org.tframework.core.properties.parsers.PropertyParsingUtils;
+import org.tframework.core.properties.parsers.SeparatedProperty;
+
+/**
+ * A {@link PropertyScanner} that finds the names and the values of the properties separately, for example
+ * in environment variables. These properties are passed to
+ * {@link org.tframework.core.properties.parsers.PropertyParser#parseProperty(SeparatedProperty)} without creating
+ * the raw property strings. The scanner does not validate them: the parser applies the same rules as for the
+ * raw properties of {@link #scanProperties()}.
+ */
+public interface SeparatedPropertyScanner extends PropertyScanner {
+
+    /**
+     * Finds a list of properties, separated into name and value.
+     */
+    List<SeparatedProperty> scanSeparatedProperties();
+
+    /**
+     * Finds the raw properties, by joining the names and values of {@link #scanSeparatedProperties()} with
+     * {@value PropertyParsingUtils#PROPERTY_NAME_VALUE_SEPARATOR}.
+     */
+    @Override
+    default List<String> scanProperties() {
+        return scanSeparatedProperties().stream()
+                .map(property -> property.name() + PropertyParsingUtils.PROPERTY_NAME_VALUE_SEPARATOR + property.value())
+                .toList();
+    }
+
+}
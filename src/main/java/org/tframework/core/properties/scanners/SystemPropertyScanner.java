@@ -6,7 +6,7 @@ import java.util.List;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.tframework.core.properties.parsers.PropertyParsingUtils;
+import org.tframework.core.properties.parsers.SeparatedProperty;
 import org.tframework.core.readers.SystemPropertyReader;
 
 /**
@@ -22,23 +22,27 @@ import org.tframework.core.readers.SystemPropertyReader;
  */
 @Slf4j
 @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
-public class SystemPropertyScanner implements PropertyScanner {
+public class SystemPropertyScanner implements SeparatedPropertyScanner {
 
     public static final String PROPERTY_PREFIX = "tframework.property.";
 
     private final SystemPropertyReader systemPropertyReader;
 
+    /**
+     * Finds the properties without creating raw properties, because the names and values are already separate.
+     * A separator in the value must still be escaped, the same way as in a raw property.
+     */
     @Override
-    public List<String> scanProperties() {
+    public List<SeparatedProperty> scanSeparatedProperties() {
         return systemPropertyReader.getAllSystemPropertyNames().stream()
                 .filter(systemProp -> systemProp.startsWith(PROPERTY_PREFIX))
                 .peek(systemProp -> log.debug("Found system property '{}' that is candidate for property scanning", systemProp))
                 .map(systemProp -> {
-                    String propertyName = systemProp.replaceFirst(PROPERTY_PREFIX, "");
+                    String propertyName = systemProp.substring(PROPERTY_PREFIX.length());
                     String propertyValue = systemPropertyReader.readSystemProperty(systemProp);
-                    return propertyName + PropertyParsingUtils.PROPERTY_NAME_VALUE_SEPARATOR + propertyValue;
+                    return new SeparatedProperty(propertyName, propertyValue);
                 })
-                .peek(rawProperty -> log.debug("Found '{}' raw property in system properties", rawProperty))
+                .peek(property -> log.debug("Found property '{}' with value '{}' in system properties", property.name(), property.value()))
                 .toList();
     }
 
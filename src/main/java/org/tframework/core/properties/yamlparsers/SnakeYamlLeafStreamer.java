@@ -0,0 +1,303 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.properties.yamlparsers;
+
+import static org.tframework.core.properties.extractors.PropertiesExtractor.PROPERTY_PATH_SEPARATOR;
+
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+import org.yaml.snakeyaml.events.AliasEvent;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.NodeEvent;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+/**
+ * Walks the events of the {@code SnakeYaml} parser, and passes the leaves of the YAML to a handler as soon as they are
+ * parsed (see {@link YamlParser#parseYaml(java.io.Reader, String, BiConsumer)}). Only the path of the current node, and
+ * the events of the anchored nodes are kept in memory, so the mappings of the YAML are never built. The leaves are the
+ * same objects that {@link Yaml#load(String)} would put into its map: the scalars are resolved and constructed the same
+ * way, and the sequences become lists. Aliases are supported by replaying the events of the anchored node, and merge
+ * keys ({@code <<}) are supported as well: keys of the mapping override the merged keys.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+class SnakeYamlLeafStreamer {
+
+    private static final String ROOT_PATH = "";
+
+    private final Yaml snakeYaml;
+
+    /**
+     * Parses all documents of the YAML from the reader, and passes the path and value of each leaf to the handler.
+     * This method can be called from multiple threads at the same time.
+     */
+    void streamLeaves(Reader reader, BiConsumer<String, Object> leafHandler) {
+        var cursor = new EventCursor(snakeYaml.parse(reader).iterator());
+        new LeafStreaming(leafHandler).streamDocuments(cursor);
+    }
+
+    /**
+     * The state of streaming the leaves of one YAML.
+     */
+    @RequiredArgsConstructor
+    private static final class LeafStreaming {
+
+        private final BiConsumer<String, Object> leafHandler;
+        private final Resolver resolver = new Resolver();
+        private final ScalarConstructor scalarConstructor = new ScalarConstructor(); //its constructs are not thread safe
+        private final Map<String, List<Event>> anchoredEvents = new HashMap<>();
+
+        void streamDocuments(EventCursor cursor) {
+            while(cursor.hasNext()) {
+                Event event = cursor.next();
+                if(event.is(Event.ID.DocumentStart)) {
+                    anchoredEvents.clear(); //anchors are only valid in their own document
+                    streamRoot(cursor, cursor.next());
+                    cursor.next(); //document end
+                }
+                //stream start and end have nothing to stream
+            }
+        }
+
+        private void streamRoot(EventCursor cursor, Event rootEvent) {
+            if(rootEvent.is(Event.ID.MappingStart)) {
+                streamNode(cursor, rootEvent, ROOT_PATH);
+                return;
+            }
+            Object root = constructObject(cursor, rootEvent);
+            if(root != null) { //an empty document is just null
+                throw new IllegalArgumentException("The root of the YAML document must be a mapping, but it was: " + root);
+            }
+        }
+
+        private void streamNode(EventCursor cursor, Event event, String path) {
+            if(event instanceof AliasEvent aliasEvent) {
+                var replayCursor = replayAnchor(aliasEvent);
+                streamNode(replayCursor, replayCursor.next(), path);
+            } else if(event.is(Event.ID.MappingStart)) {
+                String anchor = startAnchor(cursor, event);
+                streamMapping(cursor, path);
+                finishAnchor(cursor, anchor);
+            } else {
+                leafHandler.accept(path, constructObject(cursor, event));
+            }
+        }
+
+        private void streamMapping(EventCursor cursor, String path) {
+            Set<Object> keys = new HashSet<>();
+            Map<Object, Object> mergedEntries = null;
+            Event keyEvent;
+            while(!(keyEvent = cursor.next()).is(Event.ID.MappingEnd)) {
+                if(isMergeKey(keyEvent)) {
+                    mergedEntries = collectMergedEntries(mergedEntries, constructObject(cursor, cursor.next()));
+                    continue;
+                }
+                Object key = constructObject(cursor, keyEvent);
+                keys.add(key);
+                streamNode(cursor, cursor.next(), concatPath(path, key));
+            }
+            if(mergedEntries != null) {
+                //the keys of the mapping override the merged ones, even if they came before the merge key
+                mergedEntries.forEach((key, value) -> {
+                    if(!keys.contains(key)) {
+                        streamObject(concatPath(path, key), value);
+                    }
+                });
+            }
+        }
+
+        /**
+         * Streams an already constructed object, the same way as its events would be streamed.
+         */
+        private void streamObject(String path, Object object) {
+            if(object instanceof Map<?, ?> map) {
+                map.forEach((key, value) -> streamObject(concatPath(path, key), value));
+            } else {
+                leafHandler.accept(path, object);
+            }
+        }
+
+        /**
+         * Constructs the Java object of the node that starts with the given event. This is used for the nodes that
+         * are not streamed: scalars, sequences (and anything inside them), keys and merged mappings.
+         */
+        private Object constructObject(EventCursor cursor, Event event) {
+            if(event instanceof AliasEvent aliasEvent) {
+                var replayCursor = replayAnchor(aliasEvent);
+                return constructObject(replayCursor, replayCursor.next());
+            }
+            String anchor = startAnchor(cursor, event);
+            Object object;
+            if(event instanceof ScalarEvent scalarEvent) {
+                object = constructScalar(scalarEvent);
+            } else if(event.is(Event.ID.SequenceStart)) {
+                List<Object> list = new ArrayList<>();
+                Event itemEvent;
+                while(!(itemEvent = cursor.next()).is(Event.ID.SequenceEnd)) {
+                    list.add(constructObject(cursor, itemEvent));
+                }
+                object = list;
+            } else if(event.is(Event.ID.MappingStart)) {
+                object = constructMapping(cursor);
+            } else {
+                throw new IllegalStateException("Unexpected YAML event: " + event);
+            }
+            finishAnchor(cursor, anchor);
+            return object;
+        }
+
+        private Map<Object, Object> constructMapping(EventCursor cursor) {
+            Map<Object, Object> mapping = new LinkedHashMap<>();
+            Map<Object, Object> mergedEntries = null;
+            Event keyEvent;
+            while(!(keyEvent = cursor.next()).is(Event.ID.MappingEnd)) {
+                if(isMergeKey(keyEvent)) {
+                    mergedEntries = collectMergedEntries(mergedEntries, constructObject(cursor, cursor.next()));
+                } else {
+                    Object key = constructObject(cursor, keyEvent);
+                    mapping.put(key, constructObject(cursor, cursor.next()));
+                }
+            }
+            if(mergedEntries != null) {
+                mergedEntries.putAll(mapping);
+                return mergedEntries;
+            }
+            return mapping;
+        }
+
+        private Object constructScalar(ScalarEvent scalarEvent) {
+            String tag = scalarEvent.getTag();
+            Tag nodeTag = (tag == null || tag.equals("!")) ? resolveTag(scalarEvent) : new Tag(tag);
+            var scalarNode = new ScalarNode(nodeTag, scalarEvent.getValue(), scalarEvent.getStartMark(),
+                    scalarEvent.getEndMark(), scalarEvent.getScalarStyle());
+            return scalarConstructor.constructScalarObject(scalarNode);
+        }
+
+        private Tag resolveTag(ScalarEvent scalarEvent) {
+            boolean implicit = scalarEvent.getImplicit().canOmitTagInPlainScalar();
+            return resolver.resolve(NodeId.scalar, scalarEvent.getValue(), implicit);
+        }
+
+        private boolean isMergeKey(Event keyEvent) {
+            return keyEvent instanceof ScalarEvent scalarEvent && scalarEvent.getTag() == null
+                    && Tag.MERGE.equals(resolveTag(scalarEvent));
+        }
+
+        /**
+         * Adds the entries of the merged mapping (or list of mappings) to the merged entries. When the same key is
+         * merged multiple times, the first one is kept.
+         */
+        private Map<Object, Object> collectMergedEntries(Map<Object, Object> mergedEntries, Object mergedValue) {
+            Map<Object, Object> entries = mergedEntries == null ? new LinkedHashMap<>() : mergedEntries;
+            List<?> mergedMappings = mergedValue instanceof List<?> list ? list : List.of(mergedValue);
+            for(Object mergedMapping : mergedMappings) {
+                if(!(mergedMapping instanceof Map<?, ?> map)) {
+                    throw new IllegalArgumentException("Only mappings can be merged, but found: " + mergedMapping);
+                }
+                map.forEach(entries::putIfAbsent);
+            }
+            return entries;
+        }
+
+        private String startAnchor(EventCursor cursor, Event event) {
+            String anchor = ((NodeEvent) event).getAnchor();
+            if(anchor != null) {
+                cursor.startRecording(event);
+            }
+            return anchor;
+        }
+
+        private void finishAnchor(EventCursor cursor, String anchor) {
+            if(anchor != null) {
+                anchoredEvents.put(anchor, cursor.finishRecording());
+            }
+        }
+
+        private EventCursor replayAnchor(AliasEvent aliasEvent) {
+            List<Event> events = anchoredEvents.get(aliasEvent.getAnchor());
+            if(events == null) {
+                throw new IllegalArgumentException("Found undefined alias: " + aliasEvent.getAnchor());
+            }
+            return new EventCursor(events.iterator());
+        }
+
+        private String concatPath(String parentPath, Object key) {
+            if(parentPath.equals(ROOT_PATH)) {
+                return String.valueOf(key);
+            }
+            return parentPath + PROPERTY_PATH_SEPARATOR + key;
+        }
+    }
+
+    /**
+     * Iterates the events, and records them for the anchored nodes that are being parsed.
+     */
+    private static final class EventCursor {
+
+        private final Iterator<Event> events;
+        private final Deque<List<Event>> recordings = new ArrayDeque<>();
+
+        EventCursor(Iterator<Event> events) {
+            this.events = events;
+        }
+
+        boolean hasNext() {
+            return events.hasNext();
+        }
+
+        Event next() {
+            Event event = events.next();
+            for(List<Event> recording : recordings) {
+                recording.add(event);
+            }
+            return event;
+        }
+
+        /**
+         * Starts recording the events of a node, the first event being the already returned start of the node.
+         */
+        void startRecording(Event nodeStartEvent) {
+            List<Event> recording = new ArrayList<>();
+            recording.add(nodeStartEvent);
+            recordings.push(recording);
+        }
+
+        List<Event> finishRecording() {
+            return recordings.pop();
+        }
+    }
+
+    /**
+     * Exposes the scalar constructs of {@link SafeConstructor}, which create the same objects as {@link Yaml#load(String)}.
+     * The constructs are called directly, because {@code constructObject} would remember all nodes until the end
+     * of the document.
+     */
+    private static final class ScalarConstructor extends SafeConstructor {
+
+        ScalarConstructor() {
+            super(new LoaderOptions());
+        }
+
+        Object constructScalarObject(ScalarNode scalarNode) {
+            return getConstructor(scalarNode).construct(scalarNode);
+        }
+    }
+
+}
@@ -1,7 +1,9 @@
 /* Licensed under Apache-2.0 2024. */
 package org.tframework.core.properties.yamlparsers;
 
+import java.io.Reader;
 import java.util.Map;
+import java.util.function.BiConsumer;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import org.yaml.snakeyaml.Yaml;
@@ -13,6 +15,7 @@ import org.yaml.snakeyaml.Yaml;
 public class SnakeYamlParser implements YamlParser {
 
     private final Yaml snakeYaml;
+    private final SnakeYamlLeafStreamer leafStreamer;
 
     @Override
     public Map<String, Object> parseYaml(String yaml) {
@@ -22,4 +25,13 @@ public class SnakeYamlParser implements YamlParser {
             throw new YamlParsingException(yaml, e);
         }
     }
+
+    @Override
+    public void parseYaml(Reader reader, String sourceName, BiConsumer<String, Object> leafHandler) {
+        try {
+            leafStreamer.streamLeaves(reader, leafHandler);
+        } catch (Exception e) {
+            throw new YamlStreamParsingException(sourceName, e);
+        }
+    }
 }
@@ -1,7 +1,9 @@
 /* Licensed under Apache-2.0 2023. */
 package org.tframework.core.properties.yamlparsers;
 
+import java.io.Reader;
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 /**
  * A YAML parser converts a YAML string into a {@link Map} of contents, but does
@@ -19,4 +21,20 @@ public interface YamlParser {
      */
     Map<String, Object> parseYaml(String yaml);
 
+    /**
+     * Reads the YAML from the given reader, and passes its leaves to the handler while the YAML is being parsed,
+     * without building the whole {@link Map} first (and without reading the whole YAML into a string). The leaves are
+     * the values of {@link #parseYaml(String)} that are not maps, and the path of a leaf is made of the keys above it,
+     * joined with {@link org.tframework.core.properties.extractors.PropertiesExtractor#PROPERTY_PATH_SEPARATOR}.
+     * <p>
+     * If the YAML has multiple documents, all of them are parsed in order, so the leaves of the later documents are
+     * passed after the ones of the earlier documents. Empty documents are skipped.
+     * @param reader Reader of the YAML. It is not closed by this method.
+     * @param sourceName Name of the YAML source, such as a file name, only used in the error messages.
+     * @param leafHandler Receives the path and the value of each leaf.
+     * @throws YamlStreamParsingException If the parsing failed. Leaves found before the failure might have been passed
+     * to the handler already.
+     */
+    void parseYaml(Reader reader, String sourceName, BiConsumer<String, Object> leafHandler);
+
 }
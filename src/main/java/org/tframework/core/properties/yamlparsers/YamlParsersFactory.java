@@ -26,7 +26,7 @@ public final class YamlParsersFactory {
      */
     static SnakeYamlParser createSnakeYamlParser() {
         Yaml snakeYaml = new Yaml();
-        return new SnakeYamlParser(snakeYaml);
+        return new SnakeYamlParser(snakeYaml, new SnakeYamlLeafStreamer(snakeYaml));
     }
 
 }
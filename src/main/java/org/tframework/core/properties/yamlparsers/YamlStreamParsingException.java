@@ -0,0 +1,21 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.properties.yamlparsers;
+
+import org.tframework.core.TFrameworkException;
+
+/**
+ * Thrown when the YAML read from a source, such as a property file, cannot be parsed.
+ */
+public class YamlStreamParsingException extends TFrameworkException {
+
+    private static final String TEMPLATE = "Failed to parse YAML from '%s': %s";
+
+    public YamlStreamParsingException(String sourceName, Throwable cause) {
+        super(TEMPLATE.formatted(sourceName, cause.getMessage()), cause);
+    }
+
+    @Override
+    public String getMessageTemplate() {
+        return TEMPLATE;
+    }
+}
@@ -1,6 +1,9 @@
 /* Licensed under Apache-2.0 2023. */
 package org.tframework.core.readers;
 
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
 import java.util.function.Function;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -33,7 +36,13 @@ public final class ReadersFactory {
         Function<String, String> resourceAccessor = (String resourceName) -> {
             return ClassLoaderUtils.getResourceAsString(resourceName, ResourceFileReader.class);
         };
-        return new ResourceFileReader(resourceAccessor);
+        Function<String, InputStream> resourceStreamAccessor = (String resourceName) -> {
+            return ClassLoaderUtils.getResourceAsStream(resourceName, ResourceFileReader.class);
+        };
+        Function<String, Optional<Path>> resourceFileAccessor = (String resourceName) -> {
+            return ClassLoaderUtils.getResourceFile(resourceName, ResourceFileReader.class);
+        };
+        return new ResourceFileReader(resourceAccessor, resourceStreamAccessor, resourceFileAccessor);
     }
 
 }
@@ -1,6 +1,11 @@
 /* Licensed under Apache-2.0 2023. */
 package org.tframework.core.readers;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.Optional;
 import java.util.function.Function;
 import lombok.AccessLevel;
@@ -13,6 +18,8 @@ import lombok.RequiredArgsConstructor;
 public class ResourceFileReader {
 
     private final Function<String, String> resourceAccessor;
+    private final Function<String, InputStream> resourceStreamAccessor;
+    private final Function<String, Optional<Path>> resourceFileAccessor;
 
     /**
      * Reads the contents of the resource file into a string.
@@ -23,4 +30,26 @@ public class ResourceFileReader {
         return Optional.ofNullable(resourceAccessor.apply(resourceName))
                 .orElseThrow(() -> new ResourceNotFoundException(resourceName));
     }
+
+    /**
+     * Opens a reader to the resource file, which reads its contents as {@code UTF-8} without reading the whole file
+     * into memory. The caller must close the returned reader.
+     * @param resourceName Name of the resource file.
+     * @throws ResourceNotFoundException if resource with this name does not exist or could not be opened.
+     */
+    public Reader openResourceFile(String resourceName) {
+        var inputStream = Optional.ofNullable(resourceStreamAccessor.apply(resourceName))
+                .orElseThrow(() -> new ResourceNotFoundException(resourceName));
+        return new InputStreamReader(inputStream, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Finds the file of the resource on the file system. Only resources that are files can be watched for changes:
+     * resources inside of JARs, for example, are not files.
+     * @param resourceName Name of the resource file.
+     * @return The path of the file, or an empty optional if the resource does not exist, or it is not a file.
+     */
+    public Optional<Path> findResourceFile(String resourceName) {
+        return resourceFileAccessor.apply(resourceName);
+    }
 }
@@ -10,6 +10,16 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class AnnotationScannersFactory {
 
+    /**
+     * The maximum amount of scan results that the shared {@link CachingAnnotationScanner} remembers.
+     */
+    public static final int DEFAULT_CACHE_MAXIMUM_SIZE = 10_000;
+
+    private static final CachingAnnotationScanner SHARED_CACHING_SCANNER = createCachingAnnotationScanner(
+            createComposedAnnotationScanner(),
+            DEFAULT_CACHE_MAXIMUM_SIZE
+    );
+
     /**
      * Creates a {@link ComposedAnnotationScanner} that uses {@link ExtendedAnnotationMatcher}
      * to find annotations on classes.
@@ -19,4 +29,23 @@ public final class AnnotationScannersFactory {
         return new ComposedAnnotationScanner(matcher);
     }
 
+    /**
+     * Creates a {@link CachingAnnotationScanner} that remembers the results of another scanner.
+     * @param delegate The scanner that performs the actual scanning.
+     * @param maximumSize The maximum amount of cached scan results, must be positive.
+     */
+    public static CachingAnnotationScanner createCachingAnnotationScanner(AnnotationScanner delegate, int maximumSize) {
+        return new CachingAnnotationScanner(delegate, maximumSize);
+    }
+
+    /**
+     * Returns the {@link CachingAnnotationScanner} that is shared by the framework components. It wraps a
+     * {@link ComposedAnnotationScanner}, and remembers at most {@link #DEFAULT_CACHE_MAXIMUM_SIZE} results. Sharing is
+     * safe because the scan results only depend on the scanned elements, so repeated scans are answered from the cache, no
+     * matter which component asks.
+     */
+    public static CachingAnnotationScanner sharedCachingAnnotationScanner() {
+        return SHARED_CACHING_SCANNER;
+    }
+
 }
@@ -0,0 +1,246 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.reflection.annotations;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Repeatable;
+import java.lang.reflect.AnnotatedElement;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * An {@link AnnotationScanner} decorator that remembers the results of another scanner. The same elements are
+ * scanned for the same annotations many times during the startup (by filters, post-processors, comparators and
+ * dependency injection), but the results only depend on the annotations present, which never change. This class is thread-safe.
+ * <p>
+ * Two things are cached:
+ * <ul>
+ *     <li>
+ *         The results of {@link #scan(AnnotatedElement, Class)} and {@link #scanOne(AnnotatedElement, Class)}, for each
+ *         element and annotation type. There are at most {@link #getMaximumSize()} such results: when this is exceeded,
+ *         the oldest results are evicted. {@link #scanOneStrict(AnnotatedElement, Class)} and
+ *         {@link #hasAnnotation(AnnotatedElement, Class)} are answered from these results.
+ *     </li>
+ *     <li>
+ *         The meta-annotation closure of each annotation type: the type itself and all annotation types that are
+ *         present on it, directly or through other annotations. If no annotation on an element has the annotation to find
+ *         (or its {@link Repeatable} container) in its closure, then the result is empty without asking the delegate scanner.
+ *         Most scans are for annotations that are not present, so these do not even need to be stored.
+ *     </li>
+ * </ul>
+ * Exceptions of the delegate scanner are never cached. The closure shortcut is only used for annotation types that the
+ * delegate scanner already accepted once, so {@link UnsupportedAnnotationException}s are thrown the same way as without caching.
+ * @see AnnotationScannersFactory#createCachingAnnotationScanner(AnnotationScanner, int)
+ */
+@Slf4j
+public class CachingAnnotationScanner implements AnnotationScanner {
+
+    private static final ClassValue<Set<Class<? extends Annotation>>> META_ANNOTATION_CLOSURES = new ClassValue<>() {
+        @Override
+        protected Set<Class<? extends Annotation>> computeValue(Class<?> annotationType) {
+            return computeMetaAnnotationClosure(annotationType.asSubclass(Annotation.class));
+        }
+    };
+
+    @Getter
+    private final AnnotationScanner delegate;
+
+    @Getter
+    private final int maximumSize;
+
+    private final Map<ScanKey, List<? extends Annotation>> scanCache = new ConcurrentHashMap<>();
+    private final Queue<ScanKey> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final Set<Class<? extends Annotation>> acceptedAnnotationTypes = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param delegate The {@link AnnotationScanner} that performs the actual scanning.
+     * @param maximumSize The maximum amount of cached scan results, must be positive.
+     */
+    CachingAnnotationScanner(@NonNull AnnotationScanner delegate, int maximumSize) {
+        if(maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive, but it was " + maximumSize);
+        }
+        this.delegate = delegate;
+        this.maximumSize = maximumSize;
+    }
+
+    @Override
+    public <A extends Annotation> List<A> scan(AnnotatedElement annotatedElement, Class<A> annotationToFind) {
+        return scanCached(annotatedElement, annotationToFind, ScanMode.ALL);
+    }
+
+    @Override
+    public <A extends Annotation> Optional<A> scanOne(AnnotatedElement annotatedElement, Class<A> annotationToFind) {
+        //all annotations are found in the same order, so a cached full scan also has the first annotation
+        List<A> allScannedAnnotations = getCached(new ScanKey(annotatedElement, annotationToFind, ScanMode.ALL));
+        if(allScannedAnnotations != null) {
+            hits.increment();
+            return allScannedAnnotations.stream().findFirst();
+        }
+        return scanCached(annotatedElement, annotationToFind, ScanMode.FIRST).stream().findFirst();
+    }
+
+    @Override
+    public <A extends Annotation> Optional<A> scanOneStrict(AnnotatedElement annotatedElement, Class<A> annotationToFind) {
+        var scannedAnnotations = scan(annotatedElement, annotationToFind);
+        if(scannedAnnotations.size() > 1) {
+            throw new MultipleAnnotationsScannedException(annotatedElement, scannedAnnotations);
+        }
+        return scannedAnnotations.stream().findFirst();
+    }
+
+    @Override
+    public <A extends Annotation> boolean hasAnnotation(AnnotatedElement annotatedElement, Class<A> annotationToFind) {
+        return scanOne(annotatedElement, annotationToFind).isPresent();
+    }
+
+    /**
+     * @return The current {@link CacheStatistics} of this scanner.
+     */
+    public CacheStatistics getStatistics() {
+        return new CacheStatistics(hits.sum(), misses.sum(), evictions.sum(), scanCache.size());
+    }
+
+    /**
+     * Discards all cached scan results. The meta-annotation closures are kept, because they can't change.
+     */
+    public void clear() {
+        scanCache.clear();
+        insertionOrder.clear();
+    }
+
+    /**
+     * Returns the meta-annotation closure of an annotation type: the type itself, and every annotation type that can be reached
+     * by following the annotations on annotation types. This is computed only once for each annotation type.
+     */
+    public static Set<Class<? extends Annotation>> getMetaAnnotationClosure(@NonNull Class<? extends Annotation> annotationType) {
+        return META_ANNOTATION_CLOSURES.get(annotationType);
+    }
+
+    private <A extends Annotation> List<A> scanCached(
+            AnnotatedElement annotatedElement,
+            Class<A> annotationToFind,
+            ScanMode scanMode
+    ) {
+        var key = new ScanKey(annotatedElement, annotationToFind, scanMode);
+        List<A> cachedAnnotations = getCached(key);
+        if(cachedAnnotations != null) {
+            hits.increment();
+            return cachedAnnotations;
+        }
+
+        if(acceptedAnnotationTypes.contains(annotationToFind) && cannotBePresent(annotatedElement, annotationToFind)) {
+            hits.increment();
+            return List.of();
+        }
+
+        misses.increment();
+        List<A> scannedAnnotations = switch (scanMode) {
+            case ALL -> List.copyOf(delegate.scan(annotatedElement, annotationToFind));
+            case FIRST -> delegate.scanOne(annotatedElement, annotationToFind).map(List::of).orElseGet(List::of);
+        };
+        acceptedAnnotationTypes.add(annotationToFind);
+        store(key, scannedAnnotations);
+        return scannedAnnotations;
+    }
+
+    @SuppressWarnings("unchecked") //the key contains the annotation type, so the cached list has that type
+    private <A extends Annotation> List<A> getCached(ScanKey key) {
+        return (List<A>) scanCache.get(key);
+    }
+
+    private void store(ScanKey key, List<? extends Annotation> scannedAnnotations) {
+        if(scanCache.putIfAbsent(key, scannedAnnotations) != null) {
+            return; //another thread cached the same result
+        }
+        insertionOrder.add(key);
+        while(scanCache.size() > maximumSize) {
+            var oldestKey = insertionOrder.poll();
+            if(oldestKey == null) {
+                break;
+            }
+            if(scanCache.remove(oldestKey) != null) {
+                evictions.increment();
+            }
+        }
+    }
+
+    private boolean cannotBePresent(AnnotatedElement annotatedElement, Class<? extends Annotation> annotationToFind) {
+        Class<? extends Annotation> repeatableContainer = annotationToFind.isAnnotationPresent(Repeatable.class)
+                ? annotationToFind.getAnnotation(Repeatable.class).value()
+                : null;
+        for(Annotation annotation: annotatedElement.getAnnotations()) {
+            var closure = getMetaAnnotationClosure(annotation.annotationType());
+            if(closure.contains(annotationToFind) || (repeatableContainer != null && closure.contains(repeatableContainer))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Set<Class<? extends Annotation>> computeMetaAnnotationClosure(Class<? extends Annotation> annotationType) {
+        Set<Class<? extends Annotation>> closure = new HashSet<>();
+        collectMetaAnnotations(annotationType, closure);
+        log.trace("Meta-annotation closure of '{}' has {} annotation types", annotationType.getName(), closure.size());
+        return Set.copyOf(closure);
+    }
+
+    private static void collectMetaAnnotations(Class<? extends Annotation> annotationType, Set<Class<? extends Annotation>> closure) {
+        if(!closure.add(annotationType)) {
+            return; //already visited, annotations can be placed on each other
+        }
+        for(Annotation metaAnnotation: annotationType.getAnnotations()) {
+            collectMetaAnnotations(metaAnnotation.annotationType(), closure);
+        }
+    }
+
+    private enum ScanMode {
+        ALL,
+        FIRST
+    }
+
+    private record ScanKey(
+            AnnotatedElement annotatedElement,
+            Class<? extends Annotation> annotationToFind,
+            ScanMode scanMode
+    ) {
+    }
+
+    /**
+     * Statistics of a {@link CachingAnnotationScanner}.
+     * @param hits Amount of scans that were answered without the delegate scanner.
+     * @param misses Amount of scans that were performed by the delegate scanner.
+     * @param evictions Amount of cached results that were discarded because the maximum size was exceeded.
+     * @param size The current amount of cached scan results.
+     */
+    public record CacheStatistics(
+            long hits,
+            long misses,
+            long evictions,
+            int size
+    ) {
+
+        /**
+         * @return The ratio of hits among all scans, or 0 if there were no scans.
+         */
+        public double hitRatio() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+
+    }
+
+}
@@ -54,6 +54,17 @@ public class ComposedAnnotationScanner implements AnnotationScanner {
             "java.lang.annotation", "kotlin.annotation", "kotlin"
     );
 
+    /**
+     * Caches the result of {@link #isUnsupportedAnnotation(Class)}, because it is checked for every annotation
+     * at every step of the scanning.
+     */
+    private static final ClassValue<Boolean> UNSUPPORTED_ANNOTATIONS = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> annotationClass) {
+            return computeUnsupported(annotationClass);
+        }
+    };
+
     private final AnnotationMatcher annotationMatcher;
 
     /**
@@ -126,11 +137,15 @@ public class ComposedAnnotationScanner implements AnnotationScanner {
      * @return True only of the {@code annotationClass} is unsupported.
      */
     public boolean isUnsupportedAnnotation(Class<? extends Annotation> annotationClass) {
+        return UNSUPPORTED_ANNOTATIONS.get(annotationClass);
+    }
+
+    private static boolean computeUnsupported(Class<?> annotationClass) {
         if(UNSUPPORTED_PACKAGES.contains(annotationClass.getPackageName())) {
             log.trace("Annotation '{}' is in an unsupported package, skipping.", annotationClass.getName());
             return true;
         }
-        if(annotationClass.isAnnotationPresent(annotationClass)) {
+        if(annotationClass.isAnnotationPresent(annotationClass.asSubclass(Annotation.class))) {
             log.trace("Annotation '{}' is annotated with itself, skipping.", annotationClass.getName());
             return true;
         }
@@ -21,7 +21,8 @@ public final class ClassScannersFactory {
 
     /**
      * Creates a {@link PackageClassScanner} with no packages assigned. This can be done
-     * later with {@link PackageClassScanner#setPackageNames(Set)} and {@link PackageClassScanner#setRejectedPackages(Set)}.
+     * later with {@link PackageClassScanner#setPackageNames(Set)}, {@link PackageClassScanner#setRejectedPackages(Set)}
+     * and {@link PackageClassScanner#setRejectedRootResources(Set)}.
      */
     public static PackageClassScanner createPackageClassScanner() {
         return new PackageClassScanner();
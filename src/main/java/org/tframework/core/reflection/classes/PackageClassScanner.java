@@ -23,7 +23,8 @@ import lombok.extern.slf4j.Slf4j;
  *     <li>Both outer and inner classes are found.</li>
  *     <li>Wildcards are supported inside the package names. For example {@code some.*.stuff}</li>
  * </ul>
- * There is no need to specify subpackages, because all subpackages are automatically scanned.
+ * There is no need to specify subpackages, because all subpackages are automatically scanned. Classpath roots
+ * (directories or JAR files) that contain any of the rejected root resources are not scanned at all.
  */
 @Slf4j
 @Setter
@@ -36,10 +37,12 @@ public class PackageClassScanner implements ClassScanner {
 
     private Set<String> packageNames;
     private Set<String> rejectedPackages;
+    private Set<String> rejectedRootResources;
 
     PackageClassScanner(Set<String> packageNames) {
         this.packageNames = packageNames;
         this.rejectedPackages = Set.of();
+        this.rejectedRootResources = Set.of();
     }
 
     /**
@@ -52,7 +55,8 @@ public class PackageClassScanner implements ClassScanner {
         ClassGraph classGraph = new ClassGraph()
                 .enableClassInfo()
                 .acceptPackages(safeToArray(packageNames))
-                .rejectPackages(safeToArray(rejectedPackages));
+                .rejectPackages(safeToArray(rejectedPackages))
+                .rejectClasspathElementsContainingResourcePath(safeToArray(rejectedRootResources));
 
         try(ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
             try(ScanResult scanResult = classGraph.scan(executor, THREAD_COUNT)) {
@@ -5,7 +5,10 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.Path;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -17,6 +20,8 @@ import org.tframework.core.readers.ResourceNotFoundException;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ClassLoaderUtils {
 
+    private static final String FILE_PROTOCOL = "file";
+
     /**
      * Load a resource as a {@link String}.
      * @param resourceName Name of the resource (relative path in the {@code resources} directory).
@@ -54,6 +59,25 @@ public final class ClassLoaderUtils {
         }
     }
 
+    /**
+     * Finds the file of a resource on the file system, for example when the {@code resources} directory is on the
+     * classpath during development. Resources inside of JARs don't have such a file.
+     * @param resourceName Name of the resource (relative path in the {@code resources} directory).
+     * @param callingClass Class that this method was called from.
+     * @return The path of the file, or an empty optional if the resource does not exist, or it is not a file.
+     */
+    public static Optional<Path> getResourceFile(String resourceName, Class<?> callingClass) {
+        URL url = getResource(resourceName, callingClass);
+        if(url == null || !FILE_PROTOCOL.equals(url.getProtocol())) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Path.of(url.toURI()));
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
     /**
      * Loads a resource as a {@link URL}.
      * @author OpenSymphony project
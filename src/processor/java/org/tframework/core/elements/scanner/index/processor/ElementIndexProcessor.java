@@ -0,0 +1,111 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.elements.scanner.index.processor;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor that writes the element index to {@value #INDEX_RESOURCE}. Every class that is annotated
+ * with {@code @Element}, directly or through a composed annotation, gets a line in the index with its binary name. At startup,
+ * the element scanners read this index instead of scanning the classpath root that it was written to.
+ * <p>
+ * This processor is packaged separately from the framework (with the {@code processor} classifier), and it does not depend
+ * on the framework classes, so it can be added to the annotation processor path on its own:
+ * <pre>{@code
+ * annotationProcessor "com.github.Gtomika:tframework-core:<version>:processor"
+ * }</pre>
+ * The processor is registered as an aggregating incremental processor for Gradle, so adding it does not disable
+ * incremental compilation. The format must be kept in sync with {@code ElementIndexReader}, which reads this file.
+ */
+@SupportedAnnotationTypes("*")
+public class ElementIndexProcessor extends AbstractProcessor {
+
+    static final String INDEX_RESOURCE = "META-INF/tframework/elements.idx";
+
+    private static final String ELEMENT_ANNOTATION = "org.tframework.core.elements.annotations.Element";
+
+    //sorted, so that the index is the same for the same sources
+    private final Set<String> indexedClassNames = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for(var rootElement : roundEnv.getRootElements()) {
+            if(rootElement instanceof TypeElement typeElement) {
+                indexType(typeElement);
+            }
+        }
+        if(roundEnv.processingOver() && !indexedClassNames.isEmpty()) {
+            writeIndex();
+        }
+        return false; //other processors can also process all annotations
+    }
+
+    private void indexType(TypeElement typeElement) {
+        if(typeElement.getKind() != ElementKind.ANNOTATION_TYPE && isElement(typeElement)) {
+            indexedClassNames.add(processingEnv.getElementUtils().getBinaryName(typeElement).toString());
+        }
+        //nested classes can also be elements
+        for(var enclosedElement : typeElement.getEnclosedElements()) {
+            if(enclosedElement instanceof TypeElement nestedTypeElement) {
+                indexType(nestedTypeElement);
+            }
+        }
+    }
+
+    private boolean isElement(Element annotatedElement) {
+        return annotatedElement.getAnnotationMirrors().stream()
+                .anyMatch(annotation -> isElementAnnotation(annotation, new HashSet<>()));
+    }
+
+    //an annotation is an element annotation if it is @Element, or any annotation on it is an element annotation
+    private boolean isElementAnnotation(AnnotationMirror annotation, Set<String> visitedAnnotations) {
+        var annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+        String annotationName = annotationType.getQualifiedName().toString();
+        if(ELEMENT_ANNOTATION.equals(annotationName)) {
+            return true;
+        }
+        if(!visitedAnnotations.add(annotationName) || annotationName.startsWith("java.lang.annotation.")) {
+            return false;
+        }
+        return annotationType.getAnnotationMirrors().stream()
+                .anyMatch(metaAnnotation -> isElementAnnotation(metaAnnotation, visitedAnnotations));
+    }
+
+    private void writeIndex() {
+        try {
+            var indexFile = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_RESOURCE);
+            try(Writer writer = new OutputStreamWriter(indexFile.openOutputStream(), StandardCharsets.UTF_8)) {
+                writer.write("# TFramework element index, written by " + getClass().getName() + "\n");
+                for(String className : indexedClassNames) {
+                    writer.write(className);
+                    writer.write("\n");
+                }
+            }
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    "Wrote " + indexedClassNames.size() + " elements to " + INDEX_RESOURCE);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write the element index: " + e.getMessage());
+        }
+    }
+
+}
@@ -1,9 +1,13 @@
 /* Licensed under Apache-2.0 2024. */
 package org.tframework.core;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.tframework.core.elements.ElementsContainer;
 import org.tframework.core.profiles.ProfilesContainer;
@@ -30,4 +34,43 @@ class ApplicationTest {
         assertThrows(IllegalStateException.class, application::finalizeApplication);
     }
 
+    @Test
+    public void shouldRunShutdownActionsInReverseOrder_whenStopped() {
+        Application application = Application.empty();
+        List<String> stoppedResources = new ArrayList<>();
+        application.addShutdownAction(() -> stoppedResources.add("first"));
+        application.addShutdownAction(() -> {
+            throw new IllegalStateException("Failed to stop");
+        });
+        application.addShutdownAction(() -> stoppedResources.add("last"));
+
+        application.stop();
+
+        assertTrue(application.isStopped());
+        assertEquals(List.of("last", "first"), stoppedResources);
+    }
+
+    @Test
+    public void shouldRunShutdownActionsOnce_whenStoppedAgain() {
+        Application application = Application.empty();
+        List<String> stoppedResources = new ArrayList<>();
+        application.addShutdownAction(() -> stoppedResources.add("resource"));
+
+        TFramework.stop(application);
+        TFramework.stop(application);
+
+        assertEquals(List.of("resource"), stoppedResources);
+    }
+
+    @Test
+    public void shouldAllowShutdownActionsAfterFinalization_butNotAfterStop() {
+        Application application = Application.empty();
+        application.finalizeApplication();
+        application.addShutdownAction(() -> {});
+
+        application.stop();
+
+        assertThrows(IllegalStateException.class, () -> application.addShutdownAction(() -> {}));
+    }
+
 }
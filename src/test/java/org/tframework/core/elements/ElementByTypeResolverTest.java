@@ -6,6 +6,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import java.io.File;
 import java.util.List;
@@ -44,7 +47,7 @@ public class ElementByTypeResolverTest {
     @Test
     public void shouldGetElementWithExactType() {
         var contexts = List.of(t1Context, t2Context);
-        var selectedContext = resolver.getElementByType(contexts, T1.class);
+        var selectedContext = resolver.getElementByType(ElementTypeIndex.of(contexts), T1.class);
         assertEquals(t1Context, selectedContext);
     }
 
@@ -52,7 +55,7 @@ public class ElementByTypeResolverTest {
     public void shouldThrowAmbiguousTypeException_whenMultipleElementsWithExactTypeExist() {
         var contexts = List.of(t2Context, t2Context, t1Context);
         var exception = assertThrows(AmbiguousElementTypeException.class, () -> {
-            resolver.getElementByType(contexts, T2.class);
+            resolver.getElementByType(ElementTypeIndex.of(contexts), T2.class);
         });
         assertTrue(exception.getMessage().contains(T2.class.getName()));
     }
@@ -60,7 +63,7 @@ public class ElementByTypeResolverTest {
     @Test
     public void shouldGetElementWithAssignableType() {
         var contexts = List.of(t1Context, t2Context);
-        var selectedContext = resolver.getElementByType(contexts, I1.class);
+        var selectedContext = resolver.getElementByType(ElementTypeIndex.of(contexts), I1.class);
         //T1 implements I1, so it should be selected
         assertEquals(t1Context, selectedContext);
     }
@@ -69,7 +72,7 @@ public class ElementByTypeResolverTest {
     public void shouldThrowAmbiguousTypeException_whenMultipleElementsWithAssignableTypeExist() {
         var contexts = List.of(t1Context, t2Context);
         var exception = assertThrows(AmbiguousElementTypeException.class, () -> {
-            resolver.getElementByType(contexts, Object.class);
+            resolver.getElementByType(ElementTypeIndex.of(contexts), Object.class);
         });
         assertTrue(exception.getMessage().contains(Object.class.getName()));
     }
@@ -78,7 +81,7 @@ public class ElementByTypeResolverTest {
     public void shouldThrowElementNotFoundException_whenNoElementsWithAssignableTypeExist() {
         var contexts = List.of(t1Context, t2Context);
         var exception = assertThrows(ElementNotFoundException.class, () -> {
-            resolver.getElementByType(contexts, String.class);
+            resolver.getElementByType(ElementTypeIndex.of(contexts), String.class);
         });
         assertEquals(
                 exception.getMessageTemplate().formatted(ElementNotFoundException.ASSIGNABLE_TO_TYPE, String.class.getName()),
@@ -90,14 +93,53 @@ public class ElementByTypeResolverTest {
     @ValueSource(classes = {T1.class, T2.class, I1.class})
     public void shouldReturnTrue_ifElementsExistWithAssignableType(Class<?> clazz) {
         var contexts = List.of(t1Context, t2Context, t2Context);
-        assertTrue(resolver.hasElementByType(contexts, clazz));
+        assertTrue(resolver.hasElementByType(ElementTypeIndex.of(contexts), clazz));
     }
 
     @ParameterizedTest
     @ValueSource(classes = {File.class, String.class})
     public void shouldReturnFalse_ifElementsDoNotExistWithAssignableType(Class<?> clazz) {
         var contexts = List.of(t1Context, t2Context);
-        assertFalse(resolver.hasElementByType(contexts, clazz));
+        assertFalse(resolver.hasElementByType(ElementTypeIndex.of(contexts), clazz));
+    }
+
+    @Test
+    public void shouldCacheResolution_andNotQueryIndexAgain() {
+        var typeIndex = spy(ElementTypeIndex.of(List.of(t1Context, t2Context)));
+
+        assertEquals(t1Context, resolver.getElementByType(typeIndex, I1.class));
+        assertEquals(t1Context, resolver.getElementByType(typeIndex, I1.class));
+        assertTrue(resolver.hasElementByType(typeIndex, I1.class));
+
+        verify(typeIndex, times(1)).getElementContextsWithExactType(I1.class);
+        verify(typeIndex, times(1)).getElementContextsWithAssignableType(I1.class);
+    }
+
+    @Test
+    public void shouldCacheNotFoundAndAmbiguousResolutions() {
+        var typeIndex = spy(ElementTypeIndex.of(List.of(t1Context, t2Context)));
+
+        assertThrows(ElementNotFoundException.class, () -> resolver.getElementByType(typeIndex, String.class));
+        assertThrows(ElementNotFoundException.class, () -> resolver.getElementByType(typeIndex, String.class));
+        assertThrows(AmbiguousElementTypeException.class, () -> resolver.getElementByType(typeIndex, Object.class));
+        assertThrows(AmbiguousElementTypeException.class, () -> resolver.getElementByType(typeIndex, Object.class));
+
+        assertEquals(ElementByTypeResolver.ResolutionOutcome.NOT_FOUND, resolver.resolve(typeIndex, String.class).outcome());
+        assertEquals(ElementByTypeResolver.ResolutionOutcome.AMBIGUOUS, resolver.resolve(typeIndex, Object.class).outcome());
+        verify(typeIndex, times(1)).getElementContextsWithAssignableType(String.class);
+        verify(typeIndex, times(1)).getElementContextsWithAssignableType(Object.class);
+    }
+
+    @Test
+    public void shouldResolveAgain_whenCacheIsInvalidated() {
+        var typeIndex = spy(ElementTypeIndex.of(List.of(t1Context)));
+        assertEquals(ElementByTypeResolver.ResolutionOutcome.EXACT_MATCH, resolver.resolve(typeIndex, T1.class).outcome());
+
+        typeIndex.add(t2Context);
+        resolver.invalidateCache();
+
+        assertEquals(t2Context, resolver.getElementByType(typeIndex, T2.class));
+        verify(typeIndex, times(1)).getElementContextsWithExactType(T2.class);
     }
 
     static class T1 implements I1 {}
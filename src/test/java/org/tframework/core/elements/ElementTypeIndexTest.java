@@ -0,0 +1,112 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.elements;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.tframework.core.elements.context.ElementContext;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ElementTypeIndexTest {
+
+    @Mock
+    private ElementContext t1Context;
+
+    @Mock
+    private ElementContext t2Context;
+
+    @BeforeEach
+    void setUp() {
+        doReturn(T1.class).when(t1Context).getType();
+        doReturn(T2.class).when(t2Context).getType();
+    }
+
+    @Test
+    public void shouldIndexByExactType() {
+        var index = ElementTypeIndex.of(List.of(t1Context, t2Context));
+
+        assertEquals(List.of(t1Context), index.getElementContextsWithExactType(T1.class));
+        assertEquals(List.of(t2Context), index.getElementContextsWithExactType(T2.class));
+        assertTrue(index.getElementContextsWithExactType(I1.class).isEmpty());
+    }
+
+    @Test
+    public void shouldIndexByAssignableType() {
+        var index = ElementTypeIndex.of(List.of(t1Context, t2Context));
+
+        assertEquals(List.of(t1Context, t2Context), index.getElementContextsWithAssignableType(I1.class));
+        assertEquals(List.of(t1Context, t2Context), index.getElementContextsWithAssignableType(Object.class));
+        assertEquals(List.of(t2Context), index.getElementContextsWithAssignableType(I2.class));
+        assertEquals(List.of(t2Context), index.getElementContextsWithAssignableType(T1Base.class));
+        assertTrue(index.getElementContextsWithAssignableType(String.class).isEmpty());
+    }
+
+    @Test
+    public void shouldRemoveFromAllIndexes() {
+        var index = ElementTypeIndex.of(List.of(t1Context, t2Context));
+
+        index.remove(t2Context);
+
+        assertTrue(index.getElementContextsWithExactType(T2.class).isEmpty());
+        assertTrue(index.getElementContextsWithAssignableType(I2.class).isEmpty());
+        assertEquals(List.of(t1Context), index.getElementContextsWithAssignableType(I1.class));
+    }
+
+    @Test
+    public void shouldNotAllowModifications_whenFrozen() {
+        var index = ElementTypeIndex.of(List.of(t1Context));
+
+        index.freeze();
+
+        assertThrows(IllegalStateException.class, () -> index.add(t2Context));
+        assertThrows(IllegalStateException.class, () -> index.remove(t1Context));
+        assertEquals(List.of(t1Context), index.getElementContextsWithAssignableType(I1.class));
+    }
+
+    @Test
+    public void shouldCollectAssignableTypes_ofClass() {
+        var assignableTypes = ElementTypeIndex.collectAssignableTypes(T2.class);
+
+        assertEquals(Set.of(T2.class, T1Base.class, I1.class, I2.class, Object.class), assignableTypes);
+    }
+
+    @Test
+    public void shouldCollectAssignableTypes_ofPrimitive() {
+        assertEquals(Set.of(int.class), ElementTypeIndex.collectAssignableTypes(int.class));
+    }
+
+    @ParameterizedTest
+    @ValueSource(classes = {T2[].class, I1[].class, Object[].class, Object.class, Cloneable.class, Serializable.class})
+    public void shouldCollectAssignableTypes_consistentWithIsAssignableFrom_forArrays(Class<?> superType) {
+        var assignableTypes = ElementTypeIndex.collectAssignableTypes(T2[].class);
+
+        assertTrue(superType.isAssignableFrom(T2[].class));
+        assertTrue(assignableTypes.contains(superType));
+    }
+
+    interface I1 {}
+
+    interface I2 extends I1 {}
+
+    static class T1 implements I1 {}
+
+    static class T1Base {}
+
+    static class T2 extends T1Base implements I2 {}
+
+}
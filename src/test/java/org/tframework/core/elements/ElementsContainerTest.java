@@ -2,8 +2,16 @@
 package org.tframework.core.elements;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
@@ -31,6 +39,7 @@ class ElementsContainerTest {
     @BeforeEach
     void setUp() {
         when(elementContext.getName()).thenReturn(ELEMENT_NAME);
+        doReturn(Integer.class).when(elementContext).getType();
     }
 
     @Test
@@ -59,7 +68,7 @@ class ElementsContainerTest {
     public void shouldGetElementByType() {
         var elements = List.of(elementContext);
         when(elementContext.getName()).thenReturn(ELEMENT_NAME);
-        when(elementByTypeResolver.getElementByType(elements, Integer.class)).thenReturn(elementContext);
+        when(elementByTypeResolver.getElementByType(any(ElementTypeIndex.class), eq(Integer.class))).thenReturn(elementContext);
 
         var elementsContainer = new ElementsContainer(elements, elementByTypeResolver);
 
@@ -70,7 +79,7 @@ class ElementsContainerTest {
     @Test
     public void shouldCheckIfHasElementByType() {
         var elements = List.of(elementContext);
-        when(elementByTypeResolver.hasElementByType(elements, Integer.class)).thenReturn(true);
+        when(elementByTypeResolver.hasElementByType(any(ElementTypeIndex.class), eq(Integer.class))).thenReturn(true);
 
         var elementsContainer = new ElementsContainer(elements, elementByTypeResolver);
 
@@ -108,4 +117,96 @@ class ElementsContainerTest {
         assertTrue(overrideHappened);
     }
 
+    @Test
+    public void shouldOverrideElement_andUpdateTypeIndex() {
+        var elementsContainer = new ElementsContainer(List.of(elementContext), elementByTypeResolver);
+        var overridingContext = mockElementContext(ELEMENT_NAME, String.class);
+
+        boolean overrideHappened = elementsContainer.overrideElementContext(overridingContext);
+
+        assertTrue(overrideHappened);
+        assertSame(overridingContext, elementsContainer.getElementContext(ELEMENT_NAME));
+        assertEquals(List.of(overridingContext), elementsContainer.getElementContextsWithType(CharSequence.class));
+        assertTrue(elementsContainer.getElementContextsWithType(Number.class).isEmpty());
+        assertEquals(1, elementsContainer.elementCount());
+    }
+
+    @Test
+    public void shouldAddElement_whenOverridingNonExistentElement() {
+        var elementsContainer = new ElementsContainer(List.of(), elementByTypeResolver);
+
+        boolean overrideHappened = elementsContainer.overrideElementContext(elementContext);
+
+        assertFalse(overrideHappened);
+        assertEquals(elementContext, elementsContainer.getElementContext(ELEMENT_NAME));
+    }
+
+    @Test
+    public void shouldRemoveElement_andUpdateTypeIndex() {
+        var otherContext = mockElementContext("other", Long.class);
+        var elementsContainer = new ElementsContainer(List.of(elementContext, otherContext), elementByTypeResolver);
+
+        elementsContainer.removeElementContext(elementContext);
+
+        assertFalse(elementsContainer.hasElementContext(ELEMENT_NAME));
+        assertEquals(List.of(otherContext), elementsContainer.getElementContextsWithType(Number.class));
+        assertEquals(1, elementsContainer.elementCount());
+    }
+
+    @Test
+    public void shouldGetElementsWithAssignableType_inInsertionOrder() {
+        var otherContext = mockElementContext("other", Long.class);
+        var stringContext = mockElementContext("string", String.class);
+        var elementsContainer = new ElementsContainer(List.of(elementContext, stringContext, otherContext), elementByTypeResolver);
+
+        assertEquals(List.of(elementContext, otherContext), elementsContainer.getElementContextsWithType(Number.class));
+        assertEquals(List.of(elementContext, stringContext, otherContext), elementsContainer.getElementContextsWithType(Object.class));
+    }
+
+    @Test
+    public void shouldFreezeContainer_afterInitialization() {
+        var elementsContainer = new ElementsContainer(List.of(elementContext), elementByTypeResolver);
+
+        elementsContainer.initializeElementContexts();
+
+        var otherContext = mockElementContext("other", Long.class);
+        assertThrows(IllegalStateException.class, () -> elementsContainer.addElementContext(otherContext));
+        assertThrows(IllegalStateException.class, () -> elementsContainer.overrideElementContext(otherContext));
+        assertThrows(IllegalStateException.class, () -> elementsContainer.removeElementContext(elementContext));
+        assertThrows(IllegalStateException.class, elementsContainer::initializeElementContexts);
+        //lookups still work on the frozen container
+        assertEquals(elementContext, elementsContainer.getElementContext(ELEMENT_NAME));
+        assertEquals(List.of(elementContext), elementsContainer.getElementContextsWithType(Number.class));
+    }
+
+    @Test
+    public void shouldFreezeContainer_afterParallelInitialization() {
+        var elementsContainer = new ElementsContainer(List.of(elementContext), elementByTypeResolver);
+
+        elementsContainer.initializeElementContextsInParallel(2);
+
+        verify(elementContext).initialize();
+        var otherContext = mockElementContext("other", Long.class);
+        assertThrows(IllegalStateException.class, () -> elementsContainer.addElementContext(otherContext));
+        assertThrows(IllegalStateException.class, () -> elementsContainer.initializeElementContextsInParallel(2));
+    }
+
+    @Test
+    public void shouldInvalidateByTypeResolutions_whenContextsChange() {
+        var elementsContainer = new ElementsContainer(List.of(), elementByTypeResolver);
+
+        elementsContainer.addElementContext(elementContext);
+        elementsContainer.overrideElementContext(elementContext);
+        elementsContainer.removeElementContext(elementContext);
+
+        verify(elementByTypeResolver, times(3)).invalidateCache();
+    }
+
+    private ElementContext mockElementContext(String name, Class<?> type) {
+        var context = mock(ElementContext.class);
+        when(context.getName()).thenReturn(name);
+        doReturn(type).when(context).getType();
+        return context;
+    }
+
 }
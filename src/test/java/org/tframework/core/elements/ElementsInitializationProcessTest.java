@@ -1,19 +1,29 @@
 /* Licensed under Apache-2.0 2024. */
 package org.tframework.core.elements;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
 import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -22,8 +32,12 @@ import org.tframework.core.Application;
 import org.tframework.core.elements.annotations.Element;
 import org.tframework.core.elements.annotations.ElementConstructor;
 import org.tframework.core.elements.context.ElementContext;
+import org.tframework.core.elements.context.SingletonElementContext;
 import org.tframework.core.elements.context.assembler.ClassElementContextAssembler;
+import org.tframework.core.elements.context.assembler.ElementContextAssemblingException;
 import org.tframework.core.elements.context.assembler.MethodElementContextAssembler;
+import org.tframework.core.elements.context.source.ClassElementSource;
+import org.tframework.core.elements.dependency.graph.DependencyGraphValidationException;
 import org.tframework.core.elements.dependency.resolver.DependencyResolutionInput;
 import org.tframework.core.elements.scanner.ElementClassScanner;
 import org.tframework.core.elements.scanner.ElementContextBundle;
@@ -32,6 +46,8 @@ import org.tframework.core.elements.scanner.ElementScanningResult;
 import org.tframework.core.profiles.ProfilesContainer;
 import org.tframework.core.properties.PropertiesContainer;
 import org.tframework.core.properties.PropertiesContainerFactory;
+import org.tframework.core.properties.Property;
+import org.tframework.core.properties.SinglePropertyValue;
 
 @ExtendWith(MockitoExtension.class)
 @MockitoSettings(strictness = Strictness.LENIENT)
@@ -63,9 +79,11 @@ class ElementsInitializationProcessTest {
     void setUp() throws Exception {
         when(dummyClassElementContext.getName()).thenReturn("dummyClassElement");
         doReturn(DummyClass.class).when(dummyClassElementContext).getType();
+        when(dummyClassElementContext.getScope()).thenReturn(ElementScope.SINGLETON);
 
         when(dummyStringMethodElementContext.getName()).thenReturn("dummyMethodElement");
         doReturn(String.class).when(dummyStringMethodElementContext).getType();
+        when(dummyStringMethodElementContext.getScope()).thenReturn(ElementScope.SINGLETON);
 
         elementsInitializationProcess = new ElementsInitializationProcess();
         elementContextBundle = ElementContextBundle.builder()
@@ -77,8 +95,9 @@ class ElementsInitializationProcessTest {
         dummyStringMethod = DummyClass.class.getDeclaredMethod("dummyStringCreator");
     }
 
-    @Test
-    public void shouldInitializeElementsProcess() {
+    @ParameterizedTest
+    @CsvSource({"true,false", "false,false", "true,true", "false,true"})
+    public void shouldInitializeElementsProcess(String parallelAssembly, String parallelInitialization) {
         //mock class element scanning and assembling
         var classScanningResult = new ElementScanningResult<Class<?>>(DummyClass.class.getAnnotation(Element.class), DummyClass.class);
         when(elementClassScanner.scanElements())
@@ -88,8 +107,10 @@ class ElementsInitializationProcessTest {
 
         //mock method element scanning and assembling
         var methodScanningResult = new ElementScanningResult<>(dummyStringMethod.getAnnotation(Element.class), dummyStringMethod);
-        when(elementMethodScanner.scanElements())
+        when(elementMethodScanner.scanElements(DummyClass.class))
                 .thenReturn(Set.of(methodScanningResult));
+        when(methodElementContextAssembler.forParentElementContext(dummyClassElementContext))
+                .thenReturn(methodElementContextAssembler);
         when(methodElementContextAssembler.assemble(eq(methodScanningResult), any(DependencyResolutionInput.class)))
                 .thenReturn(dummyStringMethodElementContext);
 
@@ -99,7 +120,11 @@ class ElementsInitializationProcessTest {
                 .overrideExistingElement(false)
                 .build());
 
-        var input = createDependencyInjectionInput(PropertiesContainerFactory.empty(), preConstructedElementsData);
+        var properties = PropertiesContainerFactory.fromProperties(List.of(
+                new Property(ElementsInitializationProcess.PARALLEL_ASSEMBLY_PROPERTY, new SinglePropertyValue(parallelAssembly)),
+                new Property(ElementsInitializationProcess.PARALLEL_INITIALIZATION_PROPERTY, new SinglePropertyValue(parallelInitialization))
+        ));
+        var input = createDependencyInjectionInput(properties, preConstructedElementsData);
         var elementsContainer = elementsInitializationProcess.initialize(input, elementContextBundle);
 
         assertTrue(elementsContainer.hasElementContext("dummyClassElement")); //from element class
@@ -109,6 +134,77 @@ class ElementsInitializationProcessTest {
         assertTrue(elementsContainer.hasElementContext(PropertiesContainer.class));
         assertTrue(elementsContainer.hasElementContext(ElementsContainer.class));
         assertTrue(elementsContainer.hasElementContext("importantFile")); //from CUSTOM pre-constructed elements
+        verify(dummyClassElementContext).initialize();
+        verify(dummyStringMethodElementContext).initialize();
+    }
+
+    @Test
+    public void shouldThrowExceptionOfFirstClass_whenAssemblingFailsForMultipleClasses() {
+        var classScanningResult = new ElementScanningResult<Class<?>>(DummyClass.class.getAnnotation(Element.class), DummyClass.class);
+        var otherClassScanningResult = new ElementScanningResult<Class<?>>(
+                OtherDummyClass.class.getAnnotation(Element.class), OtherDummyClass.class
+        );
+        when(elementClassScanner.scanElements())
+                .thenReturn(Set.of(otherClassScanningResult, classScanningResult));
+        var expectedException = new ElementContextAssemblingException(DummyClass.class, "class", "test", "first");
+        when(classElementContextAssembler.assemble(eq(classScanningResult), any(DependencyResolutionInput.class)))
+                .thenThrow(expectedException);
+        when(classElementContextAssembler.assemble(eq(otherClassScanningResult), any(DependencyResolutionInput.class)))
+                .thenThrow(new ElementContextAssemblingException(OtherDummyClass.class, "class", "test", "second"));
+
+        var input = createDependencyInjectionInput(PropertiesContainerFactory.empty(), Set.of());
+        var exception = assertThrows(ElementContextAssemblingException.class, () -> {
+            elementsInitializationProcess.initialize(input, elementContextBundle);
+        });
+
+        assertSame(expectedException, exception);
+    }
+
+    @Test
+    public void shouldFailBeforeInitializingAnyElement_whenDependenciesAreInvalid() {
+        var classScanningResult = new ElementScanningResult<Class<?>>(DummyClass.class.getAnnotation(Element.class), DummyClass.class);
+        var invalidScanningResult = new ElementScanningResult<Class<?>>(
+                InvalidDummyClass.class.getAnnotation(Element.class), InvalidDummyClass.class
+        );
+        when(elementClassScanner.scanElements())
+                .thenReturn(Set.of(classScanningResult, invalidScanningResult));
+        when(classElementContextAssembler.assemble(eq(classScanningResult), any(DependencyResolutionInput.class)))
+                .thenReturn(dummyClassElementContext);
+        when(classElementContextAssembler.assemble(eq(invalidScanningResult), any(DependencyResolutionInput.class)))
+                .thenAnswer(invocation -> new SingletonElementContext(
+                        "invalidDummyClass",
+                        InvalidDummyClass.class,
+                        new ClassElementSource(InvalidDummyClass.class, InvalidDummyClass.class.getConstructors()[0]),
+                        invocation.getArgument(1)
+                ));
+        when(methodElementContextAssembler.forParentElementContext(any())).thenReturn(methodElementContextAssembler);
+
+        var input = createDependencyInjectionInput(PropertiesContainerFactory.empty(), Set.of());
+        var exception = assertThrows(DependencyGraphValidationException.class, () -> {
+            elementsInitializationProcess.initialize(input, elementContextBundle);
+        });
+
+        assertEquals(1, exception.getUnresolvedDependencies().size());
+        verify(dummyClassElementContext, never()).initialize();
+    }
+
+    @Test
+    public void shouldExportDependencyGraph_whenExportFileIsSet(@TempDir Path tempDir) throws Exception {
+        var classScanningResult = new ElementScanningResult<Class<?>>(DummyClass.class.getAnnotation(Element.class), DummyClass.class);
+        when(elementClassScanner.scanElements()).thenReturn(Set.of(classScanningResult));
+        when(classElementContextAssembler.assemble(eq(classScanningResult), any(DependencyResolutionInput.class)))
+                .thenReturn(dummyClassElementContext);
+        when(methodElementContextAssembler.forParentElementContext(dummyClassElementContext)).thenReturn(methodElementContextAssembler);
+
+        var exportFile = tempDir.resolve("elements.json");
+        var properties = PropertiesContainerFactory.fromProperties(List.of(
+                new Property(ElementsInitializationProcess.DEPENDENCY_GRAPH_EXPORT_PROPERTY, new SinglePropertyValue(exportFile.toString())),
+                new Property(ElementsInitializationProcess.DEPENDENCY_GRAPH_EXPORT_FORMAT_PROPERTY, new SinglePropertyValue("json"))
+        ));
+        elementsInitializationProcess.initialize(createDependencyInjectionInput(properties, Set.of()), elementContextBundle);
+
+        var exportedGraph = Files.readString(exportFile);
+        assertTrue(exportedGraph.contains("{\"name\": \"dummyClassElement\""));
     }
 
     private ElementsInitializationInput createDependencyInjectionInput(
@@ -141,4 +237,14 @@ class ElementsInitializationProcessTest {
 
     }
 
+    @Element
+    public static class OtherDummyClass {}
+
+    @Element
+    public static class InvalidDummyClass {
+
+        //there is no such element
+        public InvalidDummyClass(Runnable runnable) {}
+    }
+
 }
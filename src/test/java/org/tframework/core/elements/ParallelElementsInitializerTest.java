@@ -0,0 +1,177 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.elements;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.tframework.core.elements.annotations.InjectElement;
+import org.tframework.core.elements.assembler.ElementAssemblingException;
+import org.tframework.core.elements.context.ElementContext;
+import org.tframework.core.elements.context.SingletonElementContext;
+import org.tframework.core.elements.context.source.ClassElementSource;
+import org.tframework.core.elements.dependency.plan.InjectionPoint;
+import org.tframework.core.elements.dependency.resolver.DependencyResolutionInput;
+import org.tframework.core.elements.postprocessing.ElementInstancePostProcessorAggregator;
+import org.tframework.core.properties.PropertiesContainerFactory;
+
+class ParallelElementsInitializerTest {
+
+    private static final Map<String, Thread> CREATING_THREADS = new ConcurrentHashMap<>();
+    private static CyclicBarrier barrier;
+
+    private ElementsContainer elementsContainer;
+    private DependencyResolutionInput dependencyResolutionInput;
+
+    @BeforeEach
+    void setUp() {
+        CREATING_THREADS.clear();
+        barrier = new CyclicBarrier(2);
+        elementsContainer = ElementsContainer.empty();
+        dependencyResolutionInput = DependencyResolutionInput.builder()
+                .elementsContainer(elementsContainer)
+                .propertiesContainer(PropertiesContainerFactory.empty())
+                .build();
+    }
+
+    @Test
+    public void shouldInitializeIndependentElementsConcurrently_andDependentElementsAfterThem() {
+        addContext("first", FirstBarrierElement.class);
+        addContext("dependent", DependentElement.class);
+        addContext("second", SecondBarrierElement.class);
+
+        elementsContainer.initializeElementContextsInParallel(2);
+
+        //the barrier elements wait for each other, so they can only be created on different threads
+        assertNotEquals(CREATING_THREADS.get("first"), CREATING_THREADS.get("second"));
+        var dependent = elementsContainer.getElement("dependent", DependentElement.class);
+        assertEquals(elementsContainer.getElement("first", FirstBarrierElement.class), dependent.first);
+        assertEquals(elementsContainer.getElement("second", SecondBarrierElement.class), dependent.second);
+    }
+
+    @Test
+    public void shouldInitializeCyclicElementsOnSameThread() {
+        addContext("cyclicA", CyclicElementA.class);
+        addContext("cyclicB", CyclicElementB.class);
+
+        elementsContainer.initializeElementContextsInParallel(2);
+
+        var cyclicA = elementsContainer.getElement("cyclicA", CyclicElementA.class);
+        var cyclicB = elementsContainer.getElement("cyclicB", CyclicElementB.class);
+        assertEquals(cyclicB, cyclicA.cyclicElementB);
+        assertEquals(cyclicA, cyclicB.cyclicElementA);
+        assertEquals(CREATING_THREADS.get("cyclicA"), CREATING_THREADS.get("cyclicB"));
+    }
+
+    @Test
+    public void shouldThrowExceptionOfFirstElement_whenMultipleElementsFail() {
+        addContext("firstFailing", FailingElement.class);
+        addContext("secondFailing", FailingElement.class);
+
+        var exception = assertThrows(ElementAssemblingException.class, () -> {
+            elementsContainer.initializeElementContextsInParallel(2);
+        });
+
+        assertTrue(exception.getMessage().contains("firstFailing"));
+        assertInstanceOf(IllegalStateException.class, exception.getCause().getCause());
+    }
+
+    @Test
+    public void shouldThrowException_whenParallelismIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelElementsInitializer(0));
+    }
+
+    private ElementContext addContext(String name, Class<?> elementClass) {
+        var source = new ClassElementSource(elementClass, elementClass.getConstructors()[0]);
+        var context = new SingletonElementContext(name, elementClass, source, dependencyResolutionInput);
+        context.setPostProcessor(ElementInstancePostProcessorAggregator.usingPostProcessors(List.of(this::injectFieldsByName)));
+        elementsContainer.addElementContext(context);
+        return context;
+    }
+
+    //a simplified field injection, enough for the elements of these tests
+    private void injectFieldsByName(ElementContext elementContext, Object instance) {
+        for(InjectionPoint injectionPoint : elementContext.getInjectionPlan().fields()) {
+            try {
+                var field = (Field) injectionPoint.dependencyDefinition().annotationSource();
+                field.setAccessible(true);
+                field.set(instance, elementsContainer.getElementContext(injectionPoint.name()).requestInstance());
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static void awaitOtherElement() {
+        try {
+            barrier.await(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException("The other element was not created at the same time", e);
+        }
+    }
+
+    public static class FirstBarrierElement {
+
+        public FirstBarrierElement() {
+            CREATING_THREADS.put("first", Thread.currentThread());
+            awaitOtherElement();
+        }
+    }
+
+    public static class SecondBarrierElement {
+
+        public SecondBarrierElement() {
+            CREATING_THREADS.put("second", Thread.currentThread());
+            awaitOtherElement();
+        }
+    }
+
+    public static class DependentElement {
+
+        private final FirstBarrierElement first;
+        private final SecondBarrierElement second;
+
+        public DependentElement(FirstBarrierElement first, SecondBarrierElement second) {
+            this.first = first;
+            this.second = second;
+        }
+    }
+
+    public static class CyclicElementA {
+
+        @InjectElement("cyclicB")
+        private CyclicElementB cyclicElementB;
+
+        public CyclicElementA() {
+            CREATING_THREADS.put("cyclicA", Thread.currentThread());
+        }
+    }
+
+    public static class CyclicElementB {
+
+        @InjectElement("cyclicA")
+        private CyclicElementA cyclicElementA;
+
+        public CyclicElementB() {
+            CREATING_THREADS.put("cyclicB", Thread.currentThread());
+        }
+    }
+
+    public static class FailingElement {
+
+        public FailingElement() {
+            throw new IllegalStateException("Failed to create element");
+        }
+    }
+
+}
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,6 +20,8 @@ import org.tframework.core.elements.context.ElementContext;
 import org.tframework.core.elements.context.source.ClassElementSource;
 import org.tframework.core.elements.dependency.DependencyDefinition;
 import org.tframework.core.elements.dependency.graph.ElementDependencyGraph;
+import org.tframework.core.elements.dependency.plan.InjectionPlan;
+import org.tframework.core.elements.dependency.plan.InjectionPoint;
 import org.tframework.core.elements.dependency.resolver.DependencyResolverAggregator;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,7 +34,7 @@ class ClassElementAssemblerTest {
     private ElementContext elementContext;
 
     private ClassElementAssembler classElementAssembler;
-    private DependencyDefinition dummyStringDependencyDefinition;
+    private InjectionPoint dummyStringInjectionPoint;
 
     @BeforeEach
     void setUp() throws Exception {
@@ -47,16 +50,17 @@ class ClassElementAssemblerTest {
                 .dependencyResolverAggregator(aggregator)
                 .build();
 
-        dummyStringDependencyDefinition = DependencyDefinition.fromParameter(constructor.getParameters()[0]);
+        dummyStringInjectionPoint = InjectionPoint.unannotated(DependencyDefinition.fromParameter(constructor.getParameters()[0]));
+        when(elementContext.getInjectionPlan()).thenReturn(new InjectionPlan(List.of(dummyStringInjectionPoint), List.of()));
     }
 
     @Test
     public void shouldAssembleElementFromClass() {
-        var dependencyGraph = ElementDependencyGraph.empty();
+        var dependencyGraph = ElementDependencyGraph.forCurrentThread();
         DummyElement expectedElement = new DummyElement("dummyString");
 
         when(aggregator.resolveDependency(
-                dummyStringDependencyDefinition,
+                dummyStringInjectionPoint,
                 elementContext,
                 dependencyGraph,
                 ClassElementAssembler.DEPENDENCY_DECLARED_AS
@@ -68,10 +72,10 @@ class ClassElementAssemblerTest {
 
     @Test
     public void shouldThrowException_whenAssemblingFromClass_whenNoDependencyResolversCouldResolveDependency() {
-        var dependencyGraph = ElementDependencyGraph.empty();
+        var dependencyGraph = ElementDependencyGraph.forCurrentThread();
 
         when(aggregator.resolveDependency(
-                dummyStringDependencyDefinition,
+                dummyStringInjectionPoint,
                 elementContext,
                 dependencyGraph,
                 ClassElementAssembler.DEPENDENCY_DECLARED_AS
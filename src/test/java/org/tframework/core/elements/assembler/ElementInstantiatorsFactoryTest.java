@@ -0,0 +1,188 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.elements.assembler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.tframework.core.properties.PropertiesContainerFactory;
+import org.tframework.core.properties.Property;
+import org.tframework.core.properties.SinglePropertyValue;
+import org.tframework.core.properties.converters.PropertyConversionException;
+
+class ElementInstantiatorsFactoryTest {
+
+    @Test
+    public void shouldUseMethodHandleStrategy_byDefault() {
+        assertEquals(ElementInstantiationStrategy.METHOD_HANDLE, ElementInstantiatorsFactory.readStrategy(null));
+        assertEquals(
+                ElementInstantiationStrategy.METHOD_HANDLE,
+                ElementInstantiatorsFactory.readStrategy(PropertiesContainerFactory.empty())
+        );
+    }
+
+    @Test
+    public void shouldReadStrategyFromProperty() {
+        var properties = PropertiesContainerFactory.fromProperties(List.of(
+                new Property(ElementInstantiatorsFactory.INSTANTIATION_STRATEGY_PROPERTY, new SinglePropertyValue("reflection"))
+        ));
+        assertEquals(ElementInstantiationStrategy.REFLECTION, ElementInstantiatorsFactory.readStrategy(properties));
+    }
+
+    @Test
+    public void shouldThrowPropertyConversionException_whenStrategyIsInvalid() {
+        var properties = PropertiesContainerFactory.fromProperties(List.of(
+                new Property(ElementInstantiatorsFactory.INSTANTIATION_STRATEGY_PROPERTY, new SinglePropertyValue("magic"))
+        ));
+        assertThrows(PropertyConversionException.class, () -> ElementInstantiatorsFactory.readStrategy(properties));
+    }
+
+    @Test
+    public void shouldCreateMethodHandleInstantiator() throws Exception {
+        var instantiator = ElementInstantiatorsFactory.createInstantiator(
+                ElementInstantiationStrategy.METHOD_HANDLE, DummyElement.class.getConstructor(String.class, int.class)
+        );
+        assertInstanceOf(MethodHandleElementInstantiator.class, instantiator);
+    }
+
+    @Test
+    public void shouldFallBackToReflection_whenMethodHandleCannotBeCreated() throws Exception {
+        var instantiator = ElementInstantiatorsFactory.createInstantiator(
+                ElementInstantiationStrategy.METHOD_HANDLE, Math.class.getDeclaredConstructor()
+        );
+        assertInstanceOf(ReflectiveElementInstantiator.class, instantiator);
+    }
+
+    @ParameterizedTest
+    @EnumSource(ElementInstantiationStrategy.class)
+    public void shouldInvokeConstructor(ElementInstantiationStrategy strategy) throws Exception {
+        var instantiator = ElementInstantiatorsFactory.createInstantiator(
+                strategy, DummyElement.class.getConstructor(String.class, int.class)
+        );
+
+        var instance = (DummyElement) instantiator.instantiate(null, new Object[] {"test", 5});
+
+        assertEquals("test5", instance.value());
+    }
+
+    @ParameterizedTest
+    @EnumSource(ElementInstantiationStrategy.class)
+    public void shouldInvokeInstanceMethod(ElementInstantiationStrategy strategy) throws Exception {
+        var instantiator = ElementInstantiatorsFactory.createInstantiator(
+                strategy, DummyElement.class.getMethod("append", String.class)
+        );
+
+        var instance = instantiator.instantiate(new DummyElement("test", 1), new Object[] {"!"});
+
+        assertEquals("test1!", instance);
+    }
+
+    @ParameterizedTest
+    @EnumSource(ElementInstantiationStrategy.class)
+    public void shouldInvokeStaticMethod(ElementInstantiationStrategy strategy) throws Exception {
+        var instantiator = ElementInstantiatorsFactory.createInstantiator(
+                strategy, DummyElement.class.getMethod("create", String.class)
+        );
+
+        var instance = (DummyElement) instantiator.instantiate(null, new Object[] {"static"});
+
+        assertEquals("static0", instance.value());
+    }
+
+    @ParameterizedTest
+    @EnumSource(ElementInstantiationStrategy.class)
+    public void shouldReturnNull_whenMethodIsVoid(ElementInstantiationStrategy strategy) throws Exception {
+        var instantiator = ElementInstantiatorsFactory.createInstantiator(
+                strategy, DummyElement.class.getMethod("doNothing")
+        );
+
+        assertNull(instantiator.instantiate(new DummyElement("test", 1), new Object[0]));
+    }
+
+    @ParameterizedTest
+    @EnumSource(ElementInstantiationStrategy.class)
+    public void shouldWrapExceptionOfInvokedCode(ElementInstantiationStrategy strategy) throws Exception {
+        var instantiator = ElementInstantiatorsFactory.createInstantiator(
+                strategy, DummyElement.class.getMethod("fail")
+        );
+
+        var exception = assertThrows(InvocationTargetException.class, () -> {
+            instantiator.instantiate(new DummyElement("test", 1), new Object[0]);
+        });
+        assertInstanceOf(UnsupportedOperationException.class, exception.getCause());
+    }
+
+    @ParameterizedTest
+    @EnumSource(ElementInstantiationStrategy.class)
+    public void shouldWrapCheckedExceptionOfConstructor(ElementInstantiationStrategy strategy) throws Exception {
+        var instantiator = ElementInstantiatorsFactory.createInstantiator(
+                strategy, DummyElement.class.getConstructor(boolean.class)
+        );
+
+        var exception = assertThrows(InvocationTargetException.class, () -> {
+            instantiator.instantiate(null, new Object[] {true});
+        });
+        assertInstanceOf(IOException.class, exception.getCause());
+    }
+
+    @Test
+    public void shouldNotWrapFailedInvocation_whenArgumentHasWrongType() throws Exception {
+        var instantiator = MethodHandleElementInstantiator.ofConstructor(DummyElement.class.getConstructor(String.class, int.class));
+
+        assertThrows(ClassCastException.class, () -> instantiator.instantiate(null, new Object[] {5, "test"}));
+    }
+
+    @ParameterizedTest
+    @EnumSource(ElementInstantiationStrategy.class)
+    public void shouldWrapErrorOfInvokedCode(ElementInstantiationStrategy strategy) throws Exception {
+        var instantiator = ElementInstantiatorsFactory.createInstantiator(
+                strategy, DummyElement.class.getMethod("crash")
+        );
+
+        var exception = assertThrows(InvocationTargetException.class, () -> {
+            instantiator.instantiate(new DummyElement("test", 1), new Object[0]);
+        });
+        assertInstanceOf(AssertionError.class, exception.getCause());
+    }
+
+    public record DummyElement(String value) {
+
+        public DummyElement(String prefix, int number) {
+            this(prefix + number);
+        }
+
+        public DummyElement(boolean fail) throws IOException {
+            this("test");
+            if(fail) {
+                throw new IOException("Failed");
+            }
+        }
+
+        public String append(String suffix) {
+            return value + suffix;
+        }
+
+        public void doNothing() {
+        }
+
+        public void fail() {
+            throw new UnsupportedOperationException("Failed");
+        }
+
+        public void crash() {
+            throw new AssertionError("Crashed");
+        }
+
+        public static DummyElement create(String prefix) {
+            return new DummyElement(prefix, 0);
+        }
+    }
+
+}
@@ -3,11 +3,13 @@ package org.tframework.core.elements.assembler;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Method;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,6 +20,8 @@ import org.tframework.core.elements.context.ElementContext;
 import org.tframework.core.elements.context.source.MethodElementSource;
 import org.tframework.core.elements.dependency.DependencyDefinition;
 import org.tframework.core.elements.dependency.graph.ElementDependencyGraph;
+import org.tframework.core.elements.dependency.plan.InjectionPlan;
+import org.tframework.core.elements.dependency.plan.InjectionPoint;
 import org.tframework.core.elements.dependency.resolver.DependencyResolverAggregator;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,7 +37,7 @@ class MethodElementAssemblerTest {
     private DependencyResolverAggregator aggregator;
 
     private MethodElementAssembler methodElementAssembler;
-    private DependencyDefinition dummyStringDependencyDefinition;
+    private InjectionPoint dummyStringInjectionPoint;
 
     @BeforeEach
     void setUp() throws Exception {
@@ -48,7 +52,8 @@ class MethodElementAssemblerTest {
                 .elementContext(elementContext)
                 .dependencyResolverAggregator(aggregator)
                 .build();
-        dummyStringDependencyDefinition = DependencyDefinition.fromParameter(method.getParameters()[0]);
+        dummyStringInjectionPoint = InjectionPoint.unannotated(DependencyDefinition.fromParameter(method.getParameters()[0]));
+        when(elementContext.getInjectionPlan()).thenReturn(new InjectionPlan(List.of(dummyStringInjectionPoint), List.of()));
 
         when(parentElementContext.getName()).thenReturn("parentElement");
         when(parentElementContext.requestInstance()).thenReturn(new MethodElementAssemblerTest());
@@ -56,11 +61,11 @@ class MethodElementAssemblerTest {
 
     @Test
     public void shouldAssembleElementFromMethod() {
-        var dependencyGraph = ElementDependencyGraph.empty();
+        var dependencyGraph = spy(ElementDependencyGraph.forCurrentThread());
         DummyElement expectedElement = new DummyElement("dummyString");
 
         when(aggregator.resolveDependency(
-                dummyStringDependencyDefinition,
+                dummyStringInjectionPoint,
                 elementContext,
                 dependencyGraph,
                 MethodElementAssembler.DEPENDENCY_DECLARED_AS
@@ -68,16 +73,16 @@ class MethodElementAssemblerTest {
 
         DummyElement actualElement = (DummyElement) methodElementAssembler.assemble(dependencyGraph);
 
-        assertTrue(dependencyGraph.containsDependency(elementContext, parentElementContext));
+        verify(dependencyGraph).addDependency(elementContext, parentElementContext);
         assertEquals(expectedElement, actualElement);
     }
 
     @Test
     public void shouldThrowException_whenDependencyCannotBeResolved() {
-        var dependencyGraph = ElementDependencyGraph.empty();
+        var dependencyGraph = ElementDependencyGraph.forCurrentThread();
 
         when(aggregator.resolveDependency(
-                dummyStringDependencyDefinition,
+                dummyStringInjectionPoint,
                 elementContext,
                 dependencyGraph,
                 MethodElementAssembler.DEPENDENCY_DECLARED_AS
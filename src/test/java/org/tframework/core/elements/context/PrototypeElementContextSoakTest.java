@@ -0,0 +1,107 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.elements.context;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.tframework.core.elements.context.source.ClassElementSource;
+import org.tframework.core.elements.context.tracking.PrototypeInstanceTrackersFactory;
+import org.tframework.core.elements.dependency.resolver.DependencyResolutionInput;
+import org.tframework.core.properties.PropertiesContainerFactory;
+import org.tframework.core.properties.Property;
+import org.tframework.core.properties.SinglePropertyValue;
+
+/**
+ * Requests a prototype millions of times, and checks that the heap does not grow. These tests are slow and they
+ * force garbage collections, so they are not part of the unit tests: run them with the {@code soakTest} task.
+ */
+@Tag("soak")
+class PrototypeElementContextSoakTest {
+
+    private static final int SOAK_REQUEST_COUNT = 2_000_000;
+    private static final int SOAK_SAMPLE_INTERVAL = 250_000;
+    private static final long MAX_HEAP_GROWTH_BYTES = 64L * 1024 * 1024;
+
+    private Level originalLevel;
+
+    @BeforeEach
+    void setUp() {
+        //millions of instances are created, which would produce too much trace logging
+        originalLevel = LogManager.getLogger("org.tframework").getLevel();
+        Configurator.setLevel("org.tframework", Level.WARN);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Configurator.setLevel("org.tframework", originalLevel);
+    }
+
+    @Test
+    public void shouldKeepHeapFlat_whenPrototypeIsRequestedMillionsOfTimes() {
+        var context = createContext(List.of());
+        assertHeapStaysFlat(context);
+    }
+
+    @Test
+    public void shouldKeepHeapFlat_whenPrototypeIsRequestedMillionsOfTimes_withWeakTracking() {
+        var context = createContext(List.of(
+                new Property(PrototypeInstanceTrackersFactory.PROTOTYPE_TRACKING_PROPERTY, new SinglePropertyValue("weak"))
+        ));
+        assertHeapStaysFlat(context);
+    }
+
+    private void assertHeapStaysFlat(PrototypeElementContext context) {
+        //warm up, so that one time allocations (class loading, caches) are not measured
+        for(int i = 0; i < SOAK_SAMPLE_INTERVAL; i++) {
+            context.requestInstance();
+        }
+        long baselineHeap = usedHeapAfterGc();
+
+        for(int i = 1; i <= SOAK_REQUEST_COUNT; i++) {
+            context.requestInstance();
+            if(i % SOAK_SAMPLE_INTERVAL == 0) {
+                long heapGrowth = usedHeapAfterGc() - baselineHeap;
+                assertTrue(heapGrowth < MAX_HEAP_GROWTH_BYTES,
+                        "Heap grew by " + heapGrowth + " bytes after " + i + " prototype requests");
+            }
+        }
+    }
+
+    private long usedHeapAfterGc() {
+        var memoryBean = ManagementFactory.getMemoryMXBean();
+        for(int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memoryBean.getHeapMemoryUsage().getUsed();
+    }
+
+    private PrototypeElementContext createContext(List<Property> properties) {
+        try {
+            var source = new ClassElementSource(PayloadElement.class, PayloadElement.class.getConstructor());
+            var input = DependencyResolutionInput.builder()
+                    .propertiesContainer(PropertiesContainerFactory.fromProperties(properties))
+                    .build();
+            return new PrototypeElementContext("prototype", PayloadElement.class, source, input);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static class PayloadElement {
+
+        //makes any retained instances clearly visible on the heap: 2 million instances would be 2 GB
+        private final byte[] payload = new byte[1024];
+
+        public PayloadElement() {
+        }
+    }
+
+}
@@ -0,0 +1,109 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.elements.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.tframework.core.elements.assembler.ElementAssemblingException;
+import org.tframework.core.elements.context.source.ClassElementSource;
+import org.tframework.core.elements.context.tracking.PrototypeInstanceTrackersFactory;
+import org.tframework.core.elements.context.tracking.PrototypeTrackingPolicy;
+import org.tframework.core.elements.dependency.graph.CircularDependencyException;
+import org.tframework.core.elements.dependency.graph.ElementDependencyGraph;
+import org.tframework.core.elements.dependency.resolver.DependencyResolutionInput;
+import org.tframework.core.properties.PropertiesContainerFactory;
+import org.tframework.core.properties.Property;
+import org.tframework.core.properties.SinglePropertyValue;
+
+class PrototypeElementContextTest {
+
+    @Test
+    public void shouldCreateNewInstanceOnEachRequest() {
+        var context = createContext(List.of());
+
+        var instance1 = context.requestInstance();
+        var instance2 = context.requestInstance();
+
+        assertNotSame(instance1, instance2);
+    }
+
+    @Test
+    public void shouldNotTrackInstances_byDefault() {
+        var context = createContext(List.of());
+
+        context.requestInstance();
+
+        assertEquals(PrototypeTrackingPolicy.NONE, context.getInstanceTracker().getPolicy());
+        assertTrue(context.getInstanceTracker().getTrackedInstances().isEmpty());
+    }
+
+    @Test
+    public void shouldTrackLatestInstances_whenBoundedPolicyIsSelected() {
+        var context = createContext(List.of(
+                new Property(PrototypeInstanceTrackersFactory.PROTOTYPE_TRACKING_PROPERTY, new SinglePropertyValue("bounded")),
+                new Property(PrototypeInstanceTrackersFactory.PROTOTYPE_TRACKING_LIMIT_PROPERTY, new SinglePropertyValue("2"))
+        ));
+
+        context.requestInstance();
+        var instance2 = context.requestInstance();
+        var instance3 = context.requestInstance();
+
+        var trackedInstances = context.getInstanceTracker().getTrackedInstances();
+        assertEquals(2, trackedInstances.size());
+        assertSame(instance2, trackedInstances.get(0));
+        assertSame(instance3, trackedInstances.get(1));
+    }
+
+    @Test
+    public void shouldThrowCircularDependencyException_whenRequestedAgainWhileAssembling() {
+        var context = createContext("selfRequesting", SelfRequestingElement.class, List.of());
+        SelfRequestingElement.CONTEXT.set(context);
+
+        //without cycle detection, this would recurse until the stack overflows
+        var exception = assertThrows(ElementAssemblingException.class, context::requestInstance);
+
+        var cause = exception.getCause().getCause(); //the constructor threw, so the cause is wrapped
+        assertInstanceOf(CircularDependencyException.class, cause);
+        assertTrue(cause.getMessage().contains("selfRequesting"));
+        assertEquals(0, ElementDependencyGraph.forCurrentThread().getDepth());
+    }
+
+    private PrototypeElementContext createContext(List<Property> properties) {
+        return createContext("prototype", PayloadElement.class, properties);
+    }
+
+    private PrototypeElementContext createContext(String name, Class<?> elementClass, List<Property> properties) {
+        try {
+            var source = new ClassElementSource(elementClass, elementClass.getConstructor());
+            var input = DependencyResolutionInput.builder()
+                    .propertiesContainer(PropertiesContainerFactory.fromProperties(properties))
+                    .build();
+            return new PrototypeElementContext(name, elementClass, source, input);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static class PayloadElement {
+
+        public PayloadElement() {
+        }
+    }
+
+    public static class SelfRequestingElement {
+
+        static final AtomicReference<ElementContext> CONTEXT = new AtomicReference<>();
+
+        public SelfRequestingElement() {
+            CONTEXT.get().requestInstance();
+        }
+    }
+
+}
@@ -0,0 +1,148 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.elements.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.tframework.core.elements.assembler.ElementAssemblingException;
+import org.tframework.core.elements.context.source.ClassElementSource;
+import org.tframework.core.elements.dependency.graph.CircularDependencyException;
+import org.tframework.core.elements.dependency.resolver.DependencyResolutionInput;
+import org.tframework.core.elements.postprocessing.ElementInstancePostProcessor;
+import org.tframework.core.elements.postprocessing.ElementInstancePostProcessorAggregator;
+
+class SingletonElementContextTest {
+
+    private static final int SINGLETON_COUNT = 64;
+    private static final int THREAD_COUNT = 16;
+
+    private Map<String, AtomicInteger> postProcessingCounts;
+
+    @BeforeEach
+    void setUp() {
+        postProcessingCounts = new ConcurrentHashMap<>();
+        SlowElement.CREATED_COUNT.set(0);
+    }
+
+    @Test
+    public void shouldCreateAndPostProcessSingletonOnce() {
+        var context = createContext("singleton", SlowElement.class);
+
+        var instance1 = context.requestInstance();
+        var instance2 = context.requestInstance();
+
+        assertSame(instance1, instance2);
+        assertEquals(1, SlowElement.CREATED_COUNT.get());
+        assertEquals(1, postProcessingCounts.get("singleton").get());
+    }
+
+    @Test
+    public void shouldCreateEachSingletonOnce_whenRequestedConcurrently() throws Exception {
+        List<SingletonElementContext> contexts = new ArrayList<>();
+        for(int i = 0; i < SINGLETON_COUNT; i++) {
+            contexts.add(createContext("singleton" + i, SlowElement.class));
+        }
+
+        var startSignal = new CountDownLatch(1);
+        List<Future<List<Object>>> results = new ArrayList<>();
+        try(var executor = Executors.newFixedThreadPool(THREAD_COUNT)) {
+            for(int t = 0; t < THREAD_COUNT; t++) {
+                results.add(executor.submit(() -> {
+                    List<SingletonElementContext> shuffledContexts = new ArrayList<>(contexts);
+                    Collections.shuffle(shuffledContexts);
+                    startSignal.await();
+                    shuffledContexts.forEach(SingletonElementContext::requestInstance);
+                    return contexts.stream().map(SingletonElementContext::requestInstance).toList();
+                }));
+            }
+            startSignal.countDown();
+
+            var expectedInstances = results.getFirst().get(30, TimeUnit.SECONDS);
+            for(var result : results) {
+                var instances = result.get(30, TimeUnit.SECONDS);
+                for(int i = 0; i < SINGLETON_COUNT; i++) {
+                    assertSame(expectedInstances.get(i), instances.get(i));
+                }
+            }
+        }
+
+        assertEquals(SINGLETON_COUNT, SlowElement.CREATED_COUNT.get());
+        assertEquals(SINGLETON_COUNT, postProcessingCounts.size());
+        postProcessingCounts.values().forEach(count -> assertEquals(1, count.get()));
+    }
+
+    @Test
+    public void shouldReturnInstanceUnderPostProcessing_whenRequestedAgainFromPostProcessor() {
+        var context = createContext("singleton", SlowElement.class);
+        AtomicReference<Object> requestedDuringPostProcessing = new AtomicReference<>();
+        ElementInstancePostProcessor reentrantPostProcessor = (elementContext, instance) ->
+                requestedDuringPostProcessing.set(elementContext.requestInstance());
+        context.setPostProcessor(ElementInstancePostProcessorAggregator.usingPostProcessors(List.of(reentrantPostProcessor)));
+
+        var instance = context.requestInstance();
+
+        assertSame(instance, requestedDuringPostProcessing.get());
+        assertEquals(1, SlowElement.CREATED_COUNT.get());
+    }
+
+    @Test
+    public void shouldThrowCircularDependencyException_whenRequestedAgainWhileAssembling() {
+        var context = createContext("selfRequesting", SelfRequestingElement.class);
+        SelfRequestingElement.CONTEXT.set(context);
+
+        var exception = assertThrows(ElementAssemblingException.class, context::requestInstance);
+
+        var cause = exception.getCause().getCause(); //the constructor threw, so the cause is wrapped
+        assertInstanceOf(CircularDependencyException.class, cause);
+        assertTrue(cause.getMessage().contains("selfRequesting"));
+    }
+
+    private SingletonElementContext createContext(String name, Class<?> elementClass) {
+        try {
+            var source = new ClassElementSource(elementClass, elementClass.getConstructor());
+            var context = new SingletonElementContext(name, elementClass, source, DependencyResolutionInput.builder().build());
+            ElementInstancePostProcessor countingPostProcessor = (elementContext, instance) ->
+                    postProcessingCounts.computeIfAbsent(elementContext.getName(), key -> new AtomicInteger()).incrementAndGet();
+            context.setPostProcessor(ElementInstancePostProcessorAggregator.usingPostProcessors(List.of(countingPostProcessor)));
+            return context;
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static class SlowElement {
+
+        static final AtomicInteger CREATED_COUNT = new AtomicInteger();
+
+        public SlowElement() throws InterruptedException {
+            CREATED_COUNT.incrementAndGet();
+            Thread.sleep(1); //gives other threads a chance to race for the same singleton
+        }
+    }
+
+    public static class SelfRequestingElement {
+
+        static final AtomicReference<ElementContext> CONTEXT = new AtomicReference<>();
+
+        public SelfRequestingElement() {
+            CONTEXT.get().requestInstance();
+        }
+    }
+
+}
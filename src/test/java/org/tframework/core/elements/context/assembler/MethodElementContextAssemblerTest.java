@@ -41,8 +41,7 @@ class MethodElementContextAssemblerTest {
 
     @BeforeEach
     void setUp() {
-        assembler = MethodElementContextAssembler.create(methodFilter);
-        assembler.setParentElementContext(parentElementContext);
+        assembler = MethodElementContextAssembler.create(methodFilter).forParentElementContext(parentElementContext);
         doReturn(MethodElementContextAssemblerTest.class).when(parentElementContext).getType();
     }
 
@@ -0,0 +1,66 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.elements.context.tracking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.tframework.core.properties.PropertiesContainerFactory;
+import org.tframework.core.properties.Property;
+import org.tframework.core.properties.SinglePropertyValue;
+import org.tframework.core.properties.converters.PropertyConversionException;
+
+class PrototypeInstanceTrackersFactoryTest {
+
+    @Test
+    public void shouldCreateNoOpTracker_whenPropertiesContainerIsNull() {
+        var tracker = PrototypeInstanceTrackersFactory.createTrackerFromProperties(null);
+        assertInstanceOf(NoOpPrototypeInstanceTracker.class, tracker);
+    }
+
+    @Test
+    public void shouldCreateNoOpTracker_whenPropertyIsNotSet() {
+        var tracker = PrototypeInstanceTrackersFactory.createTrackerFromProperties(PropertiesContainerFactory.empty());
+        assertInstanceOf(NoOpPrototypeInstanceTracker.class, tracker);
+    }
+
+    @Test
+    public void shouldCreateWeakTracker_whenPolicyIsWeak() {
+        var properties = PropertiesContainerFactory.fromProperties(List.of(
+                new Property(PrototypeInstanceTrackersFactory.PROTOTYPE_TRACKING_PROPERTY, new SinglePropertyValue(" Weak "))
+        ));
+
+        var tracker = PrototypeInstanceTrackersFactory.createTrackerFromProperties(properties);
+
+        assertInstanceOf(WeakPrototypeInstanceTracker.class, tracker);
+    }
+
+    @Test
+    public void shouldCreateBoundedTrackerWithDefaultLimit_whenLimitIsNotSet() {
+        var properties = PropertiesContainerFactory.fromProperties(List.of(
+                new Property(PrototypeInstanceTrackersFactory.PROTOTYPE_TRACKING_PROPERTY, new SinglePropertyValue("bounded"))
+        ));
+
+        var tracker = PrototypeInstanceTrackersFactory.createTrackerFromProperties(properties);
+
+        var boundedTracker = assertInstanceOf(BoundedPrototypeInstanceTracker.class, tracker);
+        assertEquals(PrototypeInstanceTrackersFactory.DEFAULT_TRACKING_LIMIT, boundedTracker.getLimit());
+    }
+
+    @Test
+    public void shouldThrowPropertyConversionException_whenPolicyIsInvalid() {
+        var properties = PropertiesContainerFactory.fromProperties(List.of(
+                new Property(PrototypeInstanceTrackersFactory.PROTOTYPE_TRACKING_PROPERTY, new SinglePropertyValue("forever"))
+        ));
+
+        assertThrows(PropertyConversionException.class, () -> PrototypeInstanceTrackersFactory.createTrackerFromProperties(properties));
+    }
+
+    @Test
+    public void shouldThrowIllegalArgumentException_whenBoundedLimitIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new BoundedPrototypeInstanceTracker(0));
+    }
+
+}
@@ -0,0 +1,45 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.elements.context.tracking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class WeakPrototypeInstanceTrackerTest {
+
+    private static final int TRACKED_COUNT = 100_000;
+
+    private final WeakPrototypeInstanceTracker tracker = new WeakPrototypeInstanceTracker();
+
+    @Test
+    public void shouldReturnInstancesThatAreStillReachable() {
+        var instance1 = new Object();
+        var instance2 = new Object();
+
+        tracker.track(instance1);
+        tracker.track(instance2);
+
+        var trackedInstances = tracker.getTrackedInstances();
+        assertEquals(2, trackedInstances.size());
+        assertSame(instance1, trackedInstances.get(0));
+        assertSame(instance2, trackedInstances.get(1));
+    }
+
+    @Test
+    public void shouldPurgeReferences_whenInstancesAreGarbageCollected() throws InterruptedException {
+        for(int i = 0; i < TRACKED_COUNT; i++) {
+            tracker.track(new byte[64]);
+        }
+        System.gc();
+        Thread.sleep(50); //the cleared references are enqueued asynchronously
+
+        var reachableInstance = new Object();
+        tracker.track(reachableInstance); //triggers purging
+
+        assertTrue(tracker.referenceCount() < TRACKED_COUNT);
+        assertTrue(tracker.getTrackedInstances().contains(reachableInstance));
+    }
+
+}
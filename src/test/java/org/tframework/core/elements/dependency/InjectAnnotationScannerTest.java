@@ -101,4 +101,18 @@ class InjectAnnotationScannerTest {
         assertEquals(injectElementAnnotation, injectAnnotation.get());
     }
 
+    @Test
+    public void shouldFindAnyInjectAnnotation_ifExactlyOneIsFound() {
+        InjectProperty injectPropertyAnnotation = this.getClass().getAnnotation(InjectProperty.class);
+        when(annotationScanner.scanOneStrict(testField, InjectElement.class))
+                .thenReturn(Optional.empty());
+        when(annotationScanner.scanOneStrict(testField, InjectProperty.class))
+                .thenReturn(Optional.of(injectPropertyAnnotation));
+
+        var injectAnnotation = injectAnnotationScanner.findAnyInjectAnnotation(testField);
+
+        assertTrue(injectAnnotation.isPresent());
+        assertEquals(injectPropertyAnnotation, injectAnnotation.get());
+    }
+
 }
@@ -3,10 +3,16 @@ package org.tframework.core.elements.dependency.graph;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -40,28 +46,118 @@ class ElementDependencyGraphTest {
 
     @Test
     public void shouldNotDetectCycles_whenDependenciesAreValid() {
-        var dependencyGraph = ElementDependencyGraph.empty();
-        assertDoesNotThrow(() ->  dependencyGraph.addDependency(elementA, elementB));
+        var dependencyGraph = ElementDependencyGraph.forCurrentThread();
+        dependencyGraph.startResolution(elementA);
+        try {
+            assertDoesNotThrow(() ->  dependencyGraph.addDependency(elementA, elementB));
+        } finally {
+            dependencyGraph.finishResolution(elementA);
+        }
     }
 
     @Test
     public void shouldThrowException_whenCyclicDependency() {
-        var dependencyGraph = ElementDependencyGraph.empty();
+        var dependencyGraph = ElementDependencyGraph.forCurrentThread();
+        dependencyGraph.startResolution(elementA);
         dependencyGraph.addDependency(elementA, elementB);
+        dependencyGraph.startResolution(elementB);
         dependencyGraph.addDependency(elementB, elementC);
+        dependencyGraph.startResolution(elementC);
 
-        var exception = assertThrows(CircularDependencyException.class, () -> {
-            dependencyGraph.addDependency(elementC, elementA); //adding this would create a cycle
-        });
+        try {
+            var exception = assertThrows(CircularDependencyException.class, () -> {
+                dependencyGraph.addDependency(elementC, elementA); //adding this would create a cycle
+            });
 
-        var cycleRepresentation = List.of("elementA", "elementB", "elementC").toString();
-        String expectedMessage = exception.getMessageTemplate().formatted(cycleRepresentation);
-        assertEquals(expectedMessage, exception.getMessage());
+            var cycleRepresentation = List.of("elementA", "elementB", "elementC").toString();
+            String expectedMessage = exception.getMessageTemplate().formatted(cycleRepresentation);
+            assertEquals(expectedMessage, exception.getMessage());
+        } finally {
+            dependencyGraph.finishResolution(elementC);
+            dependencyGraph.finishResolution(elementB);
+            dependencyGraph.finishResolution(elementA);
+        }
+    }
+
+    @Test
+    public void shouldThrowException_whenResolutionOfElementIsStartedAgain() {
+        var dependencyGraph = ElementDependencyGraph.forCurrentThread();
+        dependencyGraph.startResolution(elementA);
+        dependencyGraph.startResolution(elementB);
+
+        try {
+            var exception = assertThrows(CircularDependencyException.class, () -> dependencyGraph.startResolution(elementA));
+
+            var cycleRepresentation = List.of("elementA", "elementB").toString();
+            assertEquals(exception.getMessageTemplate().formatted(cycleRepresentation), exception.getMessage());
+            assertEquals(2, dependencyGraph.getDepth());
+        } finally {
+            dependencyGraph.finishResolution(elementB);
+            dependencyGraph.finishResolution(elementA);
+        }
+    }
+
+    @Test
+    public void shouldAllowDependency_afterResolutionIsFinished() {
+        var dependencyGraph = ElementDependencyGraph.forCurrentThread();
+        dependencyGraph.startResolution(elementA);
+        dependencyGraph.finishResolution(elementA);
+
+        assertFalse(dependencyGraph.isBeingResolved(elementA));
+        assertEquals(0, dependencyGraph.getDepth());
+        assertDoesNotThrow(() -> dependencyGraph.addDependency(elementB, elementA));
+    }
+
+    @Test
+    public void shouldGrowResolutionStack_whenResolutionIsDeep() {
+        var dependencyGraph = ElementDependencyGraph.forCurrentThread();
+        List<ElementContext> chain = new ArrayList<>();
+        for(int i = 0; i < 100; i++) {
+            var element = mock(ElementContext.class);
+            dependencyGraph.startResolution(element);
+            chain.add(element);
+        }
+
+        assertEquals(100, dependencyGraph.getDepth());
+        assertTrue(dependencyGraph.isBeingResolved(chain.getFirst()));
+        chain.reversed().forEach(dependencyGraph::finishResolution);
+        assertEquals(0, dependencyGraph.getDepth());
+    }
+
+    @Test
+    public void shouldThrowException_whenFinishedResolutionIsNotTheLastStarted() {
+        var dependencyGraph = ElementDependencyGraph.forCurrentThread();
+        dependencyGraph.startResolution(elementA);
+        dependencyGraph.startResolution(elementB);
+
+        try {
+            assertThrows(IllegalStateException.class, () -> dependencyGraph.finishResolution(elementA));
+        } finally {
+            dependencyGraph.finishResolution(elementB);
+            dependencyGraph.finishResolution(elementA);
+        }
+    }
+
+    @Test
+    public void shouldUseSeparateGraph_onEachThread() throws Exception {
+        var dependencyGraph = ElementDependencyGraph.forCurrentThread();
+        dependencyGraph.startResolution(elementA);
+
+        try {
+            AtomicReference<ElementDependencyGraph> otherThreadGraph = new AtomicReference<>();
+            var otherThread = Thread.ofVirtual().start(() -> otherThreadGraph.set(ElementDependencyGraph.forCurrentThread()));
+            otherThread.join();
+
+            assertNotSame(dependencyGraph, otherThreadGraph.get());
+            assertFalse(otherThreadGraph.get().isBeingResolved(elementA));
+        } finally {
+            dependencyGraph.finishResolution(elementA);
+        }
     }
 
     @Test
     public void shouldThrowException_whenElementDependsOnItself() {
-        var dependencyGraph = ElementDependencyGraph.empty();
+        var dependencyGraph = ElementDependencyGraph.forCurrentThread();
 
         var exception = assertThrows(CircularDependencyException.class, () -> {
             dependencyGraph.addDependency(elementA, elementA);
@@ -0,0 +1,267 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.elements.dependency.graph;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.tframework.core.elements.ElementsContainer;
+import org.tframework.core.elements.annotations.InjectElement;
+import org.tframework.core.elements.context.ElementContext;
+import org.tframework.core.elements.context.PreConstructedElementContext;
+import org.tframework.core.elements.context.PrototypeElementContext;
+import org.tframework.core.elements.context.SingletonElementContext;
+import org.tframework.core.elements.context.source.ClassElementSource;
+import org.tframework.core.elements.context.source.MethodElementSource;
+import org.tframework.core.elements.dependency.graph.StaticDependencyGraph.DependencyKind;
+import org.tframework.core.elements.dependency.graph.StaticDependencyGraph.InitializationGroup;
+import org.tframework.core.elements.dependency.resolver.DependencyResolutionInput;
+import org.tframework.core.properties.PropertiesContainerFactory;
+
+class StaticDependencyGraphTest {
+
+    private ElementsContainer elementsContainer;
+    private DependencyResolutionInput dependencyResolutionInput;
+
+    @BeforeEach
+    void setUp() {
+        elementsContainer = ElementsContainer.empty();
+        dependencyResolutionInput = DependencyResolutionInput.builder()
+                .elementsContainer(elementsContainer)
+                .propertiesContainer(PropertiesContainerFactory.empty())
+                .build();
+    }
+
+    @Test
+    public void shouldFindDependencies_ofParametersAndFields() {
+        var independent = addContext("independent", IndependentElement.class);
+        var byType = addContext("byType", ByTypeElement.class);
+        var byName = addContext("byName", ByNameElement.class);
+
+        var dependencyGraph = StaticDependencyGraph.fromElementsContainer(elementsContainer);
+
+        assertTrue(dependencyGraph.getDependencies(independent).isEmpty());
+        assertEquals(Set.of(independent), dependencyGraph.getDependencies(byType));
+        assertEquals(Set.of(independent, byType), dependencyGraph.getDependencies(byName));
+    }
+
+    @Test
+    public void shouldFindParentDependency_ofMethodElement() throws Exception {
+        var parent = addContext("parent", IndependentElement.class);
+        var method = IndependentElement.class.getMethod("toString");
+        var methodElement = new SingletonElementContext(
+                "methodElement",
+                String.class,
+                new MethodElementSource(method, parent),
+                dependencyResolutionInput
+        );
+        elementsContainer.addElementContext(methodElement);
+
+        var dependencyGraph = StaticDependencyGraph.fromElementsContainer(elementsContainer);
+
+        assertEquals(Set.of(parent), dependencyGraph.getDependencies(methodElement));
+    }
+
+    @Test
+    public void shouldFindDependencyKinds() {
+        var independent = addContext("independent", IndependentElement.class);
+        var byType = addContext("byType", ByTypeElement.class);
+        var byName = addContext("byName", ByNameElement.class);
+
+        var dependencyGraph = StaticDependencyGraph.fromElementsContainer(elementsContainer);
+
+        assertEquals(Set.of(DependencyKind.CONSTRUCTION), dependencyGraph.getDependencyKinds(byName, independent));
+        assertEquals(Set.of(DependencyKind.FIELD), dependencyGraph.getDependencyKinds(byName, byType));
+        assertTrue(dependencyGraph.getDependencyKinds(independent, byName).isEmpty());
+    }
+
+    @Test
+    public void shouldIgnoreDependencies_thatCannotBeResolved_andPreConstructedElements() {
+        var unresolvable = addContext("unresolvable", UnresolvableElement.class);
+        var preConstructed = PreConstructedElementContext.of(new IndependentElement(), "preConstructed");
+        elementsContainer.addElementContext(preConstructed);
+
+        var dependencyGraph = StaticDependencyGraph.fromElementsContainer(elementsContainer);
+
+        assertTrue(dependencyGraph.getDependencies(unresolvable).isEmpty());
+        assertTrue(dependencyGraph.getDependencies(preConstructed).isEmpty());
+        var unresolvedDependency = dependencyGraph.getUnresolvedDependencies().getFirst();
+        assertEquals(unresolvable, unresolvedDependency.elementContext());
+        assertEquals(Runnable.class, unresolvedDependency.injectionPoint().dependencyDefinition().dependencyType());
+    }
+
+    @Test
+    public void shouldFindCircularDependencies_thatAreNotBrokenBySingletonFieldInjection() {
+        var constructorA = addContext("constructorA", ConstructorCyclicElementA.class);
+        addContext("cyclicA", CyclicElementA.class);
+        var constructorB = addContext("constructorB", ConstructorCyclicElementB.class);
+        addContext("cyclicB", CyclicElementB.class);
+        var self = addContext("self", SelfDependentElement.class);
+
+        var circularDependencies = StaticDependencyGraph.fromElementsContainer(elementsContainer).findCircularDependencies();
+
+        assertEquals(List.of(List.of(constructorA, constructorB), List.of(self)), circularDependencies);
+    }
+
+    @Test
+    public void shouldFindCircularDependencies_ofPrototypeFieldInjection() {
+        var prototypeA = addPrototypeContext("cyclicA", CyclicElementA.class);
+        var prototypeB = addPrototypeContext("cyclicB", CyclicElementB.class);
+
+        var circularDependencies = StaticDependencyGraph.fromElementsContainer(elementsContainer).findCircularDependencies();
+
+        assertEquals(List.of(List.of(prototypeA, prototypeB)), circularDependencies);
+    }
+
+    @Test
+    public void shouldReportAllProblems_whenValidating() {
+        var constructorA = addContext("constructorA", ConstructorCyclicElementA.class);
+        var constructorB = addContext("constructorB", ConstructorCyclicElementB.class);
+        var unresolvable = addContext("unresolvable", UnresolvableElement.class);
+
+        var dependencyGraph = StaticDependencyGraph.fromElementsContainer(elementsContainer);
+        var exception = assertThrows(DependencyGraphValidationException.class, dependencyGraph::validate);
+
+        assertEquals(List.of(List.of(constructorA, constructorB)), exception.getCircularDependencies());
+        assertEquals(unresolvable, exception.getUnresolvedDependencies().getFirst().elementContext());
+        assertTrue(exception.getMessage().contains("[constructorA, constructorB]"));
+        assertTrue(exception.getMessage().contains("Element 'unresolvable' requires the element of type 'java.lang.Runnable'"));
+    }
+
+    @Test
+    public void shouldValidate_whenFieldInjectionBreaksCycles() {
+        addContext("cyclicA", CyclicElementA.class);
+        addContext("cyclicB", CyclicElementB.class);
+        addContext("independent", IndependentElement.class);
+
+        StaticDependencyGraph.fromElementsContainer(elementsContainer).validate();
+    }
+
+    @Test
+    public void shouldExportToDot() {
+        addContext("independent", IndependentElement.class);
+        addPrototypeContext("byType", ByTypeElement.class);
+
+        var dot = StaticDependencyGraph.fromElementsContainer(elementsContainer).export(DependencyGraphFormat.DOT);
+
+        var expectedDot = """
+                digraph elements {
+                    "independent" [label="independent\\n%s\\nsingleton"];
+                    "byType" [label="byType\\n%s\\nprototype"];
+                    "byType" -> "independent" [label="construction"];
+                }
+                """.formatted(IndependentElement.class.getName(), ByTypeElement.class.getName());
+        assertEquals(expectedDot, dot);
+    }
+
+    @Test
+    public void shouldExportToJson() {
+        addContext("independent", IndependentElement.class);
+        addPrototypeContext("byType", ByTypeElement.class);
+
+        var json = StaticDependencyGraph.fromElementsContainer(elementsContainer).export(DependencyGraphFormat.JSON);
+
+        var expectedJson = """
+                {
+                  "elements": [
+                    {"name": "independent", "type": "%s", "scope": "SINGLETON"},
+                    {"name": "byType", "type": "%s", "scope": "PROTOTYPE"}
+                  ],
+                  "dependencies": [
+                    {"element": "byType", "dependency": "independent", "kinds": ["CONSTRUCTION"]}
+                  ]
+                }
+                """.formatted(IndependentElement.class.getName(), ByTypeElement.class.getName());
+        assertEquals(expectedJson, json);
+    }
+
+    @Test
+    public void shouldComputeInitializationWaves_inContainerOrder() {
+        var cyclicA = addContext("cyclicA", CyclicElementA.class);
+        var byName = addContext("byName", ByNameElement.class);
+        var independent = addContext("independent", IndependentElement.class);
+        var byType = addContext("byType", ByTypeElement.class);
+        var cyclicB = addContext("cyclicB", CyclicElementB.class);
+
+        var waves = StaticDependencyGraph.fromElementsContainer(elementsContainer).getInitializationWaves();
+
+        var expectedWaves = List.of(
+                List.of(new InitializationGroup(List.of(cyclicA, cyclicB)), new InitializationGroup(List.of(independent))),
+                List.of(new InitializationGroup(List.of(byType))),
+                List.of(new InitializationGroup(List.of(byName)))
+        );
+        assertEquals(expectedWaves, waves);
+    }
+
+    @Test
+    public void shouldComputeNoWaves_whenContainerIsEmpty() {
+        var waves = StaticDependencyGraph.fromElementsContainer(elementsContainer).getInitializationWaves();
+        assertTrue(waves.isEmpty());
+    }
+
+    private ElementContext addContext(String name, Class<?> elementClass) {
+        var source = new ClassElementSource(elementClass, elementClass.getConstructors()[0]);
+        var context = new SingletonElementContext(name, elementClass, source, dependencyResolutionInput);
+        elementsContainer.addElementContext(context);
+        return context;
+    }
+
+    private ElementContext addPrototypeContext(String name, Class<?> elementClass) {
+        var source = new ClassElementSource(elementClass, elementClass.getConstructors()[0]);
+        var context = new PrototypeElementContext(name, elementClass, source, dependencyResolutionInput);
+        elementsContainer.addElementContext(context);
+        return context;
+    }
+
+    public static class IndependentElement {}
+
+    public static class ByTypeElement {
+
+        public ByTypeElement(IndependentElement independentElement) {}
+    }
+
+    public static class ByNameElement {
+
+        @InjectElement
+        private ByTypeElement byTypeElement;
+
+        public ByNameElement(@InjectElement("independent") Object independentElement) {}
+    }
+
+    public static class UnresolvableElement {
+
+        public UnresolvableElement(Runnable notAnElement) {}
+    }
+
+    public static class ConstructorCyclicElementA {
+
+        public ConstructorCyclicElementA(@InjectElement("constructorB") Object constructorB) {}
+    }
+
+    public static class ConstructorCyclicElementB {
+
+        public ConstructorCyclicElementB(@InjectElement("constructorA") Object constructorA) {}
+    }
+
+    public static class SelfDependentElement {
+
+        public SelfDependentElement(SelfDependentElement self) {}
+    }
+
+    public static class CyclicElementA {
+
+        @InjectElement("cyclicB")
+        private Object cyclicElementB;
+    }
+
+    public static class CyclicElementB {
+
+        @InjectElement("cyclicA")
+        private Object cyclicElementA;
+    }
+
+}
@@ -0,0 +1,101 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.elements.dependency.plan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.tframework.core.elements.annotations.InjectElement;
+import org.tframework.core.elements.annotations.InjectProperty;
+import org.tframework.core.elements.context.source.ClassElementSource;
+import org.tframework.core.reflection.annotations.MultipleAnnotationsScannedException;
+
+class InjectionPlannerTest {
+
+    private final InjectionPlanner injectionPlanner = InjectionPlanner.createDefault();
+
+    @Test
+    public void shouldPlanConstructionParameters() throws Exception {
+        var constructor = DummyElement.class.getConstructor(String.class, Integer.class, Object.class, String.class);
+        var source = new ClassElementSource(DummyElement.class, constructor);
+
+        var plan = injectionPlanner.createPlan(source, Set.of());
+
+        var parameters = plan.constructionParameters();
+        assertEquals(4, parameters.size());
+
+        assertEquals(InjectionKind.ELEMENT_BY_NAME, parameters.get(0).kind());
+        assertEquals("someElement", parameters.get(0).name());
+        assertTrue(parameters.get(0).annotated());
+
+        assertEquals(InjectionKind.PROPERTY, parameters.get(1).kind());
+        assertEquals("some.property", parameters.get(1).name());
+        assertEquals("5", parameters.get(1).defaultValue());
+
+        assertEquals(InjectionKind.ELEMENT_BY_TYPE, parameters.get(2).kind());
+        assertFalse(parameters.get(2).annotated());
+        assertEquals(Object.class, parameters.get(2).dependencyDefinition().dependencyType());
+
+        assertEquals(InjectionKind.PROPERTY, parameters.get(3).kind());
+        assertFalse(parameters.get(3).hasDefaultValue());
+        assertNull(parameters.get(3).defaultValue());
+    }
+
+    @Test
+    public void shouldPlanOnlyAnnotatedFields() throws Exception {
+        var source = new ClassElementSource(DummyElement.class, DummyElement.class.getConstructor());
+        var annotatedField = DummyElement.class.getDeclaredField("annotatedField");
+        var notAnnotatedField = DummyElement.class.getDeclaredField("notAnnotatedField");
+
+        var plan = injectionPlanner.createPlan(source, Set.of(annotatedField, notAnnotatedField));
+
+        assertTrue(plan.constructionParameters().isEmpty());
+        assertEquals(1, plan.fields().size());
+        var fieldInjectionPoint = plan.fields().getFirst();
+        assertEquals(annotatedField, fieldInjectionPoint.dependencyDefinition().annotationSource());
+        assertEquals(InjectionKind.ELEMENT_BY_TYPE, fieldInjectionPoint.kind());
+        assertTrue(fieldInjectionPoint.annotated());
+    }
+
+    @Test
+    public void shouldThrowMultipleAnnotationsScannedException_whenFieldHasMultipleInjectAnnotations() throws Exception {
+        var invalidField = DummyElement.class.getDeclaredField("invalidField");
+        assertThrows(MultipleAnnotationsScannedException.class, () -> injectionPlanner.planField(invalidField));
+    }
+
+    @Test
+    public void shouldCreateImmutablePlan() {
+        var plan = new InjectionPlan(new ArrayList<>(), List.of());
+        assertThrows(UnsupportedOperationException.class, () -> plan.constructionParameters().add(null));
+    }
+
+    public static class DummyElement {
+
+        @InjectElement
+        private String annotatedField;
+
+        private String notAnnotatedField;
+
+        @InjectElement
+        @InjectProperty("some.property")
+        private String invalidField;
+
+        public DummyElement() {
+        }
+
+        public DummyElement(
+                @InjectElement("someElement") String someElement,
+                @InjectProperty(value = "some.property", defaultValue = "5") Integer someProperty,
+                Object someDependency,
+                @InjectProperty("other.property") String otherProperty
+        ) {
+        }
+    }
+
+}
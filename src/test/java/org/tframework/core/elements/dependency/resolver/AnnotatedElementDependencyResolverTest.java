@@ -5,6 +5,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Field;
@@ -20,6 +23,7 @@ import org.tframework.core.elements.context.ElementContext;
 import org.tframework.core.elements.dependency.DependencyDefinition;
 import org.tframework.core.elements.dependency.InjectAnnotationScanner;
 import org.tframework.core.elements.dependency.graph.ElementDependencyGraph;
+import org.tframework.core.elements.dependency.plan.InjectionPoint;
 
 @ExtendWith(MockitoExtension.class)
 class AnnotatedElementDependencyResolverTest {
@@ -61,7 +65,7 @@ class AnnotatedElementDependencyResolverTest {
 
     @Test
     public void shouldResolveDependency_whenPresentInDependencySource_withNameProvided() {
-        var dependencyGraph = ElementDependencyGraph.empty();
+        var dependencyGraph = spy(ElementDependencyGraph.forCurrentThread());
         String expectedDependencyValue = "testDependencyValue";
 
         when(injectAnnotationScanner.findInjectAnnotation(someField, InjectElement.class))
@@ -77,7 +81,7 @@ class AnnotatedElementDependencyResolverTest {
                 dependencyGraph
         );
 
-        assertTrue(dependencyGraph.containsDependency(originalElementContext, dependencyElementContext));
+        verify(dependencyGraph).addDependency(originalElementContext, dependencyElementContext);
         if(resolvedDependency.isPresent() && resolvedDependency.get() instanceof String resolvedString) {
             assertEquals(expectedDependencyValue, resolvedString);
         } else {
@@ -87,7 +91,7 @@ class AnnotatedElementDependencyResolverTest {
 
     @Test
     public void shouldResolveDependency_whenPresentInDependencySource_withNameNotProvided() {
-        var dependencyGraph = ElementDependencyGraph.empty();
+        var dependencyGraph = spy(ElementDependencyGraph.forCurrentThread());
         String expectedDependencyValue = "testDependencyValue";
 
         when(injectAnnotationScanner.findInjectAnnotation(otherField, InjectElement.class))
@@ -103,7 +107,7 @@ class AnnotatedElementDependencyResolverTest {
                 dependencyGraph
         );
 
-        assertTrue(dependencyGraph.containsDependency(originalElementContext, dependencyElementContext));
+        verify(dependencyGraph).addDependency(originalElementContext, dependencyElementContext);
         if(resolvedDependency.isPresent() && resolvedDependency.get() instanceof String resolvedString) {
             assertEquals(expectedDependencyValue, resolvedString);
         } else {
@@ -121,7 +125,7 @@ class AnnotatedElementDependencyResolverTest {
         var resolvedDependency = elementDependencyResolver.resolveDependency(
                 dependencyDefinitionWithNameProvided,
                 originalElementContext,
-                ElementDependencyGraph.empty()
+                ElementDependencyGraph.forCurrentThread()
         );
         assertTrue(resolvedDependency.isEmpty());
     }
@@ -135,11 +139,44 @@ class AnnotatedElementDependencyResolverTest {
             elementDependencyResolver.resolveDependency(
                     dependencyDefinitionWithNameProvided,
                     originalElementContext,
-                    ElementDependencyGraph.empty()
+                    ElementDependencyGraph.forCurrentThread()
             );
         });
     }
 
+    @Test
+    public void shouldResolveInjectionPoint_withoutScanningAnnotations() {
+        var dependencyGraph = ElementDependencyGraph.forCurrentThread();
+        var injectionPoint = InjectionPoint.fromInjectElement(dependencyDefinitionWithNameProvided, injectElementWithNameProvided);
+        when(dependencySource.getElementContext(injectElementWithNameProvided.value()))
+                .thenReturn(dependencyElementContext);
+        when(dependencyElementContext.requestInstance(dependencyGraph))
+                .thenReturn("testDependencyValue");
+
+        var resolvedDependency = elementDependencyResolver.resolveDependency(
+                injectionPoint,
+                originalElementContext,
+                dependencyGraph
+        );
+
+        assertEquals(Optional.of("testDependencyValue"), resolvedDependency);
+        verifyNoInteractions(injectAnnotationScanner);
+    }
+
+    @Test
+    public void shouldNotResolveInjectionPoint_whenNotAnnotatedWithInjectElement() {
+        var injectionPoint = InjectionPoint.unannotated(dependencyDefinitionWithNameNotProvided);
+
+        var resolvedDependency = elementDependencyResolver.resolveDependency(
+                injectionPoint,
+                originalElementContext,
+                ElementDependencyGraph.forCurrentThread()
+        );
+
+        assertTrue(resolvedDependency.isEmpty());
+        verifyNoInteractions(injectAnnotationScanner, dependencySource);
+    }
+
     @InjectElement("testDependency")
     private String someString;
 
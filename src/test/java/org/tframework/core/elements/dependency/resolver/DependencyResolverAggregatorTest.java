@@ -16,6 +16,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.tframework.core.elements.context.ElementContext;
 import org.tframework.core.elements.dependency.DependencyDefinition;
 import org.tframework.core.elements.dependency.graph.ElementDependencyGraph;
+import org.tframework.core.elements.dependency.plan.InjectionPoint;
 import org.tframework.core.utils.LogUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -51,7 +52,7 @@ class DependencyResolverAggregatorTest {
         when(basicDependencyResolver.resolveDependency(dependencyDefinition))
                 .thenReturn(Optional.of(dependencyValue));
 
-        var dependencyGraph = ElementDependencyGraph.empty();
+        var dependencyGraph = ElementDependencyGraph.forCurrentThread();
         Object resolvedDependency = aggregator.resolveDependency(
                 dependencyDefinition,
                 originalElementContext,
@@ -64,7 +65,7 @@ class DependencyResolverAggregatorTest {
 
     @Test
     void shouldThrowDependencyResolutionException_whenDependencyCannotBeResolved() {
-        var dependencyGraph = ElementDependencyGraph.empty();
+        var dependencyGraph = ElementDependencyGraph.forCurrentThread();
 
         when(basicDependencyResolver.resolveDependency(dependencyDefinition))
                 .thenReturn(Optional.empty());
@@ -87,6 +88,42 @@ class DependencyResolverAggregatorTest {
         assertEquals(expectedMessage, e.getMessage());
     }
 
+    @Test
+    void shouldResolveInjectionPoint_withFirstResolverThatResolvesIt() {
+        var injectionPoint = InjectionPoint.unannotated(dependencyDefinition);
+        var dependencyGraph = ElementDependencyGraph.forCurrentThread();
+        when(basicDependencyResolver.resolveDependency(injectionPoint))
+                .thenReturn(Optional.empty());
+        when(elementDependencyResolver.resolveDependency(injectionPoint, originalElementContext, dependencyGraph))
+                .thenReturn(Optional.of("someValue"));
+
+        Object resolvedDependency = aggregator.resolveDependency(
+                injectionPoint,
+                originalElementContext,
+                dependencyGraph,
+                DEPENDENCY_DECLARED_AS
+        );
+
+        assertEquals("someValue", resolvedDependency);
+    }
+
+    @Test
+    void shouldThrowDependencyResolutionException_whenInjectionPointCannotBeResolved() {
+        var injectionPoint = InjectionPoint.unannotated(dependencyDefinition);
+        var dependencyGraph = ElementDependencyGraph.forCurrentThread();
+        when(basicDependencyResolver.resolveDependency(injectionPoint))
+                .thenReturn(Optional.empty());
+        when(elementDependencyResolver.resolveDependency(injectionPoint, originalElementContext, dependencyGraph))
+                .thenReturn(Optional.empty());
+
+        assertThrows(DependencyResolutionException.class, () -> aggregator.resolveDependency(
+                injectionPoint,
+                originalElementContext,
+                dependencyGraph,
+                DEPENDENCY_DECLARED_AS
+        ));
+    }
+
     private String someString;
 
 }
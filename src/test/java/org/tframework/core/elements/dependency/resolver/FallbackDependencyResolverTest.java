@@ -4,6 +4,8 @@ package org.tframework.core.elements.dependency.resolver;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Field;
@@ -42,7 +44,7 @@ class FallbackDependencyResolverTest {
 
     @Test
     public void shouldResolveDependency_whenPresentInDependencySource() {
-        var dependencyGraph = ElementDependencyGraph.empty();
+        var dependencyGraph = spy(ElementDependencyGraph.forCurrentThread());
         String expectedDependencyValue = "testDependencyValue";
 
         when(dependencySource.getElementContext(someField.getType()))
@@ -56,7 +58,7 @@ class FallbackDependencyResolverTest {
                 dependencyGraph
         );
 
-        assertTrue(dependencyGraph.containsDependency(originalElementContext, dependencyElementContext));
+        verify(dependencyGraph).addDependency(originalElementContext, dependencyElementContext);
         if(resolvedDependency.isPresent() && resolvedDependency.get() instanceof String resolvedString) {
             assertEquals(expectedDependencyValue, resolvedString);
         } else {
@@ -72,7 +74,7 @@ class FallbackDependencyResolverTest {
         var resolvedDependency = fallbackDependencyResolver.resolveDependency(
                 dependencyDefinition,
                 originalElementContext,
-                ElementDependencyGraph.empty()
+                ElementDependencyGraph.forCurrentThread()
         );
         assertTrue(resolvedDependency.isEmpty());
     }
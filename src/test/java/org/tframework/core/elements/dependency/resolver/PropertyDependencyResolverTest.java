@@ -4,6 +4,7 @@ package org.tframework.core.elements.dependency.resolver;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Field;
@@ -16,6 +17,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.tframework.core.elements.annotations.InjectProperty;
 import org.tframework.core.elements.dependency.DependencyDefinition;
 import org.tframework.core.elements.dependency.InjectAnnotationScanner;
+import org.tframework.core.elements.dependency.plan.InjectionPoint;
 import org.tframework.core.properties.PropertiesContainer;
 
 @ExtendWith(MockitoExtension.class)
@@ -111,6 +113,28 @@ class PropertyDependencyResolverTest {
         assertTrue(resolvedDependency.isEmpty());
     }
 
+    @Test
+    public void shouldResolveInjectionPointWithDefaultValue_withoutScanningAnnotations() {
+        var injectionPoint = InjectionPoint.fromInjectProperty(dependencyDefinitionWithDefaultValue, injectPropertyAnnotationWithDefaultValue);
+        when(propertiesContainer.getPropertyValueNonGeneric("someString2", String.class, "default"))
+                .thenReturn("test");
+
+        var resolvedDependency = propertyDependencyResolver.resolveDependency(injectionPoint);
+
+        assertEquals(Optional.of("test"), resolvedDependency);
+        verifyNoInteractions(injectAnnotationScanner);
+    }
+
+    @Test
+    public void shouldNotResolveInjectionPoint_whenNotPropertyInjection() {
+        var injectionPoint = InjectionPoint.unannotated(dependencyDefinition);
+
+        var resolvedDependency = propertyDependencyResolver.resolveDependency(injectionPoint);
+
+        assertTrue(resolvedDependency.isEmpty());
+        verifyNoInteractions(injectAnnotationScanner, propertiesContainer);
+    }
+
     @InjectProperty("someString")
     private String someString;
 
@@ -7,7 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Field;
-import java.util.Set;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,8 +16,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.tframework.core.elements.annotations.InjectElement;
 import org.tframework.core.elements.context.ElementContext;
 import org.tframework.core.elements.dependency.DependencyDefinition;
-import org.tframework.core.elements.dependency.InjectAnnotationScanner;
 import org.tframework.core.elements.dependency.graph.ElementDependencyGraph;
+import org.tframework.core.elements.dependency.plan.InjectionPlan;
+import org.tframework.core.elements.dependency.plan.InjectionPoint;
 import org.tframework.core.elements.dependency.resolver.DependencyResolverAggregator;
 import org.tframework.core.reflection.field.SimpleFieldFilter;
 import org.tframework.core.reflection.field.SimpleFieldSetter;
@@ -27,9 +28,6 @@ public class FieldInjectionPostProcessorTest {
 
     private static final String RESOLVED_DEPENDENCY = "resolved_dependency";
 
-    @Mock
-    private InjectAnnotationScanner injectAnnotationScanner;
-
     @Mock
     private DependencyResolverAggregator dependencyResolver;
 
@@ -43,11 +41,9 @@ public class FieldInjectionPostProcessorTest {
         when(elementContext.getName()).thenReturn("test-element");
 
         dependencyField = ValidElement.class.getDeclaredField("string1");
-        nonDependencyField = ValidElement.class.getDeclaredField("string2");
         invalidDependencyField = InvalidElement.class.getDeclaredField("string1");
 
         fieldInjectionPostProcessor = FieldInjectionPostProcessor.builder()
-                .injectAnnotationScanner(injectAnnotationScanner)
                 .dependencyResolver(dependencyResolver)
                 //field reflection dependencies are not mocked to greatly simplify test
                 .fieldFilter(new SimpleFieldFilter())
@@ -57,14 +53,13 @@ public class FieldInjectionPostProcessorTest {
 
     @Test
     public void shouldInjectFieldDependencies() {
-        when(elementContext.getFields()).thenReturn(Set.of(dependencyField, nonDependencyField));
-        when(injectAnnotationScanner.hasAnyInjectAnnotations(dependencyField)).thenReturn(true);
-        when(injectAnnotationScanner.hasAnyInjectAnnotations(nonDependencyField)).thenReturn(false);
+        var injectionPoint = injectionPointOf(dependencyField);
+        when(elementContext.getInjectionPlan()).thenReturn(new InjectionPlan(List.of(), List.of(injectionPoint)));
 
         when(dependencyResolver.resolveDependency(
-                DependencyDefinition.fromField(dependencyField),
+                injectionPoint,
                 elementContext,
-                ElementDependencyGraph.empty(),
+                ElementDependencyGraph.forCurrentThread(),
                 FieldInjectionPostProcessor.DEPENDENCY_DECLARED_AS_FIELD
         )).thenReturn(RESOLVED_DEPENDENCY);
 
@@ -78,8 +73,8 @@ public class FieldInjectionPostProcessorTest {
 
     @Test
     public void shouldThrowFieldInjectionException_whenAnnotatedFieldIsInvalid() {
-        when(elementContext.getFields()).thenReturn(Set.of(invalidDependencyField));
-        when(injectAnnotationScanner.hasAnyInjectAnnotations(invalidDependencyField)).thenReturn(true);
+        var injectionPoint = injectionPointOf(invalidDependencyField);
+        when(elementContext.getInjectionPlan()).thenReturn(new InjectionPlan(List.of(), List.of(injectionPoint)));
 
         InvalidElement instance = new InvalidElement();
 
@@ -88,13 +83,13 @@ public class FieldInjectionPostProcessorTest {
 
     @Test
     public void shouldThrowFieldInjectionException_whenDependencyResolutionFails() {
-        when(elementContext.getFields()).thenReturn(Set.of(dependencyField));
-        when(injectAnnotationScanner.hasAnyInjectAnnotations(dependencyField)).thenReturn(true);
+        var injectionPoint = injectionPointOf(dependencyField);
+        when(elementContext.getInjectionPlan()).thenReturn(new InjectionPlan(List.of(), List.of(injectionPoint)));
 
         when(dependencyResolver.resolveDependency(
-                DependencyDefinition.fromField(dependencyField),
+                injectionPoint,
                 elementContext,
-                ElementDependencyGraph.empty(),
+                ElementDependencyGraph.forCurrentThread(),
                 FieldInjectionPostProcessor.DEPENDENCY_DECLARED_AS_FIELD
         )).thenReturn(1); //the field is a String, but an int is resolved
 
@@ -103,6 +98,10 @@ public class FieldInjectionPostProcessorTest {
         assertThrows(FieldInjectionException.class, () -> fieldInjectionPostProcessor.postProcessInstance(elementContext, instance));
     }
 
+    private InjectionPoint injectionPointOf(Field field) {
+        return InjectionPoint.fromInjectElement(DependencyDefinition.fromField(field), field.getAnnotation(InjectElement.class));
+    }
+
     static class ValidElement {
 
         @InjectElement
@@ -120,7 +119,6 @@ public class FieldInjectionPostProcessorTest {
     }
 
     private Field dependencyField;
-    private Field nonDependencyField;
     private Field invalidDependencyField;
 
 }
@@ -3,8 +3,10 @@ package org.tframework.core.elements.scanner;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
@@ -12,6 +14,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.tframework.core.elements.annotations.Element;
+import org.tframework.core.elements.scanner.index.ElementIndex;
+import org.tframework.core.elements.scanner.index.ElementIndexEntry;
+import org.tframework.core.elements.scanner.index.ElementIndexReader;
 import org.tframework.core.properties.ListPropertyValue;
 import org.tframework.core.properties.PropertiesContainer;
 import org.tframework.core.properties.PropertiesContainerFactory;
@@ -74,6 +79,65 @@ class PackagesElementClassScannerTest {
         assertTrue(elements.isEmpty());
     }
 
+    @Test
+    public void shouldMergeElementIndex_withScannedRootsWithoutIndex() {
+        var propertiesContainer = PropertiesContainerFactory.fromProperties(List.of(new Property(
+                PackagesElementClassScanner.SCAN_PACKAGES_PROPERTY,
+                new SinglePropertyValue(PackagesElementClassScannerTest.class.getPackageName())
+        )));
+        packagesElementClassScanner = buildScanner(propertiesContainer, indexOf(SomeElementFromPackage1.class, SomeNonElement.class));
+        when(packageClassScanner.scanClasses()).thenReturn(Set.of(SomeElementFromPackage2.class)); //from an unindexed root
+
+        var results = packagesElementClassScanner.scanElements();
+
+        assertEquals(2, results.size());
+        assertTrue(results.stream().anyMatch(r -> r.annotationSource().equals(SomeElementFromPackage1.class)));
+        assertTrue(results.stream().anyMatch(r -> r.annotationSource().equals(SomeElementFromPackage2.class)));
+        verify(packageClassScanner).setRejectedRootResources(Set.of(ElementIndexReader.INDEX_RESOURCE));
+    }
+
+    @Test
+    public void shouldScanPackages_whenElementIndexHasNoClassesInPackages() {
+        packagesElementClassScanner = buildScanner(
+                PropertiesContainerFactory.fromProperties(List.of(new Property(
+                        PackagesElementClassScanner.SCAN_PACKAGES_PROPERTY,
+                        new SinglePropertyValue("some.custom.package1")
+                ))),
+                indexOf(SomeElementFromPackage2.class)
+        );
+        when(packageClassScanner.scanClasses()).thenReturn(Set.of(SomeElementFromPackage1.class));
+
+        var results = packagesElementClassScanner.scanElements();
+
+        assertEquals(1, results.size());
+        assertTrue(results.stream().anyMatch(r -> r.annotationSource().equals(SomeElementFromPackage1.class)));
+    }
+
+    @Test
+    public void shouldScanPackages_whenElementIndexIsDisabled() {
+        var propertiesContainer = PropertiesContainerFactory.fromProperties(List.of(
+                new Property(
+                        PackagesElementClassScanner.SCAN_PACKAGES_PROPERTY,
+                        new SinglePropertyValue(PackagesElementClassScannerTest.class.getPackageName())
+                ),
+                new Property(ElementClassScanner.ELEMENT_INDEX_ENABLED_PROPERTY, new SinglePropertyValue("false"))
+        ));
+        packagesElementClassScanner = buildScanner(propertiesContainer, indexOf(SomeElementFromPackage1.class));
+        when(packageClassScanner.scanClasses()).thenReturn(Set.of(SomeElementFromPackage2.class));
+
+        var results = packagesElementClassScanner.scanElements();
+
+        assertEquals(1, results.size());
+        assertTrue(results.stream().anyMatch(r -> r.annotationSource().equals(SomeElementFromPackage2.class)));
+    }
+
+    private ElementIndex indexOf(Class<?>... classes) {
+        var entries = Arrays.stream(classes)
+                .map(c -> new ElementIndexEntry(c.getName()))
+                .toList();
+        return new ElementIndex(entries, getClass().getClassLoader());
+    }
+
     private void setUpScannerWithMultiplePackagesProperty(List<String> packagesToScan) {
         var propertiesContainer = PropertiesContainerFactory.fromProperties(List.of(new Property(
                 PackagesElementClassScanner.SCAN_PACKAGES_PROPERTY,
@@ -96,11 +160,16 @@ class PackagesElementClassScannerTest {
     }
 
     private PackagesElementClassScanner buildScanner(PropertiesContainer propertiesContainer) {
+        return buildScanner(propertiesContainer, ElementIndex.empty());
+    }
+
+    private PackagesElementClassScanner buildScanner(PropertiesContainer propertiesContainer, ElementIndex elementIndex) {
         return PackagesElementClassScanner.builder()
                 .annotationScanner(AnnotationScannersFactory.createComposedAnnotationScanner())
                 .classFilter(ClassFiltersFactory.createDefaultClassFilter())
                 .classScanner(packageClassScanner)
                 .propertiesContainer(propertiesContainer)
+                .elementIndex(elementIndex)
                 .build();
     }
 
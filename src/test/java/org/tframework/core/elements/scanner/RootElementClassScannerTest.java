@@ -4,6 +4,7 @@ package org.tframework.core.elements.scanner;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.tframework.core.elements.scanner.RootElementClassScanner.ROOT_HIERARCHY_SCANNING_ENABLED_PROPERTY;
 import static org.tframework.core.elements.scanner.RootElementClassScanner.ROOT_SCANNING_ENABLED_PROPERTY;
@@ -17,6 +18,9 @@ import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.tframework.core.elements.annotations.Element;
+import org.tframework.core.elements.scanner.index.ElementIndex;
+import org.tframework.core.elements.scanner.index.ElementIndexEntry;
+import org.tframework.core.elements.scanner.index.ElementIndexReader;
 import org.tframework.core.properties.PropertiesContainer;
 import org.tframework.core.properties.PropertiesContainerFactory;
 import org.tframework.core.properties.Property;
@@ -122,6 +126,24 @@ class RootElementClassScannerTest {
         assertTrue(results.stream().anyMatch(r -> r.annotationSource().equals(RootClass.class)));
     }
 
+    @Test
+    public void shouldMergeElementIndex_withScannedRootsWithoutIndex() {
+        var elementIndex = new ElementIndex(
+                List.of(new ElementIndexEntry(SomeElement.class.getName()), new ElementIndexEntry(OtherElement.class.getName())),
+                getClass().getClassLoader()
+        );
+        setUpScanner(PropertiesContainerFactory.empty(), elementIndex);
+
+        when(packageClassScanner.scanClasses()).thenReturn(Set.of(RootClass.NestedElement.class)); //from an unindexed root
+        when(classFilter.filterByAnnotation(fullClassesSet, Element.class, annotationScanner, true))
+                .thenReturn(fullFilterResults);
+
+        var results = scanner.scanElements();
+
+        assertEquals(4, results.size());
+        verify(packageClassScanner).setRejectedRootResources(Set.of(ElementIndexReader.INDEX_RESOURCE));
+    }
+
     private PropertiesContainer setUpBooleanPropertyProperty(String propertyName, BoolPropertyState boolPropertyState) {
         return switch (boolPropertyState) {
             case BoolPropertyState.ENABLED -> PropertiesContainerFactory.fromProperties(List.of(new Property(
@@ -135,6 +157,10 @@ class RootElementClassScannerTest {
     }
 
     private void setUpScanner(PropertiesContainer propertiesContainer) {
+        setUpScanner(propertiesContainer, ElementIndex.empty());
+    }
+
+    private void setUpScanner(PropertiesContainer propertiesContainer, ElementIndex elementIndex) {
         scanner = RootElementClassScanner.builder()
                 .annotationScanner(annotationScanner)
                 .classFilter(classFilter)
@@ -142,6 +168,7 @@ class RootElementClassScannerTest {
                 .rootClassScanner(rootClassScanner)
                 .propertiesContainer(propertiesContainer)
                 .rootClass(RootClass.class)
+                .elementIndex(elementIndex)
                 .build();
     }
 
@@ -0,0 +1,68 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.elements.scanner.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringReader;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ElementIndexReaderTest {
+
+    @TempDir
+    private Path indexDirectory;
+
+    @Test
+    public void shouldParseEntries() throws Exception {
+        String index = """
+                # comment
+                org.example.SomeElement
+
+                org.example.FutureElement|some-future-attribute=value
+                """;
+
+        var entries = ElementIndexReader.parseEntries(new StringReader(index), "test");
+
+        assertEquals(
+                List.of(new ElementIndexEntry("org.example.SomeElement"), new ElementIndexEntry("org.example.FutureElement")),
+                entries
+        );
+        assertEquals("org.example", entries.getFirst().packageName());
+    }
+
+    @Test
+    public void shouldThrowException_whenClassNameIsMissing() {
+        assertThrows(InvalidElementIndexException.class, () -> {
+            ElementIndexReader.parseEntries(new StringReader("|some-attribute=1"), "test");
+        });
+    }
+
+    @Test
+    public void shouldReadIndexResources() throws Exception {
+        var indexFile = indexDirectory.resolve(ElementIndexReader.INDEX_RESOURCE);
+        Files.createDirectories(indexFile.getParent());
+        Files.writeString(indexFile, "org.example.SomeElement\norg.example.OtherElement\n");
+
+        try(var classLoader = new URLClassLoader(new URL[] {indexDirectory.toUri().toURL()}, null)) {
+            var index = ElementIndexReader.readIndex(classLoader);
+
+            assertEquals(2, index.getEntries().size());
+            assertEquals(classLoader, index.getClassLoader());
+        }
+    }
+
+    @Test
+    public void shouldReadEmptyIndex_whenThereAreNoIndexResources() throws Exception {
+        try(var classLoader = new URLClassLoader(new URL[] {indexDirectory.toUri().toURL()}, null)) {
+            assertTrue(ElementIndexReader.readIndex(classLoader).isEmpty());
+        }
+    }
+
+}
@@ -0,0 +1,62 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.elements.scanner.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class ElementIndexTest {
+
+    private final ElementIndex elementIndex = new ElementIndex(
+            List.of(
+                    new ElementIndexEntry("org.example.Root"),
+                    new ElementIndexEntry("org.example.service.Service"),
+                    new ElementIndexEntry("org.example.other.web.Controller"),
+                    new ElementIndexEntry("org.examples.Unrelated")
+            ),
+            ElementIndexTest.class.getClassLoader()
+    );
+
+    @Test
+    public void shouldFindEntriesInPackageAndSubpackages() {
+        var entries = elementIndex.findEntriesInPackages(Set.of("org.example"));
+
+        assertEquals(3, entries.size());
+        assertTrue(entries.stream().noneMatch(entry -> entry.className().equals("org.examples.Unrelated")));
+    }
+
+    @Test
+    public void shouldFindEntries_withWildcards() {
+        var entries = elementIndex.findEntriesInPackages(Set.of("org.*.web"));
+
+        assertEquals(1, entries.size());
+        assertEquals("org.example.other.web.Controller", entries.getFirst().className());
+    }
+
+    @Test
+    public void shouldFindClassesInPackages_andSkipClassesThatCantBeLoaded() {
+        var index = new ElementIndex(
+                List.of(new ElementIndexEntry(ElementIndexTest.class.getName()), new ElementIndexEntry(getClass().getPackageName() + ".Missing")),
+                getClass().getClassLoader()
+        );
+
+        var classes = index.findClassesInPackages(Set.of(getClass().getPackageName()));
+
+        assertEquals(Set.of(ElementIndexTest.class), classes);
+    }
+
+    @Test
+    public void shouldNotFindClasses_whenPackagesAreNotIndexed() {
+        assertTrue(elementIndex.findClassesInPackages(Set.of("com.example")).isEmpty());
+    }
+
+    @Test
+    public void shouldBeEmpty() {
+        assertTrue(ElementIndex.empty().isEmpty());
+        assertTrue(ElementIndex.empty().findEntriesInPackages(Set.of("org")).isEmpty());
+    }
+
+}
@@ -0,0 +1,96 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.elements.scanner.index.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.tframework.core.elements.scanner.index.ElementIndexEntry;
+import org.tframework.core.elements.scanner.index.ElementIndexReader;
+
+class ElementIndexProcessorTest {
+
+    private static final String SOURCE = """
+            package org.example;
+
+            import java.lang.annotation.Retention;
+            import java.lang.annotation.RetentionPolicy;
+            import org.tframework.core.elements.annotations.Element;
+            import org.tframework.core.elements.annotations.Priority;
+            import org.tframework.core.elements.context.filter.annotation.ForbiddenProfile;
+            import org.tframework.core.elements.context.filter.annotation.RequiredProfile;
+
+            @Element
+            @Priority(5)
+            @RequiredProfile({"dev", "test"})
+            @ForbiddenProfile("prod")
+            public class SomeElement {
+
+                @Element
+                public String provideString() {
+                    return "";
+                }
+
+                public String notAnElement() {
+                    return "";
+                }
+
+                @Element
+                public static class NestedElement {}
+            }
+
+            @Retention(RetentionPolicy.RUNTIME)
+            @Element
+            @interface ComposedElement {}
+
+            @ComposedElement
+            class ComposedSomeElement {}
+
+            class NotAnElement {}
+            """;
+
+    @TempDir
+    private Path outputDirectory;
+
+    @Test
+    public void shouldWriteIndex_thatCanBeRead() throws Exception {
+        var compiler = ToolProvider.getSystemJavaCompiler();
+        var source = new SimpleJavaFileObject(Path.of("SomeElement.java").toUri(), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return SOURCE;
+            }
+        };
+        var options = List.of(
+                "-proc:only",
+                "-d", outputDirectory.toString(),
+                "-classpath", System.getProperty("java.class.path")
+        );
+        var task = compiler.getTask(null, null, null, options, null, List.of(source));
+        task.setProcessors(List.of(new ElementIndexProcessor()));
+
+        assertTrue(task.call());
+
+        assertTrue(Files.exists(outputDirectory.resolve(ElementIndexReader.INDEX_RESOURCE)));
+        List<ElementIndexEntry> entries;
+        try(var classLoader = new URLClassLoader(new URL[] {outputDirectory.toUri().toURL()}, null)) {
+            entries = ElementIndexReader.readIndex(classLoader).getEntries();
+        }
+
+        assertEquals(List.of(
+                new ElementIndexEntry("org.example.ComposedSomeElement"),
+                new ElementIndexEntry("org.example.SomeElement"),
+                new ElementIndexEntry("org.example.SomeElement$NestedElement")
+        ), entries);
+    }
+
+}
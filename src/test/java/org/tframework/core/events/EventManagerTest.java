@@ -1,12 +1,20 @@
 /* Licensed under Apache-2.0 2024. */
 package org.tframework.core.events;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.tframework.core.events.publisher.AsyncMultithreadedEventPublisher;
 import org.tframework.core.events.publisher.SimpleEventPublisher;
 
 @Slf4j
@@ -60,6 +68,53 @@ public class EventManagerTest {
         assertFalse(eventHandled);
     }
 
+    @Test
+    public void shouldPublishToAllSubscribers_whenSubscribingAndPublishingConcurrently() throws Exception {
+        int threadCount = 8;
+        int subscriptionsPerThread = 100;
+        var receivedEvents = new AtomicInteger();
+
+        try(var executor = Executors.newFixedThreadPool(threadCount)) {
+            List<Future<List<UUID>>> futures = new ArrayList<>();
+            for(int i = 0; i < threadCount; i++) {
+                futures.add(executor.submit(() -> {
+                    List<UUID> subscriptionIds = new ArrayList<>();
+                    for(int j = 0; j < subscriptionsPerThread; j++) {
+                        subscriptionIds.add(eventManager.subscribe(EVENT_NAME, payload -> {}));
+                        eventManager.publish(EVENT_NAME, "payload");
+                    }
+                    subscriptionIds.forEach(eventManager::unsubscribe);
+                    return subscriptionIds;
+                }));
+            }
+            for(Future<List<UUID>> future : futures) {
+                assertEquals(subscriptionsPerThread, future.get().size());
+            }
+        }
+
+        eventManager.subscribe(EVENT_NAME, payload -> receivedEvents.incrementAndGet());
+        eventManager.publish(EVENT_NAME, "payload");
+        assertEquals(1, receivedEvents.get()); //all other subscriptions were removed
+    }
+
+    @Test
+    public void shouldDeliverPublishedEvents_whenShutdown() {
+        var asyncEventManager = new EventManager(new AsyncMultithreadedEventPublisher(1));
+        var receivedEvents = new AtomicInteger();
+        asyncEventManager.subscribe(EVENT_NAME, payload -> receivedEvents.incrementAndGet());
+        for(int i = 0; i < 100; i++) {
+            asyncEventManager.publish(EVENT_NAME, "payload");
+        }
+
+        assertTrue(asyncEventManager.shutdown(5000));
+        assertEquals(100, receivedEvents.get());
+    }
+
+    @Test
+    public void shouldShutdown_whenPublisherHasNothingToWaitFor() {
+        assertTrue(eventManager.shutdown(0));
+    }
+
     private void handleEvent(Object payload) {
         log.debug("Handling event with payload '{}'", payload);
         eventHandled = true;
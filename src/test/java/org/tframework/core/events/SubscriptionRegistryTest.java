@@ -0,0 +1,94 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.events;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SubscriptionRegistryTest {
+
+    private static final String TOPIC = "test-topic";
+
+    private SubscriptionRegistry subscriptionRegistry;
+
+    @BeforeEach
+    public void setUp() {
+        subscriptionRegistry = new SubscriptionRegistry();
+    }
+
+    @Test
+    public void shouldReturnNoSubscriptions_whenTopicHasNoSubscriptions() {
+        assertEquals(0, subscriptionRegistry.getSubscriptions(TOPIC).length);
+    }
+
+    @Test
+    public void shouldReturnSubscriptionsInOrder_whenSubscriptionsAreAdded() {
+        var subscription1 = subscription(TOPIC);
+        var subscription2 = subscription(TOPIC);
+        var otherSubscription = subscription("other-topic");
+
+        subscriptionRegistry.add(subscription1);
+        subscriptionRegistry.add(otherSubscription);
+        subscriptionRegistry.add(subscription2);
+
+        assertArrayEquals(new Subscription[] {subscription1, subscription2}, subscriptionRegistry.getSubscriptions(TOPIC));
+        assertArrayEquals(new Subscription[] {otherSubscription}, subscriptionRegistry.getSubscriptions("other-topic"));
+    }
+
+    @Test
+    public void shouldRemoveSubscription_whenSubscriptionIdExists() {
+        var subscription1 = subscription(TOPIC);
+        var subscription2 = subscription(TOPIC);
+        var subscription3 = subscription(TOPIC);
+        subscriptionRegistry.add(subscription1);
+        subscriptionRegistry.add(subscription2);
+        subscriptionRegistry.add(subscription3);
+
+        var removed = subscriptionRegistry.remove(subscription2.subscriptionId());
+
+        assertEquals(subscription2, removed.orElseThrow());
+        assertArrayEquals(new Subscription[] {subscription1, subscription3}, subscriptionRegistry.getSubscriptions(TOPIC));
+    }
+
+    @Test
+    public void shouldRemoveTopic_whenLastSubscriptionIsRemoved() {
+        var subscription = subscription(TOPIC);
+        subscriptionRegistry.add(subscription);
+
+        subscriptionRegistry.remove(subscription.subscriptionId());
+
+        assertEquals(0, subscriptionRegistry.getSubscriptions(TOPIC).length);
+    }
+
+    @Test
+    public void shouldNotRemoveAnything_whenSubscriptionIdDoesNotExist() {
+        var subscription = subscription(TOPIC);
+        subscriptionRegistry.add(subscription);
+
+        var removed = subscriptionRegistry.remove(UUID.randomUUID());
+
+        assertTrue(removed.isEmpty());
+        assertArrayEquals(new Subscription[] {subscription}, subscriptionRegistry.getSubscriptions(TOPIC));
+    }
+
+    @Test
+    public void shouldNotChangeReturnedSubscriptions_whenSubscriptionsChangeLater() {
+        var subscription1 = subscription(TOPIC);
+        subscriptionRegistry.add(subscription1);
+        var subscriptions = subscriptionRegistry.getSubscriptions(TOPIC);
+
+        subscriptionRegistry.add(subscription(TOPIC));
+        subscriptionRegistry.remove(subscription1.subscriptionId());
+
+        assertArrayEquals(new Subscription[] {subscription1}, subscriptions);
+    }
+
+    private Subscription subscription(String topic) {
+        return new Subscription(topic, UUID.randomUUID(), payload -> {});
+    }
+
+}
@@ -1,9 +1,17 @@
 /* Licensed under Apache-2.0 2024. */
 package org.tframework.core.events.publisher;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.tframework.core.events.Event;
@@ -11,15 +19,26 @@ import org.tframework.core.events.Subscription;
 
 public class AsyncMultithreadedEventPublisherTest {
 
+    private static final String TOPIC = "topic";
+
     private final AsyncMultithreadedEventPublisher publisher = new AsyncMultithreadedEventPublisher(1);
 
     private boolean published = false;
 
+    private final CountDownLatch blockingCallbackStarted = new CountDownLatch(1);
+    private final CountDownLatch blockingCallbackReleased = new CountDownLatch(1);
+    private final List<Object> receivedPayloads = new CopyOnWriteArrayList<>();
+
     @BeforeEach
     public void setUp() {
         published = false;
     }
 
+    @AfterEach
+    public void tearDown() {
+        blockingCallbackReleased.countDown();
+    }
+
     @Test
     public void shouldPublishEvent() {
         var subscription = new Subscription("topic", UUID.randomUUID(), this::callback);
@@ -29,6 +48,123 @@ public class AsyncMultithreadedEventPublisherTest {
         assertTrue(published);
     }
 
+    @Test
+    public void shouldDropNewestEvent_whenQueueIsFull() throws InterruptedException {
+        var boundedPublisher = new AsyncMultithreadedEventPublisher(1, 2, Map.of(), EventOverflowPolicy.DROP_NEWEST);
+        occupyPublisherThread(boundedPublisher);
+
+        publishPayloads(boundedPublisher, TOPIC, 1, 2, 3);
+
+        assertEquals(2, boundedPublisher.getQueuedEventCount());
+        assertEquals(1, boundedPublisher.getDroppedEventCount());
+        blockingCallbackReleased.countDown();
+        boundedPublisher.shutdown(1000);
+        assertEquals(List.of(1, 2), receivedPayloads);
+    }
+
+    @Test
+    public void shouldDropOldestEvent_whenQueueIsFull() throws InterruptedException {
+        var boundedPublisher = new AsyncMultithreadedEventPublisher(1, 2, Map.of(), EventOverflowPolicy.DROP_OLDEST);
+        occupyPublisherThread(boundedPublisher);
+
+        publishPayloads(boundedPublisher, TOPIC, 1, 2, 3);
+
+        assertEquals(1, boundedPublisher.getDroppedEventCount());
+        blockingCallbackReleased.countDown();
+        boundedPublisher.shutdown(1000);
+        assertEquals(List.of(2, 3), receivedPayloads);
+    }
+
+    @Test
+    public void shouldRunInCaller_whenQueueIsFull() throws InterruptedException {
+        var boundedPublisher = new AsyncMultithreadedEventPublisher(1, 1, Map.of(), EventOverflowPolicy.CALLER_RUNS);
+        occupyPublisherThread(boundedPublisher);
+
+        publishPayloads(boundedPublisher, TOPIC, 1, 2);
+
+        assertEquals(List.of(2), receivedPayloads); //the first one is still queued
+        assertEquals(0, boundedPublisher.getDroppedEventCount());
+        blockingCallbackReleased.countDown();
+        boundedPublisher.shutdown(1000);
+        assertEquals(List.of(2, 1), receivedPayloads);
+    }
+
+    @Test
+    public void shouldBlockCaller_whenQueueIsFull() throws InterruptedException {
+        var boundedPublisher = new AsyncMultithreadedEventPublisher(1, 1, Map.of(), EventOverflowPolicy.BLOCK);
+        occupyPublisherThread(boundedPublisher);
+        publishPayloads(boundedPublisher, TOPIC, 1);
+
+        var blockedPublish = Thread.ofVirtual().start(() -> publishPayloads(boundedPublisher, TOPIC, 2));
+
+        assertTrue(waitUntilWaiting(blockedPublish));
+        blockingCallbackReleased.countDown();
+        blockedPublish.join(5000);
+        boundedPublisher.shutdown(1000);
+        assertEquals(List.of(1, 2), receivedPayloads);
+        assertEquals(0, boundedPublisher.getDroppedEventCount());
+    }
+
+    @Test
+    public void shouldDropOnlyEventsOfTopic_whenTopicQueueCapacityIsReached() throws InterruptedException {
+        var boundedPublisher = new AsyncMultithreadedEventPublisher(1, 10, Map.of(TOPIC, 1), EventOverflowPolicy.DROP_OLDEST);
+        occupyPublisherThread(boundedPublisher);
+
+        publishPayloads(boundedPublisher, TOPIC, 1);
+        publishPayloads(boundedPublisher, "other-topic", "a", "b");
+        publishPayloads(boundedPublisher, TOPIC, 2);
+
+        assertEquals(1, boundedPublisher.getDroppedEventCount());
+        assertEquals(3, boundedPublisher.getQueuedEventCount());
+        blockingCallbackReleased.countDown();
+        boundedPublisher.shutdown(1000);
+        assertEquals(List.of("a", "b", 2), receivedPayloads);
+    }
+
+    @Test
+    public void shouldDropEvents_whenPublisherIsShutDown() {
+        publisher.shutdown(1000);
+
+        publishPayloads(publisher, TOPIC, 1);
+
+        assertEquals(1, publisher.getDroppedEventCount());
+    }
+
+    @Test
+    public void shouldThrowException_whenTopicQueueCapacityIsNotPositive() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new AsyncMultithreadedEventPublisher(1, 0, Map.of(TOPIC, 0), EventOverflowPolicy.BLOCK));
+    }
+
+    private void occupyPublisherThread(AsyncMultithreadedEventPublisher boundedPublisher) throws InterruptedException {
+        boundedPublisher.publish(new Event("blocking-topic", "blocking"), new Subscription("blocking-topic", UUID.randomUUID(), payload -> {
+            blockingCallbackStarted.countDown();
+            try {
+                blockingCallbackReleased.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertTrue(blockingCallbackStarted.await(5, TimeUnit.SECONDS));
+    }
+
+    private void publishPayloads(AsyncMultithreadedEventPublisher boundedPublisher, String topic, Object... payloads) {
+        var subscription = new Subscription(topic, UUID.randomUUID(), receivedPayloads::add);
+        for(Object payload : payloads) {
+            boundedPublisher.publish(new Event(topic, payload), subscription);
+        }
+    }
+
+    private boolean waitUntilWaiting(Thread thread) throws InterruptedException {
+        for(int i = 0; i < 500; i++) {
+            if(thread.getState() == Thread.State.WAITING) {
+                return true;
+            }
+            Thread.sleep(10);
+        }
+        return false;
+    }
+
     private void callback(Object payload) {
         published = true;
     }
@@ -0,0 +1,181 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.events.publisher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.tframework.core.properties.ListPropertyValue;
+import org.tframework.core.properties.PropertiesContainerFactory;
+import org.tframework.core.properties.Property;
+import org.tframework.core.properties.SinglePropertyValue;
+import org.tframework.core.properties.converters.PropertyConversionException;
+
+class EventPublishersFactoryTest {
+
+    @Test
+    public void shouldCreateAsyncMultithreadedPublisher_whenPropertyIsNotSet() {
+        var publisher = EventPublishersFactory.createPublisherFromProperties(PropertiesContainerFactory.empty());
+
+        var asyncPublisher = assertInstanceOf(AsyncMultithreadedEventPublisher.class, publisher);
+        asyncPublisher.shutdown(1000);
+    }
+
+    @Test
+    public void shouldCreateBoundedAsyncMultithreadedPublisher_whenQueueCapacitiesAreSet() {
+        var properties = PropertiesContainerFactory.fromProperties(List.of(
+                new Property(EventPublishersFactory.QUEUE_CAPACITY_PROPERTY, new SinglePropertyValue("100")),
+                new Property(EventPublishersFactory.TOPIC_QUEUE_CAPACITIES_PROPERTY, new ListPropertyValue(List.of("some-topic:10"))),
+                new Property(EventPublishersFactory.OVERFLOW_POLICY_PROPERTY, new SinglePropertyValue("drop-oldest"))
+        ));
+
+        var publisher = EventPublishersFactory.createPublisherFromProperties(properties);
+
+        var asyncPublisher = assertInstanceOf(AsyncMultithreadedEventPublisher.class, publisher);
+        asyncPublisher.shutdown(1000);
+    }
+
+    @Test
+    public void shouldThrowPropertyConversionException_whenOverflowPolicyIsInvalid() {
+        var properties = PropertiesContainerFactory.fromProperties(List.of(
+                new Property(EventPublishersFactory.OVERFLOW_POLICY_PROPERTY, new SinglePropertyValue("panic"))
+        ));
+
+        assertThrows(PropertyConversionException.class, () -> EventPublishersFactory.createPublisherFromProperties(properties));
+    }
+
+    @Test
+    public void shouldCreateSimplePublisher_whenTypeIsSimple() {
+        var properties = PropertiesContainerFactory.fromProperties(List.of(
+                new Property(EventPublishersFactory.EVENT_PUBLISHER_PROPERTY, new SinglePropertyValue("simple"))
+        ));
+
+        var publisher = EventPublishersFactory.createPublisherFromProperties(properties);
+
+        assertInstanceOf(SimpleEventPublisher.class, publisher);
+    }
+
+    @Test
+    public void shouldCreateVirtualThreadPublisher_whenTypeIsVirtualThread() {
+        var properties = PropertiesContainerFactory.fromProperties(List.of(
+                new Property(EventPublishersFactory.EVENT_PUBLISHER_PROPERTY, new SinglePropertyValue("virtual-thread")),
+                new Property(EventPublishersFactory.TOPIC_CONCURRENCY_LIMITS_PROPERTY, new ListPropertyValue(List.of("some-topic:2")))
+        ));
+
+        var publisher = EventPublishersFactory.createPublisherFromProperties(properties);
+
+        var virtualThreadPublisher = assertInstanceOf(VirtualThreadEventPublisher.class, publisher);
+        virtualThreadPublisher.shutdown(1000);
+    }
+
+    @Test
+    public void shouldCreateOrderedPublisher_whenTypeIsOrdered() {
+        var properties = PropertiesContainerFactory.fromProperties(List.of(
+                new Property(EventPublishersFactory.EVENT_PUBLISHER_PROPERTY, new SinglePropertyValue("ordered")),
+                new Property(EventPublishersFactory.ORDERED_LANE_COUNT_PROPERTY, new SinglePropertyValue("4"))
+        ));
+
+        var publisher = EventPublishersFactory.createPublisherFromProperties(properties);
+
+        var orderedPublisher = assertInstanceOf(OrderedEventPublisher.class, publisher);
+        assertEquals(4, orderedPublisher.getLaneCount());
+        orderedPublisher.shutdown(1000);
+    }
+
+    @Test
+    public void shouldCreateRingBufferPublisher_whenTypeIsRingBuffer() {
+        var properties = PropertiesContainerFactory.fromProperties(List.of(
+                new Property(EventPublishersFactory.EVENT_PUBLISHER_PROPERTY, new SinglePropertyValue("ring-buffer")),
+                new Property(EventPublishersFactory.RING_BUFFER_CAPACITY_PROPERTY, new SinglePropertyValue("64")),
+                new Property(EventPublishersFactory.RING_BUFFER_WAIT_STRATEGY_PROPERTY, new SinglePropertyValue("yield"))
+        ));
+
+        var publisher = EventPublishersFactory.createPublisherFromProperties(properties);
+
+        var ringBufferPublisher = assertInstanceOf(RingBufferEventPublisher.class, publisher);
+        ringBufferPublisher.shutdown(1000);
+    }
+
+    @Test
+    public void shouldRouteTopicsToRingBufferPublisher_whenRingBufferTopicsAreSet() {
+        var properties = PropertiesContainerFactory.fromProperties(List.of(
+                new Property(EventPublishersFactory.EVENT_PUBLISHER_PROPERTY, new SinglePropertyValue("simple")),
+                new Property(EventPublishersFactory.RING_BUFFER_TOPICS_PROPERTY, new ListPropertyValue(List.of("telemetry")))
+        ));
+
+        var publisher = EventPublishersFactory.createPublisherFromProperties(properties);
+
+        var routingPublisher = assertInstanceOf(TopicRoutingEventPublisher.class, publisher);
+        assertEquals(Set.of("telemetry"), routingPublisher.getRoutedTopics());
+        assertInstanceOf(SimpleEventPublisher.class, routingPublisher.getDefaultPublisher());
+        assertInstanceOf(RingBufferEventPublisher.class, routingPublisher.getRoutedTopicPublisher());
+        assertTrue(publisher.shutdown(1000));
+    }
+
+    @Test
+    public void shouldThrowException_whenRingBufferCapacityIsNotPowerOfTwo() {
+        var properties = PropertiesContainerFactory.fromProperties(List.of(
+                new Property(EventPublishersFactory.EVENT_PUBLISHER_PROPERTY, new SinglePropertyValue("ring-buffer")),
+                new Property(EventPublishersFactory.RING_BUFFER_CAPACITY_PROPERTY, new SinglePropertyValue("1000"))
+        ));
+
+        assertThrows(IllegalArgumentException.class, () -> EventPublishersFactory.createPublisherFromProperties(properties));
+    }
+
+    @Test
+    public void shouldThrowPropertyConversionException_whenTypeIsInvalid() {
+        var properties = PropertiesContainerFactory.fromProperties(List.of(
+                new Property(EventPublishersFactory.EVENT_PUBLISHER_PROPERTY, new SinglePropertyValue("carrier-pigeon"))
+        ));
+
+        assertThrows(PropertyConversionException.class, () -> EventPublishersFactory.createPublisherFromProperties(properties));
+    }
+
+    @Test
+    public void shouldReadDefaultShutdownTimeout_whenPropertyIsNotSet() {
+        var shutdownTimeout = EventPublishersFactory.readShutdownTimeout(PropertiesContainerFactory.empty());
+
+        assertEquals(Duration.ofSeconds(5), shutdownTimeout);
+    }
+
+    @Test
+    public void shouldReadShutdownTimeout_whenPropertyIsSet() {
+        var properties = PropertiesContainerFactory.fromProperties(List.of(
+                new Property(EventPublishersFactory.SHUTDOWN_TIMEOUT_PROPERTY, new SinglePropertyValue("250ms"))
+        ));
+
+        var shutdownTimeout = EventPublishersFactory.readShutdownTimeout(properties);
+
+        assertEquals(Duration.ofMillis(250), shutdownTimeout);
+    }
+
+    @Test
+    public void shouldParseTopicLimits() {
+        var limitsProperty = new ListPropertyValue(List.of("some-topic:2", " org:tframework:topic : 5 "));
+
+        var limits = EventPublishersFactory.parseTopicLimits(limitsProperty);
+
+        assertEquals(Map.of("some-topic", 2, "org:tframework:topic", 5), limits);
+    }
+
+    @Test
+    public void shouldThrowPropertyConversionException_whenTopicLimitHasNoTopic() {
+        var limitsProperty = new ListPropertyValue(List.of(":2"));
+
+        assertThrows(PropertyConversionException.class, () -> EventPublishersFactory.parseTopicLimits(limitsProperty));
+    }
+
+    @Test
+    public void shouldThrowPropertyConversionException_whenTopicLimitIsNotNumber() {
+        var limitsProperty = new ListPropertyValue(List.of("some-topic:many"));
+
+        assertThrows(PropertyConversionException.class, () -> EventPublishersFactory.parseTopicLimits(limitsProperty));
+    }
+
+}
@@ -0,0 +1,158 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.events.publisher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.tframework.core.events.Event;
+import org.tframework.core.events.Subscription;
+
+class OrderedEventPublisherTest {
+
+    private static final String TOPIC = "topic";
+
+    @Test
+    public void shouldDeliverEventsInOrder_toEachSubscriber() {
+        var publisher = new OrderedEventPublisher(4);
+        List<List<Integer>> receivedPayloads = new ArrayList<>();
+        List<Subscription> subscriptions = new ArrayList<>();
+        var concurrentInvocations = new AtomicInteger();
+        for(int i = 0; i < 8; i++) {
+            List<Integer> payloads = new ArrayList<>(); //not synchronized, the callback is never invoked concurrently
+            var running = new AtomicBoolean();
+            receivedPayloads.add(payloads);
+            subscriptions.add(subscription(payload -> {
+                if(!running.compareAndSet(false, true)) {
+                    concurrentInvocations.incrementAndGet();
+                }
+                payloads.add((Integer) payload);
+                running.set(false);
+            }));
+        }
+
+        for(int i = 0; i < 1000; i++) {
+            for(Subscription subscription : subscriptions) {
+                publisher.publish(new Event(TOPIC, i), subscription);
+            }
+        }
+
+        assertTrue(publisher.shutdown(5000));
+        assertEquals(0, concurrentInvocations.get());
+        var expectedPayloads = new ArrayList<Integer>();
+        for(int i = 0; i < 1000; i++) {
+            expectedPayloads.add(i);
+        }
+        receivedPayloads.forEach(payloads -> assertEquals(expectedPayloads, payloads));
+    }
+
+    @Test
+    public void shouldDeliverEventsInParallel_whenSubscriptionsAreOnDifferentLanes() throws InterruptedException {
+        var publisher = new OrderedEventPublisher(64);
+        var event = new Event(TOPIC, "payload");
+        var release = new CountDownLatch(1);
+        var blockingSubscription = subscription(payload -> await(release));
+        Subscription otherSubscription;
+        do {
+            otherSubscription = subscription(payload -> release.countDown());
+        } while(publisher.selectLane(event, otherSubscription) == publisher.selectLane(event, blockingSubscription));
+
+        publisher.publish(event, blockingSubscription);
+        publisher.publish(event, otherSubscription);
+
+        assertTrue(release.await(5, TimeUnit.SECONDS));
+        assertTrue(publisher.shutdown(5000));
+    }
+
+    @Test
+    public void shouldSelectSameLane_whenOrderingKeysAreEqual() {
+        var publisher = new OrderedEventPublisher(64);
+        var subscription = subscription(payload -> {});
+
+        int lane = publisher.selectLane(new Event(TOPIC, new KeyedPayload("entity-1", 1)), subscription);
+
+        for(int i = 0; i < 100; i++) {
+            assertEquals(lane, publisher.selectLane(new Event(TOPIC, new KeyedPayload("entity-1", i)), subscription));
+        }
+        publisher.shutdown(1000);
+    }
+
+    @Test
+    public void shouldSelectSameLane_forSubscription_whenPayloadHasNoOrderingKey() {
+        var publisher = new OrderedEventPublisher(64);
+        var subscription = subscription(payload -> {});
+
+        int firstLane = publisher.selectLane(new Event(TOPIC, "payload-0"), subscription);
+        for(int i = 1; i < 100; i++) {
+            assertEquals(firstLane, publisher.selectLane(new Event(TOPIC, "payload-" + i), subscription));
+        }
+        publisher.shutdown(1000);
+    }
+
+    @Test
+    public void shouldSpreadOrderingKeysAcrossLanes_forSameSubscription() {
+        var publisher = new OrderedEventPublisher(64);
+        var subscription = subscription(payload -> {});
+
+        int firstLane = publisher.selectLane(new Event(TOPIC, new KeyedPayload("entity-0", 0)), subscription);
+        boolean otherLaneSelected = false;
+        for(int i = 1; i < 100 && !otherLaneSelected; i++) {
+            otherLaneSelected = firstLane != publisher.selectLane(new Event(TOPIC, new KeyedPayload("entity-" + i, 0)), subscription);
+        }
+
+        assertTrue(otherLaneSelected);
+        publisher.shutdown(1000);
+    }
+
+    @Test
+    public void shouldInterruptCallbacks_whenShutdownTimesOut() {
+        var publisher = new OrderedEventPublisher(1);
+        var interrupted = new CountDownLatch(1);
+        publisher.publish(new Event(TOPIC, "payload"), subscription(payload -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        }));
+
+        assertFalse(publisher.shutdown(50));
+        await(interrupted);
+    }
+
+    @Test
+    public void shouldThrowException_whenLaneCountIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new OrderedEventPublisher(0));
+    }
+
+    private Subscription subscription(Consumer<Object> callback) {
+        return new Subscription(TOPIC, UUID.randomUUID(), callback);
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private record KeyedPayload(String entityId, int version) implements OrderedEventPayload {
+
+        @Override
+        public Object orderingKey() {
+            return entityId;
+        }
+    }
+
+}
@@ -0,0 +1,126 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.events.publisher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.tframework.core.events.Event;
+import org.tframework.core.events.Subscription;
+
+class RingBufferEventPublisherTest {
+
+    private static final String TOPIC = "topic";
+
+    @ParameterizedTest
+    @EnumSource(RingBufferWaitStrategy.class)
+    public void shouldDeliverEventsInOrder_whenBufferWrapsAround(RingBufferWaitStrategy waitStrategy) {
+        var publisher = new RingBufferEventPublisher(8, waitStrategy);
+        List<Integer> receivedPayloads = new ArrayList<>(); //only the consumer thread adds to it
+        var subscription = subscription(payload -> receivedPayloads.add((Integer) payload));
+
+        var expectedPayloads = new ArrayList<Integer>();
+        for(int i = 0; i < 1000; i++) {
+            publisher.publish(new Event(TOPIC, i), subscription);
+            expectedPayloads.add(i);
+        }
+
+        assertTrue(publisher.shutdown(5000));
+        assertEquals(expectedPayloads, receivedPayloads);
+    }
+
+    @ParameterizedTest
+    @EnumSource(RingBufferWaitStrategy.class)
+    public void shouldDeliverAllEvents_whenPublishingFromMultipleThreads(RingBufferWaitStrategy waitStrategy) throws InterruptedException {
+        var publisher = new RingBufferEventPublisher(16, waitStrategy);
+        List<String> receivedPayloads = new ArrayList<>();
+        var subscription = subscription(payload -> receivedPayloads.add((String) payload));
+
+        try(var executor = Executors.newFixedThreadPool(4)) {
+            for(int thread = 0; thread < 4; thread++) {
+                int threadId = thread;
+                executor.execute(() -> {
+                    for(int i = 0; i < 500; i++) {
+                        publisher.publish(new Event(TOPIC, threadId + "-" + i), subscription);
+                    }
+                });
+            }
+        }
+
+        assertTrue(publisher.shutdown(5000));
+        assertEquals(2000, receivedPayloads.size());
+        for(int thread = 0; thread < 4; thread++) {
+            String prefix = thread + "-";
+            var payloadsOfThread = receivedPayloads.stream().filter(p -> p.startsWith(prefix)).toList();
+            for(int i = 0; i < 500; i++) {
+                assertEquals(prefix + i, payloadsOfThread.get(i)); //ordered per publishing thread
+            }
+        }
+    }
+
+    @Test
+    public void shouldDeliverEventImmediately_whenPublishedByCallback() {
+        var publisher = new RingBufferEventPublisher(1, RingBufferWaitStrategy.PARK);
+        List<Object> receivedPayloads = new ArrayList<>();
+        var innerSubscription = subscription(receivedPayloads::add);
+        var outerSubscription = subscription(payload -> {
+            publisher.publish(new Event(TOPIC, "inner"), innerSubscription);
+            receivedPayloads.add(payload);
+        });
+
+        publisher.publish(new Event(TOPIC, "outer"), outerSubscription);
+
+        assertTrue(publisher.shutdown(5000));
+        assertEquals(List.of("inner", "outer"), receivedPayloads);
+    }
+
+    @Test
+    public void shouldDropEvents_whenPublisherIsShutDown() {
+        var publisher = new RingBufferEventPublisher(8, RingBufferWaitStrategy.PARK);
+        assertTrue(publisher.shutdown(5000));
+
+        publisher.publish(new Event(TOPIC, "payload"), subscription(payload -> {}));
+
+        assertEquals(1, publisher.getDroppedEventCount());
+    }
+
+    @Test
+    public void shouldReturnFalse_whenEventsAreNotDeliveredBeforeTimeout() throws InterruptedException {
+        var publisher = new RingBufferEventPublisher(8, RingBufferWaitStrategy.PARK);
+        var release = new CountDownLatch(1);
+        publisher.publish(new Event(TOPIC, "payload"), subscription(payload -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        publisher.publish(new Event(TOPIC, "payload"), subscription(payload -> {}));
+
+        assertFalse(publisher.shutdown(50));
+        release.countDown();
+        assertTrue(publisher.shutdown(5000));
+        assertEquals(0, publisher.getQueuedEventCount());
+    }
+
+    @Test
+    public void shouldThrowException_whenCapacityIsNotPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new RingBufferEventPublisher(12, RingBufferWaitStrategy.PARK));
+    }
+
+    private Subscription subscription(Consumer<Object> callback) {
+        return new Subscription(TOPIC, UUID.randomUUID(), callback);
+    }
+
+}
@@ -0,0 +1,109 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.events.publisher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.tframework.core.events.Event;
+import org.tframework.core.events.Subscription;
+
+@ExtendWith(MockitoExtension.class)
+class TopicRoutingEventPublisherTest {
+
+    @Mock
+    private EventPublisher routedTopicPublisher;
+
+    @Mock
+    private EventPublisher defaultPublisher;
+
+    private TopicRoutingEventPublisher publisher;
+
+    @BeforeEach
+    public void setUp() {
+        publisher = new TopicRoutingEventPublisher(Set.of("telemetry"), routedTopicPublisher, defaultPublisher);
+    }
+
+    @Test
+    public void shouldPublishWithRoutedTopicPublisher_whenTopicIsRouted() {
+        var event = new Event("telemetry", "payload");
+        var subscription = new Subscription("telemetry", UUID.randomUUID(), payload -> {});
+
+        publisher.publish(event, subscription);
+
+        verify(routedTopicPublisher).publish(event, subscription);
+        verify(defaultPublisher, never()).publish(event, subscription);
+    }
+
+    @Test
+    public void shouldPublishWithDefaultPublisher_whenTopicIsNotRouted() {
+        var event = new Event("other", "payload");
+        var subscription = new Subscription("other", UUID.randomUUID(), payload -> {});
+
+        publisher.publish(event, subscription);
+
+        verify(defaultPublisher).publish(event, subscription);
+        verify(routedTopicPublisher, never()).publish(event, subscription);
+    }
+
+    @Test
+    public void shouldShutdownBothPublishers() {
+        when(routedTopicPublisher.shutdown(anyLong())).thenReturn(true);
+        when(defaultPublisher.shutdown(anyLong())).thenReturn(true);
+
+        assertTrue(publisher.shutdown(1000));
+
+        verify(routedTopicPublisher).shutdown(1000);
+        verify(defaultPublisher).shutdown(longThat(millis -> millis <= 1000));
+    }
+
+    @Test
+    public void shouldShutdownDefaultPublisher_whenRoutedTopicPublisherDidNotDeliverEvents() {
+        when(routedTopicPublisher.shutdown(anyLong())).thenReturn(false);
+        when(defaultPublisher.shutdown(anyLong())).thenReturn(true);
+
+        assertFalse(publisher.shutdown(1000));
+
+        verify(defaultPublisher).shutdown(anyLong());
+    }
+
+    @Test
+    public void shouldDeliverQueuedRingBufferEvents_whenShutdown() {
+        var ringBufferPublisher = new RingBufferEventPublisher(16, RingBufferWaitStrategy.PARK);
+        var routingPublisher = new TopicRoutingEventPublisher(Set.of("telemetry"), ringBufferPublisher, new SimpleEventPublisher());
+        var receivedEvents = new AtomicInteger();
+        var subscription = new Subscription("telemetry", UUID.randomUUID(), payload -> receivedEvents.incrementAndGet());
+        for(int i = 0; i < 100; i++) {
+            routingPublisher.publish(new Event("telemetry", i), subscription);
+        }
+
+        assertTrue(routingPublisher.shutdown(5000));
+        assertEquals(100, receivedEvents.get());
+        assertEquals(0, routingPublisher.getQueuedEventCount());
+    }
+
+    @Test
+    public void shouldSumMetricsOfBothPublishers() {
+        when(routedTopicPublisher.getDroppedEventCount()).thenReturn(2L);
+        when(defaultPublisher.getDroppedEventCount()).thenReturn(3L);
+        when(routedTopicPublisher.getQueuedEventCount()).thenReturn(5L);
+        when(defaultPublisher.getQueuedEventCount()).thenReturn(7L);
+
+        assertEquals(5, publisher.getDroppedEventCount());
+        assertEquals(12, publisher.getQueuedEventCount());
+    }
+
+}
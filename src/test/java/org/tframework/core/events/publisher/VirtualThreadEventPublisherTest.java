@@ -0,0 +1,129 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.events.publisher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.tframework.core.events.Event;
+import org.tframework.core.events.Subscription;
+
+class VirtualThreadEventPublisherTest {
+
+    private static final String TOPIC = "topic";
+
+    @Test
+    public void shouldPublishEventOnVirtualThread() {
+        var publisher = new VirtualThreadEventPublisher();
+        var publishedOnVirtualThread = new AtomicInteger();
+
+        publisher.publish(new Event(TOPIC, "payload"), subscription(payload -> {
+            if(Thread.currentThread().isVirtual()) {
+                publishedOnVirtualThread.incrementAndGet();
+            }
+        }));
+
+        assertTrue(publisher.shutdown(1000));
+        assertEquals(1, publishedOnVirtualThread.get());
+    }
+
+    @Test
+    public void shouldNotBlockOtherTopics_whenCallbacksBlock() throws InterruptedException {
+        var publisher = new VirtualThreadEventPublisher();
+        var release = new CountDownLatch(1);
+        var otherTopicPublished = new CountDownLatch(1);
+
+        for(int i = 0; i < 100; i++) {
+            publisher.publish(new Event(TOPIC, "payload"), subscription(payload -> await(release)));
+        }
+        publisher.publish(new Event("other-topic", "payload"), subscription(payload -> otherTopicPublished.countDown()));
+
+        assertTrue(otherTopicPublished.await(5, TimeUnit.SECONDS));
+        release.countDown();
+        assertTrue(publisher.shutdown(5000));
+    }
+
+    @Test
+    public void shouldLimitConcurrentCallbacks_whenTopicHasConcurrencyLimit() {
+        var publisher = new VirtualThreadEventPublisher(Map.of(TOPIC, 2));
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+
+        for(int i = 0; i < 20; i++) {
+            publisher.publish(new Event(TOPIC, "payload"), subscription(payload -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep();
+                running.decrementAndGet();
+            }));
+        }
+
+        assertTrue(publisher.shutdown(5000));
+        assertTrue(maxRunning.get() <= 2);
+    }
+
+    @Test
+    public void shouldDeliverPublishedEvents_whenShuttingDown() {
+        var publisher = new VirtualThreadEventPublisher(Map.of(TOPIC, 1));
+        var delivered = new AtomicInteger();
+
+        for(int i = 0; i < 10; i++) {
+            publisher.publish(new Event(TOPIC, "payload"), subscription(payload -> {
+                sleep();
+                delivered.incrementAndGet();
+            }));
+        }
+
+        assertTrue(publisher.shutdown(5000));
+        assertEquals(10, delivered.get());
+    }
+
+    @Test
+    public void shouldInterruptCallbacks_whenShutdownTimesOut() {
+        var publisher = new VirtualThreadEventPublisher();
+        var interrupted = new CountDownLatch(1);
+        publisher.publish(new Event(TOPIC, "payload"), subscription(payload -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        }));
+
+        assertFalse(publisher.shutdown(50));
+        await(interrupted);
+    }
+
+    @Test
+    public void shouldThrowException_whenConcurrencyLimitIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new VirtualThreadEventPublisher(Map.of(TOPIC, 0)));
+    }
+
+    private Subscription subscription(Consumer<Object> callback) {
+        return new Subscription(TOPIC, UUID.randomUUID(), callback);
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(10);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+}
@@ -2,12 +2,19 @@
 package org.tframework.core.initializers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -25,6 +32,7 @@ import org.tframework.core.events.EventManager;
 import org.tframework.core.profiles.InvalidProfileException;
 import org.tframework.core.profiles.ProfilesContainer;
 import org.tframework.core.properties.PropertiesContainerFactory;
+import org.tframework.core.properties.PropertyFileWatcher;
 import org.tframework.core.reflection.annotations.AnnotationScanner;
 
 @TFrameworkRootClass
@@ -93,6 +101,59 @@ class CoreInitializationProcessTest {
         verify(eventManager).publish(CoreEvents.APPLICATION_INITIALIZED, actualApp);
     }
 
+    @Test
+    public void shouldClosePropertyFileWatcherAndShutdownEvents_whenApplicationIsStopped() throws Exception {
+        when(eventManagerContext.requestInstance()).thenReturn(eventManager);
+        doReturn(EventManager.class).when(eventManagerContext).getType();
+        when(annotationScanner.scanOneStrict(CoreInitializationProcessTest.class, TFrameworkRootClass.class))
+                .thenReturn(Optional.of(CoreInitializationProcessTest.class.getAnnotation(TFrameworkRootClass.class)));
+        when(profilesCoreInitializer.initialize(any())).thenReturn(ProfilesContainer.empty());
+        when(propertiesCoreInitializer.initialize(any())).thenReturn(PropertiesContainerFactory.empty());
+        var elementsContainer = ElementsContainer.fromElementContexts(List.of(eventManagerContext));
+        when(elementsCoreInitializer.initialize(any())).thenReturn(elementsContainer);
+        var propertyFileWatcher = mock(PropertyFileWatcher.class);
+        when(propertiesCoreInitializer.startPropertyReloading(any(), any(), any())).thenReturn(Optional.of(propertyFileWatcher));
+
+        CoreInitializationInput input = CoreInitializationInput.builder()
+                .applicationName("testApp")
+                .rootClass(CoreInitializationProcessTest.class)
+                .args(new String[]{})
+                .build();
+        var application = coreInitializationProcess.performCoreInitialization(input);
+        verify(propertyFileWatcher, never()).close();
+        verify(eventManager, never()).shutdown(anyLong());
+
+        application.stop();
+
+        var inOrder = inOrder(propertyFileWatcher, eventManager); //no more reloads are published after the events shut down
+        inOrder.verify(propertyFileWatcher).close();
+        inOrder.verify(eventManager).shutdown(5000);
+    }
+
+    @Test
+    public void shouldShutdownEvents_whenPropertyReloadingCannotBeStarted() {
+        when(eventManagerContext.requestInstance()).thenReturn(eventManager);
+        doReturn(EventManager.class).when(eventManagerContext).getType();
+        when(annotationScanner.scanOneStrict(CoreInitializationProcessTest.class, TFrameworkRootClass.class))
+                .thenReturn(Optional.of(CoreInitializationProcessTest.class.getAnnotation(TFrameworkRootClass.class)));
+        when(profilesCoreInitializer.initialize(any())).thenReturn(ProfilesContainer.empty());
+        when(propertiesCoreInitializer.initialize(any())).thenReturn(PropertiesContainerFactory.empty());
+        var elementsContainer = ElementsContainer.fromElementContexts(List.of(eventManagerContext));
+        when(elementsCoreInitializer.initialize(any())).thenReturn(elementsContainer);
+        var cause = new UncheckedIOException("Failed to watch", new IOException("missing directory"));
+        when(propertiesCoreInitializer.startPropertyReloading(any(), any(), any())).thenThrow(cause);
+
+        CoreInitializationInput input = CoreInitializationInput.builder()
+                .applicationName("testApp")
+                .rootClass(CoreInitializationProcessTest.class)
+                .args(new String[]{})
+                .build();
+        var exception = assertThrows(InitializationException.class, () -> coreInitializationProcess.performCoreInitialization(input));
+
+        assertSame(cause, exception.getCause());
+        verify(eventManager).shutdown(5000);
+    }
+
     @Test
     public void shouldThrowInitializationException_whenRootClassIsNotCorrectlyAnnotated() {
         when(annotationScanner.scanOneStrict(CoreInitializationProcessTest.class, TFrameworkRootClass.class))
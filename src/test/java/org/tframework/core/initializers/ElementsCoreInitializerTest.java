@@ -4,6 +4,7 @@ package org.tframework.core.initializers;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
@@ -51,6 +52,8 @@ class ElementsCoreInitializerTest {
                 .preConstructedElementData(Set.of())
                 .build();
 
+        when(elementContext.getName()).thenReturn("test");
+        doReturn(String.class).when(elementContext).getType();
         var expectedElements = ElementsContainer.fromElementContexts(List.of(elementContext));
         when(elementsInitializationProcess.initialize(eq(input), any(ElementContextBundle.class)))
                 .thenReturn(expectedElements);
@@ -2,19 +2,26 @@
 package org.tframework.core.initializers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.tframework.core.events.EventManager;
 import org.tframework.core.properties.PropertiesContainer;
 import org.tframework.core.properties.PropertiesContainerFactory;
 import org.tframework.core.properties.PropertiesInitializationInput;
 import org.tframework.core.properties.PropertiesInitializationProcess;
+import org.tframework.core.properties.PropertiesReloader;
 import org.tframework.core.properties.Property;
 import org.tframework.core.properties.SinglePropertyValue;
 
@@ -24,6 +31,9 @@ class PropertiesCoreInitializerTest {
     @Mock
     private PropertiesInitializationProcess propertiesInitializationProcess;
 
+    @Mock
+    private EventManager eventManager;
+
     private PropertiesCoreInitializer propertiesCoreInitializer;
 
     @BeforeEach
@@ -45,4 +55,31 @@ class PropertiesCoreInitializerTest {
 
         assertEquals(expectedProperties, actualProperties);
     }
+
+    @Test
+    void shouldNotStartPropertyReloading_whenNotEnabled() {
+        var propertiesContainer = PropertiesContainerFactory.empty();
+
+        var watcher = propertiesCoreInitializer.startPropertyReloading(
+                PropertiesInitializationInput.builder().build(), propertiesContainer, eventManager
+        );
+
+        assertTrue(watcher.isEmpty());
+        verifyNoInteractions(propertiesInitializationProcess);
+    }
+
+    @Test
+    void shouldStartPropertyReloading_whenEnabled(@TempDir Path tempDir) throws IOException {
+        var propertiesContainer = PropertiesContainerFactory.fromProperties(List.of(
+                new Property(PropertiesReloader.RELOAD_ENABLED_PROPERTY, new SinglePropertyValue("true"))
+        ));
+        var input = PropertiesInitializationInput.builder().build();
+        when(propertiesInitializationProcess.findPropertyFilesOnFileSystem(input))
+                .thenReturn(List.of(tempDir.resolve("properties.yaml")));
+
+        var watcher = propertiesCoreInitializer.startPropertyReloading(input, propertiesContainer, eventManager);
+
+        assertTrue(watcher.isPresent());
+        watcher.get().close();
+    }
 }
@@ -0,0 +1,47 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class DataSizeTest {
+
+    @Test
+    public void shouldParseDataSizes_withBinaryUnits() {
+        assertEquals(DataSize.ofBytes(100), DataSize.parse("100"));
+        assertEquals(DataSize.ofBytes(100), DataSize.parse("100B"));
+        assertEquals(DataSize.ofKilobytes(512), DataSize.parse("512kb"));
+        assertEquals(DataSize.ofMegabytes(16), DataSize.parse(" 16 MB "));
+        assertEquals(DataSize.ofGigabytes(2), DataSize.parse("2GB"));
+        assertEquals(DataSize.ofGigabytes(3 * 1024), DataSize.parse("3TB"));
+    }
+
+    @Test
+    public void shouldConvertToLargerUnits() {
+        var dataSize = DataSize.ofBytes(3L * 1024 * 1024 * 1024 + 1);
+
+        assertEquals(3L * 1024 * 1024, dataSize.toKilobytes());
+        assertEquals(3L * 1024, dataSize.toMegabytes());
+        assertEquals(3L, dataSize.toGigabytes());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "MB", "-1KB", "1.5MB", "10PB"})
+    public void shouldThrowException_whenParsingInvalidDataSize(String text) {
+        assertThrows(IllegalArgumentException.class, () -> DataSize.parse(text));
+    }
+
+    @Test
+    public void shouldThrowException_whenDataSizeOverflows() {
+        assertThrows(ArithmeticException.class, () -> DataSize.parse(Long.MAX_VALUE + "KB"));
+    }
+
+    @Test
+    public void shouldNotCreateNegativeDataSize() {
+        assertThrows(IllegalArgumentException.class, () -> DataSize.ofBytes(-1));
+    }
+}
@@ -2,18 +2,24 @@
 package org.tframework.core.properties;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.tframework.core.properties.converters.PropertyConversionException;
 import org.tframework.core.properties.converters.PropertyConverterAggregator;
 
 @ExtendWith(MockitoExtension.class)
@@ -129,6 +135,229 @@ class PropertiesContainerTest {
         assertEquals("v3", ((SinglePropertyValue) newContainer.getPropertyValueObject("p3")).value());
     }
 
+    @Test
+    public void shouldMoveOverriddenProperties_toTheEnd_whenMerging() {
+        PropertiesContainer newContainer = container.merge(List.of(
+                new Property("p3", new SinglePropertyValue("v3")),
+                new Property("p1", new SinglePropertyValue("v1-override"))
+        ));
+
+        assertEquals(List.of("p2", "p3", "p1"), newContainer.propertyNames());
+        assertEquals(List.of("p1", "p2"), container.propertyNames()); //the original container is unchanged
+    }
+
+    @Test
+    public void shouldMergeContainers_andOverrideWithOtherContainer() {
+        var otherContainer = new PropertiesContainer(List.of(
+                new Property("p1", new SinglePropertyValue("v1-other")),
+                new Property("p3", new SinglePropertyValue("v3-other"))
+        ));
+
+        PropertiesContainer newContainer = container.merge(otherContainer);
+
+        assertEquals("v1-other", ((SinglePropertyValue) newContainer.getPropertyValueObject("p1")).value());
+        assertEquals("v3-other", ((SinglePropertyValue) newContainer.getPropertyValueObject("p3")).value());
+        assertEquals(3, newContainer.size());
+    }
+
+    @Test
+    public void shouldKeepFirstProperty_whenCreatedWithDuplicateNames() {
+        var duplicateContainer = new PropertiesContainer(List.of(
+                new Property("p1", new SinglePropertyValue("first")),
+                new Property("p1", new SinglePropertyValue("second"))
+        ));
+
+        assertEquals("first", ((SinglePropertyValue) duplicateContainer.getPropertyValueObject("p1")).value());
+        assertEquals(1, duplicateContainer.size());
+    }
+
+    @Test
+    public void shouldNotAcceptConverters_afterFreezing() {
+        container.freeze();
+
+        assertTrue(container.isFrozen());
+        assertThrows(IllegalStateException.class, () -> container.setPropertyConverterAggregator(aggregator));
+        assertEquals("v1", ((SinglePropertyValue) container.getPropertyValueObject("p1")).value());
+    }
+
+    @Test
+    public void shouldNotFreezeMergedContainer_whenOriginalIsFrozen() {
+        container.freeze();
+
+        var newContainer = container.merge(List.of(new Property("p3", new SinglePropertyValue("v3"))));
+
+        assertFalse(newContainer.isFrozen());
+        newContainer.setPropertyConverterAggregator(aggregator);
+    }
+
+    @Test
+    public void shouldConvertPropertyOnlyOnce_whenConverterIsCacheable() {
+        when(aggregator.convert(any(PropertyValue.class), eq(String.class))).thenReturn("v1");
+        when(aggregator.isCacheable(String.class)).thenReturn(true);
+
+        assertEquals("v1", container.getPropertyValue("p1", String.class));
+        assertEquals("v1", container.getPropertyValueNonGeneric("p1", String.class));
+
+        verify(aggregator, times(1)).convert(any(PropertyValue.class), eq(String.class));
+    }
+
+    @Test
+    public void shouldConvertPropertyEveryTime_whenConverterIsNotCacheable() {
+        when(aggregator.convert(any(PropertyValue.class), eq(String.class))).thenReturn("v1");
+        when(aggregator.isCacheable(String.class)).thenReturn(false);
+
+        container.getPropertyValue("p1", String.class);
+        container.getPropertyValue("p1", String.class);
+
+        verify(aggregator, times(2)).convert(any(PropertyValue.class), eq(String.class));
+    }
+
+    @Test
+    public void shouldClearConversionCache_whenConvertersAreChanged() {
+        when(aggregator.convert(any(PropertyValue.class), eq(String.class))).thenReturn("v1");
+        when(aggregator.isCacheable(String.class)).thenReturn(true);
+        container.getPropertyValue("p1", String.class);
+
+        container.setPropertyConverterAggregator(aggregator);
+        container.getPropertyValue("p1", String.class);
+
+        verify(aggregator, times(2)).convert(any(PropertyValue.class), eq(String.class));
+    }
+
+    @Test
+    public void shouldParsePrimitiveOnlyOnce_whenConverterIsCacheable() {
+        when(aggregator.convert(any(PropertyValue.class), eq(int.class))).thenReturn(42);
+        when(aggregator.isCacheable(int.class)).thenReturn(true);
+
+        assertEquals(42, container.getInt("p1"));
+        assertEquals(42, container.getInt("p1"));
+
+        verify(aggregator, times(1)).convert(any(PropertyValue.class), eq(int.class));
+    }
+
+    @Test
+    public void shouldKeepPrimitivesOfDifferentTypes_forTheSameProperty() {
+        when(aggregator.convert(any(PropertyValue.class), eq(long.class))).thenReturn(42L);
+        when(aggregator.convert(any(PropertyValue.class), eq(double.class))).thenReturn(42.5);
+        when(aggregator.convert(any(PropertyValue.class), eq(boolean.class))).thenReturn(true);
+        when(aggregator.isCacheable(any())).thenReturn(true);
+
+        for(int i = 0; i < 2; i++) {
+            assertEquals(42L, container.getLong("p1"));
+            assertEquals(42.5, container.getDouble("p1"));
+            assertTrue(container.getBoolean("p1"));
+        }
+
+        verify(aggregator, times(1)).convert(any(PropertyValue.class), eq(long.class));
+        verify(aggregator, times(1)).convert(any(PropertyValue.class), eq(double.class));
+        verify(aggregator, times(1)).convert(any(PropertyValue.class), eq(boolean.class));
+    }
+
+    @Test
+    public void shouldParsePrimitiveEveryTime_whenConverterIsNotCacheable() {
+        when(aggregator.convert(any(PropertyValue.class), eq(int.class))).thenReturn(42);
+        when(aggregator.isCacheable(int.class)).thenReturn(false);
+
+        container.getInt("p1");
+        container.getInt("p1");
+
+        verify(aggregator, times(2)).convert(any(PropertyValue.class), eq(int.class));
+    }
+
+    @Test
+    public void shouldClearPrimitiveSlots_whenConvertersAreChanged() {
+        when(aggregator.convert(any(PropertyValue.class), eq(int.class))).thenReturn(42);
+        when(aggregator.isCacheable(int.class)).thenReturn(true);
+        container.getInt("p1");
+
+        container.setPropertyConverterAggregator(aggregator);
+        container.getInt("p1");
+
+        verify(aggregator, times(2)).convert(any(PropertyValue.class), eq(int.class));
+    }
+
+    @Test
+    public void shouldGetDefaultPrimitive_whenPropertyDoesNotExist() {
+        assertEquals(1, container.getInt("nonExistent", 1));
+        assertEquals(2L, container.getLong("nonExistent", 2L));
+        assertEquals(3.5, container.getDouble("nonExistent", 3.5));
+        assertTrue(container.getBoolean("nonExistent", true));
+        assertThrows(PropertyNotFoundException.class, () -> container.getInt("nonExistent"));
+    }
+
+    @Test
+    public void shouldThrowException_whenPrimitiveIsConvertedToNull() {
+        when(aggregator.convert(any(PropertyValue.class), eq(int.class))).thenReturn(null);
+
+        assertThrows(PropertyConversionException.class, () -> container.getInt("p1"));
+    }
+
+    @Test
+    public void shouldReloadProperties_andReturnChanges() {
+        container.freeze();
+        var reloadedContainer = new PropertiesContainer(List.of(
+                new Property("p1", new SinglePropertyValue("v1-new")),
+                new Property("p3", new SinglePropertyValue("v3"))
+        ));
+
+        var changes = container.reload(reloadedContainer);
+
+        assertEquals(Set.of("p3"), changes.addedPropertyNames());
+        assertEquals(Set.of("p2"), changes.removedPropertyNames());
+        assertEquals(Set.of("p1"), changes.modifiedPropertyNames());
+        assertEquals(List.of("p1", "p3"), container.propertyNames());
+        assertEquals(new SinglePropertyValue("v1-new"), container.getPropertyValueObject("p1"));
+        assertEquals(Set.of("p1", "p3"), Set.copyOf(container.getChildPropertyNames("")));
+        assertThrows(PropertyNotFoundException.class, () -> container.getPropertyValueObject("p2"));
+    }
+
+    @Test
+    public void shouldKeepConvertedValuesOfUnchangedProperties_whenReloading() {
+        var container = new PropertiesContainer(List.of(
+                new Property("p1", new SinglePropertyValue("1")),
+                new Property("p2", new SinglePropertyValue("2"))
+        ), aggregator);
+        when(aggregator.convert(new SinglePropertyValue("1"), int.class)).thenReturn(1);
+        when(aggregator.convert(new SinglePropertyValue("2"), String.class)).thenReturn("2");
+        when(aggregator.convert(new SinglePropertyValue("20"), String.class)).thenReturn("20");
+        when(aggregator.isCacheable(any())).thenReturn(true);
+        container.getInt("p1");
+        container.getPropertyValue("p2", String.class);
+
+        container.reload(new PropertiesContainer(List.of(
+                new Property("p1", new SinglePropertyValue("1")),
+                new Property("p2", new SinglePropertyValue("20"))
+        )));
+
+        assertEquals(1, container.getInt("p1"));
+        assertEquals("20", container.getPropertyValue("p2", String.class));
+        verify(aggregator, times(1)).convert(any(PropertyValue.class), eq(int.class));
+    }
+
+    @Test
+    public void shouldNotReplaceProperties_whenReloadedPropertiesAreTheSame() {
+        var changes = container.reload(new PropertiesContainer(List.of(
+                new Property("p1", new SinglePropertyValue("v1")),
+                new Property("p2", new ListPropertyValue(List.of("v2-1", "v2-2")))
+        )));
+
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void shouldGetPropertiesWithPrefix_andChildNames() {
+        var prefixedContainer = new PropertiesContainer(List.of(
+                new Property("a.b.c", new SinglePropertyValue("v1")),
+                new Property("a.bb", new SinglePropertyValue("v2")),
+                new Property("a.b.d", new SinglePropertyValue("v3"))
+        ));
+
+        assertEquals(List.of("a.b.c", "a.b.d"), prefixedContainer.getPropertiesWithPrefix("a.b").stream().map(Property::name).toList());
+        assertEquals(List.of("b", "bb"), prefixedContainer.getChildPropertyNames("a"));
+        assertTrue(prefixedContainer.getPropertiesWithPrefix("x").isEmpty());
+        assertTrue(prefixedContainer.getChildPropertyNames("a.b.c").isEmpty());
+    }
+
     @Test
     public void shouldGetPropertiesSize() {
         assertEquals(2, container.size());
@@ -2,11 +2,25 @@
 package org.tframework.core.properties;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,16 +29,18 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.tframework.core.properties.extractors.PropertiesExtractor;
 import org.tframework.core.properties.filescanners.PropertyFileScanner;
 import org.tframework.core.properties.parsers.PropertyParser;
+import org.tframework.core.properties.parsers.SeparatedProperty;
 import org.tframework.core.properties.scanners.PropertyScanner;
+import org.tframework.core.properties.scanners.SeparatedPropertyScanner;
 import org.tframework.core.properties.yamlparsers.YamlParser;
+import org.tframework.core.properties.yamlparsers.YamlStreamParsingException;
 import org.tframework.core.readers.ResourceFileReader;
 
 @ExtendWith(MockitoExtension.class)
 class PropertiesInitializationProcessTest {
 
     private static final String TEST_PROPERTIES_FILE_1 = "properties.yaml";
-    private static final String TEST_PROPERTIES_CONTENT_1 = "whatever1";
-    private static final Map<String, Object> TEST_PARSED_PROPERTIES_1 = Map.of(
+    private static final Map<String, Object> TEST_PARSED_PROPERTIES_1 = orderedMap(
             "property1", "value1",
             "property2", "value2"
     );
@@ -34,8 +50,7 @@ class PropertiesInitializationProcessTest {
     );
 
     private static final String TEST_PROPERTIES_FILE_2 = "properties-dev.yaml";
-    private static final String TEST_PROPERTIES_CONTENT_2 = "whatever2";
-    private static final Map<String, Object> TEST_PARSED_PROPERTIES_2 = Map.of(
+    private static final Map<String, Object> TEST_PARSED_PROPERTIES_2 = orderedMap(
             "property2", "value2-override",
             "property3", "value3"
     );
@@ -48,6 +63,10 @@ class PropertiesInitializationProcessTest {
             "property3=value3-override",
             "property4=value4"
     );
+    private static final List<SeparatedProperty> TEST_SEPARATED_PROPERTIES = List.of(
+            new SeparatedProperty("property3", "value3-override"),
+            new SeparatedProperty("property4", "value4")
+    );
     private static final List<Property> TEST_PARSED_DIRECTLY_SPECIFIED_PROPERTIES = List.of(
             new Property("property3", new SinglePropertyValue("value3-override")),
             new Property("property4", new SinglePropertyValue("value4"))
@@ -59,6 +78,9 @@ class PropertiesInitializationProcessTest {
     @Mock
     private PropertyScanner propertyScanner;
 
+    @Mock
+    private SeparatedPropertyScanner separatedPropertyScanner;
+
     @Mock
     private ResourceFileReader resourceFileReader;
 
@@ -73,8 +95,14 @@ class PropertiesInitializationProcessTest {
 
     private PropertiesInitializationProcess propertiesInitializationProcess;
 
+    //the process closes the readers, so each test needs new ones
+    private Reader propertiesReader1;
+    private Reader propertiesReader2;
+
     @BeforeEach
     public void setUp() {
+        propertiesReader1 = new StringReader("whatever1");
+        propertiesReader2 = new StringReader("whatever2");
         propertiesInitializationProcess = PropertiesInitializationProcess.builder()
                 .resourceFileReader(resourceFileReader)
                 .yamlParser(yamlParser)
@@ -84,18 +112,21 @@ class PropertiesInitializationProcessTest {
     }
 
     private void setupMocks() {
+        setupMocksExceptParsing();
+        mockParsedLeaves(propertiesReader1, TEST_PROPERTIES_FILE_1, TEST_PARSED_PROPERTIES_1);
+        mockParsedLeaves(propertiesReader2, TEST_PROPERTIES_FILE_2, TEST_PARSED_PROPERTIES_2);
+    }
+
+    private void setupMocksExceptParsing() {
         //mocking property reading from files ---------------
         when(propertyFileScanner.scan()).thenReturn(List.of(TEST_PROPERTIES_FILE_1, TEST_PROPERTIES_FILE_2));
         when(propertyFileScanner.sourceName()).thenReturn("Mock property file source");
 
-        when(resourceFileReader.readResourceFile(TEST_PROPERTIES_FILE_1)).thenReturn(TEST_PROPERTIES_CONTENT_1);
-        when(resourceFileReader.readResourceFile(TEST_PROPERTIES_FILE_2)).thenReturn(TEST_PROPERTIES_CONTENT_2);
-
-        when(yamlParser.parseYaml(TEST_PROPERTIES_CONTENT_1)).thenReturn(TEST_PARSED_PROPERTIES_1);
-        when(yamlParser.parseYaml(TEST_PROPERTIES_CONTENT_2)).thenReturn(TEST_PARSED_PROPERTIES_2);
+        when(resourceFileReader.openResourceFile(TEST_PROPERTIES_FILE_1)).thenReturn(propertiesReader1);
+        when(resourceFileReader.openResourceFile(TEST_PROPERTIES_FILE_2)).thenReturn(propertiesReader2);
 
-        when(propertiesExtractor.extractProperties(TEST_PARSED_PROPERTIES_1)).thenReturn(TEST_EXTRACTED_PROPERTIES_1);
-        when(propertiesExtractor.extractProperties(TEST_PARSED_PROPERTIES_2)).thenReturn(TEST_EXTRACTED_PROPERTIES_2);
+        mockExtractedProperties(TEST_EXTRACTED_PROPERTIES_1);
+        mockExtractedProperties(TEST_EXTRACTED_PROPERTIES_2);
 
         //mocking directly specified property reading -----------------
         when(propertyScanner.scanProperties()).thenReturn(TEST_RAW_PROPERTIES);
@@ -106,6 +137,40 @@ class PropertiesInitializationProcessTest {
         }
     }
 
+    private void mockParsedLeaves(Reader reader, String propertyFile, Map<String, Object> leaves) {
+        doAnswer(invocation -> {
+            BiConsumer<String, Object> leafHandler = invocation.getArgument(2);
+            leaves.forEach(leafHandler);
+            return null;
+        }).when(yamlParser).parseYaml(eq(reader), eq(propertyFile), any());
+    }
+
+    private void mockExtractedProperties(List<Property> properties) {
+        for(Property property : properties) {
+            var value = ((SinglePropertyValue) property.value()).value();
+            when(propertiesExtractor.extractProperty(property.name(), value)).thenReturn(property);
+        }
+    }
+
+    @Test
+    public void shouldFindPropertyFilesOnFileSystem_andSkipOthers() {
+        var propertyFilePath = Path.of("resources", TEST_PROPERTIES_FILE_1);
+        when(propertyFileScanner.scan()).thenReturn(List.of(TEST_PROPERTIES_FILE_1, TEST_PROPERTIES_FILE_2));
+        when(resourceFileReader.findResourceFile(TEST_PROPERTIES_FILE_1)).thenReturn(Optional.of(propertyFilePath));
+        when(resourceFileReader.findResourceFile(TEST_PROPERTIES_FILE_2)).thenReturn(Optional.empty());
+
+        var propertyFiles = propertiesInitializationProcess.findPropertyFilesOnFileSystem(List.of(propertyFileScanner));
+
+        assertEquals(List.of(propertyFilePath), propertyFiles);
+    }
+
+    private static Map<String, Object> orderedMap(String key1, Object value1, String key2, Object value2) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put(key1, value1);
+        map.put(key2, value2);
+        return map;
+    }
+
     private void makeAssertions(PropertiesContainer container) {
         if(container.getPropertyValueObject("property1") instanceof SinglePropertyValue(String value)) {
             assertEquals("value1", value);
@@ -141,4 +206,58 @@ class PropertiesInitializationProcessTest {
         makeAssertions(propertiesContainer);
     }
 
+    @Test
+    public void shouldParseSeparatedProperties_whenScannerFindsNamesAndValuesSeparately() {
+        when(separatedPropertyScanner.scanSeparatedProperties()).thenReturn(TEST_SEPARATED_PROPERTIES);
+        when(separatedPropertyScanner.sourceName()).thenReturn("Mock separated source");
+        for(int i = 0; i < TEST_SEPARATED_PROPERTIES.size(); i++) {
+            when(propertyParser.parseProperty(TEST_SEPARATED_PROPERTIES.get(i))).thenReturn(TEST_PARSED_DIRECTLY_SPECIFIED_PROPERTIES.get(i));
+        }
+
+        var propertiesContainer = propertiesInitializationProcess.initialize(List.of(), List.of(separatedPropertyScanner));
+
+        assertEquals(new SinglePropertyValue("value3-override"), propertiesContainer.getPropertyValueObject("property3"));
+        assertEquals(new SinglePropertyValue("value4"), propertiesContainer.getPropertyValueObject("property4"));
+    }
+
+    @Test
+    public void shouldLoadPropertyFilesConcurrently_andMergeThemInOrder() {
+        setupMocksExceptParsing();
+        var secondFileParsed = new CountDownLatch(1);
+        //the first file is only parsed after the second one, which could not happen if they were loaded one by one
+        doAnswer(invocation -> {
+            if(!secondFileParsed.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("The second property file was not parsed concurrently");
+            }
+            BiConsumer<String, Object> leafHandler = invocation.getArgument(2);
+            TEST_PARSED_PROPERTIES_1.forEach(leafHandler);
+            return null;
+        }).when(yamlParser).parseYaml(eq(propertiesReader1), eq(TEST_PROPERTIES_FILE_1), any());
+        doAnswer(invocation -> {
+            BiConsumer<String, Object> leafHandler = invocation.getArgument(2);
+            TEST_PARSED_PROPERTIES_2.forEach(leafHandler);
+            secondFileParsed.countDown();
+            return null;
+        }).when(yamlParser).parseYaml(eq(propertiesReader2), eq(TEST_PROPERTIES_FILE_2), any());
+
+        var propertiesContainer = propertiesInitializationProcess.initialize(
+                List.of(propertyFileScanner), List.of(propertyScanner)
+        );
+        makeAssertions(propertiesContainer);
+    }
+
+    @Test
+    public void shouldThrowExceptionOfPropertyFile_whenLoadingFails() {
+        when(propertyFileScanner.scan()).thenReturn(List.of(TEST_PROPERTIES_FILE_1));
+        when(propertyFileScanner.sourceName()).thenReturn("Mock property file source");
+        when(resourceFileReader.openResourceFile(TEST_PROPERTIES_FILE_1)).thenReturn(propertiesReader1);
+        var parsingException = new YamlStreamParsingException(TEST_PROPERTIES_FILE_1, new IllegalArgumentException("invalid"));
+        doThrow(parsingException).when(yamlParser).parseYaml(eq(propertiesReader1), eq(TEST_PROPERTIES_FILE_1), any());
+
+        var exception = assertThrows(YamlStreamParsingException.class, () -> {
+            propertiesInitializationProcess.initialize(List.of(propertyFileScanner), List.of(propertyScanner));
+        });
+        assertSame(parsingException, exception);
+    }
+
 }
@@ -0,0 +1,80 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.tframework.core.events.CoreEvents;
+import org.tframework.core.events.EventManager;
+
+@ExtendWith(MockitoExtension.class)
+class PropertiesReloaderTest {
+
+    @Mock
+    private PropertiesInitializationProcess propertiesInitializationProcess;
+
+    @Mock
+    private EventManager eventManager;
+
+    private final PropertiesInitializationInput input = PropertiesInitializationInput.builder().build();
+
+    private PropertiesContainer propertiesContainer;
+    private PropertiesReloader propertiesReloader;
+
+    @BeforeEach
+    public void setUp() {
+        propertiesContainer = PropertiesContainerFactory.fromProperties(List.of(
+                new Property("pool-size", new SinglePropertyValue("3")),
+                new Property("name", new SinglePropertyValue("app"))
+        ));
+        propertiesReloader = new PropertiesReloader(propertiesInitializationProcess, input, propertiesContainer, eventManager);
+    }
+
+    @Test
+    public void shouldReloadProperties_andPublishChanges() {
+        when(propertiesInitializationProcess.initialize(input)).thenReturn(PropertiesContainerFactory.fromProperties(List.of(
+                new Property("pool-size", new SinglePropertyValue("5")),
+                new Property("name", new SinglePropertyValue("app"))
+        )));
+
+        var changes = propertiesReloader.reload();
+
+        assertEquals(Set.of("pool-size"), changes.changedPropertyNames());
+        assertEquals(new SinglePropertyValue("5"), propertiesContainer.getPropertyValueObject("pool-size"));
+        verify(eventManager).publish(CoreEvents.PROPERTIES_CHANGED, changes);
+    }
+
+    @Test
+    public void shouldNotPublishChanges_whenNothingChanged() {
+        when(propertiesInitializationProcess.initialize(input)).thenReturn(PropertiesContainerFactory.fromProperties(List.of(
+                new Property("pool-size", new SinglePropertyValue("3")),
+                new Property("name", new SinglePropertyValue("app"))
+        )));
+
+        var changes = propertiesReloader.reload();
+
+        assertTrue(changes.isEmpty());
+        verify(eventManager, never()).publish(anyString(), any());
+    }
+
+    @Test
+    public void shouldNotStartWatching_whenThereAreNoPropertyFilesOnFileSystem() throws IOException {
+        when(propertiesInitializationProcess.findPropertyFilesOnFileSystem(input)).thenReturn(List.of());
+
+        assertTrue(propertiesReloader.startWatching(Duration.ofMillis(100)).isEmpty());
+    }
+}
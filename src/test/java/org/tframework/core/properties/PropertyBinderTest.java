@@ -0,0 +1,120 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.tframework.core.properties.converters.BooleanPropertyConverter;
+import org.tframework.core.properties.converters.IntegerPropertyConverter;
+import org.tframework.core.properties.converters.PropertyConversionException;
+import org.tframework.core.properties.converters.PropertyConverterAggregator;
+import org.tframework.core.properties.converters.StringListPropertyConverter;
+import org.tframework.core.properties.converters.StringPropertyConverter;
+
+class PropertyBinderTest {
+
+    private PropertiesContainer propertiesContainer;
+
+    @BeforeEach
+    void setUp() {
+        propertiesContainer = new PropertiesContainer(List.of(
+                new Property("myapp.datasource.url", new SinglePropertyValue("jdbc:test")),
+                new Property("myapp.datasource.max-pool-size", new SinglePropertyValue("10")),
+                new Property("myapp.datasource.enabled", new SinglePropertyValue("true")),
+                new Property("myapp.datasource.hosts", new ListPropertyValue(List.of("a", "b"))),
+                new Property("myapp.datasource.credentials.username", new SinglePropertyValue("admin")),
+                new Property("myapp.server.port", new SinglePropertyValue("not-a-number"))
+        ), PropertyConverterAggregator.usingConverters(List.of(
+                new StringListPropertyConverter(),
+                new StringPropertyConverter(),
+                new IntegerPropertyConverter(),
+                new BooleanPropertyConverter()
+        )));
+    }
+
+    @Test
+    public void shouldBindRecord_withNestedRecord() {
+        var datasource = propertiesContainer.bindProperties("myapp.datasource", DatasourceRecord.class);
+
+        var expected = new DatasourceRecord("jdbc:test", 10, true, List.of("a", "b"), new Credentials("admin", null));
+        assertEquals(expected, datasource);
+    }
+
+    @Test
+    public void shouldBindClass_andKeepInitialValues_whenPropertyIsMissing() {
+        var datasource = propertiesContainer.bindProperties("myapp.datasource", DatasourceClass.class);
+
+        assertEquals("jdbc:test", datasource.url);
+        assertEquals(10, datasource.maxPoolSize);
+        assertEquals("default", datasource.driver);
+    }
+
+    @Test
+    public void shouldThrowException_whenPrimitiveComponentIsMissing() {
+        var exception = assertThrows(PropertyBindingException.class, () -> {
+            propertiesContainer.bindProperties("myapp.datasource.credentials", PrimitiveRecord.class);
+        });
+
+        assertEquals(
+                exception.getMessageTemplate().formatted(
+                        "myapp.datasource.credentials",
+                        PrimitiveRecord.class.getName(),
+                        "there is no property for primitive component 'port'"
+                ),
+                exception.getMessage()
+        );
+    }
+
+    @Test
+    public void shouldThrowException_whenTypeCannotBeCreated() {
+        assertThrows(PropertyBindingException.class, () -> {
+            propertiesContainer.bindProperties("myapp.datasource", Runnable.class);
+        });
+    }
+
+    @Test
+    public void shouldThrowException_whenValueCannotBeConverted() {
+        assertThrows(PropertyConversionException.class, () -> {
+            propertiesContainer.bindProperties("myapp.server", PrimitiveRecord.class);
+        });
+    }
+
+    @Test
+    public void shouldThrowException_whenThereAreNoPropertiesUnderPrefix() {
+        assertThrows(PropertyNotFoundException.class, () -> {
+            propertiesContainer.bindProperties("myapp.other", DatasourceRecord.class);
+        });
+    }
+
+    @Test
+    public void shouldReuseBinder_ofSameType() {
+        assertSame(PropertyBinder.forType(DatasourceRecord.class), PropertyBinder.forType(DatasourceRecord.class));
+    }
+
+    @Test
+    public void shouldBindMissingNestedRecord_toNull() {
+        var datasource = propertiesContainer.bindProperties("myapp.datasource.credentials", Credentials.class);
+
+        assertEquals("admin", datasource.username());
+        assertNull(datasource.password());
+    }
+
+    public record DatasourceRecord(String url, int maxPoolSize, boolean enabled, List<String> hosts, Credentials credentials) {}
+
+    public record Credentials(String username, String password) {}
+
+    public record PrimitiveRecord(int port) {}
+
+    public static class DatasourceClass {
+
+        private String url;
+        private int maxPoolSize;
+        private String driver = "default";
+    }
+
+}
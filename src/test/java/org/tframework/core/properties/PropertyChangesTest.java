@@ -0,0 +1,54 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class PropertyChangesTest {
+
+    @Test
+    public void shouldFindAddedRemovedAndModifiedProperties() {
+        var oldProperties = index(
+                new Property("kept", new SinglePropertyValue("v")),
+                new Property("modified", new SinglePropertyValue("old")),
+                new Property("removed", new SinglePropertyValue("v"))
+        );
+        var newProperties = index(
+                new Property("kept", new SinglePropertyValue("v")),
+                new Property("modified", new ListPropertyValue(List.of("new"))),
+                new Property("added", new SinglePropertyValue("v"))
+        );
+
+        var changes = PropertyChanges.between(oldProperties, newProperties);
+
+        assertEquals(Set.of("added"), changes.addedPropertyNames());
+        assertEquals(Set.of("removed"), changes.removedPropertyNames());
+        assertEquals(Set.of("modified"), changes.modifiedPropertyNames());
+        assertEquals(Set.of("added", "removed", "modified"), changes.changedPropertyNames());
+        assertTrue(changes.isChanged("modified"));
+        assertFalse(changes.isChanged("kept"));
+        assertFalse(changes.isEmpty());
+    }
+
+    @Test
+    public void shouldBeEmpty_whenNothingChanged() {
+        var properties = index(new Property("kept", new SinglePropertyValue("v")));
+
+        assertTrue(PropertyChanges.between(properties, index(new Property("kept", new SinglePropertyValue("v")))).isEmpty());
+    }
+
+    private Map<String, Property> index(Property... properties) {
+        Map<String, Property> indexedProperties = new LinkedHashMap<>();
+        for(Property property : properties) {
+            indexedProperties.put(property.name(), property);
+        }
+        return indexedProperties;
+    }
+}
@@ -0,0 +1,91 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PropertyFileWatcherTest {
+
+    private static final Duration SETTLE_DELAY = Duration.ofMillis(100);
+
+    private final Semaphore changes = new Semaphore(0);
+    private PropertyFileWatcher watcher;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if(watcher != null) {
+            watcher.close();
+        }
+    }
+
+    @Test
+    public void shouldHandleChange_whenPropertyFileIsModified(@TempDir Path tempDir) throws Exception {
+        var propertyFile = Files.writeString(tempDir.resolve("properties.yaml"), "a: 1");
+
+        watcher = new PropertyFileWatcher(List.of(propertyFile), SETTLE_DELAY, changes::release);
+        Files.writeString(propertyFile, "a: 2");
+        Files.writeString(propertyFile, "a: 3");
+
+        assertTrue(changes.tryAcquire(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void shouldHandleChange_whenPropertyFileIsCreated(@TempDir Path tempDir) throws Exception {
+        var propertyFile = tempDir.resolve("properties-dev.yaml");
+
+        watcher = new PropertyFileWatcher(List.of(propertyFile), SETTLE_DELAY, changes::release);
+        Files.writeString(propertyFile, "a: 1");
+
+        assertTrue(changes.tryAcquire(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void shouldNotHandleChange_whenOtherFileIsModified(@TempDir Path tempDir) throws Exception {
+        var propertyFile = Files.writeString(tempDir.resolve("properties.yaml"), "a: 1");
+
+        watcher = new PropertyFileWatcher(List.of(propertyFile), SETTLE_DELAY, changes::release);
+        Files.writeString(tempDir.resolve("other.txt"), "not a property file");
+        Files.writeString(propertyFile, "a: 2");
+
+        assertTrue(changes.tryAcquire(10, TimeUnit.SECONDS));
+        //the settle delay has passed: only the property file change was handled, and only once
+        Thread.sleep(SETTLE_DELAY.multipliedBy(3).toMillis());
+        assertEquals(0, changes.availablePermits());
+    }
+
+    @Test
+    public void shouldKeepWatching_whenChangeHandlerFails(@TempDir Path tempDir) throws Exception {
+        var propertyFile = Files.writeString(tempDir.resolve("properties.yaml"), "a: 1");
+        Runnable failingHandler = () -> {
+            changes.release();
+            throw new IllegalStateException("Failed to reload");
+        };
+
+        watcher = new PropertyFileWatcher(List.of(propertyFile), SETTLE_DELAY, failingHandler);
+        Files.writeString(propertyFile, "a: 2");
+        assertTrue(changes.tryAcquire(10, TimeUnit.SECONDS));
+
+        Files.writeString(propertyFile, "a: 3");
+        assertTrue(changes.tryAcquire(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void shouldFailToWatch_whenDirectoryDoesNotExist(@TempDir Path tempDir) {
+        var propertyFile = tempDir.resolve("missing").resolve("properties.yaml");
+
+        assertThrows(IOException.class,
+                () -> new PropertyFileWatcher(List.of(propertyFile), SETTLE_DELAY, changes::release));
+    }
+}
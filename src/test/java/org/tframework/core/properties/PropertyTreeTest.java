@@ -0,0 +1,48 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PropertyTreeTest {
+
+    private final Property url = new Property("myapp.datasource.url", new SinglePropertyValue("jdbc:test"));
+    private final Property port = new Property("myapp.server.port", new SinglePropertyValue("8080"));
+    private final Property username = new Property("myapp.datasource.username", new SinglePropertyValue("admin"));
+    private final Property datasource = new Property("myapp.datasource", new SinglePropertyValue("enabled"));
+
+    private final PropertyTree propertyTree = PropertyTree.fromProperties(List.of(url, port, username, datasource));
+
+    @Test
+    public void shouldFindNode_withPropertyAndChildren() {
+        var node = propertyTree.findNode("myapp.datasource");
+
+        assertEquals(datasource, node.property());
+        assertEquals(List.of("url", "username"), node.childNames());
+        assertEquals(url, node.child("url").property());
+    }
+
+    @Test
+    public void shouldFindRootNode_whenPathIsEmpty() {
+        var node = propertyTree.findNode("");
+
+        assertNull(node.property());
+        assertEquals(List.of("myapp"), node.childNames());
+    }
+
+    @Test
+    public void shouldNotFindNode_whenPathDoesNotExist() {
+        assertNull(propertyTree.findNode("myapp.data"));
+        assertNull(propertyTree.findNode("myapp.datasource.url.other"));
+    }
+
+    @Test
+    public void shouldCollectProperties_inDepthFirstOrder() {
+        assertEquals(List.of(datasource, url, username), propertyTree.findNode("myapp.datasource").collectProperties());
+        assertEquals(List.of(datasource, url, username, port), propertyTree.findNode("myapp").collectProperties());
+    }
+
+}
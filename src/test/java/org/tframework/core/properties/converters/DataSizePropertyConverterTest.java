@@ -0,0 +1,40 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.properties.converters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.tframework.core.properties.DataSize;
+import org.tframework.core.properties.ListPropertyValue;
+import org.tframework.core.properties.SinglePropertyValue;
+
+class DataSizePropertyConverterTest {
+
+    private final DataSizePropertyConverter converter = new DataSizePropertyConverter();
+
+    @Test
+    public void shouldConvertValidPropertyValue() {
+        assertEquals(DataSize.ofMegabytes(16), converter.convert(new SinglePropertyValue("16MB")));
+    }
+
+    @Test
+    public void shouldThrowExceptionForListPropertyValue() {
+        var propertyValue = new ListPropertyValue(List.of("1KB", "2KB"));
+        assertThrows(PropertyConversionException.class, () -> converter.convert(propertyValue));
+    }
+
+    @Test
+    public void shouldThrowExceptionForNotDataSizePropertyValue() {
+        var propertyValue = new SinglePropertyValue("16 parsecs");
+        var exception = assertThrows(PropertyConversionException.class, () -> converter.convert(propertyValue));
+
+        assertEquals(
+                exception.getMessageTemplate().formatted(propertyValue, DataSize.class.getName()),
+                exception.getMessage()
+        );
+        assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+    }
+}
@@ -0,0 +1,45 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.properties.converters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.tframework.core.properties.ListPropertyValue;
+import org.tframework.core.properties.SinglePropertyValue;
+
+class DoublePropertyConverterTest {
+
+    private final DoublePropertyConverter converter = new DoublePropertyConverter();
+
+    @Test
+    public void shouldConvertValidPropertyValue() {
+        assertEquals(0.75, converter.convert(new SinglePropertyValue("0.75")));
+    }
+
+    @Test
+    public void shouldThrowExceptionForListPropertyValue() {
+        var propertyValue = new ListPropertyValue(List.of("1.5", "2.5"));
+        assertThrows(PropertyConversionException.class, () -> converter.convert(propertyValue));
+    }
+
+    @Test
+    public void shouldThrowExceptionForNullPropertyValue() {
+        var propertyValue = new SinglePropertyValue(null);
+        assertThrows(PropertyConversionException.class, () -> converter.convert(propertyValue));
+    }
+
+    @Test
+    public void shouldThrowExceptionForNotDoublePropertyValue() {
+        var propertyValue = new SinglePropertyValue("not a double");
+        var exception = assertThrows(PropertyConversionException.class, () -> converter.convert(propertyValue));
+
+        assertEquals(
+                exception.getMessageTemplate().formatted(propertyValue, Double.class.getName()),
+                exception.getMessage()
+        );
+        assertInstanceOf(NumberFormatException.class, exception.getCause());
+    }
+}
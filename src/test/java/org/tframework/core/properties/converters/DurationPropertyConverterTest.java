@@ -0,0 +1,57 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.properties.converters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.tframework.core.properties.ListPropertyValue;
+import org.tframework.core.properties.SinglePropertyValue;
+
+class DurationPropertyConverterTest {
+
+    private final DurationPropertyConverter converter = new DurationPropertyConverter();
+
+    @Test
+    public void shouldConvertIsoPropertyValue() {
+        assertEquals(Duration.ofSeconds(90), converter.convert(new SinglePropertyValue("PT1M30S")));
+    }
+
+    @Test
+    public void shouldConvertPropertyValuesWithUnits() {
+        assertEquals(Duration.ofNanos(100), converter.convert(new SinglePropertyValue("100ns")));
+        assertEquals(Duration.ofNanos(100_000), converter.convert(new SinglePropertyValue("100us")));
+        assertEquals(Duration.ofMillis(500), converter.convert(new SinglePropertyValue("500ms")));
+        assertEquals(Duration.ofSeconds(30), converter.convert(new SinglePropertyValue(" 30S ")));
+        assertEquals(Duration.ofMinutes(5), converter.convert(new SinglePropertyValue("5m")));
+        assertEquals(Duration.ofHours(-2), converter.convert(new SinglePropertyValue("-2h")));
+        assertEquals(Duration.ofDays(1), converter.convert(new SinglePropertyValue("1d")));
+    }
+
+    @Test
+    public void shouldConvertPropertyValueWithoutUnit_toMilliseconds() {
+        assertEquals(Duration.ofMillis(250), converter.convert(new SinglePropertyValue("250")));
+    }
+
+    @Test
+    public void shouldThrowExceptionForListPropertyValue() {
+        var propertyValue = new ListPropertyValue(List.of("1s", "2s"));
+        assertThrows(PropertyConversionException.class, () -> converter.convert(propertyValue));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "s", "10 years", "1.5s", "PT", "ten seconds"})
+    public void shouldThrowExceptionForInvalidPropertyValue(String value) {
+        var propertyValue = new SinglePropertyValue(value);
+        var exception = assertThrows(PropertyConversionException.class, () -> converter.convert(propertyValue));
+
+        assertEquals(
+                exception.getMessageTemplate().formatted(propertyValue, Duration.class.getName()),
+                exception.getMessage()
+        );
+    }
+}
@@ -0,0 +1,54 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.properties.converters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.tframework.core.properties.ListPropertyValue;
+import org.tframework.core.properties.SinglePropertyValue;
+
+class EnumPropertyConverterTest {
+
+    private final EnumPropertyConverter<DummyEnum> converter = new EnumPropertyConverter<>(DummyEnum.class);
+
+    @Test
+    public void shouldConvertValidPropertyValue() {
+        assertEquals(DummyEnum.FIRST_VALUE, converter.convert(new SinglePropertyValue("FIRST_VALUE")));
+    }
+
+    @Test
+    public void shouldConvertIgnoringCaseWhitespaceAndDashes() {
+        assertEquals(DummyEnum.FIRST_VALUE, converter.convert(new SinglePropertyValue(" first-value ")));
+    }
+
+    @Test
+    public void shouldThrowExceptionForListPropertyValue() {
+        var propertyValue = new ListPropertyValue(List.of("first-value"));
+        assertThrows(PropertyConversionException.class, () -> converter.convert(propertyValue));
+    }
+
+    @Test
+    public void shouldThrowExceptionForUnknownConstant() {
+        var propertyValue = new SinglePropertyValue("third-value");
+        var exception = assertThrows(PropertyConversionException.class, () -> converter.convert(propertyValue));
+
+        assertEquals(
+                exception.getMessageTemplate().formatted(propertyValue, DummyEnum.class.getName()),
+                exception.getMessage()
+        );
+        assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+    }
+
+    @Test
+    public void shouldReturnEnumType() {
+        assertEquals(DummyEnum.class, converter.getType());
+    }
+
+    enum DummyEnum {
+        FIRST_VALUE,
+        SECOND_VALUE
+    }
+}
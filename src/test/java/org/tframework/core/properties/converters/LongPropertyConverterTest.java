@@ -0,0 +1,45 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.properties.converters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.tframework.core.properties.ListPropertyValue;
+import org.tframework.core.properties.SinglePropertyValue;
+
+public class LongPropertyConverterTest {
+
+    private final LongPropertyConverter converter = new LongPropertyConverter();
+
+    @Test
+    public void shouldConvertValidPropertyValue() {
+        var propertyValue = new SinglePropertyValue("10000000000");
+        assertEquals(10_000_000_000L, converter.convert(propertyValue));
+    }
+
+    @Test
+    public void shouldThrowExceptionForListPropertyValue() {
+        var propertyValue = new ListPropertyValue(List.of("a", "1"));
+        var exception = assertThrows(PropertyConversionException.class, () -> converter.convert(propertyValue));
+
+        assertEquals(
+                exception.getMessageTemplate().formatted(propertyValue, Long.class.getName()),
+                exception.getMessage()
+        );
+    }
+
+    @Test
+    public void shouldThrowExceptionForNotLongPropertyValue() {
+        var propertyValue = new SinglePropertyValue("not a long");
+        var exception = assertThrows(PropertyConversionException.class, () -> converter.convert(propertyValue));
+
+        assertEquals(
+                exception.getMessageTemplate().formatted(propertyValue, Long.class.getName()),
+                exception.getMessage()
+        );
+        assertInstanceOf(NumberFormatException.class, exception.getCause());
+    }
+}
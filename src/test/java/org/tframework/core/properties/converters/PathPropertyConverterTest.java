@@ -0,0 +1,44 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.properties.converters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.tframework.core.properties.ListPropertyValue;
+import org.tframework.core.properties.SinglePropertyValue;
+
+class PathPropertyConverterTest {
+
+    private final PathPropertyConverter converter = new PathPropertyConverter();
+
+    @Test
+    public void shouldConvertValidPropertyValue() {
+        assertEquals(Path.of("config", "app.yaml"), converter.convert(new SinglePropertyValue("config/app.yaml")));
+    }
+
+    @Test
+    public void shouldThrowExceptionForListPropertyValue() {
+        var propertyValue = new ListPropertyValue(List.of("a", "b"));
+        assertThrows(PropertyConversionException.class, () -> converter.convert(propertyValue));
+    }
+
+    @Test
+    public void shouldThrowExceptionForNullPropertyValue() {
+        var propertyValue = new SinglePropertyValue(null);
+        assertThrows(PropertyConversionException.class, () -> converter.convert(propertyValue));
+    }
+
+    @Test
+    public void shouldThrowExceptionForInvalidPath() {
+        var propertyValue = new SinglePropertyValue("invalid\u0000path");
+        var exception = assertThrows(PropertyConversionException.class, () -> converter.convert(propertyValue));
+
+        assertEquals(
+                exception.getMessageTemplate().formatted(propertyValue, Path.class.getName()),
+                exception.getMessage()
+        );
+    }
+}
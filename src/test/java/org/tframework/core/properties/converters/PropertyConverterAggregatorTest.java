@@ -3,6 +3,11 @@ package org.tframework.core.properties.converters;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
@@ -71,6 +76,49 @@ public class PropertyConverterAggregatorTest {
         assertEquals(expected, convertedValue);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldPreferExactType_overEarlierAssignableConverter() {
+        PropertyConverter<Parent> parentConverter = mock(PropertyConverter.class);
+        when(parentConverter.getType()).thenReturn(Parent.class);
+        var aggregator = PropertyConverterAggregator.usingConverters(List.of(childConverter, parentConverter));
+        Parent expected = new Parent();
+        when(parentConverter.convert(propertyValue)).thenReturn(expected);
+
+        Parent convertedValue = aggregator.convert(propertyValue, Parent.class);
+
+        assertEquals(expected, convertedValue);
+        verify(childConverter, never()).convert(propertyValue);
+    }
+
+    @Test
+    public void shouldCreateEnumConverter_ifNoConverterExistsForEnum() {
+        var convertedValue = aggregator.convert(new SinglePropertyValue("second"), DummyEnum.class);
+
+        assertEquals(DummyEnum.SECOND, convertedValue);
+        assertTrue(aggregator.isCacheable(DummyEnum.class));
+    }
+
+    @Test
+    public void shouldSelectConverterOnlyOnce_forType() {
+        when(intConverter.convert(propertyValue)).thenReturn(1);
+
+        aggregator.convert(propertyValue, int.class);
+        aggregator.convert(propertyValue, int.class);
+
+        //the converters are only asked for their types when the aggregator is created
+        verify(intConverter, times(1)).getType();
+        verify(intConverter, times(2)).convert(propertyValue);
+    }
+
+    @Test
+    public void shouldCheckIfConverterIsCacheable() {
+        when(stringConverter.isCacheable()).thenReturn(true);
+
+        assertTrue(aggregator.isCacheable(String.class));
+        assertThrows(PropertyConverterNotFoundException.class, () -> aggregator.isCacheable(File.class));
+    }
+
     @Test
     public void shouldThrowException_ifNoMatchingConverterExists() {
         var exception = assertThrows(PropertyConverterNotFoundException.class,
@@ -81,6 +129,8 @@ public class PropertyConverterAggregatorTest {
         );
     }
 
+    enum DummyEnum { FIRST, SECOND }
+
     static class Parent {}
 
     static class Child extends Parent {}
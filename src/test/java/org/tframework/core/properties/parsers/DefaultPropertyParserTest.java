@@ -52,4 +52,34 @@ class DefaultPropertyParserTest {
         );
     }
 
+    @Test
+    public void shouldParseSeparatedProperty_intoListValuedProperty() {
+        Property property = propertyParser.parseProperty(new SeparatedProperty("cool.list.property", "[t1\\=1,t2\\,3]"));
+
+        assertEquals("cool.list.property", property.name());
+        assertEquals(new ListPropertyValue(List.of("t1\\=1", "t2,3")), property.value());
+    }
+
+    @Test
+    public void shouldThrowPropertyParsingException_whenSeparatedPropertyValueHasNonEscapedSeparator() {
+        var separatedProperty = new SeparatedProperty("cool.property", "a=b");
+        var exception = assertThrows(PropertyParsingException.class, () -> propertyParser.parseProperty(separatedProperty));
+
+        assertEquals(
+                exception.getMessageTemplate().formatted("cool.property=a=b", PropertyParsingUtils.MULTIPLE_SEPARATOR_FOUND_ERROR),
+                exception.getMessage()
+        );
+    }
+
+    @Test
+    public void shouldThrowPropertyParsingException_whenSeparatedPropertyNameIsEmpty() {
+        var separatedProperty = new SeparatedProperty(" ", "test");
+        var exception = assertThrows(PropertyParsingException.class, () -> propertyParser.parseProperty(separatedProperty));
+
+        assertEquals(
+                exception.getMessageTemplate().formatted(" =test", DefaultPropertyParser.BLANK_NAME_ERROR),
+                exception.getMessage()
+        );
+    }
+
 }
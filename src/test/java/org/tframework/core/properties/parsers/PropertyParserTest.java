@@ -0,0 +1,21 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.properties.parsers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+import org.tframework.core.properties.Property;
+import org.tframework.core.properties.SinglePropertyValue;
+
+class PropertyParserTest {
+
+    @Test
+    public void shouldParseJoinedRawProperty_whenParserOnlyParsesRawProperties() {
+        PropertyParser rawPropertyParser = rawProperty -> new Property("raw", new SinglePropertyValue(rawProperty));
+
+        Property property = rawPropertyParser.parseProperty(new SeparatedProperty("cool.property", "a=b"));
+
+        assertEquals(new Property("raw", new SinglePropertyValue("cool.property=a=b")), property);
+    }
+
+}
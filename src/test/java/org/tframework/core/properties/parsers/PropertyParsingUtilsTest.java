@@ -2,14 +2,20 @@
 package org.tframework.core.properties.parsers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 class PropertyParsingUtilsTest {
 
@@ -87,4 +93,107 @@ class PropertyParsingUtilsTest {
         assertEquals(expectedElements, actualElements);
     }
 
+    public static Stream<Arguments> createQuirkySeparateNameValueInputs() {
+        return Stream.of(
+                Arguments.of("test.prop=123=", "test.prop", "123"), //trailing empty parts are ignored
+                Arguments.of("=123", "", "123"),
+                Arguments.of("test.prop=\\=", "test.prop", "\\=")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("createQuirkySeparateNameValueInputs")
+    public void shouldSeparateProperty_withQuirkyInputs(String raw, String expectedName, String expectedValue) {
+        var separated = PropertyParsingUtils.separateNameValue(raw);
+        assertEquals(expectedName, separated.name());
+        assertEquals(expectedValue, separated.value());
+    }
+
+    @Test
+    public void shouldNotDetectListValue_whenItHasMultipleLines() {
+        assertFalse(PropertyParsingUtils.isListValue("[1,\n2]"));
+    }
+
+    //the alphabet has all special characters, so that the random inputs hit the edge cases often
+    private static final char[] FUZZ_ALPHABET = {'a', 'b', ' ', '=', '\\', '[', ']', ',', '\n', '\u2028'};
+    private static final int FUZZ_ITERATIONS = 20_000;
+
+    @ParameterizedTest
+    @ValueSource(longs = {1L, 42L, 20240101L})
+    public void shouldSeparateNameValue_sameAsRegexImplementation(long seed) {
+        var random = new Random(seed);
+        for(int i = 0; i < FUZZ_ITERATIONS; i++) {
+            String raw = randomString(random);
+            assertEquals(describeSeparation(() -> regexSeparateNameValue(raw)),
+                    describeSeparation(() -> PropertyParsingUtils.separateNameValue(raw)), raw);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1L, 42L, 20240101L})
+    public void shouldSeparateNameAndValue_sameAsJoinedRawProperty(long seed) {
+        var random = new Random(seed);
+        for(int i = 0; i < FUZZ_ITERATIONS; i++) {
+            String name = randomString(random);
+            String value = randomString(random);
+            String raw = name + PropertyParsingUtils.PROPERTY_NAME_VALUE_SEPARATOR + value;
+            assertEquals(describeSeparation(() -> PropertyParsingUtils.separateNameValue(raw)),
+                    describeSeparation(() -> PropertyParsingUtils.separateNameValue(name, value)), raw);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {1L, 42L, 20240101L})
+    public void shouldParseListValues_sameAsRegexImplementation(long seed) {
+        var random = new Random(seed);
+        for(int i = 0; i < FUZZ_ITERATIONS; i++) {
+            //most of the inputs should be lists, so that the elements are compared as well
+            String raw = random.nextInt(4) == 0 ? randomString(random) : "[" + randomString(random) + "]";
+            boolean isList = REGEX_LIST_PATTERN.matcher(raw).matches();
+            assertEquals(isList, PropertyParsingUtils.isListValue(raw), raw);
+            if(isList) {
+                assertEquals(regexExtractListElements(raw), PropertyParsingUtils.extractListElements(raw), raw);
+            }
+        }
+    }
+
+    private static String randomString(Random random) {
+        var builder = new StringBuilder();
+        int length = random.nextInt(12);
+        for(int i = 0; i < length; i++) {
+            builder.append(FUZZ_ALPHABET[random.nextInt(FUZZ_ALPHABET.length)]);
+        }
+        return builder.toString();
+    }
+
+    private static String describeSeparation(Supplier<SeparatedProperty> separation) {
+        try {
+            return separation.get().toString();
+        } catch (PropertyParsingException e) {
+            return e.getMessage();
+        }
+    }
+
+    //the regular expression based implementation that the tokenizer replaced, used as the reference
+    private static final Pattern REGEX_LIST_PATTERN = Pattern.compile("^(?<!\\\\)\\[.*(?<!\\\\)\\]");
+
+    private static SeparatedProperty regexSeparateNameValue(String rawProperty) {
+        String[] parts = rawProperty.split("(?<!\\\\)=");
+        if(parts.length < 2) {
+            throw new PropertyParsingException(rawProperty, PropertyParsingUtils.SEPARATOR_NOT_FOUND_ERROR);
+        }
+        if(parts.length > 2) {
+            throw new PropertyParsingException(rawProperty, PropertyParsingUtils.MULTIPLE_SEPARATOR_FOUND_ERROR);
+        }
+        return new SeparatedProperty(parts[0], parts[1]);
+    }
+
+    private static List<String> regexExtractListElements(String rawPropertyValue) {
+        String strippedList = rawPropertyValue.substring(1, rawPropertyValue.length() - 1);
+        var elements = Arrays.stream(strippedList.split("(?<!\\\\),", -1))
+                .map(element -> element.replaceAll("\\\\,", ","))
+                .toList();
+        return elements.size() == 1 && elements.getFirst().isEmpty() ? List.of() : elements;
+    }
+
 }
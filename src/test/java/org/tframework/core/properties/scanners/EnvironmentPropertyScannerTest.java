@@ -1,18 +1,26 @@
 /* Licensed under Apache-2.0 2024. */
 package org.tframework.core.properties.scanners;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 import static org.tframework.core.properties.scanners.EnvironmentPropertyScanner.PROPERTY_VARIABLE_PREFIX;
 
 import java.util.List;
 import java.util.Set;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.tframework.core.properties.Property;
+import org.tframework.core.properties.parsers.PropertyParsersFactory;
+import org.tframework.core.properties.parsers.PropertyParsingException;
 import org.tframework.core.properties.parsers.PropertyParsingUtils;
+import org.tframework.core.properties.parsers.SeparatedProperty;
 import org.tframework.core.readers.EnvironmentVariableReader;
 
 @ExtendWith(MockitoExtension.class)
@@ -48,4 +56,42 @@ class EnvironmentPropertyScannerTest {
                         actualRawProperties.containsAll(expectedRawProperties)
         );
     }
+
+    @Test
+    public void shouldDetectEnvironmentVariablesThatHoldProperties_andReturnSeparatedProperties() {
+        when(environmentVariableReader.getAllVariableNames()).thenReturn(Set.of(
+                PROPERTY_VARIABLE_PREFIX + "list.prop",
+                "TFRAMEWORK_PROFILES"
+        ));
+        when(environmentVariableReader.readVariable(PROPERTY_VARIABLE_PREFIX + "list.prop")).thenReturn("[a=1,b=2]");
+
+        var actualProperties = environmentPropertyScanner.scanSeparatedProperties();
+
+        assertEquals(List.of(new SeparatedProperty("list.prop", "[a=1,b=2]")), actualProperties);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"value", "1\\=2", "[a,b\\,c]", "[a\\=1]", "a=b", "a=", "a\\", ""})
+    public void shouldParseRawProperties_sameAsSeparatedProperties(String value) {
+        String name = PROPERTY_VARIABLE_PREFIX + "some.prop";
+        when(environmentVariableReader.getAllVariableNames()).thenReturn(Set.of(name));
+        when(environmentVariableReader.readVariable(name)).thenReturn(value);
+        var propertyParser = PropertyParsersFactory.createDefaultPropertyParser();
+
+        String rawProperty = environmentPropertyScanner.scanProperties().getFirst();
+        SeparatedProperty separatedProperty = environmentPropertyScanner.scanSeparatedProperties().getFirst();
+
+        assertEquals(
+                describeParsing(() -> propertyParser.parseProperty(rawProperty)),
+                describeParsing(() -> propertyParser.parseProperty(separatedProperty))
+        );
+    }
+
+    private static String describeParsing(Supplier<Property> parsing) {
+        try {
+            return parsing.get().toString();
+        } catch (PropertyParsingException e) {
+            return e.getMessage();
+        }
+    }
 }
@@ -1,16 +1,24 @@
 /* Licensed under Apache-2.0 2024. */
 package org.tframework.core.properties.scanners;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
 import java.util.Set;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.tframework.core.properties.Property;
+import org.tframework.core.properties.parsers.PropertyParsersFactory;
+import org.tframework.core.properties.parsers.PropertyParsingException;
+import org.tframework.core.properties.parsers.SeparatedProperty;
 import org.tframework.core.readers.SystemPropertyReader;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,4 +54,40 @@ class SystemPropertyScannerTest {
                         expectedProperties.containsAll(actualProperties)
         );
     }
+
+    @Test
+    public void shouldScanSeparatedPropertiesFromSystemProperties_withoutValidatingThem() {
+        var systemPropName = SystemPropertyScanner.PROPERTY_PREFIX + "some.cool.prop";
+        when(systemPropertyReader.getAllSystemPropertyNames()).thenReturn(Set.of(systemPropName));
+        when(systemPropertyReader.readSystemProperty(systemPropName)).thenReturn("a=b");
+
+        var actualProperties = systemPropertyScanner.scanSeparatedProperties();
+
+        assertEquals(List.of(new SeparatedProperty("some.cool.prop", "a=b")), actualProperties);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"value", "1\\=2", "[a,b\\,c]", "[a\\=1]", "a=b", "a=", "a\\", ""})
+    public void shouldParseRawProperties_sameAsSeparatedProperties(String value) {
+        String name = SystemPropertyScanner.PROPERTY_PREFIX + "some.prop";
+        when(systemPropertyReader.getAllSystemPropertyNames()).thenReturn(Set.of(name));
+        when(systemPropertyReader.readSystemProperty(name)).thenReturn(value);
+        var propertyParser = PropertyParsersFactory.createDefaultPropertyParser();
+
+        String rawProperty = systemPropertyScanner.scanProperties().getFirst();
+        SeparatedProperty separatedProperty = systemPropertyScanner.scanSeparatedProperties().getFirst();
+
+        assertEquals(
+                describeParsing(() -> propertyParser.parseProperty(rawProperty)),
+                describeParsing(() -> propertyParser.parseProperty(separatedProperty))
+        );
+    }
+
+    private static String describeParsing(Supplier<Property> parsing) {
+        try {
+            return parsing.get().toString();
+        } catch (PropertyParsingException e) {
+            return e.getMessage();
+        }
+    }
 }
@@ -4,7 +4,13 @@ package org.tframework.core.properties.yamlparsers;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
@@ -54,4 +60,77 @@ class SnakeYamlParserTest {
         );
     }
 
+    @Test
+    public void shouldStreamSameLeaves_asFlattenedParsedYaml() throws IOException {
+        for(String yamlFile : List.of("parsers/simple.yaml", "parsers/complex.yaml", "parsers/anchors.yaml")) {
+            Map<String, Object> expectedLeaves = new LinkedHashMap<>();
+            flatten("", parser.parseYaml(reader.readResourceFile(yamlFile)), expectedLeaves);
+
+            assertEquals(expectedLeaves, streamLeaves(yamlFile), yamlFile);
+        }
+    }
+
+    @Test
+    public void shouldStreamLeavesOfAllDocuments() throws IOException {
+        List<Map.Entry<String, Object>> leaves = new ArrayList<>();
+        try(Reader yamlReader = reader.openResourceFile("parsers/multi-document.yaml")) {
+            parser.parseYaml(yamlReader, "multi-document.yaml", (path, leaf) -> leaves.add(Map.entry(path, leaf)));
+        }
+
+        assertEquals(List.of(
+                Map.entry("k1", "v1"),
+                Map.entry("k2.k2-1", "v2-1"),
+                Map.entry("k2.k2-1", "v2-1-override"),
+                Map.entry("k3", List.of("v3-1", "v3-2"))
+        ), leaves);
+    }
+
+    @Test
+    public void shouldStreamMergedAndAliasedLeaves() throws IOException {
+        var leaves = streamLeaves("parsers/anchors.yaml");
+
+        assertEquals(20, leaves.get("service.timeout")); //the mapping overrides the merged key
+        assertEquals(3, leaves.get("service.retries"));
+        assertEquals(List.of("h1", "h2"), leaves.get("service.hosts"));
+        assertEquals(List.of("h1", "h2"), leaves.get("service.backup-hosts"));
+        assertEquals(3, leaves.get("service.max-retries"));
+        assertEquals(10, leaves.get("other.timeout"));
+        assertEquals(true, leaves.get("other.extra"));
+    }
+
+    @Test
+    public void shouldThrowException_whenStreamedYamlIsInvalid() {
+        var exception = assertThrows(YamlStreamParsingException.class, () -> {
+            parser.parseYaml(new StringReader("k1: [v1"), "invalid.yaml", (path, leaf) -> {});
+        });
+
+        assertTrue(exception.getMessage().startsWith("Failed to parse YAML from 'invalid.yaml'"));
+    }
+
+    @Test
+    public void shouldThrowException_whenStreamedYamlRootIsNotMapping() {
+        assertThrows(YamlStreamParsingException.class, () -> {
+            parser.parseYaml(new StringReader("- v1"), "list.yaml", (path, leaf) -> {});
+        });
+    }
+
+    private Map<String, Object> streamLeaves(String yamlFile) throws IOException {
+        Map<String, Object> leaves = new LinkedHashMap<>();
+        try(Reader yamlReader = reader.openResourceFile(yamlFile)) {
+            parser.parseYaml(yamlReader, yamlFile, leaves::put);
+        }
+        return leaves;
+    }
+
+    private void flatten(String path, Map<?, ?> map, Map<String, Object> leaves) {
+        map.forEach((key, value) -> {
+            String childPath = path.isEmpty() ? String.valueOf(key) : path + "." + key;
+            if(value instanceof Map<?, ?> childMap) {
+                flatten(childPath, childMap, leaves);
+            } else {
+                leaves.put(childPath, value);
+            }
+        });
+    }
+
 }
@@ -3,9 +3,12 @@ package org.tframework.core.readers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.tframework.core.utils.ResourceTestUtils.TEST_RESOURCE_CONTENT;
 import static org.tframework.core.utils.ResourceTestUtils.TEST_RESOURCE_NAME;
 
+import java.io.BufferedReader;
+import java.io.IOException;
 import org.junit.jupiter.api.Test;
 
 class ReadersFactoryTest {
@@ -30,4 +33,20 @@ class ReadersFactoryTest {
         assertEquals(TEST_RESOURCE_CONTENT, actualContent);
     }
 
+    @Test
+    public void shouldCreateResourceFileReader_thatOpensResourceFiles() throws IOException {
+        var reader = ReadersFactory.createResourceFileReader();
+
+        try(var resourceReader = new BufferedReader(reader.openResourceFile(TEST_RESOURCE_NAME))) {
+            assertEquals(TEST_RESOURCE_CONTENT, resourceReader.readLine());
+        }
+    }
+
+    @Test
+    public void shouldCreateResourceFileReader_thatFindsResourceFiles() {
+        var reader = ReadersFactory.createResourceFileReader();
+
+        assertTrue(reader.findResourceFile(TEST_RESOURCE_NAME).isPresent());
+    }
+
 }
@@ -6,13 +6,19 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.tframework.core.utils.ResourceTestUtils.TEST_RESOURCE_CONTENT;
 import static org.tframework.core.utils.ResourceTestUtils.TEST_RESOURCE_NAME;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Optional;
 import org.junit.jupiter.api.Test;
 
 class ResourceFileReaderTest {
 
     @Test
     public void shouldReadResourceFile_ifAccessorFindsIt() {
-        var resourceReader = new ResourceFileReader(name -> TEST_RESOURCE_CONTENT);
+        var resourceReader = new ResourceFileReader(name -> TEST_RESOURCE_CONTENT, name -> null, name -> Optional.empty());
 
         var actualContent = resourceReader.readResourceFile(TEST_RESOURCE_NAME);
         assertEquals(TEST_RESOURCE_CONTENT, actualContent);
@@ -20,7 +26,7 @@ class ResourceFileReaderTest {
 
     @Test
     public void shouldThrowResourceNotFoundException_whenAccessorDoesNotFindResource() {
-        var resourceReader = new ResourceFileReader(name -> null);
+        var resourceReader = new ResourceFileReader(name -> null, name -> null, name -> Optional.empty());
 
         var exception = assertThrows(ResourceNotFoundException.class, () -> {
             resourceReader.readResourceFile(TEST_RESOURCE_NAME);
@@ -32,4 +38,32 @@ class ResourceFileReaderTest {
         );
     }
 
+    @Test
+    public void shouldOpenResourceFile_ifStreamAccessorFindsIt() throws IOException {
+        var resourceReader = new ResourceFileReader(name -> null, name -> {
+            return new ByteArrayInputStream("árvíztűrő".getBytes(StandardCharsets.UTF_8));
+        }, name -> Optional.empty());
+
+        try(Reader reader = resourceReader.openResourceFile(TEST_RESOURCE_NAME)) {
+            char[] buffer = new char[32];
+            int length = reader.read(buffer);
+            assertEquals("árvíztűrő", new String(buffer, 0, length));
+        }
+    }
+
+    @Test
+    public void shouldThrowResourceNotFoundException_whenStreamAccessorDoesNotFindResource() {
+        var resourceReader = new ResourceFileReader(name -> TEST_RESOURCE_CONTENT, name -> null, name -> Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> resourceReader.openResourceFile(TEST_RESOURCE_NAME));
+    }
+
+    @Test
+    public void shouldFindResourceFile_withFileAccessor() {
+        var path = Path.of("resources", TEST_RESOURCE_NAME);
+        var resourceReader = new ResourceFileReader(name -> null, name -> null, name -> Optional.of(path));
+
+        assertEquals(Optional.of(path), resourceReader.findResourceFile(TEST_RESOURCE_NAME));
+    }
+
 }
@@ -3,6 +3,7 @@ package org.tframework.core.reflection.annotations;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import org.junit.jupiter.api.Test;
 
@@ -15,4 +16,20 @@ class AnnotationScannersFactoryTest {
         assertEquals(ExtendedAnnotationMatcher.class, scanner.getAnnotationMatcher().getClass());
     }
 
+    @Test
+    public void shouldCreateCachingAnnotationScanner() {
+        var delegate = AnnotationScannersFactory.createComposedAnnotationScanner();
+        var scanner = AnnotationScannersFactory.createCachingAnnotationScanner(delegate, 10);
+        assertSame(delegate, scanner.getDelegate());
+        assertEquals(10, scanner.getMaximumSize());
+    }
+
+    @Test
+    public void shouldReturnSameSharedCachingAnnotationScanner() {
+        var scanner = AnnotationScannersFactory.sharedCachingAnnotationScanner();
+        assertSame(scanner, AnnotationScannersFactory.sharedCachingAnnotationScanner());
+        assertEquals(ComposedAnnotationScanner.class, scanner.getDelegate().getClass());
+        assertEquals(AnnotationScannersFactory.DEFAULT_CACHE_MAXIMUM_SIZE, scanner.getMaximumSize());
+    }
+
 }
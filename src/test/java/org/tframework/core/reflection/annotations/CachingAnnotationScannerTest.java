@@ -0,0 +1,159 @@
+/* Licensed under Apache-2.0 2024. */
+package org.tframework.core.reflection.annotations;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.lang.annotation.Retention;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CachingAnnotationScannerTest {
+
+    private ComposedAnnotationScanner delegate;
+    private CachingAnnotationScanner scanner;
+
+    @BeforeEach
+    void setUp() {
+        delegate = spy(AnnotationScannersFactory.createComposedAnnotationScanner());
+        scanner = AnnotationScannersFactory.createCachingAnnotationScanner(delegate, 100);
+    }
+
+    @TestAnnotationC("C on ComposedTwice")
+    @TestAnnotationA("A on ComposedTwice")
+    static class ComposedTwice {}
+
+    @TestAnnotationB("B on NotComposed")
+    static class NotComposed {}
+
+    @Test
+    public void shouldReturnSameResultsAsDelegate() {
+        var expected = delegate.scan(ComposedTwice.class, TestAnnotationA.class);
+
+        assertEquals(expected, scanner.scan(ComposedTwice.class, TestAnnotationA.class));
+        assertEquals(expected.getFirst(), scanner.scanOne(ComposedTwice.class, TestAnnotationA.class).orElseThrow());
+        assertTrue(scanner.hasAnnotation(ComposedTwice.class, TestAnnotationB.class));
+    }
+
+    @Test
+    public void shouldScanOnlyOnce_whenSameElementIsScannedRepeatedly() {
+        for(int i = 0; i < 5; i++) {
+            assertEquals(3, scanner.scan(ComposedTwice.class, TestAnnotationA.class).size());
+        }
+
+        verify(delegate, times(1)).scan(ComposedTwice.class, TestAnnotationA.class);
+        var statistics = scanner.getStatistics();
+        assertEquals(4, statistics.hits());
+        assertEquals(1, statistics.misses());
+        assertEquals(1, statistics.size());
+        assertEquals(0.8, statistics.hitRatio());
+    }
+
+    @Test
+    public void shouldAnswerScanOne_fromCachedScan() {
+        scanner.scan(ComposedTwice.class, TestAnnotationA.class);
+
+        var annotation = scanner.scanOne(ComposedTwice.class, TestAnnotationA.class);
+
+        assertEquals("A on C", annotation.orElseThrow().value());
+        verify(delegate, never()).scanOne(any(), any());
+    }
+
+    @Test
+    public void shouldThrowMultipleAnnotationsScannedException_whenScanOneStrictFindsMultipleAnnotations() {
+        assertThrows(MultipleAnnotationsScannedException.class, () -> {
+            scanner.scanOneStrict(ComposedTwice.class, TestAnnotationA.class);
+        });
+        assertThrows(MultipleAnnotationsScannedException.class, () -> {
+            scanner.scanOneStrict(ComposedTwice.class, TestAnnotationA.class);
+        });
+
+        verify(delegate, times(1)).scan(ComposedTwice.class, TestAnnotationA.class);
+    }
+
+    @Test
+    public void shouldNotAskDelegate_whenAnnotationIsNotInMetaAnnotationClosure() {
+        //the first scan for an annotation type is always delegated
+        scanner.scan(ComposedTwice.class, TestAnnotationC.class);
+
+        var annotations = scanner.scan(NotComposed.class, TestAnnotationC.class);
+
+        assertTrue(annotations.isEmpty());
+        verify(delegate, never()).scan(NotComposed.class, TestAnnotationC.class);
+        assertEquals(1, scanner.getStatistics().size());
+    }
+
+    @Test
+    public void shouldNotCacheExceptions_whenAnnotationIsUnsupported() {
+        for(int i = 0; i < 2; i++) {
+            assertThrows(UnsupportedAnnotationException.class, () -> {
+                scanner.scan(NotComposed.class, Retention.class);
+            });
+        }
+
+        verify(delegate, times(2)).scan(NotComposed.class, Retention.class);
+        assertEquals(0, scanner.getStatistics().size());
+    }
+
+    @Test
+    public void shouldEvictOldestResults_whenMaximumSizeIsExceeded() {
+        var boundedScanner = AnnotationScannersFactory.createCachingAnnotationScanner(delegate, 2);
+
+        boundedScanner.scan(ComposedTwice.class, TestAnnotationA.class);
+        boundedScanner.scan(ComposedTwice.class, TestAnnotationB.class);
+        boundedScanner.scan(ComposedTwice.class, TestAnnotationC.class);
+        boundedScanner.scan(ComposedTwice.class, TestAnnotationA.class);
+
+        verify(delegate, times(2)).scan(ComposedTwice.class, TestAnnotationA.class);
+        var statistics = boundedScanner.getStatistics();
+        assertEquals(2, statistics.size());
+        assertEquals(2, statistics.evictions());
+    }
+
+    @Test
+    public void shouldThrowException_whenMaximumSizeIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            AnnotationScannersFactory.createCachingAnnotationScanner(delegate, 0);
+        });
+    }
+
+    @Test
+    public void shouldClearCachedResults() {
+        scanner.scan(ComposedTwice.class, TestAnnotationA.class);
+        scanner.clear();
+        scanner.scan(ComposedTwice.class, TestAnnotationA.class);
+
+        verify(delegate, times(2)).scan(ComposedTwice.class, TestAnnotationA.class);
+    }
+
+    @Test
+    public void shouldReturnImmutableResults() {
+        List<TestAnnotationA> annotations = scanner.scan(ComposedTwice.class, TestAnnotationA.class);
+        assertThrows(UnsupportedOperationException.class, () -> annotations.add(null));
+    }
+
+    @Test
+    public void shouldComputeMetaAnnotationClosure() {
+        var closure = CachingAnnotationScanner.getMetaAnnotationClosure(TestAnnotationC.class);
+
+        assertTrue(closure.containsAll(Set.of(TestAnnotationC.class, TestAnnotationB.class, TestAnnotationA.class)));
+        assertTrue(closure.contains(Retention.class));
+        assertFalse(closure.contains(RepeatedTestAnnotationA.class));
+    }
+
+    @Test
+    public void shouldComputeMetaAnnotationClosure_ofCircularAnnotations() {
+        var closure = CachingAnnotationScanner.getMetaAnnotationClosure(TestCircularAnnotationA.class);
+        assertTrue(closure.containsAll(Set.of(TestCircularAnnotationA.class, TestCircularAnnotationB.class)));
+    }
+
+}
@@ -43,5 +43,16 @@ class PackageClassScannerTest {
         assertTrue(classes.stream().anyMatch(clazz -> clazz.getName().equals(MDC.MDCCloseable.class.getName())));
     }
 
+    @Test
+    public void shouldNotScanRoot_whenItContainsRejectedResource() {
+        String packageName = Logger.class.getPackageName();
+        var packageClassScanner = new PackageClassScanner(Set.of(packageName));
+        packageClassScanner.setRejectedRootResources(Set.of(Logger.class.getName().replace('.', '/') + ".class"));
+
+        Set<Class<?>> classes = packageClassScanner.scanClasses();
+
+        assertTrue(classes.stream().noneMatch(clazz -> clazz.getName().equals(Logger.class.getName())));
+    }
+
 
 }
@@ -11,6 +11,7 @@ import static org.tframework.core.utils.ResourceTestUtils.TEST_RESOURCE_NAME;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -27,6 +28,19 @@ class ClassLoaderUtilsTest {
         assertEquals(TEST_RESOURCE_CONTENT, actualContent);
     }
 
+    @Test
+    public void shouldFindResourceFile_whenResourceIsFile() throws IOException {
+        var resourceFile = ClassLoaderUtils.getResourceFile(TEST_RESOURCE_NAME, this.getClass());
+
+        assertTrue(resourceFile.isPresent());
+        assertEquals(TEST_RESOURCE_CONTENT, Files.readString(resourceFile.get()).strip());
+    }
+
+    @Test
+    public void shouldNotFindResourceFile_whenResourceNotPresent() {
+        assertTrue(ClassLoaderUtils.getResourceFile("non_existing.txt", this.getClass()).isEmpty());
+    }
+
     @Test
     public void shouldThrowResourceNotFoundException_whenResourceNotPresent() {
         String nonExistingResource = "non_existing.txt";